@@ -65,6 +65,10 @@ android {
     sourceSets["main"].java.srcDirs("src/main/kotlin", "libs")
 
     sourceSets["main"].assets.srcDirs("src/main/assets")
+    sourceSets["test"].java.srcDirs("src/test/kotlin")
+
+    // JVM 單元測試只測純邏輯，android.* 呼叫回傳預設值
+    testOptions.unitTests.isReturnDefaultValues = true
 
     signingConfigs {
 
@@ -139,6 +143,8 @@ dependencies {
     implementation("org.jellyfin.media3:media3-ffmpeg-decoder:1.8.0+1")
     implementation("com.github.bumptech.glide:glide:4.16.0")
     implementation("androidx.camera:camera-video:1.4.2")
+
+    testImplementation("junit:junit:4.13.2")
 }
 
 flutter {
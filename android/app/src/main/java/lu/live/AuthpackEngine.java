@@ -0,0 +1,71 @@
+package lu.live;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * authpack 金鑰的逐位元組還原。
+ *
+ * 原本每試一個候選值都要對整個 buf 重算 SHA-1；但試第 k 個位元組時，
+ * buf[0..k-1] 已固定、buf[k+1..] 全為 0。這裡保留一份只吃過固定前綴的
+ * SHA-1 狀態，每個候選值只 clone 這份狀態，再補上候選位元組與零尾，
+ * 前綴部分不再重複計算。結果與逐次呼叫 sha1_32(buf) 完全一致。
+ */
+final class AuthpackEngine {
+
+    private final byte[] buf;
+
+    // 已吃過 buf[0..pos-1] 的 SHA-1 狀態
+    private final MessageDigest prefix;
+
+    // 長度為 buf.length 的全 0 陣列，零尾一律從這裡取，不再配置
+    private final byte[] zeros;
+
+    private int pos;
+
+    AuthpackEngine(int length) {
+        buf = new byte[length];
+        zeros = new byte[length];
+        try {
+            prefix = MessageDigest.getInstance("SHA1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 對應 A() 裡的一行：buf[index] 依序試 [from, to)，sha1_32(buf) 命中 target 即停；
+     * 都沒命中時與原迴圈相同，停在最後一個候選值
+     */
+    void find(int index, int from, int to, int target) {
+        if (index != pos) {
+            throw new IllegalStateException("expect index " + pos + " but " + index);
+        }
+        int tail = buf.length - index - 1;
+        for (int i = from; i < to; i++) {
+            buf[index] = (byte) i;
+            if (sha1_32(buf[index], tail) == target) {
+                break;
+            }
+        }
+        prefix.update(buf[index]);
+        pos++;
+    }
+
+    byte[] result() {
+        return buf;
+    }
+
+    private int sha1_32(byte candidate, int tail) {
+        MessageDigest md;
+        try {
+            md = (MessageDigest) prefix.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        md.update(candidate);
+        md.update(zeros, 0, tail);
+        byte[] digest = md.digest();
+        return ((digest[0] & 0xff) << 24) + ((digest[1] & 0xff) << 16) + ((digest[2] & 0xff) << 8) + (digest[3] & 0xff);
+    }
+}
@@ -0,0 +1,39 @@
+package lu.live;
+
+/**
+ * authpack 金鑰的行程內快取。
+ *
+ * authpack.A() 要暴力還原 1259 bytes，不該出現在啟動路徑上；
+ * 這裡用 lazy holder 在第一次 get() 時才計算，之後同一個行程直接回傳結果。
+ * 需要的地方可以先呼叫 prefetch() 在背景線程算好，取用時就不必在呼叫線程上等待。
+ * 金鑰只放在記憶體，不寫入磁碟。
+ */
+public final class AuthpackKey {
+
+    private AuthpackKey() {
+    }
+
+    // 類別初始化由 JVM 保證只執行一次且執行緒安全
+    private static final class Holder {
+        static final byte[] KEY = authpack.A();
+    }
+
+    /**
+     * 取得金鑰副本；尚未算好時在呼叫線程上計算（或等待背景計算完成）
+     */
+    public static byte[] get() {
+        return Holder.KEY.clone();
+    }
+
+    /**
+     * 在背景線程觸發計算，立即返回
+     */
+    public static void prefetch() {
+        Thread t = new Thread(() -> {
+            byte[] ignored = Holder.KEY;
+        }, "authpack-key");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        t.start();
+    }
+}
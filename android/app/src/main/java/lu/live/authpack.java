@@ -5,1267 +5,1266 @@ import java.security.MessageDigest;
 public class authpack {
 	public static int sha1_32(byte[] buf){int ret=0;try{byte[] digest=MessageDigest.getInstance("SHA1").digest(buf);return ((int)(digest[0]&0xff)<<24)+((int)(digest[1]&0xff)<<16)+((int)(digest[2]&0xff)<<8)+((int)(digest[3]&0xff)<<0);}catch(Exception e){}return ret;}
 	public static byte[] A(){
-		byte[] buf=new byte[1259];
-		int i=0;
-		for(i=62;i<71;i++){ buf[0]=(byte)i; if(sha1_32(buf)==-1565760186){break;} }
-		for(i=-31;i<-16;i++){ buf[1]=(byte)i; if(sha1_32(buf)==-1358541904){break;} }
-		for(i=52;i<69;i++){ buf[2]=(byte)i; if(sha1_32(buf)==559129024){break;} }
-		for(i=-35;i<-11;i++){ buf[3]=(byte)i; if(sha1_32(buf)==779778136){break;} }
-		for(i=-7;i<0;i++){ buf[4]=(byte)i; if(sha1_32(buf)==-1743750389){break;} }
-		for(i=-119;i<-95;i++){ buf[5]=(byte)i; if(sha1_32(buf)==-227255055){break;} }
-		for(i=-114;i<-94;i++){ buf[6]=(byte)i; if(sha1_32(buf)==-1056508252){break;} }
-		for(i=-70;i<-62;i++){ buf[7]=(byte)i; if(sha1_32(buf)==8960009){break;} }
-		for(i=-27;i<0;i++){ buf[8]=(byte)i; if(sha1_32(buf)==-1325687300){break;} }
-		for(i=110;i<128;i++){ buf[9]=(byte)i; if(sha1_32(buf)==-1704918638){break;} }
-		for(i=69;i<84;i++){ buf[10]=(byte)i; if(sha1_32(buf)==1971983384){break;} }
-		for(i=-23;i<-7;i++){ buf[11]=(byte)i; if(sha1_32(buf)==357187311){break;} }
-		for(i=51;i<65;i++){ buf[12]=(byte)i; if(sha1_32(buf)==1843672874){break;} }
-		for(i=-106;i<-97;i++){ buf[13]=(byte)i; if(sha1_32(buf)==-1084461016){break;} }
-		for(i=-106;i<-97;i++){ buf[14]=(byte)i; if(sha1_32(buf)==1978774628){break;} }
-		for(i=-34;i<-13;i++){ buf[15]=(byte)i; if(sha1_32(buf)==1447344063){break;} }
-		for(i=-76;i<-61;i++){ buf[16]=(byte)i; if(sha1_32(buf)==-254990466){break;} }
-		for(i=26;i<44;i++){ buf[17]=(byte)i; if(sha1_32(buf)==-761502857){break;} }
-		for(i=-44;i<-19;i++){ buf[18]=(byte)i; if(sha1_32(buf)==-194121817){break;} }
-		for(i=-86;i<-69;i++){ buf[19]=(byte)i; if(sha1_32(buf)==-1949752783){break;} }
-		for(i=-115;i<-105;i++){ buf[20]=(byte)i; if(sha1_32(buf)==-1717554271){break;} }
-		for(i=34;i<38;i++){ buf[21]=(byte)i; if(sha1_32(buf)==-1798179703){break;} }
-		for(i=110;i<115;i++){ buf[22]=(byte)i; if(sha1_32(buf)==1928603632){break;} }
-		for(i=70;i<83;i++){ buf[23]=(byte)i; if(sha1_32(buf)==514612532){break;} }
-		for(i=6;i<22;i++){ buf[24]=(byte)i; if(sha1_32(buf)==867660891){break;} }
-		for(i=53;i<74;i++){ buf[25]=(byte)i; if(sha1_32(buf)==-1396976099){break;} }
-		for(i=35;i<53;i++){ buf[26]=(byte)i; if(sha1_32(buf)==-869040796){break;} }
-		for(i=-22;i<-1;i++){ buf[27]=(byte)i; if(sha1_32(buf)==1674635937){break;} }
-		for(i=-121;i<-107;i++){ buf[28]=(byte)i; if(sha1_32(buf)==1989982426){break;} }
-		for(i=-6;i<20;i++){ buf[29]=(byte)i; if(sha1_32(buf)==339125691){break;} }
-		for(i=40;i<61;i++){ buf[30]=(byte)i; if(sha1_32(buf)==717053143){break;} }
-		for(i=-61;i<-42;i++){ buf[31]=(byte)i; if(sha1_32(buf)==-11827704){break;} }
-		for(i=-18;i<-7;i++){ buf[32]=(byte)i; if(sha1_32(buf)==2051183646){break;} }
-		for(i=-127;i<-111;i++){ buf[33]=(byte)i; if(sha1_32(buf)==-1215707442){break;} }
-		for(i=-95;i<-82;i++){ buf[34]=(byte)i; if(sha1_32(buf)==1222077719){break;} }
-		for(i=104;i<123;i++){ buf[35]=(byte)i; if(sha1_32(buf)==-2038779810){break;} }
-		for(i=-102;i<-74;i++){ buf[36]=(byte)i; if(sha1_32(buf)==-507670416){break;} }
-		for(i=109;i<116;i++){ buf[37]=(byte)i; if(sha1_32(buf)==-2004842710){break;} }
-		for(i=-121;i<-112;i++){ buf[38]=(byte)i; if(sha1_32(buf)==-273346383){break;} }
-		for(i=-69;i<-59;i++){ buf[39]=(byte)i; if(sha1_32(buf)==1038902853){break;} }
-		for(i=33;i<51;i++){ buf[40]=(byte)i; if(sha1_32(buf)==-1185403786){break;} }
-		for(i=-103;i<-95;i++){ buf[41]=(byte)i; if(sha1_32(buf)==1212310999){break;} }
-		for(i=-93;i<-79;i++){ buf[42]=(byte)i; if(sha1_32(buf)==446071231){break;} }
-		for(i=44;i<64;i++){ buf[43]=(byte)i; if(sha1_32(buf)==1546024509){break;} }
-		for(i=-30;i<-11;i++){ buf[44]=(byte)i; if(sha1_32(buf)==1887841459){break;} }
-		for(i=95;i<111;i++){ buf[45]=(byte)i; if(sha1_32(buf)==-719362229){break;} }
-		for(i=91;i<103;i++){ buf[46]=(byte)i; if(sha1_32(buf)==-1650065656){break;} }
-		for(i=-50;i<-20;i++){ buf[47]=(byte)i; if(sha1_32(buf)==-2135671830){break;} }
-		for(i=-128;i<-115;i++){ buf[48]=(byte)i; if(sha1_32(buf)==-1501227695){break;} }
-		for(i=-101;i<-97;i++){ buf[49]=(byte)i; if(sha1_32(buf)==1616192497){break;} }
-		for(i=64;i<82;i++){ buf[50]=(byte)i; if(sha1_32(buf)==1509554958){break;} }
-		for(i=101;i<120;i++){ buf[51]=(byte)i; if(sha1_32(buf)==853369997){break;} }
-		for(i=33;i<42;i++){ buf[52]=(byte)i; if(sha1_32(buf)==686557815){break;} }
-		for(i=11;i<19;i++){ buf[53]=(byte)i; if(sha1_32(buf)==1666330484){break;} }
-		for(i=-23;i<-3;i++){ buf[54]=(byte)i; if(sha1_32(buf)==622458359){break;} }
-		for(i=-82;i<-58;i++){ buf[55]=(byte)i; if(sha1_32(buf)==1652030781){break;} }
-		for(i=51;i<62;i++){ buf[56]=(byte)i; if(sha1_32(buf)==-1031928435){break;} }
-		for(i=29;i<49;i++){ buf[57]=(byte)i; if(sha1_32(buf)==1641100795){break;} }
-		for(i=-35;i<-7;i++){ buf[58]=(byte)i; if(sha1_32(buf)==957128367){break;} }
-		for(i=71;i<87;i++){ buf[59]=(byte)i; if(sha1_32(buf)==1663537875){break;} }
-		for(i=-127;i<-106;i++){ buf[60]=(byte)i; if(sha1_32(buf)==562767406){break;} }
-		for(i=-46;i<-29;i++){ buf[61]=(byte)i; if(sha1_32(buf)==1724950289){break;} }
-		for(i=-29;i<-16;i++){ buf[62]=(byte)i; if(sha1_32(buf)==-68389111){break;} }
-		for(i=19;i<45;i++){ buf[63]=(byte)i; if(sha1_32(buf)==1525981628){break;} }
-		for(i=13;i<31;i++){ buf[64]=(byte)i; if(sha1_32(buf)==1962242353){break;} }
-		for(i=-100;i<-91;i++){ buf[65]=(byte)i; if(sha1_32(buf)==-406616688){break;} }
-		for(i=-54;i<-35;i++){ buf[66]=(byte)i; if(sha1_32(buf)==1544202915){break;} }
-		for(i=24;i<34;i++){ buf[67]=(byte)i; if(sha1_32(buf)==-1402746263){break;} }
-		for(i=-50;i<-45;i++){ buf[68]=(byte)i; if(sha1_32(buf)==-1131380697){break;} }
-		for(i=-79;i<-64;i++){ buf[69]=(byte)i; if(sha1_32(buf)==-1709190674){break;} }
-		for(i=-32;i<-21;i++){ buf[70]=(byte)i; if(sha1_32(buf)==-1057065727){break;} }
-		for(i=-35;i<-19;i++){ buf[71]=(byte)i; if(sha1_32(buf)==2099068723){break;} }
-		for(i=75;i<80;i++){ buf[72]=(byte)i; if(sha1_32(buf)==-1553204775){break;} }
-		for(i=-1;i<10;i++){ buf[73]=(byte)i; if(sha1_32(buf)==-1553204775){break;} }
-		for(i=-68;i<-51;i++){ buf[74]=(byte)i; if(sha1_32(buf)==1199959048){break;} }
-		for(i=44;i<58;i++){ buf[75]=(byte)i; if(sha1_32(buf)==-367808754){break;} }
-		for(i=110;i<128;i++){ buf[76]=(byte)i; if(sha1_32(buf)==-262655128){break;} }
-		for(i=-27;i<-17;i++){ buf[77]=(byte)i; if(sha1_32(buf)==1087430614){break;} }
-		for(i=-88;i<-67;i++){ buf[78]=(byte)i; if(sha1_32(buf)==-1215610788){break;} }
-		for(i=25;i<42;i++){ buf[79]=(byte)i; if(sha1_32(buf)==-508968215){break;} }
-		for(i=-79;i<-69;i++){ buf[80]=(byte)i; if(sha1_32(buf)==-837075102){break;} }
-		for(i=-122;i<-103;i++){ buf[81]=(byte)i; if(sha1_32(buf)==850353614){break;} }
-		for(i=-128;i<-121;i++){ buf[82]=(byte)i; if(sha1_32(buf)==-1663385657){break;} }
-		for(i=-49;i<-31;i++){ buf[83]=(byte)i; if(sha1_32(buf)==1825557366){break;} }
-		for(i=-20;i<-6;i++){ buf[84]=(byte)i; if(sha1_32(buf)==1383880688){break;} }
-		for(i=-59;i<-30;i++){ buf[85]=(byte)i; if(sha1_32(buf)==-855863514){break;} }
-		for(i=5;i<11;i++){ buf[86]=(byte)i; if(sha1_32(buf)==-520695746){break;} }
-		for(i=103;i<119;i++){ buf[87]=(byte)i; if(sha1_32(buf)==-745558194){break;} }
-		for(i=13;i<31;i++){ buf[88]=(byte)i; if(sha1_32(buf)==1915420250){break;} }
-		for(i=-45;i<-38;i++){ buf[89]=(byte)i; if(sha1_32(buf)==-395055887){break;} }
-		for(i=-82;i<-71;i++){ buf[90]=(byte)i; if(sha1_32(buf)==-480729085){break;} }
-		for(i=25;i<42;i++){ buf[91]=(byte)i; if(sha1_32(buf)==-236843186){break;} }
-		for(i=-105;i<-89;i++){ buf[92]=(byte)i; if(sha1_32(buf)==970149666){break;} }
-		for(i=-28;i<-12;i++){ buf[93]=(byte)i; if(sha1_32(buf)==1691319601){break;} }
-		for(i=-92;i<-76;i++){ buf[94]=(byte)i; if(sha1_32(buf)==-1877715746){break;} }
-		for(i=-128;i<-111;i++){ buf[95]=(byte)i; if(sha1_32(buf)==1270766057){break;} }
-		for(i=-111;i<-94;i++){ buf[96]=(byte)i; if(sha1_32(buf)==-205652824){break;} }
-		for(i=-11;i<12;i++){ buf[97]=(byte)i; if(sha1_32(buf)==71175324){break;} }
-		for(i=50;i<63;i++){ buf[98]=(byte)i; if(sha1_32(buf)==1221476660){break;} }
-		for(i=-55;i<-39;i++){ buf[99]=(byte)i; if(sha1_32(buf)==55229120){break;} }
-		for(i=82;i<87;i++){ buf[100]=(byte)i; if(sha1_32(buf)==637164746){break;} }
-		for(i=-40;i<-25;i++){ buf[101]=(byte)i; if(sha1_32(buf)==-678462744){break;} }
-		for(i=66;i<82;i++){ buf[102]=(byte)i; if(sha1_32(buf)==-1746885154){break;} }
-		for(i=52;i<69;i++){ buf[103]=(byte)i; if(sha1_32(buf)==601255077){break;} }
-		for(i=-63;i<-52;i++){ buf[104]=(byte)i; if(sha1_32(buf)==-1935535533){break;} }
-		for(i=106;i<123;i++){ buf[105]=(byte)i; if(sha1_32(buf)==980476260){break;} }
-		for(i=-60;i<-39;i++){ buf[106]=(byte)i; if(sha1_32(buf)==-805371308){break;} }
-		for(i=25;i<47;i++){ buf[107]=(byte)i; if(sha1_32(buf)==-202414261){break;} }
-		for(i=-122;i<-106;i++){ buf[108]=(byte)i; if(sha1_32(buf)==1855764488){break;} }
-		for(i=52;i<69;i++){ buf[109]=(byte)i; if(sha1_32(buf)==-2088658186){break;} }
-		for(i=-19;i<4;i++){ buf[110]=(byte)i; if(sha1_32(buf)==-2063323763){break;} }
-		for(i=-95;i<-70;i++){ buf[111]=(byte)i; if(sha1_32(buf)==-864818428){break;} }
-		for(i=-91;i<-76;i++){ buf[112]=(byte)i; if(sha1_32(buf)==-253086948){break;} }
-		for(i=-23;i<-8;i++){ buf[113]=(byte)i; if(sha1_32(buf)==-150773007){break;} }
-		for(i=68;i<83;i++){ buf[114]=(byte)i; if(sha1_32(buf)==518439013){break;} }
-		for(i=40;i<52;i++){ buf[115]=(byte)i; if(sha1_32(buf)==423583417){break;} }
-		for(i=-110;i<-88;i++){ buf[116]=(byte)i; if(sha1_32(buf)==377496129){break;} }
-		for(i=102;i<128;i++){ buf[117]=(byte)i; if(sha1_32(buf)==-1915366022){break;} }
-		for(i=110;i<118;i++){ buf[118]=(byte)i; if(sha1_32(buf)==-1378018012){break;} }
-		for(i=-119;i<-108;i++){ buf[119]=(byte)i; if(sha1_32(buf)==-405409190){break;} }
-		for(i=-113;i<-107;i++){ buf[120]=(byte)i; if(sha1_32(buf)==1430103149){break;} }
-		for(i=49;i<68;i++){ buf[121]=(byte)i; if(sha1_32(buf)==-15530381){break;} }
-		for(i=-24;i<-2;i++){ buf[122]=(byte)i; if(sha1_32(buf)==-1927878944){break;} }
-		for(i=111;i<128;i++){ buf[123]=(byte)i; if(sha1_32(buf)==1887971779){break;} }
-		for(i=-77;i<-65;i++){ buf[124]=(byte)i; if(sha1_32(buf)==553011333){break;} }
-		for(i=54;i<65;i++){ buf[125]=(byte)i; if(sha1_32(buf)==-630343850){break;} }
-		for(i=-107;i<-91;i++){ buf[126]=(byte)i; if(sha1_32(buf)==-882020474){break;} }
-		for(i=-108;i<-104;i++){ buf[127]=(byte)i; if(sha1_32(buf)==172465187){break;} }
-		for(i=109;i<126;i++){ buf[128]=(byte)i; if(sha1_32(buf)==526938290){break;} }
-		for(i=66;i<88;i++){ buf[129]=(byte)i; if(sha1_32(buf)==-896417198){break;} }
-		for(i=4;i<18;i++){ buf[130]=(byte)i; if(sha1_32(buf)==1856801994){break;} }
-		for(i=-58;i<-49;i++){ buf[131]=(byte)i; if(sha1_32(buf)==2020655129){break;} }
-		for(i=17;i<31;i++){ buf[132]=(byte)i; if(sha1_32(buf)==455432346){break;} }
-		for(i=65;i<95;i++){ buf[133]=(byte)i; if(sha1_32(buf)==1623976909){break;} }
-		for(i=47;i<68;i++){ buf[134]=(byte)i; if(sha1_32(buf)==-703310961){break;} }
-		for(i=110;i<113;i++){ buf[135]=(byte)i; if(sha1_32(buf)==878177931){break;} }
-		for(i=61;i<63;i++){ buf[136]=(byte)i; if(sha1_32(buf)==-856144464){break;} }
-		for(i=103;i<128;i++){ buf[137]=(byte)i; if(sha1_32(buf)==1440327928){break;} }
-		for(i=-94;i<-64;i++){ buf[138]=(byte)i; if(sha1_32(buf)==-1249547113){break;} }
-		for(i=111;i<127;i++){ buf[139]=(byte)i; if(sha1_32(buf)==-160110352){break;} }
-		for(i=-121;i<-104;i++){ buf[140]=(byte)i; if(sha1_32(buf)==1694974274){break;} }
-		for(i=92;i<122;i++){ buf[141]=(byte)i; if(sha1_32(buf)==-1994743691){break;} }
-		for(i=-17;i<3;i++){ buf[142]=(byte)i; if(sha1_32(buf)==-1020693045){break;} }
-		for(i=39;i<45;i++){ buf[143]=(byte)i; if(sha1_32(buf)==-1485460204){break;} }
-		for(i=121;i<125;i++){ buf[144]=(byte)i; if(sha1_32(buf)==-1380110356){break;} }
-		for(i=66;i<83;i++){ buf[145]=(byte)i; if(sha1_32(buf)==-1265577137){break;} }
-		for(i=30;i<41;i++){ buf[146]=(byte)i; if(sha1_32(buf)==1600482301){break;} }
-		for(i=-37;i<-16;i++){ buf[147]=(byte)i; if(sha1_32(buf)==2032869819){break;} }
-		for(i=74;i<84;i++){ buf[148]=(byte)i; if(sha1_32(buf)==-1187763941){break;} }
-		for(i=63;i<67;i++){ buf[149]=(byte)i; if(sha1_32(buf)==586228880){break;} }
-		for(i=-128;i<-111;i++){ buf[150]=(byte)i; if(sha1_32(buf)==1413656851){break;} }
-		for(i=17;i<37;i++){ buf[151]=(byte)i; if(sha1_32(buf)==-939050215){break;} }
-		for(i=31;i<46;i++){ buf[152]=(byte)i; if(sha1_32(buf)==-1091302659){break;} }
-		for(i=-27;i<-8;i++){ buf[153]=(byte)i; if(sha1_32(buf)==-770322673){break;} }
-		for(i=95;i<100;i++){ buf[154]=(byte)i; if(sha1_32(buf)==-2045774339){break;} }
-		for(i=-44;i<-23;i++){ buf[155]=(byte)i; if(sha1_32(buf)==251918579){break;} }
-		for(i=77;i<92;i++){ buf[156]=(byte)i; if(sha1_32(buf)==-1412639469){break;} }
-		for(i=42;i<69;i++){ buf[157]=(byte)i; if(sha1_32(buf)==-2077474275){break;} }
-		for(i=-93;i<-80;i++){ buf[158]=(byte)i; if(sha1_32(buf)==-1608321681){break;} }
-		for(i=-85;i<-71;i++){ buf[159]=(byte)i; if(sha1_32(buf)==-271189205){break;} }
-		for(i=89;i<101;i++){ buf[160]=(byte)i; if(sha1_32(buf)==1878363449){break;} }
-		for(i=-90;i<-68;i++){ buf[161]=(byte)i; if(sha1_32(buf)==1786991742){break;} }
-		for(i=23;i<41;i++){ buf[162]=(byte)i; if(sha1_32(buf)==-395644717){break;} }
-		for(i=104;i<122;i++){ buf[163]=(byte)i; if(sha1_32(buf)==1612883387){break;} }
-		for(i=78;i<93;i++){ buf[164]=(byte)i; if(sha1_32(buf)==-206030171){break;} }
-		for(i=19;i<27;i++){ buf[165]=(byte)i; if(sha1_32(buf)==1320722265){break;} }
-		for(i=-92;i<-75;i++){ buf[166]=(byte)i; if(sha1_32(buf)==1378183068){break;} }
-		for(i=1;i<17;i++){ buf[167]=(byte)i; if(sha1_32(buf)==-1751171339){break;} }
-		for(i=-53;i<-46;i++){ buf[168]=(byte)i; if(sha1_32(buf)==-611165019){break;} }
-		for(i=-44;i<-16;i++){ buf[169]=(byte)i; if(sha1_32(buf)==-1237978572){break;} }
-		for(i=-71;i<-61;i++){ buf[170]=(byte)i; if(sha1_32(buf)==261847015){break;} }
-		for(i=101;i<116;i++){ buf[171]=(byte)i; if(sha1_32(buf)==-1900902313){break;} }
-		for(i=-5;i<24;i++){ buf[172]=(byte)i; if(sha1_32(buf)==1569864804){break;} }
-		for(i=-109;i<-95;i++){ buf[173]=(byte)i; if(sha1_32(buf)==1188471070){break;} }
-		for(i=-128;i<-107;i++){ buf[174]=(byte)i; if(sha1_32(buf)==155909962){break;} }
-		for(i=-26;i<-6;i++){ buf[175]=(byte)i; if(sha1_32(buf)==-2081972224){break;} }
-		for(i=106;i<127;i++){ buf[176]=(byte)i; if(sha1_32(buf)==-1506982694){break;} }
-		for(i=-8;i<-3;i++){ buf[177]=(byte)i; if(sha1_32(buf)==960685062){break;} }
-		for(i=-19;i<-10;i++){ buf[178]=(byte)i; if(sha1_32(buf)==1992831251){break;} }
-		for(i=-27;i<-13;i++){ buf[179]=(byte)i; if(sha1_32(buf)==266133736){break;} }
-		for(i=-110;i<-94;i++){ buf[180]=(byte)i; if(sha1_32(buf)==-1867207922){break;} }
-		for(i=-109;i<-91;i++){ buf[181]=(byte)i; if(sha1_32(buf)==-1013271076){break;} }
-		for(i=-90;i<-74;i++){ buf[182]=(byte)i; if(sha1_32(buf)==-1582650562){break;} }
-		for(i=-93;i<-86;i++){ buf[183]=(byte)i; if(sha1_32(buf)==-1841129645){break;} }
-		for(i=79;i<94;i++){ buf[184]=(byte)i; if(sha1_32(buf)==1207193566){break;} }
-		for(i=79;i<84;i++){ buf[185]=(byte)i; if(sha1_32(buf)==-1670716146){break;} }
-		for(i=16;i<36;i++){ buf[186]=(byte)i; if(sha1_32(buf)==1324642189){break;} }
-		for(i=7;i<19;i++){ buf[187]=(byte)i; if(sha1_32(buf)==-1129077353){break;} }
-		for(i=109;i<128;i++){ buf[188]=(byte)i; if(sha1_32(buf)==1589183626){break;} }
-		for(i=22;i<43;i++){ buf[189]=(byte)i; if(sha1_32(buf)==-573306491){break;} }
-		for(i=77;i<81;i++){ buf[190]=(byte)i; if(sha1_32(buf)==682997648){break;} }
-		for(i=11;i<31;i++){ buf[191]=(byte)i; if(sha1_32(buf)==-171575629){break;} }
-		for(i=-107;i<-96;i++){ buf[192]=(byte)i; if(sha1_32(buf)==902937171){break;} }
-		for(i=83;i<108;i++){ buf[193]=(byte)i; if(sha1_32(buf)==390833549){break;} }
-		for(i=-87;i<-73;i++){ buf[194]=(byte)i; if(sha1_32(buf)==-12224929){break;} }
-		for(i=-28;i<-20;i++){ buf[195]=(byte)i; if(sha1_32(buf)==-142489648){break;} }
-		for(i=104;i<120;i++){ buf[196]=(byte)i; if(sha1_32(buf)==1996703256){break;} }
-		for(i=92;i<114;i++){ buf[197]=(byte)i; if(sha1_32(buf)==-300017676){break;} }
-		for(i=23;i<45;i++){ buf[198]=(byte)i; if(sha1_32(buf)==2110856353){break;} }
-		for(i=18;i<35;i++){ buf[199]=(byte)i; if(sha1_32(buf)==952477989){break;} }
-		for(i=113;i<127;i++){ buf[200]=(byte)i; if(sha1_32(buf)==-1951388119){break;} }
-		for(i=-101;i<-81;i++){ buf[201]=(byte)i; if(sha1_32(buf)==1676311965){break;} }
-		for(i=-116;i<-93;i++){ buf[202]=(byte)i; if(sha1_32(buf)==-1463027515){break;} }
-		for(i=-18;i<1;i++){ buf[203]=(byte)i; if(sha1_32(buf)==334603575){break;} }
-		for(i=104;i<112;i++){ buf[204]=(byte)i; if(sha1_32(buf)==2104801691){break;} }
-		for(i=79;i<90;i++){ buf[205]=(byte)i; if(sha1_32(buf)==56547345){break;} }
-		for(i=-14;i<0;i++){ buf[206]=(byte)i; if(sha1_32(buf)==155354949){break;} }
-		for(i=72;i<87;i++){ buf[207]=(byte)i; if(sha1_32(buf)==-264487672){break;} }
-		for(i=-88;i<-76;i++){ buf[208]=(byte)i; if(sha1_32(buf)==-1888474700){break;} }
-		for(i=52;i<66;i++){ buf[209]=(byte)i; if(sha1_32(buf)==-1151782663){break;} }
-		for(i=15;i<28;i++){ buf[210]=(byte)i; if(sha1_32(buf)==-2078194349){break;} }
-		for(i=43;i<55;i++){ buf[211]=(byte)i; if(sha1_32(buf)==1210791024){break;} }
-		for(i=94;i<105;i++){ buf[212]=(byte)i; if(sha1_32(buf)==2145363699){break;} }
-		for(i=118;i<128;i++){ buf[213]=(byte)i; if(sha1_32(buf)==1560128163){break;} }
-		for(i=-4;i<16;i++){ buf[214]=(byte)i; if(sha1_32(buf)==-1270159756){break;} }
-		for(i=-91;i<-78;i++){ buf[215]=(byte)i; if(sha1_32(buf)==1909863070){break;} }
-		for(i=-122;i<-105;i++){ buf[216]=(byte)i; if(sha1_32(buf)==-1561139652){break;} }
-		for(i=-20;i<1;i++){ buf[217]=(byte)i; if(sha1_32(buf)==-1556804448){break;} }
-		for(i=10;i<27;i++){ buf[218]=(byte)i; if(sha1_32(buf)==-750888901){break;} }
-		for(i=-86;i<-72;i++){ buf[219]=(byte)i; if(sha1_32(buf)==-1829042496){break;} }
-		for(i=103;i<116;i++){ buf[220]=(byte)i; if(sha1_32(buf)==377624343){break;} }
-		for(i=-53;i<-32;i++){ buf[221]=(byte)i; if(sha1_32(buf)==-1045291834){break;} }
-		for(i=-115;i<-106;i++){ buf[222]=(byte)i; if(sha1_32(buf)==-1991387257){break;} }
-		for(i=-11;i<12;i++){ buf[223]=(byte)i; if(sha1_32(buf)==1417715587){break;} }
-		for(i=40;i<41;i++){ buf[224]=(byte)i; if(sha1_32(buf)==2021480021){break;} }
-		for(i=-17;i<-2;i++){ buf[225]=(byte)i; if(sha1_32(buf)==-20980597){break;} }
-		for(i=-80;i<-67;i++){ buf[226]=(byte)i; if(sha1_32(buf)==-201312393){break;} }
-		for(i=5;i<21;i++){ buf[227]=(byte)i; if(sha1_32(buf)==-1735684411){break;} }
-		for(i=92;i<112;i++){ buf[228]=(byte)i; if(sha1_32(buf)==1028090128){break;} }
-		for(i=99;i<109;i++){ buf[229]=(byte)i; if(sha1_32(buf)==-773860168){break;} }
-		for(i=61;i<75;i++){ buf[230]=(byte)i; if(sha1_32(buf)==-1411165598){break;} }
-		for(i=-94;i<-76;i++){ buf[231]=(byte)i; if(sha1_32(buf)==154903536){break;} }
-		for(i=103;i<118;i++){ buf[232]=(byte)i; if(sha1_32(buf)==1780181575){break;} }
-		for(i=-108;i<-94;i++){ buf[233]=(byte)i; if(sha1_32(buf)==-1578395601){break;} }
-		for(i=41;i<54;i++){ buf[234]=(byte)i; if(sha1_32(buf)==-1864255629){break;} }
-		for(i=46;i<65;i++){ buf[235]=(byte)i; if(sha1_32(buf)==-1372742441){break;} }
-		for(i=-105;i<-86;i++){ buf[236]=(byte)i; if(sha1_32(buf)==-1625615108){break;} }
-		for(i=-88;i<-71;i++){ buf[237]=(byte)i; if(sha1_32(buf)==696082564){break;} }
-		for(i=4;i<7;i++){ buf[238]=(byte)i; if(sha1_32(buf)==-1611799187){break;} }
-		for(i=69;i<84;i++){ buf[239]=(byte)i; if(sha1_32(buf)==-213480569){break;} }
-		for(i=122;i<128;i++){ buf[240]=(byte)i; if(sha1_32(buf)==1593752958){break;} }
-		for(i=0;i<28;i++){ buf[241]=(byte)i; if(sha1_32(buf)==1842506173){break;} }
-		for(i=20;i<34;i++){ buf[242]=(byte)i; if(sha1_32(buf)==-1113439304){break;} }
-		for(i=-88;i<-75;i++){ buf[243]=(byte)i; if(sha1_32(buf)==834168802){break;} }
-		for(i=-75;i<-72;i++){ buf[244]=(byte)i; if(sha1_32(buf)==-1615795481){break;} }
-		for(i=-99;i<-84;i++){ buf[245]=(byte)i; if(sha1_32(buf)==-317129065){break;} }
-		for(i=12;i<19;i++){ buf[246]=(byte)i; if(sha1_32(buf)==-16070694){break;} }
-		for(i=57;i<84;i++){ buf[247]=(byte)i; if(sha1_32(buf)==-904248341){break;} }
-		for(i=-65;i<-52;i++){ buf[248]=(byte)i; if(sha1_32(buf)==-876609620){break;} }
-		for(i=-118;i<-102;i++){ buf[249]=(byte)i; if(sha1_32(buf)==1680439254){break;} }
-		for(i=-49;i<-32;i++){ buf[250]=(byte)i; if(sha1_32(buf)==-1585442954){break;} }
-		for(i=-72;i<-58;i++){ buf[251]=(byte)i; if(sha1_32(buf)==-2065030229){break;} }
-		for(i=6;i<12;i++){ buf[252]=(byte)i; if(sha1_32(buf)==-203020311){break;} }
-		for(i=-114;i<-89;i++){ buf[253]=(byte)i; if(sha1_32(buf)==-415871945){break;} }
-		for(i=-108;i<-86;i++){ buf[254]=(byte)i; if(sha1_32(buf)==-1752997506){break;} }
-		for(i=24;i<48;i++){ buf[255]=(byte)i; if(sha1_32(buf)==-1666364275){break;} }
-		for(i=44;i<63;i++){ buf[256]=(byte)i; if(sha1_32(buf)==357452800){break;} }
-		for(i=25;i<32;i++){ buf[257]=(byte)i; if(sha1_32(buf)==307178328){break;} }
-		for(i=31;i<50;i++){ buf[258]=(byte)i; if(sha1_32(buf)==-1252718774){break;} }
-		for(i=-63;i<-41;i++){ buf[259]=(byte)i; if(sha1_32(buf)==1861248764){break;} }
-		for(i=-93;i<-72;i++){ buf[260]=(byte)i; if(sha1_32(buf)==2010286042){break;} }
-		for(i=71;i<85;i++){ buf[261]=(byte)i; if(sha1_32(buf)==-479368017){break;} }
-		for(i=54;i<75;i++){ buf[262]=(byte)i; if(sha1_32(buf)==1783619743){break;} }
-		for(i=15;i<36;i++){ buf[263]=(byte)i; if(sha1_32(buf)==519988319){break;} }
-		for(i=-24;i<-21;i++){ buf[264]=(byte)i; if(sha1_32(buf)==-1032638372){break;} }
-		for(i=-74;i<-55;i++){ buf[265]=(byte)i; if(sha1_32(buf)==-372977732){break;} }
-		for(i=-38;i<-21;i++){ buf[266]=(byte)i; if(sha1_32(buf)==-10103961){break;} }
-		for(i=84;i<93;i++){ buf[267]=(byte)i; if(sha1_32(buf)==539725460){break;} }
-		for(i=-39;i<-22;i++){ buf[268]=(byte)i; if(sha1_32(buf)==-481206809){break;} }
-		for(i=54;i<85;i++){ buf[269]=(byte)i; if(sha1_32(buf)==-1627805444){break;} }
-		for(i=-27;i<-9;i++){ buf[270]=(byte)i; if(sha1_32(buf)==-843374246){break;} }
-		for(i=-71;i<-57;i++){ buf[271]=(byte)i; if(sha1_32(buf)==-346688790){break;} }
-		for(i=-55;i<-45;i++){ buf[272]=(byte)i; if(sha1_32(buf)==-519751889){break;} }
-		for(i=86;i<110;i++){ buf[273]=(byte)i; if(sha1_32(buf)==1961375790){break;} }
-		for(i=-105;i<-92;i++){ buf[274]=(byte)i; if(sha1_32(buf)==-128078394){break;} }
-		for(i=-91;i<-70;i++){ buf[275]=(byte)i; if(sha1_32(buf)==682186957){break;} }
-		for(i=25;i<36;i++){ buf[276]=(byte)i; if(sha1_32(buf)==-478802235){break;} }
-		for(i=107;i<115;i++){ buf[277]=(byte)i; if(sha1_32(buf)==-1873172315){break;} }
-		for(i=-108;i<-84;i++){ buf[278]=(byte)i; if(sha1_32(buf)==-926318227){break;} }
-		for(i=37;i<58;i++){ buf[279]=(byte)i; if(sha1_32(buf)==604851672){break;} }
-		for(i=-4;i<16;i++){ buf[280]=(byte)i; if(sha1_32(buf)==1750441539){break;} }
-		for(i=96;i<112;i++){ buf[281]=(byte)i; if(sha1_32(buf)==-1637551204){break;} }
-		for(i=15;i<23;i++){ buf[282]=(byte)i; if(sha1_32(buf)==-963668933){break;} }
-		for(i=-54;i<-51;i++){ buf[283]=(byte)i; if(sha1_32(buf)==-595733400){break;} }
-		for(i=-120;i<-95;i++){ buf[284]=(byte)i; if(sha1_32(buf)==-772069561){break;} }
-		for(i=-111;i<-91;i++){ buf[285]=(byte)i; if(sha1_32(buf)==1350453050){break;} }
-		for(i=19;i<41;i++){ buf[286]=(byte)i; if(sha1_32(buf)==1836189231){break;} }
-		for(i=-95;i<-81;i++){ buf[287]=(byte)i; if(sha1_32(buf)==-1670230523){break;} }
-		for(i=-69;i<-47;i++){ buf[288]=(byte)i; if(sha1_32(buf)==220029988){break;} }
-		for(i=6;i<27;i++){ buf[289]=(byte)i; if(sha1_32(buf)==1623940491){break;} }
-		for(i=-41;i<-11;i++){ buf[290]=(byte)i; if(sha1_32(buf)==-1719126555){break;} }
-		for(i=8;i<19;i++){ buf[291]=(byte)i; if(sha1_32(buf)==-231413998){break;} }
-		for(i=-42;i<-16;i++){ buf[292]=(byte)i; if(sha1_32(buf)==1541718970){break;} }
-		for(i=74;i<92;i++){ buf[293]=(byte)i; if(sha1_32(buf)==-555809768){break;} }
-		for(i=-41;i<-16;i++){ buf[294]=(byte)i; if(sha1_32(buf)==-1750844345){break;} }
-		for(i=32;i<56;i++){ buf[295]=(byte)i; if(sha1_32(buf)==1862016285){break;} }
-		for(i=66;i<70;i++){ buf[296]=(byte)i; if(sha1_32(buf)==-2034841287){break;} }
-		for(i=115;i<128;i++){ buf[297]=(byte)i; if(sha1_32(buf)==550112330){break;} }
-		for(i=-46;i<-32;i++){ buf[298]=(byte)i; if(sha1_32(buf)==-1469976628){break;} }
-		for(i=-72;i<-53;i++){ buf[299]=(byte)i; if(sha1_32(buf)==1804077414){break;} }
-		for(i=-43;i<-19;i++){ buf[300]=(byte)i; if(sha1_32(buf)==-401189575){break;} }
-		for(i=57;i<72;i++){ buf[301]=(byte)i; if(sha1_32(buf)==1950596647){break;} }
-		for(i=-89;i<-68;i++){ buf[302]=(byte)i; if(sha1_32(buf)==807095302){break;} }
-		for(i=-63;i<-47;i++){ buf[303]=(byte)i; if(sha1_32(buf)==-665241255){break;} }
-		for(i=-75;i<-58;i++){ buf[304]=(byte)i; if(sha1_32(buf)==1105561640){break;} }
-		for(i=-99;i<-86;i++){ buf[305]=(byte)i; if(sha1_32(buf)==-88411691){break;} }
-		for(i=-19;i<-4;i++){ buf[306]=(byte)i; if(sha1_32(buf)==859075478){break;} }
-		for(i=-16;i<-3;i++){ buf[307]=(byte)i; if(sha1_32(buf)==-1668038017){break;} }
-		for(i=110;i<128;i++){ buf[308]=(byte)i; if(sha1_32(buf)==1342988606){break;} }
-		for(i=72;i<90;i++){ buf[309]=(byte)i; if(sha1_32(buf)==-745520524){break;} }
-		for(i=75;i<93;i++){ buf[310]=(byte)i; if(sha1_32(buf)==-1894489823){break;} }
-		for(i=-16;i<-7;i++){ buf[311]=(byte)i; if(sha1_32(buf)==1278934371){break;} }
-		for(i=-9;i<3;i++){ buf[312]=(byte)i; if(sha1_32(buf)==2129026061){break;} }
-		for(i=-102;i<-86;i++){ buf[313]=(byte)i; if(sha1_32(buf)==-899663878){break;} }
-		for(i=-96;i<-79;i++){ buf[314]=(byte)i; if(sha1_32(buf)==895989740){break;} }
-		for(i=53;i<68;i++){ buf[315]=(byte)i; if(sha1_32(buf)==-1268507096){break;} }
-		for(i=97;i<113;i++){ buf[316]=(byte)i; if(sha1_32(buf)==-130271342){break;} }
-		for(i=94;i<110;i++){ buf[317]=(byte)i; if(sha1_32(buf)==-1549709549){break;} }
-		for(i=90;i<95;i++){ buf[318]=(byte)i; if(sha1_32(buf)==-562956526){break;} }
-		for(i=-106;i<-98;i++){ buf[319]=(byte)i; if(sha1_32(buf)==222310092){break;} }
-		for(i=-120;i<-108;i++){ buf[320]=(byte)i; if(sha1_32(buf)==1808346657){break;} }
-		for(i=-49;i<-41;i++){ buf[321]=(byte)i; if(sha1_32(buf)==-2044018299){break;} }
-		for(i=-38;i<-15;i++){ buf[322]=(byte)i; if(sha1_32(buf)==-1464304663){break;} }
-		for(i=-38;i<-16;i++){ buf[323]=(byte)i; if(sha1_32(buf)==1641507983){break;} }
-		for(i=67;i<84;i++){ buf[324]=(byte)i; if(sha1_32(buf)==-816991389){break;} }
-		for(i=4;i<6;i++){ buf[325]=(byte)i; if(sha1_32(buf)==-1138614525){break;} }
-		for(i=-109;i<-98;i++){ buf[326]=(byte)i; if(sha1_32(buf)==712865869){break;} }
-		for(i=-46;i<-36;i++){ buf[327]=(byte)i; if(sha1_32(buf)==691306885){break;} }
-		for(i=-40;i<-33;i++){ buf[328]=(byte)i; if(sha1_32(buf)==-1261617817){break;} }
-		for(i=-35;i<-19;i++){ buf[329]=(byte)i; if(sha1_32(buf)==-2142471364){break;} }
-		for(i=107;i<123;i++){ buf[330]=(byte)i; if(sha1_32(buf)==490715483){break;} }
-		for(i=24;i<32;i++){ buf[331]=(byte)i; if(sha1_32(buf)==1817408111){break;} }
-		for(i=0;i<16;i++){ buf[332]=(byte)i; if(sha1_32(buf)==638855277){break;} }
-		for(i=83;i<110;i++){ buf[333]=(byte)i; if(sha1_32(buf)==1505316191){break;} }
-		for(i=20;i<42;i++){ buf[334]=(byte)i; if(sha1_32(buf)==320293319){break;} }
-		for(i=-3;i<17;i++){ buf[335]=(byte)i; if(sha1_32(buf)==2057926124){break;} }
-		for(i=33;i<51;i++){ buf[336]=(byte)i; if(sha1_32(buf)==-1859046309){break;} }
-		for(i=103;i<110;i++){ buf[337]=(byte)i; if(sha1_32(buf)==-358848490){break;} }
-		for(i=49;i<78;i++){ buf[338]=(byte)i; if(sha1_32(buf)==1160680898){break;} }
-		for(i=-33;i<-15;i++){ buf[339]=(byte)i; if(sha1_32(buf)==-2072868397){break;} }
-		for(i=30;i<34;i++){ buf[340]=(byte)i; if(sha1_32(buf)==828397139){break;} }
-		for(i=55;i<61;i++){ buf[341]=(byte)i; if(sha1_32(buf)==-809133344){break;} }
-		for(i=-128;i<-118;i++){ buf[342]=(byte)i; if(sha1_32(buf)==-1316808316){break;} }
-		for(i=-125;i<-106;i++){ buf[343]=(byte)i; if(sha1_32(buf)==2139934000){break;} }
-		for(i=34;i<47;i++){ buf[344]=(byte)i; if(sha1_32(buf)==-1465687989){break;} }
-		for(i=5;i<16;i++){ buf[345]=(byte)i; if(sha1_32(buf)==-1084410084){break;} }
-		for(i=-82;i<-68;i++){ buf[346]=(byte)i; if(sha1_32(buf)==-1660621984){break;} }
-		for(i=-14;i<-9;i++){ buf[347]=(byte)i; if(sha1_32(buf)==-954564895){break;} }
-		for(i=-56;i<-53;i++){ buf[348]=(byte)i; if(sha1_32(buf)==1519099748){break;} }
-		for(i=71;i<96;i++){ buf[349]=(byte)i; if(sha1_32(buf)==19730365){break;} }
-		for(i=-120;i<-94;i++){ buf[350]=(byte)i; if(sha1_32(buf)==-975743688){break;} }
-		for(i=104;i<118;i++){ buf[351]=(byte)i; if(sha1_32(buf)==-857787524){break;} }
-		for(i=49;i<60;i++){ buf[352]=(byte)i; if(sha1_32(buf)==-1857709993){break;} }
-		for(i=-86;i<-77;i++){ buf[353]=(byte)i; if(sha1_32(buf)==214607088){break;} }
-		for(i=112;i<128;i++){ buf[354]=(byte)i; if(sha1_32(buf)==1581344849){break;} }
-		for(i=-123;i<-96;i++){ buf[355]=(byte)i; if(sha1_32(buf)==978385060){break;} }
-		for(i=-127;i<-106;i++){ buf[356]=(byte)i; if(sha1_32(buf)==-1850411690){break;} }
-		for(i=-128;i<-125;i++){ buf[357]=(byte)i; if(sha1_32(buf)==510579114){break;} }
-		for(i=-43;i<-33;i++){ buf[358]=(byte)i; if(sha1_32(buf)==712657137){break;} }
-		for(i=-14;i<3;i++){ buf[359]=(byte)i; if(sha1_32(buf)==1349711029){break;} }
-		for(i=-123;i<-112;i++){ buf[360]=(byte)i; if(sha1_32(buf)==-2097872079){break;} }
-		for(i=61;i<81;i++){ buf[361]=(byte)i; if(sha1_32(buf)==-1042566491){break;} }
-		for(i=33;i<40;i++){ buf[362]=(byte)i; if(sha1_32(buf)==1113042160){break;} }
-		for(i=-74;i<-51;i++){ buf[363]=(byte)i; if(sha1_32(buf)==1478795089){break;} }
-		for(i=49;i<62;i++){ buf[364]=(byte)i; if(sha1_32(buf)==-1763384364){break;} }
-		for(i=-52;i<-44;i++){ buf[365]=(byte)i; if(sha1_32(buf)==778370053){break;} }
-		for(i=-35;i<-22;i++){ buf[366]=(byte)i; if(sha1_32(buf)==752303114){break;} }
-		for(i=-97;i<-81;i++){ buf[367]=(byte)i; if(sha1_32(buf)==-114421762){break;} }
-		for(i=57;i<76;i++){ buf[368]=(byte)i; if(sha1_32(buf)==756988543){break;} }
-		for(i=-124;i<-106;i++){ buf[369]=(byte)i; if(sha1_32(buf)==-170557780){break;} }
-		for(i=-52;i<-35;i++){ buf[370]=(byte)i; if(sha1_32(buf)==-2030683899){break;} }
-		for(i=-27;i<-5;i++){ buf[371]=(byte)i; if(sha1_32(buf)==1495962375){break;} }
-		for(i=-102;i<-78;i++){ buf[372]=(byte)i; if(sha1_32(buf)==-1814369955){break;} }
-		for(i=-4;i<18;i++){ buf[373]=(byte)i; if(sha1_32(buf)==-476816477){break;} }
-		for(i=-113;i<-101;i++){ buf[374]=(byte)i; if(sha1_32(buf)==-1315745842){break;} }
-		for(i=92;i<108;i++){ buf[375]=(byte)i; if(sha1_32(buf)==-1927550174){break;} }
-		for(i=-75;i<-50;i++){ buf[376]=(byte)i; if(sha1_32(buf)==1605634348){break;} }
-		for(i=-40;i<-25;i++){ buf[377]=(byte)i; if(sha1_32(buf)==877976213){break;} }
-		for(i=19;i<26;i++){ buf[378]=(byte)i; if(sha1_32(buf)==632054104){break;} }
-		for(i=-43;i<-24;i++){ buf[379]=(byte)i; if(sha1_32(buf)==2121849813){break;} }
-		for(i=-40;i<-22;i++){ buf[380]=(byte)i; if(sha1_32(buf)==1913373780){break;} }
-		for(i=1;i<18;i++){ buf[381]=(byte)i; if(sha1_32(buf)==785842989){break;} }
-		for(i=-63;i<-39;i++){ buf[382]=(byte)i; if(sha1_32(buf)==858859426){break;} }
-		for(i=3;i<10;i++){ buf[383]=(byte)i; if(sha1_32(buf)==1972174135){break;} }
-		for(i=22;i<44;i++){ buf[384]=(byte)i; if(sha1_32(buf)==-1218707384){break;} }
-		for(i=-11;i<2;i++){ buf[385]=(byte)i; if(sha1_32(buf)==-2096325160){break;} }
-		for(i=-112;i<-100;i++){ buf[386]=(byte)i; if(sha1_32(buf)==-1401549517){break;} }
-		for(i=-72;i<-49;i++){ buf[387]=(byte)i; if(sha1_32(buf)==370217272){break;} }
-		for(i=78;i<96;i++){ buf[388]=(byte)i; if(sha1_32(buf)==-2024949986){break;} }
-		for(i=122;i<128;i++){ buf[389]=(byte)i; if(sha1_32(buf)==-362062825){break;} }
-		for(i=73;i<87;i++){ buf[390]=(byte)i; if(sha1_32(buf)==20144871){break;} }
-		for(i=108;i<128;i++){ buf[391]=(byte)i; if(sha1_32(buf)==-193911662){break;} }
-		for(i=-8;i<11;i++){ buf[392]=(byte)i; if(sha1_32(buf)==-554062962){break;} }
-		for(i=103;i<128;i++){ buf[393]=(byte)i; if(sha1_32(buf)==1785800794){break;} }
-		for(i=-77;i<-61;i++){ buf[394]=(byte)i; if(sha1_32(buf)==1862565036){break;} }
-		for(i=110;i<128;i++){ buf[395]=(byte)i; if(sha1_32(buf)==-1548621901){break;} }
-		for(i=46;i<75;i++){ buf[396]=(byte)i; if(sha1_32(buf)==-1991095319){break;} }
-		for(i=-123;i<-118;i++){ buf[397]=(byte)i; if(sha1_32(buf)==-1879871645){break;} }
-		for(i=-79;i<-52;i++){ buf[398]=(byte)i; if(sha1_32(buf)==-1489891261){break;} }
-		for(i=-92;i<-90;i++){ buf[399]=(byte)i; if(sha1_32(buf)==196076206){break;} }
-		for(i=-80;i<-69;i++){ buf[400]=(byte)i; if(sha1_32(buf)==-845165115){break;} }
-		for(i=102;i<110;i++){ buf[401]=(byte)i; if(sha1_32(buf)==-2001668440){break;} }
-		for(i=5;i<21;i++){ buf[402]=(byte)i; if(sha1_32(buf)==795034499){break;} }
-		for(i=-1;i<3;i++){ buf[403]=(byte)i; if(sha1_32(buf)==76701933){break;} }
-		for(i=-79;i<-59;i++){ buf[404]=(byte)i; if(sha1_32(buf)==2099123515){break;} }
-		for(i=-66;i<-55;i++){ buf[405]=(byte)i; if(sha1_32(buf)==-1312415262){break;} }
-		for(i=50;i<63;i++){ buf[406]=(byte)i; if(sha1_32(buf)==-37656931){break;} }
-		for(i=-106;i<-99;i++){ buf[407]=(byte)i; if(sha1_32(buf)==-339122118){break;} }
-		for(i=-14;i<5;i++){ buf[408]=(byte)i; if(sha1_32(buf)==-335536412){break;} }
-		for(i=9;i<20;i++){ buf[409]=(byte)i; if(sha1_32(buf)==208710040){break;} }
-		for(i=18;i<41;i++){ buf[410]=(byte)i; if(sha1_32(buf)==1092007380){break;} }
-		for(i=89;i<98;i++){ buf[411]=(byte)i; if(sha1_32(buf)==-1150778154){break;} }
-		for(i=-128;i<-121;i++){ buf[412]=(byte)i; if(sha1_32(buf)==-643966494){break;} }
-		for(i=-113;i<-98;i++){ buf[413]=(byte)i; if(sha1_32(buf)==-549703354){break;} }
-		for(i=1;i<2;i++){ buf[414]=(byte)i; if(sha1_32(buf)==1834790418){break;} }
-		for(i=-120;i<-111;i++){ buf[415]=(byte)i; if(sha1_32(buf)==1551643895){break;} }
-		for(i=3;i<8;i++){ buf[416]=(byte)i; if(sha1_32(buf)==1734987858){break;} }
-		for(i=-31;i<-26;i++){ buf[417]=(byte)i; if(sha1_32(buf)==621592792){break;} }
-		for(i=-13;i<6;i++){ buf[418]=(byte)i; if(sha1_32(buf)==1112781983){break;} }
-		for(i=11;i<26;i++){ buf[419]=(byte)i; if(sha1_32(buf)==-1660332437){break;} }
-		for(i=43;i<50;i++){ buf[420]=(byte)i; if(sha1_32(buf)==-131976290){break;} }
-		for(i=75;i<95;i++){ buf[421]=(byte)i; if(sha1_32(buf)==-427283529){break;} }
-		for(i=-97;i<-76;i++){ buf[422]=(byte)i; if(sha1_32(buf)==1700870215){break;} }
-		for(i=-128;i<-117;i++){ buf[423]=(byte)i; if(sha1_32(buf)==316974701){break;} }
-		for(i=-120;i<-98;i++){ buf[424]=(byte)i; if(sha1_32(buf)==1978071249){break;} }
-		for(i=-100;i<-89;i++){ buf[425]=(byte)i; if(sha1_32(buf)==113710862){break;} }
-		for(i=41;i<62;i++){ buf[426]=(byte)i; if(sha1_32(buf)==-2029603808){break;} }
-		for(i=41;i<58;i++){ buf[427]=(byte)i; if(sha1_32(buf)==1919334234){break;} }
-		for(i=-43;i<-33;i++){ buf[428]=(byte)i; if(sha1_32(buf)==2133309082){break;} }
-		for(i=77;i<95;i++){ buf[429]=(byte)i; if(sha1_32(buf)==-819254225){break;} }
-		for(i=49;i<53;i++){ buf[430]=(byte)i; if(sha1_32(buf)==1739811775){break;} }
-		for(i=-50;i<-37;i++){ buf[431]=(byte)i; if(sha1_32(buf)==-792618436){break;} }
-		for(i=-95;i<-68;i++){ buf[432]=(byte)i; if(sha1_32(buf)==2128989469){break;} }
-		for(i=82;i<106;i++){ buf[433]=(byte)i; if(sha1_32(buf)==1878482802){break;} }
-		for(i=10;i<31;i++){ buf[434]=(byte)i; if(sha1_32(buf)==-213307800){break;} }
-		for(i=-121;i<-110;i++){ buf[435]=(byte)i; if(sha1_32(buf)==-253292191){break;} }
-		for(i=-124;i<-100;i++){ buf[436]=(byte)i; if(sha1_32(buf)==-1605758034){break;} }
-		for(i=-114;i<-98;i++){ buf[437]=(byte)i; if(sha1_32(buf)==749859364){break;} }
-		for(i=80;i<95;i++){ buf[438]=(byte)i; if(sha1_32(buf)==261545576){break;} }
-		for(i=-24;i<-10;i++){ buf[439]=(byte)i; if(sha1_32(buf)==155071851){break;} }
-		for(i=-43;i<-18;i++){ buf[440]=(byte)i; if(sha1_32(buf)==1629612017){break;} }
-		for(i=-9;i<2;i++){ buf[441]=(byte)i; if(sha1_32(buf)==566128962){break;} }
-		for(i=112;i<128;i++){ buf[442]=(byte)i; if(sha1_32(buf)==-906252726){break;} }
-		for(i=48;i<59;i++){ buf[443]=(byte)i; if(sha1_32(buf)==-2128620295){break;} }
-		for(i=-5;i<10;i++){ buf[444]=(byte)i; if(sha1_32(buf)==31303750){break;} }
-		for(i=15;i<24;i++){ buf[445]=(byte)i; if(sha1_32(buf)==1395677545){break;} }
-		for(i=-94;i<-86;i++){ buf[446]=(byte)i; if(sha1_32(buf)==1391511220){break;} }
-		for(i=-70;i<-49;i++){ buf[447]=(byte)i; if(sha1_32(buf)==-2113928805){break;} }
-		for(i=-38;i<-22;i++){ buf[448]=(byte)i; if(sha1_32(buf)==28027116){break;} }
-		for(i=37;i<58;i++){ buf[449]=(byte)i; if(sha1_32(buf)==-979491077){break;} }
-		for(i=-27;i<-4;i++){ buf[450]=(byte)i; if(sha1_32(buf)==-1917705139){break;} }
-		for(i=-128;i<-111;i++){ buf[451]=(byte)i; if(sha1_32(buf)==734631564){break;} }
-		for(i=-42;i<-31;i++){ buf[452]=(byte)i; if(sha1_32(buf)==326883203){break;} }
-		for(i=74;i<90;i++){ buf[453]=(byte)i; if(sha1_32(buf)==-68011097){break;} }
-		for(i=-6;i<20;i++){ buf[454]=(byte)i; if(sha1_32(buf)==621759650){break;} }
-		for(i=102;i<105;i++){ buf[455]=(byte)i; if(sha1_32(buf)==367825113){break;} }
-		for(i=-120;i<-98;i++){ buf[456]=(byte)i; if(sha1_32(buf)==-2061465538){break;} }
-		for(i=-116;i<-104;i++){ buf[457]=(byte)i; if(sha1_32(buf)==-680197716){break;} }
-		for(i=61;i<73;i++){ buf[458]=(byte)i; if(sha1_32(buf)==-738161642){break;} }
-		for(i=-16;i<-4;i++){ buf[459]=(byte)i; if(sha1_32(buf)==-27558603){break;} }
-		for(i=71;i<89;i++){ buf[460]=(byte)i; if(sha1_32(buf)==-215664877){break;} }
-		for(i=106;i<121;i++){ buf[461]=(byte)i; if(sha1_32(buf)==-2040362745){break;} }
-		for(i=99;i<111;i++){ buf[462]=(byte)i; if(sha1_32(buf)==-2135070571){break;} }
-		for(i=-79;i<-53;i++){ buf[463]=(byte)i; if(sha1_32(buf)==151445802){break;} }
-		for(i=-71;i<-56;i++){ buf[464]=(byte)i; if(sha1_32(buf)==1219127080){break;} }
-		for(i=33;i<44;i++){ buf[465]=(byte)i; if(sha1_32(buf)==-191418263){break;} }
-		for(i=-74;i<-59;i++){ buf[466]=(byte)i; if(sha1_32(buf)==-1344544686){break;} }
-		for(i=38;i<55;i++){ buf[467]=(byte)i; if(sha1_32(buf)==828963653){break;} }
-		for(i=8;i<31;i++){ buf[468]=(byte)i; if(sha1_32(buf)==-1098852585){break;} }
-		for(i=-126;i<-116;i++){ buf[469]=(byte)i; if(sha1_32(buf)==-1567675012){break;} }
-		for(i=111;i<127;i++){ buf[470]=(byte)i; if(sha1_32(buf)==-201911108){break;} }
-		for(i=36;i<50;i++){ buf[471]=(byte)i; if(sha1_32(buf)==757468986){break;} }
-		for(i=3;i<23;i++){ buf[472]=(byte)i; if(sha1_32(buf)==-1064161097){break;} }
-		for(i=-70;i<-61;i++){ buf[473]=(byte)i; if(sha1_32(buf)==-710521811){break;} }
-		for(i=119;i<128;i++){ buf[474]=(byte)i; if(sha1_32(buf)==-1650941144){break;} }
-		for(i=61;i<87;i++){ buf[475]=(byte)i; if(sha1_32(buf)==1636051958){break;} }
-		for(i=-87;i<-78;i++){ buf[476]=(byte)i; if(sha1_32(buf)==-216638501){break;} }
-		for(i=-123;i<-114;i++){ buf[477]=(byte)i; if(sha1_32(buf)==830552350){break;} }
-		for(i=-32;i<-7;i++){ buf[478]=(byte)i; if(sha1_32(buf)==495604815){break;} }
-		for(i=-45;i<-30;i++){ buf[479]=(byte)i; if(sha1_32(buf)==573069813){break;} }
-		for(i=-46;i<-36;i++){ buf[480]=(byte)i; if(sha1_32(buf)==-1472682638){break;} }
-		for(i=-36;i<-14;i++){ buf[481]=(byte)i; if(sha1_32(buf)==-538283031){break;} }
-		for(i=-128;i<-106;i++){ buf[482]=(byte)i; if(sha1_32(buf)==1411969168){break;} }
-		for(i=-95;i<-77;i++){ buf[483]=(byte)i; if(sha1_32(buf)==1962424881){break;} }
-		for(i=-78;i<-51;i++){ buf[484]=(byte)i; if(sha1_32(buf)==-1794333980){break;} }
-		for(i=-111;i<-101;i++){ buf[485]=(byte)i; if(sha1_32(buf)==1090051411){break;} }
-		for(i=2;i<18;i++){ buf[486]=(byte)i; if(sha1_32(buf)==-1229161694){break;} }
-		for(i=64;i<88;i++){ buf[487]=(byte)i; if(sha1_32(buf)==1261251920){break;} }
-		for(i=4;i<18;i++){ buf[488]=(byte)i; if(sha1_32(buf)==-9874290){break;} }
-		for(i=106;i<128;i++){ buf[489]=(byte)i; if(sha1_32(buf)==-87367806){break;} }
-		for(i=21;i<35;i++){ buf[490]=(byte)i; if(sha1_32(buf)==-982571353){break;} }
-		for(i=68;i<94;i++){ buf[491]=(byte)i; if(sha1_32(buf)==773240068){break;} }
-		for(i=-51;i<-39;i++){ buf[492]=(byte)i; if(sha1_32(buf)==-1920334010){break;} }
-		for(i=-42;i<-20;i++){ buf[493]=(byte)i; if(sha1_32(buf)==-1957243180){break;} }
-		for(i=-87;i<-75;i++){ buf[494]=(byte)i; if(sha1_32(buf)==717797810){break;} }
-		for(i=64;i<81;i++){ buf[495]=(byte)i; if(sha1_32(buf)==-1773576427){break;} }
-		for(i=112;i<118;i++){ buf[496]=(byte)i; if(sha1_32(buf)==543483216){break;} }
-		for(i=-128;i<-123;i++){ buf[497]=(byte)i; if(sha1_32(buf)==1307043551){break;} }
-		for(i=81;i<89;i++){ buf[498]=(byte)i; if(sha1_32(buf)==1307365663){break;} }
-		for(i=-46;i<-28;i++){ buf[499]=(byte)i; if(sha1_32(buf)==262412664){break;} }
-		for(i=103;i<115;i++){ buf[500]=(byte)i; if(sha1_32(buf)==1675420968){break;} }
-		for(i=31;i<51;i++){ buf[501]=(byte)i; if(sha1_32(buf)==-1631072266){break;} }
-		for(i=-55;i<-45;i++){ buf[502]=(byte)i; if(sha1_32(buf)==858042724){break;} }
-		for(i=-34;i<-20;i++){ buf[503]=(byte)i; if(sha1_32(buf)==384418453){break;} }
-		for(i=61;i<86;i++){ buf[504]=(byte)i; if(sha1_32(buf)==-143186866){break;} }
-		for(i=27;i<40;i++){ buf[505]=(byte)i; if(sha1_32(buf)==-1437017870){break;} }
-		for(i=72;i<88;i++){ buf[506]=(byte)i; if(sha1_32(buf)==-387518123){break;} }
-		for(i=77;i<105;i++){ buf[507]=(byte)i; if(sha1_32(buf)==-680702126){break;} }
-		for(i=-64;i<-60;i++){ buf[508]=(byte)i; if(sha1_32(buf)==1345608334){break;} }
-		for(i=-21;i<6;i++){ buf[509]=(byte)i; if(sha1_32(buf)==652393108){break;} }
-		for(i=116;i<128;i++){ buf[510]=(byte)i; if(sha1_32(buf)==154203428){break;} }
-		for(i=109;i<120;i++){ buf[511]=(byte)i; if(sha1_32(buf)==483319489){break;} }
-		for(i=-65;i<-45;i++){ buf[512]=(byte)i; if(sha1_32(buf)==1603856167){break;} }
-		for(i=79;i<97;i++){ buf[513]=(byte)i; if(sha1_32(buf)==-2136287442){break;} }
-		for(i=41;i<62;i++){ buf[514]=(byte)i; if(sha1_32(buf)==1036905529){break;} }
-		for(i=-126;i<-110;i++){ buf[515]=(byte)i; if(sha1_32(buf)==-619759911){break;} }
-		for(i=-9;i<5;i++){ buf[516]=(byte)i; if(sha1_32(buf)==1131474639){break;} }
-		for(i=-92;i<-76;i++){ buf[517]=(byte)i; if(sha1_32(buf)==1625666991){break;} }
-		for(i=-128;i<-121;i++){ buf[518]=(byte)i; if(sha1_32(buf)==-1167977246){break;} }
-		for(i=-6;i<-2;i++){ buf[519]=(byte)i; if(sha1_32(buf)==-1187364994){break;} }
-		for(i=106;i<121;i++){ buf[520]=(byte)i; if(sha1_32(buf)==181962033){break;} }
-		for(i=-82;i<-61;i++){ buf[521]=(byte)i; if(sha1_32(buf)==1004916360){break;} }
-		for(i=33;i<42;i++){ buf[522]=(byte)i; if(sha1_32(buf)==1504859022){break;} }
-		for(i=58;i<85;i++){ buf[523]=(byte)i; if(sha1_32(buf)==117323957){break;} }
-		for(i=103;i<114;i++){ buf[524]=(byte)i; if(sha1_32(buf)==-1258915744){break;} }
-		for(i=83;i<103;i++){ buf[525]=(byte)i; if(sha1_32(buf)==-889866359){break;} }
-		for(i=-95;i<-82;i++){ buf[526]=(byte)i; if(sha1_32(buf)==-2062975480){break;} }
-		for(i=-123;i<-116;i++){ buf[527]=(byte)i; if(sha1_32(buf)==1311643522){break;} }
-		for(i=-24;i<-12;i++){ buf[528]=(byte)i; if(sha1_32(buf)==-75480488){break;} }
-		for(i=86;i<111;i++){ buf[529]=(byte)i; if(sha1_32(buf)==-873806621){break;} }
-		for(i=99;i<106;i++){ buf[530]=(byte)i; if(sha1_32(buf)==-1509551807){break;} }
-		for(i=-119;i<-115;i++){ buf[531]=(byte)i; if(sha1_32(buf)==-1925872041){break;} }
-		for(i=91;i<121;i++){ buf[532]=(byte)i; if(sha1_32(buf)==-914663512){break;} }
-		for(i=83;i<106;i++){ buf[533]=(byte)i; if(sha1_32(buf)==612401847){break;} }
-		for(i=-128;i<-119;i++){ buf[534]=(byte)i; if(sha1_32(buf)==701363164){break;} }
-		for(i=101;i<120;i++){ buf[535]=(byte)i; if(sha1_32(buf)==-1613680301){break;} }
-		for(i=85;i<101;i++){ buf[536]=(byte)i; if(sha1_32(buf)==-61662931){break;} }
-		for(i=5;i<16;i++){ buf[537]=(byte)i; if(sha1_32(buf)==1640930589){break;} }
-		for(i=-128;i<-110;i++){ buf[538]=(byte)i; if(sha1_32(buf)==-827651680){break;} }
-		for(i=11;i<29;i++){ buf[539]=(byte)i; if(sha1_32(buf)==-1075107537){break;} }
-		for(i=120;i<125;i++){ buf[540]=(byte)i; if(sha1_32(buf)==486220450){break;} }
-		for(i=97;i<105;i++){ buf[541]=(byte)i; if(sha1_32(buf)==1814985401){break;} }
-		for(i=10;i<25;i++){ buf[542]=(byte)i; if(sha1_32(buf)==1407803965){break;} }
-		for(i=-29;i<-12;i++){ buf[543]=(byte)i; if(sha1_32(buf)==-2009039432){break;} }
-		for(i=-77;i<-62;i++){ buf[544]=(byte)i; if(sha1_32(buf)==741201075){break;} }
-		for(i=40;i<62;i++){ buf[545]=(byte)i; if(sha1_32(buf)==2140536436){break;} }
-		for(i=-25;i<-10;i++){ buf[546]=(byte)i; if(sha1_32(buf)==-629490784){break;} }
-		for(i=56;i<77;i++){ buf[547]=(byte)i; if(sha1_32(buf)==1247053896){break;} }
-		for(i=-73;i<-53;i++){ buf[548]=(byte)i; if(sha1_32(buf)==2088208822){break;} }
-		for(i=24;i<52;i++){ buf[549]=(byte)i; if(sha1_32(buf)==-211506285){break;} }
-		for(i=73;i<83;i++){ buf[550]=(byte)i; if(sha1_32(buf)==1378053820){break;} }
-		for(i=48;i<77;i++){ buf[551]=(byte)i; if(sha1_32(buf)==433661580){break;} }
-		for(i=60;i<68;i++){ buf[552]=(byte)i; if(sha1_32(buf)==-76452829){break;} }
-		for(i=-73;i<-48;i++){ buf[553]=(byte)i; if(sha1_32(buf)==53090316){break;} }
-		for(i=-26;i<4;i++){ buf[554]=(byte)i; if(sha1_32(buf)==673875566){break;} }
-		for(i=-20;i<1;i++){ buf[555]=(byte)i; if(sha1_32(buf)==716054245){break;} }
-		for(i=62;i<81;i++){ buf[556]=(byte)i; if(sha1_32(buf)==-729068600){break;} }
-		for(i=-114;i<-99;i++){ buf[557]=(byte)i; if(sha1_32(buf)==-2082575299){break;} }
-		for(i=112;i<128;i++){ buf[558]=(byte)i; if(sha1_32(buf)==-859061570){break;} }
-		for(i=48;i<68;i++){ buf[559]=(byte)i; if(sha1_32(buf)==235346630){break;} }
-		for(i=-120;i<-101;i++){ buf[560]=(byte)i; if(sha1_32(buf)==291386643){break;} }
-		for(i=-115;i<-100;i++){ buf[561]=(byte)i; if(sha1_32(buf)==1482944509){break;} }
-		for(i=99;i<106;i++){ buf[562]=(byte)i; if(sha1_32(buf)==-2136154409){break;} }
-		for(i=-96;i<-78;i++){ buf[563]=(byte)i; if(sha1_32(buf)==1650132467){break;} }
-		for(i=106;i<112;i++){ buf[564]=(byte)i; if(sha1_32(buf)==-346321528){break;} }
-		for(i=-74;i<-58;i++){ buf[565]=(byte)i; if(sha1_32(buf)==690747411){break;} }
-		for(i=109;i<128;i++){ buf[566]=(byte)i; if(sha1_32(buf)==948170860){break;} }
-		for(i=90;i<97;i++){ buf[567]=(byte)i; if(sha1_32(buf)==-1091313364){break;} }
-		for(i=-89;i<-78;i++){ buf[568]=(byte)i; if(sha1_32(buf)==-1424905400){break;} }
-		for(i=97;i<110;i++){ buf[569]=(byte)i; if(sha1_32(buf)==1539439827){break;} }
-		for(i=-99;i<-83;i++){ buf[570]=(byte)i; if(sha1_32(buf)==756550808){break;} }
-		for(i=-49;i<-33;i++){ buf[571]=(byte)i; if(sha1_32(buf)==-733238389){break;} }
-		for(i=-53;i<-39;i++){ buf[572]=(byte)i; if(sha1_32(buf)==1598690499){break;} }
-		for(i=57;i<70;i++){ buf[573]=(byte)i; if(sha1_32(buf)==576273637){break;} }
-		for(i=8;i<21;i++){ buf[574]=(byte)i; if(sha1_32(buf)==856783478){break;} }
-		for(i=119;i<128;i++){ buf[575]=(byte)i; if(sha1_32(buf)==2062942957){break;} }
-		for(i=-55;i<-34;i++){ buf[576]=(byte)i; if(sha1_32(buf)==2029003657){break;} }
-		for(i=-13;i<16;i++){ buf[577]=(byte)i; if(sha1_32(buf)==2029003657){break;} }
-		for(i=-110;i<-96;i++){ buf[578]=(byte)i; if(sha1_32(buf)==1032276375){break;} }
-		for(i=-119;i<-100;i++){ buf[579]=(byte)i; if(sha1_32(buf)==-591636103){break;} }
-		for(i=21;i<39;i++){ buf[580]=(byte)i; if(sha1_32(buf)==94651886){break;} }
-		for(i=-9;i<7;i++){ buf[581]=(byte)i; if(sha1_32(buf)==560124276){break;} }
-		for(i=-78;i<-61;i++){ buf[582]=(byte)i; if(sha1_32(buf)==-1842796619){break;} }
-		for(i=100;i<118;i++){ buf[583]=(byte)i; if(sha1_32(buf)==-261451899){break;} }
-		for(i=-58;i<-29;i++){ buf[584]=(byte)i; if(sha1_32(buf)==782020705){break;} }
-		for(i=-107;i<-80;i++){ buf[585]=(byte)i; if(sha1_32(buf)==-1620160298){break;} }
-		for(i=38;i<56;i++){ buf[586]=(byte)i; if(sha1_32(buf)==-1059966830){break;} }
-		for(i=100;i<105;i++){ buf[587]=(byte)i; if(sha1_32(buf)==834287359){break;} }
-		for(i=-33;i<-28;i++){ buf[588]=(byte)i; if(sha1_32(buf)==1693583028){break;} }
-		for(i=-65;i<-49;i++){ buf[589]=(byte)i; if(sha1_32(buf)==129683265){break;} }
-		for(i=-91;i<-78;i++){ buf[590]=(byte)i; if(sha1_32(buf)==-676856870){break;} }
-		for(i=-73;i<-58;i++){ buf[591]=(byte)i; if(sha1_32(buf)==-347181338){break;} }
-		for(i=-63;i<-45;i++){ buf[592]=(byte)i; if(sha1_32(buf)==-2084644828){break;} }
-		for(i=101;i<123;i++){ buf[593]=(byte)i; if(sha1_32(buf)==-119839831){break;} }
-		for(i=99;i<102;i++){ buf[594]=(byte)i; if(sha1_32(buf)==-1648144822){break;} }
-		for(i=54;i<63;i++){ buf[595]=(byte)i; if(sha1_32(buf)==-757755309){break;} }
-		for(i=71;i<91;i++){ buf[596]=(byte)i; if(sha1_32(buf)==-2131525522){break;} }
-		for(i=-42;i<-34;i++){ buf[597]=(byte)i; if(sha1_32(buf)==2106320593){break;} }
-		for(i=-44;i<-34;i++){ buf[598]=(byte)i; if(sha1_32(buf)==-961008961){break;} }
-		for(i=-9;i<20;i++){ buf[599]=(byte)i; if(sha1_32(buf)==-1825573302){break;} }
-		for(i=-119;i<-98;i++){ buf[600]=(byte)i; if(sha1_32(buf)==-1150691769){break;} }
-		for(i=-77;i<-53;i++){ buf[601]=(byte)i; if(sha1_32(buf)==2018904422){break;} }
-		for(i=24;i<37;i++){ buf[602]=(byte)i; if(sha1_32(buf)==-1032082099){break;} }
-		for(i=23;i<37;i++){ buf[603]=(byte)i; if(sha1_32(buf)==1575460853){break;} }
-		for(i=-10;i<9;i++){ buf[604]=(byte)i; if(sha1_32(buf)==1575460853){break;} }
-		for(i=10;i<17;i++){ buf[605]=(byte)i; if(sha1_32(buf)==90044123){break;} }
-		for(i=102;i<118;i++){ buf[606]=(byte)i; if(sha1_32(buf)==2046771905){break;} }
-		for(i=66;i<90;i++){ buf[607]=(byte)i; if(sha1_32(buf)==-699050510){break;} }
-		for(i=-73;i<-63;i++){ buf[608]=(byte)i; if(sha1_32(buf)==2122897599){break;} }
-		for(i=-61;i<-38;i++){ buf[609]=(byte)i; if(sha1_32(buf)==1442737387){break;} }
-		for(i=-82;i<-60;i++){ buf[610]=(byte)i; if(sha1_32(buf)==-1943832010){break;} }
-		for(i=-128;i<-120;i++){ buf[611]=(byte)i; if(sha1_32(buf)==-1926892955){break;} }
-		for(i=-83;i<-72;i++){ buf[612]=(byte)i; if(sha1_32(buf)==-1497128004){break;} }
-		for(i=83;i<98;i++){ buf[613]=(byte)i; if(sha1_32(buf)==-694881024){break;} }
-		for(i=18;i<24;i++){ buf[614]=(byte)i; if(sha1_32(buf)==-893150898){break;} }
-		for(i=-37;i<-23;i++){ buf[615]=(byte)i; if(sha1_32(buf)==-1337227192){break;} }
-		for(i=66;i<85;i++){ buf[616]=(byte)i; if(sha1_32(buf)==36542148){break;} }
-		for(i=22;i<33;i++){ buf[617]=(byte)i; if(sha1_32(buf)==-1104393054){break;} }
-		for(i=-62;i<-36;i++){ buf[618]=(byte)i; if(sha1_32(buf)==1786558665){break;} }
-		for(i=21;i<43;i++){ buf[619]=(byte)i; if(sha1_32(buf)==-1981623009){break;} }
-		for(i=-95;i<-73;i++){ buf[620]=(byte)i; if(sha1_32(buf)==1341712088){break;} }
-		for(i=71;i<78;i++){ buf[621]=(byte)i; if(sha1_32(buf)==588121986){break;} }
-		for(i=17;i<31;i++){ buf[622]=(byte)i; if(sha1_32(buf)==-1969921926){break;} }
-		for(i=40;i<69;i++){ buf[623]=(byte)i; if(sha1_32(buf)==711612769){break;} }
-		for(i=-61;i<-43;i++){ buf[624]=(byte)i; if(sha1_32(buf)==-168496319){break;} }
-		for(i=52;i<63;i++){ buf[625]=(byte)i; if(sha1_32(buf)==1947761624){break;} }
-		for(i=-9;i<16;i++){ buf[626]=(byte)i; if(sha1_32(buf)==1268664312){break;} }
-		for(i=85;i<112;i++){ buf[627]=(byte)i; if(sha1_32(buf)==757190316){break;} }
-		for(i=-102;i<-73;i++){ buf[628]=(byte)i; if(sha1_32(buf)==402655536){break;} }
-		for(i=10;i<33;i++){ buf[629]=(byte)i; if(sha1_32(buf)==243541567){break;} }
-		for(i=-111;i<-86;i++){ buf[630]=(byte)i; if(sha1_32(buf)==1746322192){break;} }
-		for(i=-42;i<-26;i++){ buf[631]=(byte)i; if(sha1_32(buf)==-1874474414){break;} }
-		for(i=-67;i<-41;i++){ buf[632]=(byte)i; if(sha1_32(buf)==2032207938){break;} }
-		for(i=37;i<53;i++){ buf[633]=(byte)i; if(sha1_32(buf)==341511033){break;} }
-		for(i=-121;i<-107;i++){ buf[634]=(byte)i; if(sha1_32(buf)==123267331){break;} }
-		for(i=-111;i<-97;i++){ buf[635]=(byte)i; if(sha1_32(buf)==-1444516005){break;} }
-		for(i=44;i<53;i++){ buf[636]=(byte)i; if(sha1_32(buf)==-589718262){break;} }
-		for(i=-123;i<-121;i++){ buf[637]=(byte)i; if(sha1_32(buf)==1548286808){break;} }
-		for(i=-128;i<-124;i++){ buf[638]=(byte)i; if(sha1_32(buf)==217981705){break;} }
-		for(i=3;i<13;i++){ buf[639]=(byte)i; if(sha1_32(buf)==-714964895){break;} }
-		for(i=92;i<106;i++){ buf[640]=(byte)i; if(sha1_32(buf)==1062792017){break;} }
-		for(i=-119;i<-95;i++){ buf[641]=(byte)i; if(sha1_32(buf)==1859408824){break;} }
-		for(i=51;i<57;i++){ buf[642]=(byte)i; if(sha1_32(buf)==555289335){break;} }
-		for(i=64;i<76;i++){ buf[643]=(byte)i; if(sha1_32(buf)==-305934134){break;} }
-		for(i=7;i<24;i++){ buf[644]=(byte)i; if(sha1_32(buf)==467704947){break;} }
-		for(i=-85;i<-73;i++){ buf[645]=(byte)i; if(sha1_32(buf)==-1532137949){break;} }
-		for(i=-26;i<-20;i++){ buf[646]=(byte)i; if(sha1_32(buf)==-885199997){break;} }
-		for(i=101;i<113;i++){ buf[647]=(byte)i; if(sha1_32(buf)==1137341039){break;} }
-		for(i=-103;i<-88;i++){ buf[648]=(byte)i; if(sha1_32(buf)==1714529312){break;} }
-		for(i=-124;i<-110;i++){ buf[649]=(byte)i; if(sha1_32(buf)==-756347285){break;} }
-		for(i=-128;i<-122;i++){ buf[650]=(byte)i; if(sha1_32(buf)==954430382){break;} }
-		for(i=-28;i<-9;i++){ buf[651]=(byte)i; if(sha1_32(buf)==1535281696){break;} }
-		for(i=-94;i<-69;i++){ buf[652]=(byte)i; if(sha1_32(buf)==1032733532){break;} }
-		for(i=-104;i<-97;i++){ buf[653]=(byte)i; if(sha1_32(buf)==-682220347){break;} }
-		for(i=33;i<43;i++){ buf[654]=(byte)i; if(sha1_32(buf)==-609023466){break;} }
-		for(i=-116;i<-98;i++){ buf[655]=(byte)i; if(sha1_32(buf)==-1049048766){break;} }
-		for(i=-33;i<-13;i++){ buf[656]=(byte)i; if(sha1_32(buf)==2008131488){break;} }
-		for(i=-14;i<-6;i++){ buf[657]=(byte)i; if(sha1_32(buf)==1986796822){break;} }
-		for(i=56;i<73;i++){ buf[658]=(byte)i; if(sha1_32(buf)==519110784){break;} }
-		for(i=-126;i<-97;i++){ buf[659]=(byte)i; if(sha1_32(buf)==-662042137){break;} }
-		for(i=-124;i<-105;i++){ buf[660]=(byte)i; if(sha1_32(buf)==2043177380){break;} }
-		for(i=-4;i<2;i++){ buf[661]=(byte)i; if(sha1_32(buf)==777794911){break;} }
-		for(i=-46;i<-30;i++){ buf[662]=(byte)i; if(sha1_32(buf)==1940687877){break;} }
-		for(i=91;i<112;i++){ buf[663]=(byte)i; if(sha1_32(buf)==510143549){break;} }
-		for(i=-113;i<-105;i++){ buf[664]=(byte)i; if(sha1_32(buf)==-1788117428){break;} }
-		for(i=-67;i<-58;i++){ buf[665]=(byte)i; if(sha1_32(buf)==-376410984){break;} }
-		for(i=20;i<48;i++){ buf[666]=(byte)i; if(sha1_32(buf)==104100437){break;} }
-		for(i=-81;i<-73;i++){ buf[667]=(byte)i; if(sha1_32(buf)==1994317978){break;} }
-		for(i=-103;i<-82;i++){ buf[668]=(byte)i; if(sha1_32(buf)==-1133224629){break;} }
-		for(i=-36;i<-16;i++){ buf[669]=(byte)i; if(sha1_32(buf)==-2000892439){break;} }
-		for(i=62;i<79;i++){ buf[670]=(byte)i; if(sha1_32(buf)==-597936653){break;} }
-		for(i=43;i<58;i++){ buf[671]=(byte)i; if(sha1_32(buf)==1110183516){break;} }
-		for(i=-123;i<-106;i++){ buf[672]=(byte)i; if(sha1_32(buf)==-208253158){break;} }
-		for(i=-14;i<5;i++){ buf[673]=(byte)i; if(sha1_32(buf)==1838651040){break;} }
-		for(i=82;i<95;i++){ buf[674]=(byte)i; if(sha1_32(buf)==114085643){break;} }
-		for(i=-83;i<-71;i++){ buf[675]=(byte)i; if(sha1_32(buf)==1415010202){break;} }
-		for(i=75;i<88;i++){ buf[676]=(byte)i; if(sha1_32(buf)==-1579397412){break;} }
-		for(i=-43;i<-29;i++){ buf[677]=(byte)i; if(sha1_32(buf)==-943575631){break;} }
-		for(i=-57;i<-44;i++){ buf[678]=(byte)i; if(sha1_32(buf)==-1423925604){break;} }
-		for(i=-50;i<-33;i++){ buf[679]=(byte)i; if(sha1_32(buf)==-1798999085){break;} }
-		for(i=-83;i<-74;i++){ buf[680]=(byte)i; if(sha1_32(buf)==521741946){break;} }
-		for(i=-65;i<-44;i++){ buf[681]=(byte)i; if(sha1_32(buf)==1861262124){break;} }
-		for(i=89;i<100;i++){ buf[682]=(byte)i; if(sha1_32(buf)==1444832502){break;} }
-		for(i=58;i<75;i++){ buf[683]=(byte)i; if(sha1_32(buf)==677227735){break;} }
-		for(i=72;i<81;i++){ buf[684]=(byte)i; if(sha1_32(buf)==512760835){break;} }
-		for(i=-92;i<-75;i++){ buf[685]=(byte)i; if(sha1_32(buf)==-1643915236){break;} }
-		for(i=-63;i<-37;i++){ buf[686]=(byte)i; if(sha1_32(buf)==166089245){break;} }
-		for(i=97;i<105;i++){ buf[687]=(byte)i; if(sha1_32(buf)==-420936482){break;} }
-		for(i=85;i<105;i++){ buf[688]=(byte)i; if(sha1_32(buf)==1162610592){break;} }
-		for(i=-100;i<-91;i++){ buf[689]=(byte)i; if(sha1_32(buf)==-1073272299){break;} }
-		for(i=-33;i<-14;i++){ buf[690]=(byte)i; if(sha1_32(buf)==2001672926){break;} }
-		for(i=95;i<104;i++){ buf[691]=(byte)i; if(sha1_32(buf)==1999486822){break;} }
-		for(i=-17;i<8;i++){ buf[692]=(byte)i; if(sha1_32(buf)==1306508549){break;} }
-		for(i=81;i<95;i++){ buf[693]=(byte)i; if(sha1_32(buf)==-1861122018){break;} }
-		for(i=-54;i<-46;i++){ buf[694]=(byte)i; if(sha1_32(buf)==-1594042249){break;} }
-		for(i=-110;i<-107;i++){ buf[695]=(byte)i; if(sha1_32(buf)==1620221672){break;} }
-		for(i=-46;i<-25;i++){ buf[696]=(byte)i; if(sha1_32(buf)==639788541){break;} }
-		for(i=73;i<86;i++){ buf[697]=(byte)i; if(sha1_32(buf)==-460845076){break;} }
-		for(i=62;i<80;i++){ buf[698]=(byte)i; if(sha1_32(buf)==-516370124){break;} }
-		for(i=-46;i<-38;i++){ buf[699]=(byte)i; if(sha1_32(buf)==1105860867){break;} }
-		for(i=-34;i<-13;i++){ buf[700]=(byte)i; if(sha1_32(buf)==-2025817949){break;} }
-		for(i=84;i<105;i++){ buf[701]=(byte)i; if(sha1_32(buf)==163810365){break;} }
-		for(i=-113;i<-86;i++){ buf[702]=(byte)i; if(sha1_32(buf)==2132158866){break;} }
-		for(i=69;i<87;i++){ buf[703]=(byte)i; if(sha1_32(buf)==1071220579){break;} }
-		for(i=67;i<90;i++){ buf[704]=(byte)i; if(sha1_32(buf)==285489030){break;} }
-		for(i=103;i<119;i++){ buf[705]=(byte)i; if(sha1_32(buf)==-1353415336){break;} }
-		for(i=-54;i<-30;i++){ buf[706]=(byte)i; if(sha1_32(buf)==73719542){break;} }
-		for(i=54;i<73;i++){ buf[707]=(byte)i; if(sha1_32(buf)==2053981810){break;} }
-		for(i=-22;i<-5;i++){ buf[708]=(byte)i; if(sha1_32(buf)==102332647){break;} }
-		for(i=-16;i<-1;i++){ buf[709]=(byte)i; if(sha1_32(buf)==40515382){break;} }
-		for(i=6;i<30;i++){ buf[710]=(byte)i; if(sha1_32(buf)==-1163603988){break;} }
-		for(i=73;i<96;i++){ buf[711]=(byte)i; if(sha1_32(buf)==313001500){break;} }
-		for(i=98;i<105;i++){ buf[712]=(byte)i; if(sha1_32(buf)==1500048825){break;} }
-		for(i=96;i<111;i++){ buf[713]=(byte)i; if(sha1_32(buf)==-124835160){break;} }
-		for(i=-99;i<-82;i++){ buf[714]=(byte)i; if(sha1_32(buf)==1383381734){break;} }
-		for(i=-7;i<3;i++){ buf[715]=(byte)i; if(sha1_32(buf)==1764432099){break;} }
-		for(i=-85;i<-78;i++){ buf[716]=(byte)i; if(sha1_32(buf)==1706044533){break;} }
-		for(i=-28;i<-5;i++){ buf[717]=(byte)i; if(sha1_32(buf)==-988065062){break;} }
-		for(i=-109;i<-90;i++){ buf[718]=(byte)i; if(sha1_32(buf)==1864939879){break;} }
-		for(i=100;i<107;i++){ buf[719]=(byte)i; if(sha1_32(buf)==1373689964){break;} }
-		for(i=37;i<64;i++){ buf[720]=(byte)i; if(sha1_32(buf)==-923085281){break;} }
-		for(i=27;i<33;i++){ buf[721]=(byte)i; if(sha1_32(buf)==635628746){break;} }
-		for(i=-77;i<-53;i++){ buf[722]=(byte)i; if(sha1_32(buf)==-412877395){break;} }
-		for(i=-107;i<-89;i++){ buf[723]=(byte)i; if(sha1_32(buf)==418585671){break;} }
-		for(i=-56;i<-39;i++){ buf[724]=(byte)i; if(sha1_32(buf)==288559452){break;} }
-		for(i=-41;i<-16;i++){ buf[725]=(byte)i; if(sha1_32(buf)==-225628551){break;} }
-		for(i=88;i<117;i++){ buf[726]=(byte)i; if(sha1_32(buf)==1814178452){break;} }
-		for(i=-128;i<-107;i++){ buf[727]=(byte)i; if(sha1_32(buf)==-1805778943){break;} }
-		for(i=48;i<63;i++){ buf[728]=(byte)i; if(sha1_32(buf)==1815800613){break;} }
-		for(i=-95;i<-89;i++){ buf[729]=(byte)i; if(sha1_32(buf)==-655557712){break;} }
-		for(i=-92;i<-68;i++){ buf[730]=(byte)i; if(sha1_32(buf)==-1896057749){break;} }
-		for(i=29;i<38;i++){ buf[731]=(byte)i; if(sha1_32(buf)==340422401){break;} }
-		for(i=64;i<72;i++){ buf[732]=(byte)i; if(sha1_32(buf)==-774027105){break;} }
-		for(i=-128;i<-121;i++){ buf[733]=(byte)i; if(sha1_32(buf)==209144082){break;} }
-		for(i=-57;i<-44;i++){ buf[734]=(byte)i; if(sha1_32(buf)==1081664144){break;} }
-		for(i=-9;i<5;i++){ buf[735]=(byte)i; if(sha1_32(buf)==1081664144){break;} }
-		for(i=-73;i<-71;i++){ buf[736]=(byte)i; if(sha1_32(buf)==-1785377805){break;} }
-		for(i=41;i<50;i++){ buf[737]=(byte)i; if(sha1_32(buf)==-1912434016){break;} }
-		for(i=-92;i<-70;i++){ buf[738]=(byte)i; if(sha1_32(buf)==1951334394){break;} }
-		for(i=-38;i<-20;i++){ buf[739]=(byte)i; if(sha1_32(buf)==-2027889231){break;} }
-		for(i=59;i<84;i++){ buf[740]=(byte)i; if(sha1_32(buf)==-1526674744){break;} }
-		for(i=-22;i<-7;i++){ buf[741]=(byte)i; if(sha1_32(buf)==-525550315){break;} }
-		for(i=-42;i<-13;i++){ buf[742]=(byte)i; if(sha1_32(buf)==1777488480){break;} }
-		for(i=64;i<75;i++){ buf[743]=(byte)i; if(sha1_32(buf)==64295458){break;} }
-		for(i=-128;i<-124;i++){ buf[744]=(byte)i; if(sha1_32(buf)==380028054){break;} }
-		for(i=46;i<48;i++){ buf[745]=(byte)i; if(sha1_32(buf)==-1141195352){break;} }
-		for(i=15;i<38;i++){ buf[746]=(byte)i; if(sha1_32(buf)==1265204373){break;} }
-		for(i=36;i<58;i++){ buf[747]=(byte)i; if(sha1_32(buf)==132012616){break;} }
-		for(i=108;i<115;i++){ buf[748]=(byte)i; if(sha1_32(buf)==-1158802325){break;} }
-		for(i=-94;i<-77;i++){ buf[749]=(byte)i; if(sha1_32(buf)==-1804296455){break;} }
-		for(i=121;i<128;i++){ buf[750]=(byte)i; if(sha1_32(buf)==372608093){break;} }
-		for(i=108;i<110;i++){ buf[751]=(byte)i; if(sha1_32(buf)==-417025639){break;} }
-		for(i=-104;i<-79;i++){ buf[752]=(byte)i; if(sha1_32(buf)==310345149){break;} }
-		for(i=-30;i<-14;i++){ buf[753]=(byte)i; if(sha1_32(buf)==1287218359){break;} }
-		for(i=24;i<45;i++){ buf[754]=(byte)i; if(sha1_32(buf)==1074306968){break;} }
-		for(i=37;i<55;i++){ buf[755]=(byte)i; if(sha1_32(buf)==614112869){break;} }
-		for(i=34;i<52;i++){ buf[756]=(byte)i; if(sha1_32(buf)==332149106){break;} }
-		for(i=81;i<92;i++){ buf[757]=(byte)i; if(sha1_32(buf)==757904738){break;} }
-		for(i=104;i<122;i++){ buf[758]=(byte)i; if(sha1_32(buf)==-438129287){break;} }
-		for(i=-104;i<-88;i++){ buf[759]=(byte)i; if(sha1_32(buf)==-1168156818){break;} }
-		for(i=-114;i<-98;i++){ buf[760]=(byte)i; if(sha1_32(buf)==-1280124403){break;} }
-		for(i=118;i<128;i++){ buf[761]=(byte)i; if(sha1_32(buf)==1604060021){break;} }
-		for(i=100;i<110;i++){ buf[762]=(byte)i; if(sha1_32(buf)==1435981239){break;} }
-		for(i=-23;i<-6;i++){ buf[763]=(byte)i; if(sha1_32(buf)==-977835585){break;} }
-		for(i=-75;i<-50;i++){ buf[764]=(byte)i; if(sha1_32(buf)==2099042137){break;} }
-		for(i=-36;i<-27;i++){ buf[765]=(byte)i; if(sha1_32(buf)==-657289614){break;} }
-		for(i=13;i<38;i++){ buf[766]=(byte)i; if(sha1_32(buf)==-661461438){break;} }
-		for(i=9;i<26;i++){ buf[767]=(byte)i; if(sha1_32(buf)==-317814986){break;} }
-		for(i=-61;i<-41;i++){ buf[768]=(byte)i; if(sha1_32(buf)==1450832520){break;} }
-		for(i=58;i<78;i++){ buf[769]=(byte)i; if(sha1_32(buf)==-1252107412){break;} }
-		for(i=-16;i<-8;i++){ buf[770]=(byte)i; if(sha1_32(buf)==-1072602544){break;} }
-		for(i=-125;i<-111;i++){ buf[771]=(byte)i; if(sha1_32(buf)==-1140163526){break;} }
-		for(i=-64;i<-50;i++){ buf[772]=(byte)i; if(sha1_32(buf)==171443528){break;} }
-		for(i=90;i<117;i++){ buf[773]=(byte)i; if(sha1_32(buf)==196340017){break;} }
-		for(i=72;i<87;i++){ buf[774]=(byte)i; if(sha1_32(buf)==533951218){break;} }
-		for(i=-66;i<-52;i++){ buf[775]=(byte)i; if(sha1_32(buf)==1034526653){break;} }
-		for(i=-2;i<13;i++){ buf[776]=(byte)i; if(sha1_32(buf)==285214523){break;} }
-		for(i=89;i<108;i++){ buf[777]=(byte)i; if(sha1_32(buf)==411343738){break;} }
-		for(i=-101;i<-79;i++){ buf[778]=(byte)i; if(sha1_32(buf)==-352952532){break;} }
-		for(i=-107;i<-86;i++){ buf[779]=(byte)i; if(sha1_32(buf)==651714220){break;} }
-		for(i=41;i<64;i++){ buf[780]=(byte)i; if(sha1_32(buf)==216872496){break;} }
-		for(i=-48;i<-30;i++){ buf[781]=(byte)i; if(sha1_32(buf)==-872486600){break;} }
-		for(i=-113;i<-96;i++){ buf[782]=(byte)i; if(sha1_32(buf)==494923897){break;} }
-		for(i=20;i<36;i++){ buf[783]=(byte)i; if(sha1_32(buf)==-1931995368){break;} }
-		for(i=6;i<13;i++){ buf[784]=(byte)i; if(sha1_32(buf)==-1363390787){break;} }
-		for(i=84;i<105;i++){ buf[785]=(byte)i; if(sha1_32(buf)==-878098574){break;} }
-		for(i=111;i<126;i++){ buf[786]=(byte)i; if(sha1_32(buf)==2137818183){break;} }
-		for(i=12;i<25;i++){ buf[787]=(byte)i; if(sha1_32(buf)==-1854862678){break;} }
-		for(i=-110;i<-93;i++){ buf[788]=(byte)i; if(sha1_32(buf)==1524624138){break;} }
-		for(i=56;i<67;i++){ buf[789]=(byte)i; if(sha1_32(buf)==1304493519){break;} }
-		for(i=34;i<43;i++){ buf[790]=(byte)i; if(sha1_32(buf)==-2074772181){break;} }
-		for(i=47;i<72;i++){ buf[791]=(byte)i; if(sha1_32(buf)==578887540){break;} }
-		for(i=94;i<109;i++){ buf[792]=(byte)i; if(sha1_32(buf)==-1330732746){break;} }
-		for(i=-81;i<-62;i++){ buf[793]=(byte)i; if(sha1_32(buf)==-1440948852){break;} }
-		for(i=-1;i<22;i++){ buf[794]=(byte)i; if(sha1_32(buf)==-630698891){break;} }
-		for(i=22;i<31;i++){ buf[795]=(byte)i; if(sha1_32(buf)==746093974){break;} }
-		for(i=-88;i<-77;i++){ buf[796]=(byte)i; if(sha1_32(buf)==1104760544){break;} }
-		for(i=74;i<82;i++){ buf[797]=(byte)i; if(sha1_32(buf)==1027522097){break;} }
-		for(i=15;i<30;i++){ buf[798]=(byte)i; if(sha1_32(buf)==1496870670){break;} }
-		for(i=15;i<28;i++){ buf[799]=(byte)i; if(sha1_32(buf)==1212225159){break;} }
-		for(i=-1;i<8;i++){ buf[800]=(byte)i; if(sha1_32(buf)==866009196){break;} }
-		for(i=108;i<116;i++){ buf[801]=(byte)i; if(sha1_32(buf)==1711730960){break;} }
-		for(i=-64;i<-58;i++){ buf[802]=(byte)i; if(sha1_32(buf)==286850699){break;} }
-		for(i=37;i<58;i++){ buf[803]=(byte)i; if(sha1_32(buf)==800754444){break;} }
-		for(i=-105;i<-94;i++){ buf[804]=(byte)i; if(sha1_32(buf)==699184250){break;} }
-		for(i=114;i<126;i++){ buf[805]=(byte)i; if(sha1_32(buf)==1872717355){break;} }
-		for(i=-25;i<-18;i++){ buf[806]=(byte)i; if(sha1_32(buf)==-468589819){break;} }
-		for(i=109;i<128;i++){ buf[807]=(byte)i; if(sha1_32(buf)==-1774695957){break;} }
-		for(i=10;i<30;i++){ buf[808]=(byte)i; if(sha1_32(buf)==1181742450){break;} }
-		for(i=98;i<117;i++){ buf[809]=(byte)i; if(sha1_32(buf)==-739282714){break;} }
-		for(i=-3;i<11;i++){ buf[810]=(byte)i; if(sha1_32(buf)==-2075479596){break;} }
-		for(i=-28;i<-15;i++){ buf[811]=(byte)i; if(sha1_32(buf)==233493096){break;} }
-		for(i=-28;i<-12;i++){ buf[812]=(byte)i; if(sha1_32(buf)==-2059265822){break;} }
-		for(i=-117;i<-108;i++){ buf[813]=(byte)i; if(sha1_32(buf)==-1743110368){break;} }
-		for(i=-107;i<-94;i++){ buf[814]=(byte)i; if(sha1_32(buf)==-1044487790){break;} }
-		for(i=-104;i<-86;i++){ buf[815]=(byte)i; if(sha1_32(buf)==-2146796070){break;} }
-		for(i=3;i<19;i++){ buf[816]=(byte)i; if(sha1_32(buf)==-1662395018){break;} }
-		for(i=-23;i<-11;i++){ buf[817]=(byte)i; if(sha1_32(buf)==-1439251506){break;} }
-		for(i=51;i<58;i++){ buf[818]=(byte)i; if(sha1_32(buf)==-1746703910){break;} }
-		for(i=-99;i<-70;i++){ buf[819]=(byte)i; if(sha1_32(buf)==-1196838676){break;} }
-		for(i=-18;i<10;i++){ buf[820]=(byte)i; if(sha1_32(buf)==1850216495){break;} }
-		for(i=-18;i<-2;i++){ buf[821]=(byte)i; if(sha1_32(buf)==-501770023){break;} }
-		for(i=-45;i<-24;i++){ buf[822]=(byte)i; if(sha1_32(buf)==-125729496){break;} }
-		for(i=106;i<128;i++){ buf[823]=(byte)i; if(sha1_32(buf)==-1156072867){break;} }
-		for(i=36;i<43;i++){ buf[824]=(byte)i; if(sha1_32(buf)==-411609903){break;} }
-		for(i=-51;i<-36;i++){ buf[825]=(byte)i; if(sha1_32(buf)==411153915){break;} }
-		for(i=-42;i<-19;i++){ buf[826]=(byte)i; if(sha1_32(buf)==2066864599){break;} }
-		for(i=1;i<23;i++){ buf[827]=(byte)i; if(sha1_32(buf)==-604917177){break;} }
-		for(i=-114;i<-92;i++){ buf[828]=(byte)i; if(sha1_32(buf)==900633062){break;} }
-		for(i=-79;i<-66;i++){ buf[829]=(byte)i; if(sha1_32(buf)==-1423061523){break;} }
-		for(i=-110;i<-94;i++){ buf[830]=(byte)i; if(sha1_32(buf)==-1385967483){break;} }
-		for(i=18;i<31;i++){ buf[831]=(byte)i; if(sha1_32(buf)==-311676318){break;} }
-		for(i=57;i<80;i++){ buf[832]=(byte)i; if(sha1_32(buf)==-1019560681){break;} }
-		for(i=-106;i<-91;i++){ buf[833]=(byte)i; if(sha1_32(buf)==95722160){break;} }
-		for(i=101;i<112;i++){ buf[834]=(byte)i; if(sha1_32(buf)==1140859047){break;} }
-		for(i=70;i<83;i++){ buf[835]=(byte)i; if(sha1_32(buf)==-727004118){break;} }
-		for(i=14;i<23;i++){ buf[836]=(byte)i; if(sha1_32(buf)==1020405182){break;} }
-		for(i=-122;i<-113;i++){ buf[837]=(byte)i; if(sha1_32(buf)==1219761909){break;} }
-		for(i=43;i<56;i++){ buf[838]=(byte)i; if(sha1_32(buf)==-1380243401){break;} }
-		for(i=94;i<111;i++){ buf[839]=(byte)i; if(sha1_32(buf)==397961049){break;} }
-		for(i=-128;i<-111;i++){ buf[840]=(byte)i; if(sha1_32(buf)==247246121){break;} }
-		for(i=78;i<96;i++){ buf[841]=(byte)i; if(sha1_32(buf)==-199889992){break;} }
-		for(i=-97;i<-85;i++){ buf[842]=(byte)i; if(sha1_32(buf)==1863835849){break;} }
-		for(i=-103;i<-92;i++){ buf[843]=(byte)i; if(sha1_32(buf)==222935467){break;} }
-		for(i=78;i<88;i++){ buf[844]=(byte)i; if(sha1_32(buf)==1628112169){break;} }
-		for(i=-104;i<-84;i++){ buf[845]=(byte)i; if(sha1_32(buf)==-1461044246){break;} }
-		for(i=-91;i<-88;i++){ buf[846]=(byte)i; if(sha1_32(buf)==768637086){break;} }
-		for(i=6;i<23;i++){ buf[847]=(byte)i; if(sha1_32(buf)==-1948205478){break;} }
-		for(i=-29;i<-22;i++){ buf[848]=(byte)i; if(sha1_32(buf)==52416692){break;} }
-		for(i=-9;i<4;i++){ buf[849]=(byte)i; if(sha1_32(buf)==852900745){break;} }
-		for(i=68;i<89;i++){ buf[850]=(byte)i; if(sha1_32(buf)==-718576902){break;} }
-		for(i=-22;i<5;i++){ buf[851]=(byte)i; if(sha1_32(buf)==513085738){break;} }
-		for(i=42;i<60;i++){ buf[852]=(byte)i; if(sha1_32(buf)==-395197346){break;} }
-		for(i=-6;i<6;i++){ buf[853]=(byte)i; if(sha1_32(buf)==-290565063){break;} }
-		for(i=-55;i<-33;i++){ buf[854]=(byte)i; if(sha1_32(buf)==-498118703){break;} }
-		for(i=11;i<17;i++){ buf[855]=(byte)i; if(sha1_32(buf)==-368787618){break;} }
-		for(i=83;i<101;i++){ buf[856]=(byte)i; if(sha1_32(buf)==-1239504187){break;} }
-		for(i=11;i<30;i++){ buf[857]=(byte)i; if(sha1_32(buf)==734596241){break;} }
-		for(i=59;i<75;i++){ buf[858]=(byte)i; if(sha1_32(buf)==840771417){break;} }
-		for(i=110;i<128;i++){ buf[859]=(byte)i; if(sha1_32(buf)==-2125979389){break;} }
-		for(i=11;i<38;i++){ buf[860]=(byte)i; if(sha1_32(buf)==1466382347){break;} }
-		for(i=-50;i<-27;i++){ buf[861]=(byte)i; if(sha1_32(buf)==-532649802){break;} }
-		for(i=78;i<91;i++){ buf[862]=(byte)i; if(sha1_32(buf)==-1759994398){break;} }
-		for(i=-102;i<-89;i++){ buf[863]=(byte)i; if(sha1_32(buf)==619447397){break;} }
-		for(i=27;i<49;i++){ buf[864]=(byte)i; if(sha1_32(buf)==-990360256){break;} }
-		for(i=93;i<116;i++){ buf[865]=(byte)i; if(sha1_32(buf)==-1229092275){break;} }
-		for(i=-25;i<-13;i++){ buf[866]=(byte)i; if(sha1_32(buf)==1591696150){break;} }
-		for(i=57;i<75;i++){ buf[867]=(byte)i; if(sha1_32(buf)==1547982936){break;} }
-		for(i=121;i<128;i++){ buf[868]=(byte)i; if(sha1_32(buf)==548769123){break;} }
-		for(i=-50;i<-35;i++){ buf[869]=(byte)i; if(sha1_32(buf)==663969240){break;} }
-		for(i=-23;i<-12;i++){ buf[870]=(byte)i; if(sha1_32(buf)==683156531){break;} }
-		for(i=-77;i<-50;i++){ buf[871]=(byte)i; if(sha1_32(buf)==-942957495){break;} }
-		for(i=87;i<103;i++){ buf[872]=(byte)i; if(sha1_32(buf)==-753224886){break;} }
-		for(i=6;i<32;i++){ buf[873]=(byte)i; if(sha1_32(buf)==1179835848){break;} }
-		for(i=56;i<78;i++){ buf[874]=(byte)i; if(sha1_32(buf)==-430071402){break;} }
-		for(i=66;i<84;i++){ buf[875]=(byte)i; if(sha1_32(buf)==-570823485){break;} }
-		for(i=105;i<118;i++){ buf[876]=(byte)i; if(sha1_32(buf)==-528257545){break;} }
-		for(i=29;i<47;i++){ buf[877]=(byte)i; if(sha1_32(buf)==-1405756318){break;} }
-		for(i=112;i<118;i++){ buf[878]=(byte)i; if(sha1_32(buf)==-1544552957){break;} }
-		for(i=48;i<69;i++){ buf[879]=(byte)i; if(sha1_32(buf)==1174032055){break;} }
-		for(i=-18;i<2;i++){ buf[880]=(byte)i; if(sha1_32(buf)==-1387699268){break;} }
-		for(i=-70;i<-55;i++){ buf[881]=(byte)i; if(sha1_32(buf)==1408743743){break;} }
-		for(i=-112;i<-104;i++){ buf[882]=(byte)i; if(sha1_32(buf)==1163488394){break;} }
-		for(i=62;i<83;i++){ buf[883]=(byte)i; if(sha1_32(buf)==1724811729){break;} }
-		for(i=28;i<40;i++){ buf[884]=(byte)i; if(sha1_32(buf)==-1752135087){break;} }
-		for(i=-97;i<-84;i++){ buf[885]=(byte)i; if(sha1_32(buf)==1270633958){break;} }
-		for(i=5;i<20;i++){ buf[886]=(byte)i; if(sha1_32(buf)==1899525935){break;} }
-		for(i=-103;i<-81;i++){ buf[887]=(byte)i; if(sha1_32(buf)==1092511330){break;} }
-		for(i=-47;i<-19;i++){ buf[888]=(byte)i; if(sha1_32(buf)==324358494){break;} }
-		for(i=-90;i<-65;i++){ buf[889]=(byte)i; if(sha1_32(buf)==2066029633){break;} }
-		for(i=108;i<120;i++){ buf[890]=(byte)i; if(sha1_32(buf)==-1299982567){break;} }
-		for(i=-125;i<-101;i++){ buf[891]=(byte)i; if(sha1_32(buf)==-915605751){break;} }
-		for(i=-114;i<-94;i++){ buf[892]=(byte)i; if(sha1_32(buf)==2002893303){break;} }
-		for(i=-122;i<-104;i++){ buf[893]=(byte)i; if(sha1_32(buf)==-412603408){break;} }
-		for(i=-117;i<-99;i++){ buf[894]=(byte)i; if(sha1_32(buf)==-1585437553){break;} }
-		for(i=10;i<23;i++){ buf[895]=(byte)i; if(sha1_32(buf)==1756173139){break;} }
-		for(i=39;i<68;i++){ buf[896]=(byte)i; if(sha1_32(buf)==1642406613){break;} }
-		for(i=-48;i<-24;i++){ buf[897]=(byte)i; if(sha1_32(buf)==2110651996){break;} }
-		for(i=11;i<28;i++){ buf[898]=(byte)i; if(sha1_32(buf)==-847266361){break;} }
-		for(i=70;i<87;i++){ buf[899]=(byte)i; if(sha1_32(buf)==-2146287918){break;} }
-		for(i=38;i<58;i++){ buf[900]=(byte)i; if(sha1_32(buf)==-447317377){break;} }
-		for(i=-28;i<-15;i++){ buf[901]=(byte)i; if(sha1_32(buf)==-1073851074){break;} }
-		for(i=-125;i<-107;i++){ buf[902]=(byte)i; if(sha1_32(buf)==498383525){break;} }
-		for(i=111;i<125;i++){ buf[903]=(byte)i; if(sha1_32(buf)==1365505752){break;} }
-		for(i=12;i<33;i++){ buf[904]=(byte)i; if(sha1_32(buf)==775613122){break;} }
-		for(i=-107;i<-104;i++){ buf[905]=(byte)i; if(sha1_32(buf)==1321292015){break;} }
-		for(i=-118;i<-97;i++){ buf[906]=(byte)i; if(sha1_32(buf)==-2072283314){break;} }
-		for(i=-93;i<-71;i++){ buf[907]=(byte)i; if(sha1_32(buf)==-948110328){break;} }
-		for(i=-53;i<-37;i++){ buf[908]=(byte)i; if(sha1_32(buf)==958981478){break;} }
-		for(i=-57;i<-55;i++){ buf[909]=(byte)i; if(sha1_32(buf)==-487938573){break;} }
-		for(i=104;i<128;i++){ buf[910]=(byte)i; if(sha1_32(buf)==1405530364){break;} }
-		for(i=78;i<107;i++){ buf[911]=(byte)i; if(sha1_32(buf)==-4167948){break;} }
-		for(i=-8;i<12;i++){ buf[912]=(byte)i; if(sha1_32(buf)==-4167948){break;} }
-		for(i=12;i<32;i++){ buf[913]=(byte)i; if(sha1_32(buf)==1359142312){break;} }
-		for(i=-108;i<-86;i++){ buf[914]=(byte)i; if(sha1_32(buf)==702864584){break;} }
-		for(i=-51;i<-25;i++){ buf[915]=(byte)i; if(sha1_32(buf)==503269677){break;} }
-		for(i=-55;i<-31;i++){ buf[916]=(byte)i; if(sha1_32(buf)==-1296467485){break;} }
-		for(i=1;i<15;i++){ buf[917]=(byte)i; if(sha1_32(buf)==-2060279493){break;} }
-		for(i=-64;i<-36;i++){ buf[918]=(byte)i; if(sha1_32(buf)==59756365){break;} }
-		for(i=55;i<61;i++){ buf[919]=(byte)i; if(sha1_32(buf)==240959886){break;} }
-		for(i=-94;i<-92;i++){ buf[920]=(byte)i; if(sha1_32(buf)==-801389318){break;} }
-		for(i=-46;i<-23;i++){ buf[921]=(byte)i; if(sha1_32(buf)==788899784){break;} }
-		for(i=26;i<56;i++){ buf[922]=(byte)i; if(sha1_32(buf)==1340023913){break;} }
-		for(i=-86;i<-59;i++){ buf[923]=(byte)i; if(sha1_32(buf)==1213052050){break;} }
-		for(i=-38;i<-13;i++){ buf[924]=(byte)i; if(sha1_32(buf)==898352756){break;} }
-		for(i=-86;i<-62;i++){ buf[925]=(byte)i; if(sha1_32(buf)==719361079){break;} }
-		for(i=-13;i<-1;i++){ buf[926]=(byte)i; if(sha1_32(buf)==107214278){break;} }
-		for(i=9;i<20;i++){ buf[927]=(byte)i; if(sha1_32(buf)==-1212312211){break;} }
-		for(i=116;i<128;i++){ buf[928]=(byte)i; if(sha1_32(buf)==31080802){break;} }
-		for(i=-37;i<-9;i++){ buf[929]=(byte)i; if(sha1_32(buf)==342233812){break;} }
-		for(i=-3;i<11;i++){ buf[930]=(byte)i; if(sha1_32(buf)==904722496){break;} }
-		for(i=77;i<93;i++){ buf[931]=(byte)i; if(sha1_32(buf)==1014295976){break;} }
-		for(i=105;i<123;i++){ buf[932]=(byte)i; if(sha1_32(buf)==-305340953){break;} }
-		for(i=29;i<42;i++){ buf[933]=(byte)i; if(sha1_32(buf)==128036177){break;} }
-		for(i=63;i<72;i++){ buf[934]=(byte)i; if(sha1_32(buf)==1608550500){break;} }
-		for(i=-18;i<-1;i++){ buf[935]=(byte)i; if(sha1_32(buf)==414470522){break;} }
-		for(i=20;i<32;i++){ buf[936]=(byte)i; if(sha1_32(buf)==74477477){break;} }
-		for(i=56;i<84;i++){ buf[937]=(byte)i; if(sha1_32(buf)==1981858067){break;} }
-		for(i=-74;i<-48;i++){ buf[938]=(byte)i; if(sha1_32(buf)==-1098963823){break;} }
-		for(i=19;i<42;i++){ buf[939]=(byte)i; if(sha1_32(buf)==-1640472428){break;} }
-		for(i=-56;i<-44;i++){ buf[940]=(byte)i; if(sha1_32(buf)==-932055897){break;} }
-		for(i=-117;i<-102;i++){ buf[941]=(byte)i; if(sha1_32(buf)==-1175917010){break;} }
-		for(i=-33;i<-22;i++){ buf[942]=(byte)i; if(sha1_32(buf)==1656442350){break;} }
-		for(i=-27;i<-4;i++){ buf[943]=(byte)i; if(sha1_32(buf)==-7899526){break;} }
-		for(i=117;i<123;i++){ buf[944]=(byte)i; if(sha1_32(buf)==-661092032){break;} }
-		for(i=-7;i<13;i++){ buf[945]=(byte)i; if(sha1_32(buf)==-661092032){break;} }
-		for(i=-112;i<-90;i++){ buf[946]=(byte)i; if(sha1_32(buf)==-190696991){break;} }
-		for(i=-53;i<-48;i++){ buf[947]=(byte)i; if(sha1_32(buf)==764812629){break;} }
-		for(i=-75;i<-62;i++){ buf[948]=(byte)i; if(sha1_32(buf)==1326228354){break;} }
-		for(i=50;i<63;i++){ buf[949]=(byte)i; if(sha1_32(buf)==-1716779028){break;} }
-		for(i=-84;i<-70;i++){ buf[950]=(byte)i; if(sha1_32(buf)==-831584252){break;} }
-		for(i=-23;i<-17;i++){ buf[951]=(byte)i; if(sha1_32(buf)==-117971909){break;} }
-		for(i=37;i<54;i++){ buf[952]=(byte)i; if(sha1_32(buf)==-2033580277){break;} }
-		for(i=59;i<73;i++){ buf[953]=(byte)i; if(sha1_32(buf)==276118152){break;} }
-		for(i=113;i<128;i++){ buf[954]=(byte)i; if(sha1_32(buf)==125174589){break;} }
-		for(i=61;i<73;i++){ buf[955]=(byte)i; if(sha1_32(buf)==1825556649){break;} }
-		for(i=-37;i<-19;i++){ buf[956]=(byte)i; if(sha1_32(buf)==1598884122){break;} }
-		for(i=33;i<61;i++){ buf[957]=(byte)i; if(sha1_32(buf)==-1228546738){break;} }
-		for(i=-74;i<-62;i++){ buf[958]=(byte)i; if(sha1_32(buf)==547363468){break;} }
-		for(i=-26;i<2;i++){ buf[959]=(byte)i; if(sha1_32(buf)==-1216985083){break;} }
-		for(i=-51;i<-41;i++){ buf[960]=(byte)i; if(sha1_32(buf)==339270198){break;} }
-		for(i=26;i<48;i++){ buf[961]=(byte)i; if(sha1_32(buf)==923995408){break;} }
-		for(i=21;i<44;i++){ buf[962]=(byte)i; if(sha1_32(buf)==739192809){break;} }
-		for(i=95;i<114;i++){ buf[963]=(byte)i; if(sha1_32(buf)==1474312195){break;} }
-		for(i=-27;i<-19;i++){ buf[964]=(byte)i; if(sha1_32(buf)==-289234475){break;} }
-		for(i=-45;i<-40;i++){ buf[965]=(byte)i; if(sha1_32(buf)==-434428601){break;} }
-		for(i=17;i<35;i++){ buf[966]=(byte)i; if(sha1_32(buf)==1138063666){break;} }
-		for(i=74;i<92;i++){ buf[967]=(byte)i; if(sha1_32(buf)==-817646477){break;} }
-		for(i=43;i<60;i++){ buf[968]=(byte)i; if(sha1_32(buf)==378794705){break;} }
-		for(i=-94;i<-84;i++){ buf[969]=(byte)i; if(sha1_32(buf)==644728065){break;} }
-		for(i=-1;i<18;i++){ buf[970]=(byte)i; if(sha1_32(buf)==-1725279838){break;} }
-		for(i=-6;i<11;i++){ buf[971]=(byte)i; if(sha1_32(buf)==1806668669){break;} }
-		for(i=125;i<128;i++){ buf[972]=(byte)i; if(sha1_32(buf)==1783519115){break;} }
-		for(i=27;i<47;i++){ buf[973]=(byte)i; if(sha1_32(buf)==1554665018){break;} }
-		for(i=-46;i<-31;i++){ buf[974]=(byte)i; if(sha1_32(buf)==-1271108440){break;} }
-		for(i=-61;i<-38;i++){ buf[975]=(byte)i; if(sha1_32(buf)==928649347){break;} }
-		for(i=-68;i<-55;i++){ buf[976]=(byte)i; if(sha1_32(buf)==-1122710797){break;} }
-		for(i=-110;i<-93;i++){ buf[977]=(byte)i; if(sha1_32(buf)==1859347828){break;} }
-		for(i=-39;i<-18;i++){ buf[978]=(byte)i; if(sha1_32(buf)==-1903873654){break;} }
-		for(i=2;i<19;i++){ buf[979]=(byte)i; if(sha1_32(buf)==-1977163092){break;} }
-		for(i=-35;i<-14;i++){ buf[980]=(byte)i; if(sha1_32(buf)==1689794724){break;} }
-		for(i=13;i<41;i++){ buf[981]=(byte)i; if(sha1_32(buf)==-940221696){break;} }
-		for(i=-36;i<-21;i++){ buf[982]=(byte)i; if(sha1_32(buf)==134481746){break;} }
-		for(i=-98;i<-79;i++){ buf[983]=(byte)i; if(sha1_32(buf)==-2062326824){break;} }
-		for(i=-125;i<-107;i++){ buf[984]=(byte)i; if(sha1_32(buf)==340338313){break;} }
-		for(i=-128;i<-119;i++){ buf[985]=(byte)i; if(sha1_32(buf)==-2124074808){break;} }
-		for(i=88;i<101;i++){ buf[986]=(byte)i; if(sha1_32(buf)==-2069036904){break;} }
-		for(i=-78;i<-60;i++){ buf[987]=(byte)i; if(sha1_32(buf)==576646166){break;} }
-		for(i=-96;i<-70;i++){ buf[988]=(byte)i; if(sha1_32(buf)==-925491937){break;} }
-		for(i=-80;i<-68;i++){ buf[989]=(byte)i; if(sha1_32(buf)==1690005264){break;} }
-		for(i=-119;i<-100;i++){ buf[990]=(byte)i; if(sha1_32(buf)==-491097869){break;} }
-		for(i=-91;i<-71;i++){ buf[991]=(byte)i; if(sha1_32(buf)==-330377263){break;} }
-		for(i=61;i<72;i++){ buf[992]=(byte)i; if(sha1_32(buf)==1116043467){break;} }
-		for(i=-44;i<-26;i++){ buf[993]=(byte)i; if(sha1_32(buf)==885431633){break;} }
-		for(i=-61;i<-42;i++){ buf[994]=(byte)i; if(sha1_32(buf)==-1146196636){break;} }
-		for(i=94;i<101;i++){ buf[995]=(byte)i; if(sha1_32(buf)==-496293342){break;} }
-		for(i=24;i<32;i++){ buf[996]=(byte)i; if(sha1_32(buf)==1986605392){break;} }
-		for(i=-16;i<8;i++){ buf[997]=(byte)i; if(sha1_32(buf)==1393040641){break;} }
-		for(i=96;i<122;i++){ buf[998]=(byte)i; if(sha1_32(buf)==1026567844){break;} }
-		for(i=-32;i<-16;i++){ buf[999]=(byte)i; if(sha1_32(buf)==-1790465837){break;} }
-		for(i=44;i<73;i++){ buf[1000]=(byte)i; if(sha1_32(buf)==1170557429){break;} }
-		for(i=65;i<80;i++){ buf[1001]=(byte)i; if(sha1_32(buf)==1110805782){break;} }
-		for(i=-39;i<-19;i++){ buf[1002]=(byte)i; if(sha1_32(buf)==-1103592424){break;} }
-		for(i=15;i<31;i++){ buf[1003]=(byte)i; if(sha1_32(buf)==2136515128){break;} }
-		for(i=-27;i<-10;i++){ buf[1004]=(byte)i; if(sha1_32(buf)==-50929485){break;} }
-		for(i=100;i<107;i++){ buf[1005]=(byte)i; if(sha1_32(buf)==957423413){break;} }
-		for(i=-4;i<6;i++){ buf[1006]=(byte)i; if(sha1_32(buf)==957423413){break;} }
-		for(i=85;i<98;i++){ buf[1007]=(byte)i; if(sha1_32(buf)==-734257700){break;} }
-		for(i=-106;i<-85;i++){ buf[1008]=(byte)i; if(sha1_32(buf)==1050945002){break;} }
-		for(i=78;i<91;i++){ buf[1009]=(byte)i; if(sha1_32(buf)==2131618224){break;} }
-		for(i=-40;i<-28;i++){ buf[1010]=(byte)i; if(sha1_32(buf)==1883880743){break;} }
-		for(i=65;i<78;i++){ buf[1011]=(byte)i; if(sha1_32(buf)==-1905214551){break;} }
-		for(i=88;i<105;i++){ buf[1012]=(byte)i; if(sha1_32(buf)==1149090794){break;} }
-		for(i=-5;i<14;i++){ buf[1013]=(byte)i; if(sha1_32(buf)==-1383772319){break;} }
-		for(i=-128;i<-106;i++){ buf[1014]=(byte)i; if(sha1_32(buf)==1872185516){break;} }
-		for(i=75;i<104;i++){ buf[1015]=(byte)i; if(sha1_32(buf)==774147914){break;} }
-		for(i=-7;i<-1;i++){ buf[1016]=(byte)i; if(sha1_32(buf)==-225338787){break;} }
-		for(i=-76;i<-46;i++){ buf[1017]=(byte)i; if(sha1_32(buf)==-639957445){break;} }
-		for(i=-36;i<-14;i++){ buf[1018]=(byte)i; if(sha1_32(buf)==366848439){break;} }
-		for(i=104;i<111;i++){ buf[1019]=(byte)i; if(sha1_32(buf)==-1816222444){break;} }
-		for(i=-15;i<-11;i++){ buf[1020]=(byte)i; if(sha1_32(buf)==-150695162){break;} }
-		for(i=-15;i<-10;i++){ buf[1021]=(byte)i; if(sha1_32(buf)==-1911874240){break;} }
-		for(i=108;i<115;i++){ buf[1022]=(byte)i; if(sha1_32(buf)==-153130282){break;} }
-		for(i=-16;i<-5;i++){ buf[1023]=(byte)i; if(sha1_32(buf)==-663659187){break;} }
-		for(i=-48;i<-38;i++){ buf[1024]=(byte)i; if(sha1_32(buf)==-116580385){break;} }
-		for(i=90;i<115;i++){ buf[1025]=(byte)i; if(sha1_32(buf)==227637201){break;} }
-		for(i=4;i<8;i++){ buf[1026]=(byte)i; if(sha1_32(buf)==-1899438354){break;} }
-		for(i=-128;i<-124;i++){ buf[1027]=(byte)i; if(sha1_32(buf)==45614592){break;} }
-		for(i=-117;i<-91;i++){ buf[1028]=(byte)i; if(sha1_32(buf)==493457633){break;} }
-		for(i=118;i<123;i++){ buf[1029]=(byte)i; if(sha1_32(buf)==-1071290885){break;} }
-		for(i=-22;i<4;i++){ buf[1030]=(byte)i; if(sha1_32(buf)==-280050350){break;} }
-		for(i=-17;i<5;i++){ buf[1031]=(byte)i; if(sha1_32(buf)==-1642063704){break;} }
-		for(i=-42;i<-27;i++){ buf[1032]=(byte)i; if(sha1_32(buf)==982270481){break;} }
-		for(i=-87;i<-79;i++){ buf[1033]=(byte)i; if(sha1_32(buf)==-1189374913){break;} }
-		for(i=-17;i<4;i++){ buf[1034]=(byte)i; if(sha1_32(buf)==1462509329){break;} }
-		for(i=2;i<10;i++){ buf[1035]=(byte)i; if(sha1_32(buf)==-109427600){break;} }
-		for(i=48;i<76;i++){ buf[1036]=(byte)i; if(sha1_32(buf)==1778074099){break;} }
-		for(i=-2;i<11;i++){ buf[1037]=(byte)i; if(sha1_32(buf)==-1614491607){break;} }
-		for(i=94;i<103;i++){ buf[1038]=(byte)i; if(sha1_32(buf)==-204816048){break;} }
-		for(i=31;i<40;i++){ buf[1039]=(byte)i; if(sha1_32(buf)==-1738889773){break;} }
-		for(i=-17;i<-5;i++){ buf[1040]=(byte)i; if(sha1_32(buf)==-531445235){break;} }
-		for(i=-128;i<-119;i++){ buf[1041]=(byte)i; if(sha1_32(buf)==863803696){break;} }
-		for(i=11;i<30;i++){ buf[1042]=(byte)i; if(sha1_32(buf)==676328662){break;} }
-		for(i=102;i<120;i++){ buf[1043]=(byte)i; if(sha1_32(buf)==-656976426){break;} }
-		for(i=41;i<64;i++){ buf[1044]=(byte)i; if(sha1_32(buf)==146087998){break;} }
-		for(i=-72;i<-63;i++){ buf[1045]=(byte)i; if(sha1_32(buf)==-1907862753){break;} }
-		for(i=55;i<83;i++){ buf[1046]=(byte)i; if(sha1_32(buf)==18212287){break;} }
-		for(i=2;i<18;i++){ buf[1047]=(byte)i; if(sha1_32(buf)==78842895){break;} }
-		for(i=72;i<81;i++){ buf[1048]=(byte)i; if(sha1_32(buf)==114958792){break;} }
-		for(i=22;i<41;i++){ buf[1049]=(byte)i; if(sha1_32(buf)==1894510069){break;} }
-		for(i=-31;i<-6;i++){ buf[1050]=(byte)i; if(sha1_32(buf)==102596385){break;} }
-		for(i=89;i<105;i++){ buf[1051]=(byte)i; if(sha1_32(buf)==407982608){break;} }
-		for(i=101;i<119;i++){ buf[1052]=(byte)i; if(sha1_32(buf)==-364375936){break;} }
-		for(i=-120;i<-110;i++){ buf[1053]=(byte)i; if(sha1_32(buf)==687763381){break;} }
-		for(i=42;i<58;i++){ buf[1054]=(byte)i; if(sha1_32(buf)==789522454){break;} }
-		for(i=27;i<33;i++){ buf[1055]=(byte)i; if(sha1_32(buf)==-1013358019){break;} }
-		for(i=69;i<85;i++){ buf[1056]=(byte)i; if(sha1_32(buf)==1839426010){break;} }
-		for(i=-99;i<-77;i++){ buf[1057]=(byte)i; if(sha1_32(buf)==1323657820){break;} }
-		for(i=62;i<75;i++){ buf[1058]=(byte)i; if(sha1_32(buf)==606738806){break;} }
-		for(i=88;i<101;i++){ buf[1059]=(byte)i; if(sha1_32(buf)==-1054941708){break;} }
-		for(i=-43;i<-22;i++){ buf[1060]=(byte)i; if(sha1_32(buf)==1231463346){break;} }
-		for(i=-25;i<2;i++){ buf[1061]=(byte)i; if(sha1_32(buf)==1401862765){break;} }
-		for(i=11;i<27;i++){ buf[1062]=(byte)i; if(sha1_32(buf)==206907531){break;} }
-		for(i=-26;i<2;i++){ buf[1063]=(byte)i; if(sha1_32(buf)==1134162044){break;} }
-		for(i=-18;i<1;i++){ buf[1064]=(byte)i; if(sha1_32(buf)==1208796892){break;} }
-		for(i=70;i<91;i++){ buf[1065]=(byte)i; if(sha1_32(buf)==492166480){break;} }
-		for(i=-128;i<-119;i++){ buf[1066]=(byte)i; if(sha1_32(buf)==-363613406){break;} }
-		for(i=91;i<114;i++){ buf[1067]=(byte)i; if(sha1_32(buf)==504864892){break;} }
-		for(i=-128;i<-121;i++){ buf[1068]=(byte)i; if(sha1_32(buf)==1825650336){break;} }
-		for(i=-109;i<-81;i++){ buf[1069]=(byte)i; if(sha1_32(buf)==-424457337){break;} }
-		for(i=99;i<121;i++){ buf[1070]=(byte)i; if(sha1_32(buf)==-2098336724){break;} }
-		for(i=108;i<123;i++){ buf[1071]=(byte)i; if(sha1_32(buf)==-524921625){break;} }
-		for(i=57;i<88;i++){ buf[1072]=(byte)i; if(sha1_32(buf)==-629746847){break;} }
-		for(i=-79;i<-64;i++){ buf[1073]=(byte)i; if(sha1_32(buf)==1742565782){break;} }
-		for(i=64;i<69;i++){ buf[1074]=(byte)i; if(sha1_32(buf)==928568764){break;} }
-		for(i=-93;i<-78;i++){ buf[1075]=(byte)i; if(sha1_32(buf)==-267885167){break;} }
-		for(i=-115;i<-110;i++){ buf[1076]=(byte)i; if(sha1_32(buf)==-1390984099){break;} }
-		for(i=98;i<117;i++){ buf[1077]=(byte)i; if(sha1_32(buf)==-628233956){break;} }
-		for(i=-101;i<-81;i++){ buf[1078]=(byte)i; if(sha1_32(buf)==1916654){break;} }
-		for(i=72;i<97;i++){ buf[1079]=(byte)i; if(sha1_32(buf)==728635973){break;} }
-		for(i=-99;i<-82;i++){ buf[1080]=(byte)i; if(sha1_32(buf)==1264708989){break;} }
-		for(i=101;i<118;i++){ buf[1081]=(byte)i; if(sha1_32(buf)==196223865){break;} }
-		for(i=-103;i<-88;i++){ buf[1082]=(byte)i; if(sha1_32(buf)==2144458621){break;} }
-		for(i=-42;i<-31;i++){ buf[1083]=(byte)i; if(sha1_32(buf)==199695218){break;} }
-		for(i=-29;i<-16;i++){ buf[1084]=(byte)i; if(sha1_32(buf)==-1856814971){break;} }
-		for(i=-16;i<1;i++){ buf[1085]=(byte)i; if(sha1_32(buf)==-1494352409){break;} }
-		for(i=65;i<81;i++){ buf[1086]=(byte)i; if(sha1_32(buf)==-255140383){break;} }
-		for(i=-24;i<-19;i++){ buf[1087]=(byte)i; if(sha1_32(buf)==-1146463091){break;} }
-		for(i=-37;i<-33;i++){ buf[1088]=(byte)i; if(sha1_32(buf)==-1429900378){break;} }
-		for(i=12;i<27;i++){ buf[1089]=(byte)i; if(sha1_32(buf)==-1398432534){break;} }
-		for(i=20;i<34;i++){ buf[1090]=(byte)i; if(sha1_32(buf)==611097754){break;} }
-		for(i=-56;i<-41;i++){ buf[1091]=(byte)i; if(sha1_32(buf)==-305604413){break;} }
-		for(i=-35;i<-16;i++){ buf[1092]=(byte)i; if(sha1_32(buf)==-1824216644){break;} }
-		for(i=111;i<128;i++){ buf[1093]=(byte)i; if(sha1_32(buf)==-1308856334){break;} }
-		for(i=-123;i<-115;i++){ buf[1094]=(byte)i; if(sha1_32(buf)==-1919151529){break;} }
-		for(i=-74;i<-64;i++){ buf[1095]=(byte)i; if(sha1_32(buf)==617206206){break;} }
-		for(i=114;i<118;i++){ buf[1096]=(byte)i; if(sha1_32(buf)==1505214756){break;} }
-		for(i=71;i<96;i++){ buf[1097]=(byte)i; if(sha1_32(buf)==-847717137){break;} }
-		for(i=-40;i<-19;i++){ buf[1098]=(byte)i; if(sha1_32(buf)==554859497){break;} }
-		for(i=-32;i<-8;i++){ buf[1099]=(byte)i; if(sha1_32(buf)==66476534){break;} }
-		for(i=76;i<107;i++){ buf[1100]=(byte)i; if(sha1_32(buf)==-1717187024){break;} }
-		for(i=27;i<43;i++){ buf[1101]=(byte)i; if(sha1_32(buf)==1000500618){break;} }
-		for(i=64;i<73;i++){ buf[1102]=(byte)i; if(sha1_32(buf)==319914943){break;} }
-		for(i=2;i<14;i++){ buf[1103]=(byte)i; if(sha1_32(buf)==517874899){break;} }
-		for(i=-27;i<-17;i++){ buf[1104]=(byte)i; if(sha1_32(buf)==-105281865){break;} }
-		for(i=-68;i<-55;i++){ buf[1105]=(byte)i; if(sha1_32(buf)==1450623048){break;} }
-		for(i=-115;i<-104;i++){ buf[1106]=(byte)i; if(sha1_32(buf)==547946630){break;} }
-		for(i=48;i<65;i++){ buf[1107]=(byte)i; if(sha1_32(buf)==1841667169){break;} }
-		for(i=-74;i<-57;i++){ buf[1108]=(byte)i; if(sha1_32(buf)==138596174){break;} }
-		for(i=49;i<57;i++){ buf[1109]=(byte)i; if(sha1_32(buf)==-438741615){break;} }
-		for(i=110;i<128;i++){ buf[1110]=(byte)i; if(sha1_32(buf)==-218402867){break;} }
-		for(i=44;i<49;i++){ buf[1111]=(byte)i; if(sha1_32(buf)==1631680376){break;} }
-		for(i=-112;i<-87;i++){ buf[1112]=(byte)i; if(sha1_32(buf)==804857746){break;} }
-		for(i=-43;i<-30;i++){ buf[1113]=(byte)i; if(sha1_32(buf)==1472670764){break;} }
-		for(i=-25;i<-4;i++){ buf[1114]=(byte)i; if(sha1_32(buf)==-1780896591){break;} }
-		for(i=-43;i<-37;i++){ buf[1115]=(byte)i; if(sha1_32(buf)==1339027943){break;} }
-		for(i=21;i<30;i++){ buf[1116]=(byte)i; if(sha1_32(buf)==1987563290){break;} }
-		for(i=49;i<74;i++){ buf[1117]=(byte)i; if(sha1_32(buf)==-1485890822){break;} }
-		for(i=86;i<110;i++){ buf[1118]=(byte)i; if(sha1_32(buf)==1059738809){break;} }
-		for(i=119;i<128;i++){ buf[1119]=(byte)i; if(sha1_32(buf)==-1946268181){break;} }
-		for(i=13;i<27;i++){ buf[1120]=(byte)i; if(sha1_32(buf)==-871341021){break;} }
-		for(i=59;i<75;i++){ buf[1121]=(byte)i; if(sha1_32(buf)==1117013405){break;} }
-		for(i=24;i<37;i++){ buf[1122]=(byte)i; if(sha1_32(buf)==-531184197){break;} }
-		for(i=109;i<128;i++){ buf[1123]=(byte)i; if(sha1_32(buf)==-1374178976){break;} }
-		for(i=-40;i<-35;i++){ buf[1124]=(byte)i; if(sha1_32(buf)==67545030){break;} }
-		for(i=-127;i<-123;i++){ buf[1125]=(byte)i; if(sha1_32(buf)==1656339051){break;} }
-		for(i=53;i<80;i++){ buf[1126]=(byte)i; if(sha1_32(buf)==305073007){break;} }
-		for(i=44;i<66;i++){ buf[1127]=(byte)i; if(sha1_32(buf)==-288148078){break;} }
-		for(i=-127;i<-109;i++){ buf[1128]=(byte)i; if(sha1_32(buf)==1239248027){break;} }
-		for(i=-21;i<0;i++){ buf[1129]=(byte)i; if(sha1_32(buf)==1772320385){break;} }
-		for(i=84;i<104;i++){ buf[1130]=(byte)i; if(sha1_32(buf)==1766941005){break;} }
-		for(i=-7;i<-2;i++){ buf[1131]=(byte)i; if(sha1_32(buf)==1074165874){break;} }
-		for(i=5;i<11;i++){ buf[1132]=(byte)i; if(sha1_32(buf)==-2123539696){break;} }
-		for(i=-38;i<-26;i++){ buf[1133]=(byte)i; if(sha1_32(buf)==-46030138){break;} }
-		for(i=-28;i<-5;i++){ buf[1134]=(byte)i; if(sha1_32(buf)==1432716990){break;} }
-		for(i=-100;i<-80;i++){ buf[1135]=(byte)i; if(sha1_32(buf)==-5905058){break;} }
-		for(i=-26;i<-18;i++){ buf[1136]=(byte)i; if(sha1_32(buf)==938701994){break;} }
-		for(i=84;i<109;i++){ buf[1137]=(byte)i; if(sha1_32(buf)==-34774994){break;} }
-		for(i=-22;i<-6;i++){ buf[1138]=(byte)i; if(sha1_32(buf)==1107202101){break;} }
-		for(i=-35;i<-19;i++){ buf[1139]=(byte)i; if(sha1_32(buf)==1626829121){break;} }
-		for(i=-17;i<-6;i++){ buf[1140]=(byte)i; if(sha1_32(buf)==-2071026296){break;} }
-		for(i=-70;i<-56;i++){ buf[1141]=(byte)i; if(sha1_32(buf)==1893013323){break;} }
-		for(i=7;i<26;i++){ buf[1142]=(byte)i; if(sha1_32(buf)==-980003345){break;} }
-		for(i=28;i<41;i++){ buf[1143]=(byte)i; if(sha1_32(buf)==-711375977){break;} }
-		for(i=3;i<12;i++){ buf[1144]=(byte)i; if(sha1_32(buf)==-84457692){break;} }
-		for(i=68;i<86;i++){ buf[1145]=(byte)i; if(sha1_32(buf)==-784832400){break;} }
-		for(i=-8;i<5;i++){ buf[1146]=(byte)i; if(sha1_32(buf)==-784832400){break;} }
-		for(i=90;i<107;i++){ buf[1147]=(byte)i; if(sha1_32(buf)==-1632000560){break;} }
-		for(i=-122;i<-106;i++){ buf[1148]=(byte)i; if(sha1_32(buf)==1721408286){break;} }
-		for(i=-85;i<-62;i++){ buf[1149]=(byte)i; if(sha1_32(buf)==-178091779){break;} }
-		for(i=4;i<18;i++){ buf[1150]=(byte)i; if(sha1_32(buf)==1335315267){break;} }
-		for(i=-60;i<-37;i++){ buf[1151]=(byte)i; if(sha1_32(buf)==1648952826){break;} }
-		for(i=-43;i<-25;i++){ buf[1152]=(byte)i; if(sha1_32(buf)==1640793691){break;} }
-		for(i=-80;i<-68;i++){ buf[1153]=(byte)i; if(sha1_32(buf)==854190724){break;} }
-		for(i=-11;i<-2;i++){ buf[1154]=(byte)i; if(sha1_32(buf)==1389021052){break;} }
-		for(i=-21;i<-4;i++){ buf[1155]=(byte)i; if(sha1_32(buf)==289415130){break;} }
-		for(i=-52;i<-38;i++){ buf[1156]=(byte)i; if(sha1_32(buf)==1672484912){break;} }
-		for(i=117;i<128;i++){ buf[1157]=(byte)i; if(sha1_32(buf)==-1665373907){break;} }
-		for(i=105;i<128;i++){ buf[1158]=(byte)i; if(sha1_32(buf)==1849447782){break;} }
-		for(i=-101;i<-82;i++){ buf[1159]=(byte)i; if(sha1_32(buf)==1093785817){break;} }
-		for(i=59;i<83;i++){ buf[1160]=(byte)i; if(sha1_32(buf)==650843045){break;} }
-		for(i=86;i<96;i++){ buf[1161]=(byte)i; if(sha1_32(buf)==-985320659){break;} }
-		for(i=107;i<128;i++){ buf[1162]=(byte)i; if(sha1_32(buf)==342472883){break;} }
-		for(i=-4;i<2;i++){ buf[1163]=(byte)i; if(sha1_32(buf)==-1140294607){break;} }
-		for(i=-66;i<-43;i++){ buf[1164]=(byte)i; if(sha1_32(buf)==-2042194189){break;} }
-		for(i=-41;i<-36;i++){ buf[1165]=(byte)i; if(sha1_32(buf)==680026738){break;} }
-		for(i=-81;i<-73;i++){ buf[1166]=(byte)i; if(sha1_32(buf)==2047187653){break;} }
-		for(i=38;i<45;i++){ buf[1167]=(byte)i; if(sha1_32(buf)==1590700002){break;} }
-		for(i=-87;i<-69;i++){ buf[1168]=(byte)i; if(sha1_32(buf)==-125185655){break;} }
-		for(i=88;i<97;i++){ buf[1169]=(byte)i; if(sha1_32(buf)==261589909){break;} }
-		for(i=-7;i<9;i++){ buf[1170]=(byte)i; if(sha1_32(buf)==261589909){break;} }
-		for(i=68;i<74;i++){ buf[1171]=(byte)i; if(sha1_32(buf)==-1447029032){break;} }
-		for(i=-128;i<-104;i++){ buf[1172]=(byte)i; if(sha1_32(buf)==-875170657){break;} }
-		for(i=75;i<91;i++){ buf[1173]=(byte)i; if(sha1_32(buf)==1857625791){break;} }
-		for(i=30;i<49;i++){ buf[1174]=(byte)i; if(sha1_32(buf)==-540468481){break;} }
-		for(i=-33;i<-16;i++){ buf[1175]=(byte)i; if(sha1_32(buf)==-1386326329){break;} }
-		for(i=63;i<91;i++){ buf[1176]=(byte)i; if(sha1_32(buf)==478485707){break;} }
-		for(i=97;i<113;i++){ buf[1177]=(byte)i; if(sha1_32(buf)==558491501){break;} }
-		for(i=101;i<116;i++){ buf[1178]=(byte)i; if(sha1_32(buf)==-702406319){break;} }
-		for(i=71;i<76;i++){ buf[1179]=(byte)i; if(sha1_32(buf)==223612244){break;} }
-		for(i=-34;i<-26;i++){ buf[1180]=(byte)i; if(sha1_32(buf)==-55334431){break;} }
-		for(i=-54;i<-43;i++){ buf[1181]=(byte)i; if(sha1_32(buf)==1227330224){break;} }
-		for(i=89;i<94;i++){ buf[1182]=(byte)i; if(sha1_32(buf)==1680939940){break;} }
-		for(i=61;i<77;i++){ buf[1183]=(byte)i; if(sha1_32(buf)==-1502896090){break;} }
-		for(i=68;i<87;i++){ buf[1184]=(byte)i; if(sha1_32(buf)==-1479643671){break;} }
-		for(i=-101;i<-83;i++){ buf[1185]=(byte)i; if(sha1_32(buf)==-1047477040){break;} }
-		for(i=79;i<95;i++){ buf[1186]=(byte)i; if(sha1_32(buf)==-1741122387){break;} }
-		for(i=122;i<128;i++){ buf[1187]=(byte)i; if(sha1_32(buf)==2107105471){break;} }
-		for(i=66;i<72;i++){ buf[1188]=(byte)i; if(sha1_32(buf)==-577732535){break;} }
-		for(i=-38;i<-26;i++){ buf[1189]=(byte)i; if(sha1_32(buf)==-1906162583){break;} }
-		for(i=91;i<100;i++){ buf[1190]=(byte)i; if(sha1_32(buf)==-624225929){break;} }
-		for(i=-13;i<2;i++){ buf[1191]=(byte)i; if(sha1_32(buf)==1364457623){break;} }
-		for(i=-114;i<-104;i++){ buf[1192]=(byte)i; if(sha1_32(buf)==-133317224){break;} }
-		for(i=22;i<43;i++){ buf[1193]=(byte)i; if(sha1_32(buf)==-963710478){break;} }
-		for(i=100;i<121;i++){ buf[1194]=(byte)i; if(sha1_32(buf)==1128410042){break;} }
-		for(i=45;i<59;i++){ buf[1195]=(byte)i; if(sha1_32(buf)==1720098617){break;} }
-		for(i=-91;i<-79;i++){ buf[1196]=(byte)i; if(sha1_32(buf)==540937063){break;} }
-		for(i=70;i<79;i++){ buf[1197]=(byte)i; if(sha1_32(buf)==1305341812){break;} }
-		for(i=-97;i<-84;i++){ buf[1198]=(byte)i; if(sha1_32(buf)==1611815354){break;} }
-		for(i=-31;i<-20;i++){ buf[1199]=(byte)i; if(sha1_32(buf)==465625594){break;} }
-		for(i=25;i<39;i++){ buf[1200]=(byte)i; if(sha1_32(buf)==-31829264){break;} }
-		for(i=-38;i<-28;i++){ buf[1201]=(byte)i; if(sha1_32(buf)==404012140){break;} }
-		for(i=97;i<112;i++){ buf[1202]=(byte)i; if(sha1_32(buf)==21801079){break;} }
-		for(i=84;i<88;i++){ buf[1203]=(byte)i; if(sha1_32(buf)==594887994){break;} }
-		for(i=113;i<128;i++){ buf[1204]=(byte)i; if(sha1_32(buf)==-1316280129){break;} }
-		for(i=25;i<43;i++){ buf[1205]=(byte)i; if(sha1_32(buf)==-1820468337){break;} }
-		for(i=69;i<82;i++){ buf[1206]=(byte)i; if(sha1_32(buf)==-338221110){break;} }
-		for(i=-51;i<-26;i++){ buf[1207]=(byte)i; if(sha1_32(buf)==1564666214){break;} }
-		for(i=-85;i<-56;i++){ buf[1208]=(byte)i; if(sha1_32(buf)==-2063396323){break;} }
-		for(i=-73;i<-66;i++){ buf[1209]=(byte)i; if(sha1_32(buf)==-369411828){break;} }
-		for(i=-34;i<-24;i++){ buf[1210]=(byte)i; if(sha1_32(buf)==255817968){break;} }
-		for(i=-85;i<-69;i++){ buf[1211]=(byte)i; if(sha1_32(buf)==1958583119){break;} }
-		for(i=47;i<59;i++){ buf[1212]=(byte)i; if(sha1_32(buf)==1153699904){break;} }
-		for(i=60;i<83;i++){ buf[1213]=(byte)i; if(sha1_32(buf)==-31314573){break;} }
-		for(i=-25;i<-4;i++){ buf[1214]=(byte)i; if(sha1_32(buf)==-1024932587){break;} }
-		for(i=81;i<97;i++){ buf[1215]=(byte)i; if(sha1_32(buf)==-954321009){break;} }
-		for(i=-21;i<-11;i++){ buf[1216]=(byte)i; if(sha1_32(buf)==1044625152){break;} }
-		for(i=60;i<76;i++){ buf[1217]=(byte)i; if(sha1_32(buf)==828291397){break;} }
-		for(i=-92;i<-80;i++){ buf[1218]=(byte)i; if(sha1_32(buf)==428263983){break;} }
-		for(i=81;i<112;i++){ buf[1219]=(byte)i; if(sha1_32(buf)==2045110419){break;} }
-		for(i=61;i<78;i++){ buf[1220]=(byte)i; if(sha1_32(buf)==2127825063){break;} }
-		for(i=43;i<54;i++){ buf[1221]=(byte)i; if(sha1_32(buf)==1141517801){break;} }
-		for(i=53;i<74;i++){ buf[1222]=(byte)i; if(sha1_32(buf)==1549748145){break;} }
-		for(i=-32;i<-14;i++){ buf[1223]=(byte)i; if(sha1_32(buf)==1292985787){break;} }
-		for(i=-95;i<-82;i++){ buf[1224]=(byte)i; if(sha1_32(buf)==487354492){break;} }
-		for(i=-47;i<-29;i++){ buf[1225]=(byte)i; if(sha1_32(buf)==1757768753){break;} }
-		for(i=83;i<99;i++){ buf[1226]=(byte)i; if(sha1_32(buf)==-1514325387){break;} }
-		for(i=-51;i<-47;i++){ buf[1227]=(byte)i; if(sha1_32(buf)==1850962029){break;} }
-		for(i=-111;i<-92;i++){ buf[1228]=(byte)i; if(sha1_32(buf)==-1219180456){break;} }
-		for(i=-121;i<-93;i++){ buf[1229]=(byte)i; if(sha1_32(buf)==-220020395){break;} }
-		for(i=-128;i<-113;i++){ buf[1230]=(byte)i; if(sha1_32(buf)==1804008837){break;} }
-		for(i=-119;i<-105;i++){ buf[1231]=(byte)i; if(sha1_32(buf)==-927162187){break;} }
-		for(i=-11;i<9;i++){ buf[1232]=(byte)i; if(sha1_32(buf)==-768239773){break;} }
-		for(i=-103;i<-85;i++){ buf[1233]=(byte)i; if(sha1_32(buf)==-193544208){break;} }
-		for(i=2;i<15;i++){ buf[1234]=(byte)i; if(sha1_32(buf)==-729772842){break;} }
-		for(i=25;i<28;i++){ buf[1235]=(byte)i; if(sha1_32(buf)==306925419){break;} }
-		for(i=38;i<63;i++){ buf[1236]=(byte)i; if(sha1_32(buf)==-962996531){break;} }
-		for(i=-77;i<-74;i++){ buf[1237]=(byte)i; if(sha1_32(buf)==671382897){break;} }
-		for(i=117;i<128;i++){ buf[1238]=(byte)i; if(sha1_32(buf)==-1607093623){break;} }
-		for(i=-23;i<-9;i++){ buf[1239]=(byte)i; if(sha1_32(buf)==-1865852934){break;} }
-		for(i=20;i<28;i++){ buf[1240]=(byte)i; if(sha1_32(buf)==-1300569843){break;} }
-		for(i=-26;i<-9;i++){ buf[1241]=(byte)i; if(sha1_32(buf)==-1075317869){break;} }
-		for(i=90;i<112;i++){ buf[1242]=(byte)i; if(sha1_32(buf)==83918099){break;} }
-		for(i=-16;i<5;i++){ buf[1243]=(byte)i; if(sha1_32(buf)==1809521314){break;} }
-		for(i=112;i<128;i++){ buf[1244]=(byte)i; if(sha1_32(buf)==1267845568){break;} }
-		for(i=-52;i<-35;i++){ buf[1245]=(byte)i; if(sha1_32(buf)==982406594){break;} }
-		for(i=-27;i<-16;i++){ buf[1246]=(byte)i; if(sha1_32(buf)==60358698){break;} }
-		for(i=-2;i<16;i++){ buf[1247]=(byte)i; if(sha1_32(buf)==-1895128524){break;} }
-		for(i=88;i<104;i++){ buf[1248]=(byte)i; if(sha1_32(buf)==-1291802381){break;} }
-		for(i=64;i<87;i++){ buf[1249]=(byte)i; if(sha1_32(buf)==412476490){break;} }
-		for(i=115;i<123;i++){ buf[1250]=(byte)i; if(sha1_32(buf)==-1601239462){break;} }
-		for(i=-92;i<-71;i++){ buf[1251]=(byte)i; if(sha1_32(buf)==584808329){break;} }
-		for(i=119;i<128;i++){ buf[1252]=(byte)i; if(sha1_32(buf)==24566894){break;} }
-		for(i=-10;i<5;i++){ buf[1253]=(byte)i; if(sha1_32(buf)==-1628160859){break;} }
-		for(i=-70;i<-49;i++){ buf[1254]=(byte)i; if(sha1_32(buf)==2027896688){break;} }
-		for(i=-128;i<-123;i++){ buf[1255]=(byte)i; if(sha1_32(buf)==1713868697){break;} }
-		for(i=-21;i<-17;i++){ buf[1256]=(byte)i; if(sha1_32(buf)==1997117201){break;} }
-		for(i=-91;i<-65;i++){ buf[1257]=(byte)i; if(sha1_32(buf)==728924330){break;} }
-		for(i=-111;i<-90;i++){ buf[1258]=(byte)i; if(sha1_32(buf)==-456126258){break;} }
-		return buf;
+		AuthpackEngine e=new AuthpackEngine(1259);
+		e.find(0,62,71,-1565760186);
+		e.find(1,-31,-16,-1358541904);
+		e.find(2,52,69,559129024);
+		e.find(3,-35,-11,779778136);
+		e.find(4,-7,0,-1743750389);
+		e.find(5,-119,-95,-227255055);
+		e.find(6,-114,-94,-1056508252);
+		e.find(7,-70,-62,8960009);
+		e.find(8,-27,0,-1325687300);
+		e.find(9,110,128,-1704918638);
+		e.find(10,69,84,1971983384);
+		e.find(11,-23,-7,357187311);
+		e.find(12,51,65,1843672874);
+		e.find(13,-106,-97,-1084461016);
+		e.find(14,-106,-97,1978774628);
+		e.find(15,-34,-13,1447344063);
+		e.find(16,-76,-61,-254990466);
+		e.find(17,26,44,-761502857);
+		e.find(18,-44,-19,-194121817);
+		e.find(19,-86,-69,-1949752783);
+		e.find(20,-115,-105,-1717554271);
+		e.find(21,34,38,-1798179703);
+		e.find(22,110,115,1928603632);
+		e.find(23,70,83,514612532);
+		e.find(24,6,22,867660891);
+		e.find(25,53,74,-1396976099);
+		e.find(26,35,53,-869040796);
+		e.find(27,-22,-1,1674635937);
+		e.find(28,-121,-107,1989982426);
+		e.find(29,-6,20,339125691);
+		e.find(30,40,61,717053143);
+		e.find(31,-61,-42,-11827704);
+		e.find(32,-18,-7,2051183646);
+		e.find(33,-127,-111,-1215707442);
+		e.find(34,-95,-82,1222077719);
+		e.find(35,104,123,-2038779810);
+		e.find(36,-102,-74,-507670416);
+		e.find(37,109,116,-2004842710);
+		e.find(38,-121,-112,-273346383);
+		e.find(39,-69,-59,1038902853);
+		e.find(40,33,51,-1185403786);
+		e.find(41,-103,-95,1212310999);
+		e.find(42,-93,-79,446071231);
+		e.find(43,44,64,1546024509);
+		e.find(44,-30,-11,1887841459);
+		e.find(45,95,111,-719362229);
+		e.find(46,91,103,-1650065656);
+		e.find(47,-50,-20,-2135671830);
+		e.find(48,-128,-115,-1501227695);
+		e.find(49,-101,-97,1616192497);
+		e.find(50,64,82,1509554958);
+		e.find(51,101,120,853369997);
+		e.find(52,33,42,686557815);
+		e.find(53,11,19,1666330484);
+		e.find(54,-23,-3,622458359);
+		e.find(55,-82,-58,1652030781);
+		e.find(56,51,62,-1031928435);
+		e.find(57,29,49,1641100795);
+		e.find(58,-35,-7,957128367);
+		e.find(59,71,87,1663537875);
+		e.find(60,-127,-106,562767406);
+		e.find(61,-46,-29,1724950289);
+		e.find(62,-29,-16,-68389111);
+		e.find(63,19,45,1525981628);
+		e.find(64,13,31,1962242353);
+		e.find(65,-100,-91,-406616688);
+		e.find(66,-54,-35,1544202915);
+		e.find(67,24,34,-1402746263);
+		e.find(68,-50,-45,-1131380697);
+		e.find(69,-79,-64,-1709190674);
+		e.find(70,-32,-21,-1057065727);
+		e.find(71,-35,-19,2099068723);
+		e.find(72,75,80,-1553204775);
+		e.find(73,-1,10,-1553204775);
+		e.find(74,-68,-51,1199959048);
+		e.find(75,44,58,-367808754);
+		e.find(76,110,128,-262655128);
+		e.find(77,-27,-17,1087430614);
+		e.find(78,-88,-67,-1215610788);
+		e.find(79,25,42,-508968215);
+		e.find(80,-79,-69,-837075102);
+		e.find(81,-122,-103,850353614);
+		e.find(82,-128,-121,-1663385657);
+		e.find(83,-49,-31,1825557366);
+		e.find(84,-20,-6,1383880688);
+		e.find(85,-59,-30,-855863514);
+		e.find(86,5,11,-520695746);
+		e.find(87,103,119,-745558194);
+		e.find(88,13,31,1915420250);
+		e.find(89,-45,-38,-395055887);
+		e.find(90,-82,-71,-480729085);
+		e.find(91,25,42,-236843186);
+		e.find(92,-105,-89,970149666);
+		e.find(93,-28,-12,1691319601);
+		e.find(94,-92,-76,-1877715746);
+		e.find(95,-128,-111,1270766057);
+		e.find(96,-111,-94,-205652824);
+		e.find(97,-11,12,71175324);
+		e.find(98,50,63,1221476660);
+		e.find(99,-55,-39,55229120);
+		e.find(100,82,87,637164746);
+		e.find(101,-40,-25,-678462744);
+		e.find(102,66,82,-1746885154);
+		e.find(103,52,69,601255077);
+		e.find(104,-63,-52,-1935535533);
+		e.find(105,106,123,980476260);
+		e.find(106,-60,-39,-805371308);
+		e.find(107,25,47,-202414261);
+		e.find(108,-122,-106,1855764488);
+		e.find(109,52,69,-2088658186);
+		e.find(110,-19,4,-2063323763);
+		e.find(111,-95,-70,-864818428);
+		e.find(112,-91,-76,-253086948);
+		e.find(113,-23,-8,-150773007);
+		e.find(114,68,83,518439013);
+		e.find(115,40,52,423583417);
+		e.find(116,-110,-88,377496129);
+		e.find(117,102,128,-1915366022);
+		e.find(118,110,118,-1378018012);
+		e.find(119,-119,-108,-405409190);
+		e.find(120,-113,-107,1430103149);
+		e.find(121,49,68,-15530381);
+		e.find(122,-24,-2,-1927878944);
+		e.find(123,111,128,1887971779);
+		e.find(124,-77,-65,553011333);
+		e.find(125,54,65,-630343850);
+		e.find(126,-107,-91,-882020474);
+		e.find(127,-108,-104,172465187);
+		e.find(128,109,126,526938290);
+		e.find(129,66,88,-896417198);
+		e.find(130,4,18,1856801994);
+		e.find(131,-58,-49,2020655129);
+		e.find(132,17,31,455432346);
+		e.find(133,65,95,1623976909);
+		e.find(134,47,68,-703310961);
+		e.find(135,110,113,878177931);
+		e.find(136,61,63,-856144464);
+		e.find(137,103,128,1440327928);
+		e.find(138,-94,-64,-1249547113);
+		e.find(139,111,127,-160110352);
+		e.find(140,-121,-104,1694974274);
+		e.find(141,92,122,-1994743691);
+		e.find(142,-17,3,-1020693045);
+		e.find(143,39,45,-1485460204);
+		e.find(144,121,125,-1380110356);
+		e.find(145,66,83,-1265577137);
+		e.find(146,30,41,1600482301);
+		e.find(147,-37,-16,2032869819);
+		e.find(148,74,84,-1187763941);
+		e.find(149,63,67,586228880);
+		e.find(150,-128,-111,1413656851);
+		e.find(151,17,37,-939050215);
+		e.find(152,31,46,-1091302659);
+		e.find(153,-27,-8,-770322673);
+		e.find(154,95,100,-2045774339);
+		e.find(155,-44,-23,251918579);
+		e.find(156,77,92,-1412639469);
+		e.find(157,42,69,-2077474275);
+		e.find(158,-93,-80,-1608321681);
+		e.find(159,-85,-71,-271189205);
+		e.find(160,89,101,1878363449);
+		e.find(161,-90,-68,1786991742);
+		e.find(162,23,41,-395644717);
+		e.find(163,104,122,1612883387);
+		e.find(164,78,93,-206030171);
+		e.find(165,19,27,1320722265);
+		e.find(166,-92,-75,1378183068);
+		e.find(167,1,17,-1751171339);
+		e.find(168,-53,-46,-611165019);
+		e.find(169,-44,-16,-1237978572);
+		e.find(170,-71,-61,261847015);
+		e.find(171,101,116,-1900902313);
+		e.find(172,-5,24,1569864804);
+		e.find(173,-109,-95,1188471070);
+		e.find(174,-128,-107,155909962);
+		e.find(175,-26,-6,-2081972224);
+		e.find(176,106,127,-1506982694);
+		e.find(177,-8,-3,960685062);
+		e.find(178,-19,-10,1992831251);
+		e.find(179,-27,-13,266133736);
+		e.find(180,-110,-94,-1867207922);
+		e.find(181,-109,-91,-1013271076);
+		e.find(182,-90,-74,-1582650562);
+		e.find(183,-93,-86,-1841129645);
+		e.find(184,79,94,1207193566);
+		e.find(185,79,84,-1670716146);
+		e.find(186,16,36,1324642189);
+		e.find(187,7,19,-1129077353);
+		e.find(188,109,128,1589183626);
+		e.find(189,22,43,-573306491);
+		e.find(190,77,81,682997648);
+		e.find(191,11,31,-171575629);
+		e.find(192,-107,-96,902937171);
+		e.find(193,83,108,390833549);
+		e.find(194,-87,-73,-12224929);
+		e.find(195,-28,-20,-142489648);
+		e.find(196,104,120,1996703256);
+		e.find(197,92,114,-300017676);
+		e.find(198,23,45,2110856353);
+		e.find(199,18,35,952477989);
+		e.find(200,113,127,-1951388119);
+		e.find(201,-101,-81,1676311965);
+		e.find(202,-116,-93,-1463027515);
+		e.find(203,-18,1,334603575);
+		e.find(204,104,112,2104801691);
+		e.find(205,79,90,56547345);
+		e.find(206,-14,0,155354949);
+		e.find(207,72,87,-264487672);
+		e.find(208,-88,-76,-1888474700);
+		e.find(209,52,66,-1151782663);
+		e.find(210,15,28,-2078194349);
+		e.find(211,43,55,1210791024);
+		e.find(212,94,105,2145363699);
+		e.find(213,118,128,1560128163);
+		e.find(214,-4,16,-1270159756);
+		e.find(215,-91,-78,1909863070);
+		e.find(216,-122,-105,-1561139652);
+		e.find(217,-20,1,-1556804448);
+		e.find(218,10,27,-750888901);
+		e.find(219,-86,-72,-1829042496);
+		e.find(220,103,116,377624343);
+		e.find(221,-53,-32,-1045291834);
+		e.find(222,-115,-106,-1991387257);
+		e.find(223,-11,12,1417715587);
+		e.find(224,40,41,2021480021);
+		e.find(225,-17,-2,-20980597);
+		e.find(226,-80,-67,-201312393);
+		e.find(227,5,21,-1735684411);
+		e.find(228,92,112,1028090128);
+		e.find(229,99,109,-773860168);
+		e.find(230,61,75,-1411165598);
+		e.find(231,-94,-76,154903536);
+		e.find(232,103,118,1780181575);
+		e.find(233,-108,-94,-1578395601);
+		e.find(234,41,54,-1864255629);
+		e.find(235,46,65,-1372742441);
+		e.find(236,-105,-86,-1625615108);
+		e.find(237,-88,-71,696082564);
+		e.find(238,4,7,-1611799187);
+		e.find(239,69,84,-213480569);
+		e.find(240,122,128,1593752958);
+		e.find(241,0,28,1842506173);
+		e.find(242,20,34,-1113439304);
+		e.find(243,-88,-75,834168802);
+		e.find(244,-75,-72,-1615795481);
+		e.find(245,-99,-84,-317129065);
+		e.find(246,12,19,-16070694);
+		e.find(247,57,84,-904248341);
+		e.find(248,-65,-52,-876609620);
+		e.find(249,-118,-102,1680439254);
+		e.find(250,-49,-32,-1585442954);
+		e.find(251,-72,-58,-2065030229);
+		e.find(252,6,12,-203020311);
+		e.find(253,-114,-89,-415871945);
+		e.find(254,-108,-86,-1752997506);
+		e.find(255,24,48,-1666364275);
+		e.find(256,44,63,357452800);
+		e.find(257,25,32,307178328);
+		e.find(258,31,50,-1252718774);
+		e.find(259,-63,-41,1861248764);
+		e.find(260,-93,-72,2010286042);
+		e.find(261,71,85,-479368017);
+		e.find(262,54,75,1783619743);
+		e.find(263,15,36,519988319);
+		e.find(264,-24,-21,-1032638372);
+		e.find(265,-74,-55,-372977732);
+		e.find(266,-38,-21,-10103961);
+		e.find(267,84,93,539725460);
+		e.find(268,-39,-22,-481206809);
+		e.find(269,54,85,-1627805444);
+		e.find(270,-27,-9,-843374246);
+		e.find(271,-71,-57,-346688790);
+		e.find(272,-55,-45,-519751889);
+		e.find(273,86,110,1961375790);
+		e.find(274,-105,-92,-128078394);
+		e.find(275,-91,-70,682186957);
+		e.find(276,25,36,-478802235);
+		e.find(277,107,115,-1873172315);
+		e.find(278,-108,-84,-926318227);
+		e.find(279,37,58,604851672);
+		e.find(280,-4,16,1750441539);
+		e.find(281,96,112,-1637551204);
+		e.find(282,15,23,-963668933);
+		e.find(283,-54,-51,-595733400);
+		e.find(284,-120,-95,-772069561);
+		e.find(285,-111,-91,1350453050);
+		e.find(286,19,41,1836189231);
+		e.find(287,-95,-81,-1670230523);
+		e.find(288,-69,-47,220029988);
+		e.find(289,6,27,1623940491);
+		e.find(290,-41,-11,-1719126555);
+		e.find(291,8,19,-231413998);
+		e.find(292,-42,-16,1541718970);
+		e.find(293,74,92,-555809768);
+		e.find(294,-41,-16,-1750844345);
+		e.find(295,32,56,1862016285);
+		e.find(296,66,70,-2034841287);
+		e.find(297,115,128,550112330);
+		e.find(298,-46,-32,-1469976628);
+		e.find(299,-72,-53,1804077414);
+		e.find(300,-43,-19,-401189575);
+		e.find(301,57,72,1950596647);
+		e.find(302,-89,-68,807095302);
+		e.find(303,-63,-47,-665241255);
+		e.find(304,-75,-58,1105561640);
+		e.find(305,-99,-86,-88411691);
+		e.find(306,-19,-4,859075478);
+		e.find(307,-16,-3,-1668038017);
+		e.find(308,110,128,1342988606);
+		e.find(309,72,90,-745520524);
+		e.find(310,75,93,-1894489823);
+		e.find(311,-16,-7,1278934371);
+		e.find(312,-9,3,2129026061);
+		e.find(313,-102,-86,-899663878);
+		e.find(314,-96,-79,895989740);
+		e.find(315,53,68,-1268507096);
+		e.find(316,97,113,-130271342);
+		e.find(317,94,110,-1549709549);
+		e.find(318,90,95,-562956526);
+		e.find(319,-106,-98,222310092);
+		e.find(320,-120,-108,1808346657);
+		e.find(321,-49,-41,-2044018299);
+		e.find(322,-38,-15,-1464304663);
+		e.find(323,-38,-16,1641507983);
+		e.find(324,67,84,-816991389);
+		e.find(325,4,6,-1138614525);
+		e.find(326,-109,-98,712865869);
+		e.find(327,-46,-36,691306885);
+		e.find(328,-40,-33,-1261617817);
+		e.find(329,-35,-19,-2142471364);
+		e.find(330,107,123,490715483);
+		e.find(331,24,32,1817408111);
+		e.find(332,0,16,638855277);
+		e.find(333,83,110,1505316191);
+		e.find(334,20,42,320293319);
+		e.find(335,-3,17,2057926124);
+		e.find(336,33,51,-1859046309);
+		e.find(337,103,110,-358848490);
+		e.find(338,49,78,1160680898);
+		e.find(339,-33,-15,-2072868397);
+		e.find(340,30,34,828397139);
+		e.find(341,55,61,-809133344);
+		e.find(342,-128,-118,-1316808316);
+		e.find(343,-125,-106,2139934000);
+		e.find(344,34,47,-1465687989);
+		e.find(345,5,16,-1084410084);
+		e.find(346,-82,-68,-1660621984);
+		e.find(347,-14,-9,-954564895);
+		e.find(348,-56,-53,1519099748);
+		e.find(349,71,96,19730365);
+		e.find(350,-120,-94,-975743688);
+		e.find(351,104,118,-857787524);
+		e.find(352,49,60,-1857709993);
+		e.find(353,-86,-77,214607088);
+		e.find(354,112,128,1581344849);
+		e.find(355,-123,-96,978385060);
+		e.find(356,-127,-106,-1850411690);
+		e.find(357,-128,-125,510579114);
+		e.find(358,-43,-33,712657137);
+		e.find(359,-14,3,1349711029);
+		e.find(360,-123,-112,-2097872079);
+		e.find(361,61,81,-1042566491);
+		e.find(362,33,40,1113042160);
+		e.find(363,-74,-51,1478795089);
+		e.find(364,49,62,-1763384364);
+		e.find(365,-52,-44,778370053);
+		e.find(366,-35,-22,752303114);
+		e.find(367,-97,-81,-114421762);
+		e.find(368,57,76,756988543);
+		e.find(369,-124,-106,-170557780);
+		e.find(370,-52,-35,-2030683899);
+		e.find(371,-27,-5,1495962375);
+		e.find(372,-102,-78,-1814369955);
+		e.find(373,-4,18,-476816477);
+		e.find(374,-113,-101,-1315745842);
+		e.find(375,92,108,-1927550174);
+		e.find(376,-75,-50,1605634348);
+		e.find(377,-40,-25,877976213);
+		e.find(378,19,26,632054104);
+		e.find(379,-43,-24,2121849813);
+		e.find(380,-40,-22,1913373780);
+		e.find(381,1,18,785842989);
+		e.find(382,-63,-39,858859426);
+		e.find(383,3,10,1972174135);
+		e.find(384,22,44,-1218707384);
+		e.find(385,-11,2,-2096325160);
+		e.find(386,-112,-100,-1401549517);
+		e.find(387,-72,-49,370217272);
+		e.find(388,78,96,-2024949986);
+		e.find(389,122,128,-362062825);
+		e.find(390,73,87,20144871);
+		e.find(391,108,128,-193911662);
+		e.find(392,-8,11,-554062962);
+		e.find(393,103,128,1785800794);
+		e.find(394,-77,-61,1862565036);
+		e.find(395,110,128,-1548621901);
+		e.find(396,46,75,-1991095319);
+		e.find(397,-123,-118,-1879871645);
+		e.find(398,-79,-52,-1489891261);
+		e.find(399,-92,-90,196076206);
+		e.find(400,-80,-69,-845165115);
+		e.find(401,102,110,-2001668440);
+		e.find(402,5,21,795034499);
+		e.find(403,-1,3,76701933);
+		e.find(404,-79,-59,2099123515);
+		e.find(405,-66,-55,-1312415262);
+		e.find(406,50,63,-37656931);
+		e.find(407,-106,-99,-339122118);
+		e.find(408,-14,5,-335536412);
+		e.find(409,9,20,208710040);
+		e.find(410,18,41,1092007380);
+		e.find(411,89,98,-1150778154);
+		e.find(412,-128,-121,-643966494);
+		e.find(413,-113,-98,-549703354);
+		e.find(414,1,2,1834790418);
+		e.find(415,-120,-111,1551643895);
+		e.find(416,3,8,1734987858);
+		e.find(417,-31,-26,621592792);
+		e.find(418,-13,6,1112781983);
+		e.find(419,11,26,-1660332437);
+		e.find(420,43,50,-131976290);
+		e.find(421,75,95,-427283529);
+		e.find(422,-97,-76,1700870215);
+		e.find(423,-128,-117,316974701);
+		e.find(424,-120,-98,1978071249);
+		e.find(425,-100,-89,113710862);
+		e.find(426,41,62,-2029603808);
+		e.find(427,41,58,1919334234);
+		e.find(428,-43,-33,2133309082);
+		e.find(429,77,95,-819254225);
+		e.find(430,49,53,1739811775);
+		e.find(431,-50,-37,-792618436);
+		e.find(432,-95,-68,2128989469);
+		e.find(433,82,106,1878482802);
+		e.find(434,10,31,-213307800);
+		e.find(435,-121,-110,-253292191);
+		e.find(436,-124,-100,-1605758034);
+		e.find(437,-114,-98,749859364);
+		e.find(438,80,95,261545576);
+		e.find(439,-24,-10,155071851);
+		e.find(440,-43,-18,1629612017);
+		e.find(441,-9,2,566128962);
+		e.find(442,112,128,-906252726);
+		e.find(443,48,59,-2128620295);
+		e.find(444,-5,10,31303750);
+		e.find(445,15,24,1395677545);
+		e.find(446,-94,-86,1391511220);
+		e.find(447,-70,-49,-2113928805);
+		e.find(448,-38,-22,28027116);
+		e.find(449,37,58,-979491077);
+		e.find(450,-27,-4,-1917705139);
+		e.find(451,-128,-111,734631564);
+		e.find(452,-42,-31,326883203);
+		e.find(453,74,90,-68011097);
+		e.find(454,-6,20,621759650);
+		e.find(455,102,105,367825113);
+		e.find(456,-120,-98,-2061465538);
+		e.find(457,-116,-104,-680197716);
+		e.find(458,61,73,-738161642);
+		e.find(459,-16,-4,-27558603);
+		e.find(460,71,89,-215664877);
+		e.find(461,106,121,-2040362745);
+		e.find(462,99,111,-2135070571);
+		e.find(463,-79,-53,151445802);
+		e.find(464,-71,-56,1219127080);
+		e.find(465,33,44,-191418263);
+		e.find(466,-74,-59,-1344544686);
+		e.find(467,38,55,828963653);
+		e.find(468,8,31,-1098852585);
+		e.find(469,-126,-116,-1567675012);
+		e.find(470,111,127,-201911108);
+		e.find(471,36,50,757468986);
+		e.find(472,3,23,-1064161097);
+		e.find(473,-70,-61,-710521811);
+		e.find(474,119,128,-1650941144);
+		e.find(475,61,87,1636051958);
+		e.find(476,-87,-78,-216638501);
+		e.find(477,-123,-114,830552350);
+		e.find(478,-32,-7,495604815);
+		e.find(479,-45,-30,573069813);
+		e.find(480,-46,-36,-1472682638);
+		e.find(481,-36,-14,-538283031);
+		e.find(482,-128,-106,1411969168);
+		e.find(483,-95,-77,1962424881);
+		e.find(484,-78,-51,-1794333980);
+		e.find(485,-111,-101,1090051411);
+		e.find(486,2,18,-1229161694);
+		e.find(487,64,88,1261251920);
+		e.find(488,4,18,-9874290);
+		e.find(489,106,128,-87367806);
+		e.find(490,21,35,-982571353);
+		e.find(491,68,94,773240068);
+		e.find(492,-51,-39,-1920334010);
+		e.find(493,-42,-20,-1957243180);
+		e.find(494,-87,-75,717797810);
+		e.find(495,64,81,-1773576427);
+		e.find(496,112,118,543483216);
+		e.find(497,-128,-123,1307043551);
+		e.find(498,81,89,1307365663);
+		e.find(499,-46,-28,262412664);
+		e.find(500,103,115,1675420968);
+		e.find(501,31,51,-1631072266);
+		e.find(502,-55,-45,858042724);
+		e.find(503,-34,-20,384418453);
+		e.find(504,61,86,-143186866);
+		e.find(505,27,40,-1437017870);
+		e.find(506,72,88,-387518123);
+		e.find(507,77,105,-680702126);
+		e.find(508,-64,-60,1345608334);
+		e.find(509,-21,6,652393108);
+		e.find(510,116,128,154203428);
+		e.find(511,109,120,483319489);
+		e.find(512,-65,-45,1603856167);
+		e.find(513,79,97,-2136287442);
+		e.find(514,41,62,1036905529);
+		e.find(515,-126,-110,-619759911);
+		e.find(516,-9,5,1131474639);
+		e.find(517,-92,-76,1625666991);
+		e.find(518,-128,-121,-1167977246);
+		e.find(519,-6,-2,-1187364994);
+		e.find(520,106,121,181962033);
+		e.find(521,-82,-61,1004916360);
+		e.find(522,33,42,1504859022);
+		e.find(523,58,85,117323957);
+		e.find(524,103,114,-1258915744);
+		e.find(525,83,103,-889866359);
+		e.find(526,-95,-82,-2062975480);
+		e.find(527,-123,-116,1311643522);
+		e.find(528,-24,-12,-75480488);
+		e.find(529,86,111,-873806621);
+		e.find(530,99,106,-1509551807);
+		e.find(531,-119,-115,-1925872041);
+		e.find(532,91,121,-914663512);
+		e.find(533,83,106,612401847);
+		e.find(534,-128,-119,701363164);
+		e.find(535,101,120,-1613680301);
+		e.find(536,85,101,-61662931);
+		e.find(537,5,16,1640930589);
+		e.find(538,-128,-110,-827651680);
+		e.find(539,11,29,-1075107537);
+		e.find(540,120,125,486220450);
+		e.find(541,97,105,1814985401);
+		e.find(542,10,25,1407803965);
+		e.find(543,-29,-12,-2009039432);
+		e.find(544,-77,-62,741201075);
+		e.find(545,40,62,2140536436);
+		e.find(546,-25,-10,-629490784);
+		e.find(547,56,77,1247053896);
+		e.find(548,-73,-53,2088208822);
+		e.find(549,24,52,-211506285);
+		e.find(550,73,83,1378053820);
+		e.find(551,48,77,433661580);
+		e.find(552,60,68,-76452829);
+		e.find(553,-73,-48,53090316);
+		e.find(554,-26,4,673875566);
+		e.find(555,-20,1,716054245);
+		e.find(556,62,81,-729068600);
+		e.find(557,-114,-99,-2082575299);
+		e.find(558,112,128,-859061570);
+		e.find(559,48,68,235346630);
+		e.find(560,-120,-101,291386643);
+		e.find(561,-115,-100,1482944509);
+		e.find(562,99,106,-2136154409);
+		e.find(563,-96,-78,1650132467);
+		e.find(564,106,112,-346321528);
+		e.find(565,-74,-58,690747411);
+		e.find(566,109,128,948170860);
+		e.find(567,90,97,-1091313364);
+		e.find(568,-89,-78,-1424905400);
+		e.find(569,97,110,1539439827);
+		e.find(570,-99,-83,756550808);
+		e.find(571,-49,-33,-733238389);
+		e.find(572,-53,-39,1598690499);
+		e.find(573,57,70,576273637);
+		e.find(574,8,21,856783478);
+		e.find(575,119,128,2062942957);
+		e.find(576,-55,-34,2029003657);
+		e.find(577,-13,16,2029003657);
+		e.find(578,-110,-96,1032276375);
+		e.find(579,-119,-100,-591636103);
+		e.find(580,21,39,94651886);
+		e.find(581,-9,7,560124276);
+		e.find(582,-78,-61,-1842796619);
+		e.find(583,100,118,-261451899);
+		e.find(584,-58,-29,782020705);
+		e.find(585,-107,-80,-1620160298);
+		e.find(586,38,56,-1059966830);
+		e.find(587,100,105,834287359);
+		e.find(588,-33,-28,1693583028);
+		e.find(589,-65,-49,129683265);
+		e.find(590,-91,-78,-676856870);
+		e.find(591,-73,-58,-347181338);
+		e.find(592,-63,-45,-2084644828);
+		e.find(593,101,123,-119839831);
+		e.find(594,99,102,-1648144822);
+		e.find(595,54,63,-757755309);
+		e.find(596,71,91,-2131525522);
+		e.find(597,-42,-34,2106320593);
+		e.find(598,-44,-34,-961008961);
+		e.find(599,-9,20,-1825573302);
+		e.find(600,-119,-98,-1150691769);
+		e.find(601,-77,-53,2018904422);
+		e.find(602,24,37,-1032082099);
+		e.find(603,23,37,1575460853);
+		e.find(604,-10,9,1575460853);
+		e.find(605,10,17,90044123);
+		e.find(606,102,118,2046771905);
+		e.find(607,66,90,-699050510);
+		e.find(608,-73,-63,2122897599);
+		e.find(609,-61,-38,1442737387);
+		e.find(610,-82,-60,-1943832010);
+		e.find(611,-128,-120,-1926892955);
+		e.find(612,-83,-72,-1497128004);
+		e.find(613,83,98,-694881024);
+		e.find(614,18,24,-893150898);
+		e.find(615,-37,-23,-1337227192);
+		e.find(616,66,85,36542148);
+		e.find(617,22,33,-1104393054);
+		e.find(618,-62,-36,1786558665);
+		e.find(619,21,43,-1981623009);
+		e.find(620,-95,-73,1341712088);
+		e.find(621,71,78,588121986);
+		e.find(622,17,31,-1969921926);
+		e.find(623,40,69,711612769);
+		e.find(624,-61,-43,-168496319);
+		e.find(625,52,63,1947761624);
+		e.find(626,-9,16,1268664312);
+		e.find(627,85,112,757190316);
+		e.find(628,-102,-73,402655536);
+		e.find(629,10,33,243541567);
+		e.find(630,-111,-86,1746322192);
+		e.find(631,-42,-26,-1874474414);
+		e.find(632,-67,-41,2032207938);
+		e.find(633,37,53,341511033);
+		e.find(634,-121,-107,123267331);
+		e.find(635,-111,-97,-1444516005);
+		e.find(636,44,53,-589718262);
+		e.find(637,-123,-121,1548286808);
+		e.find(638,-128,-124,217981705);
+		e.find(639,3,13,-714964895);
+		e.find(640,92,106,1062792017);
+		e.find(641,-119,-95,1859408824);
+		e.find(642,51,57,555289335);
+		e.find(643,64,76,-305934134);
+		e.find(644,7,24,467704947);
+		e.find(645,-85,-73,-1532137949);
+		e.find(646,-26,-20,-885199997);
+		e.find(647,101,113,1137341039);
+		e.find(648,-103,-88,1714529312);
+		e.find(649,-124,-110,-756347285);
+		e.find(650,-128,-122,954430382);
+		e.find(651,-28,-9,1535281696);
+		e.find(652,-94,-69,1032733532);
+		e.find(653,-104,-97,-682220347);
+		e.find(654,33,43,-609023466);
+		e.find(655,-116,-98,-1049048766);
+		e.find(656,-33,-13,2008131488);
+		e.find(657,-14,-6,1986796822);
+		e.find(658,56,73,519110784);
+		e.find(659,-126,-97,-662042137);
+		e.find(660,-124,-105,2043177380);
+		e.find(661,-4,2,777794911);
+		e.find(662,-46,-30,1940687877);
+		e.find(663,91,112,510143549);
+		e.find(664,-113,-105,-1788117428);
+		e.find(665,-67,-58,-376410984);
+		e.find(666,20,48,104100437);
+		e.find(667,-81,-73,1994317978);
+		e.find(668,-103,-82,-1133224629);
+		e.find(669,-36,-16,-2000892439);
+		e.find(670,62,79,-597936653);
+		e.find(671,43,58,1110183516);
+		e.find(672,-123,-106,-208253158);
+		e.find(673,-14,5,1838651040);
+		e.find(674,82,95,114085643);
+		e.find(675,-83,-71,1415010202);
+		e.find(676,75,88,-1579397412);
+		e.find(677,-43,-29,-943575631);
+		e.find(678,-57,-44,-1423925604);
+		e.find(679,-50,-33,-1798999085);
+		e.find(680,-83,-74,521741946);
+		e.find(681,-65,-44,1861262124);
+		e.find(682,89,100,1444832502);
+		e.find(683,58,75,677227735);
+		e.find(684,72,81,512760835);
+		e.find(685,-92,-75,-1643915236);
+		e.find(686,-63,-37,166089245);
+		e.find(687,97,105,-420936482);
+		e.find(688,85,105,1162610592);
+		e.find(689,-100,-91,-1073272299);
+		e.find(690,-33,-14,2001672926);
+		e.find(691,95,104,1999486822);
+		e.find(692,-17,8,1306508549);
+		e.find(693,81,95,-1861122018);
+		e.find(694,-54,-46,-1594042249);
+		e.find(695,-110,-107,1620221672);
+		e.find(696,-46,-25,639788541);
+		e.find(697,73,86,-460845076);
+		e.find(698,62,80,-516370124);
+		e.find(699,-46,-38,1105860867);
+		e.find(700,-34,-13,-2025817949);
+		e.find(701,84,105,163810365);
+		e.find(702,-113,-86,2132158866);
+		e.find(703,69,87,1071220579);
+		e.find(704,67,90,285489030);
+		e.find(705,103,119,-1353415336);
+		e.find(706,-54,-30,73719542);
+		e.find(707,54,73,2053981810);
+		e.find(708,-22,-5,102332647);
+		e.find(709,-16,-1,40515382);
+		e.find(710,6,30,-1163603988);
+		e.find(711,73,96,313001500);
+		e.find(712,98,105,1500048825);
+		e.find(713,96,111,-124835160);
+		e.find(714,-99,-82,1383381734);
+		e.find(715,-7,3,1764432099);
+		e.find(716,-85,-78,1706044533);
+		e.find(717,-28,-5,-988065062);
+		e.find(718,-109,-90,1864939879);
+		e.find(719,100,107,1373689964);
+		e.find(720,37,64,-923085281);
+		e.find(721,27,33,635628746);
+		e.find(722,-77,-53,-412877395);
+		e.find(723,-107,-89,418585671);
+		e.find(724,-56,-39,288559452);
+		e.find(725,-41,-16,-225628551);
+		e.find(726,88,117,1814178452);
+		e.find(727,-128,-107,-1805778943);
+		e.find(728,48,63,1815800613);
+		e.find(729,-95,-89,-655557712);
+		e.find(730,-92,-68,-1896057749);
+		e.find(731,29,38,340422401);
+		e.find(732,64,72,-774027105);
+		e.find(733,-128,-121,209144082);
+		e.find(734,-57,-44,1081664144);
+		e.find(735,-9,5,1081664144);
+		e.find(736,-73,-71,-1785377805);
+		e.find(737,41,50,-1912434016);
+		e.find(738,-92,-70,1951334394);
+		e.find(739,-38,-20,-2027889231);
+		e.find(740,59,84,-1526674744);
+		e.find(741,-22,-7,-525550315);
+		e.find(742,-42,-13,1777488480);
+		e.find(743,64,75,64295458);
+		e.find(744,-128,-124,380028054);
+		e.find(745,46,48,-1141195352);
+		e.find(746,15,38,1265204373);
+		e.find(747,36,58,132012616);
+		e.find(748,108,115,-1158802325);
+		e.find(749,-94,-77,-1804296455);
+		e.find(750,121,128,372608093);
+		e.find(751,108,110,-417025639);
+		e.find(752,-104,-79,310345149);
+		e.find(753,-30,-14,1287218359);
+		e.find(754,24,45,1074306968);
+		e.find(755,37,55,614112869);
+		e.find(756,34,52,332149106);
+		e.find(757,81,92,757904738);
+		e.find(758,104,122,-438129287);
+		e.find(759,-104,-88,-1168156818);
+		e.find(760,-114,-98,-1280124403);
+		e.find(761,118,128,1604060021);
+		e.find(762,100,110,1435981239);
+		e.find(763,-23,-6,-977835585);
+		e.find(764,-75,-50,2099042137);
+		e.find(765,-36,-27,-657289614);
+		e.find(766,13,38,-661461438);
+		e.find(767,9,26,-317814986);
+		e.find(768,-61,-41,1450832520);
+		e.find(769,58,78,-1252107412);
+		e.find(770,-16,-8,-1072602544);
+		e.find(771,-125,-111,-1140163526);
+		e.find(772,-64,-50,171443528);
+		e.find(773,90,117,196340017);
+		e.find(774,72,87,533951218);
+		e.find(775,-66,-52,1034526653);
+		e.find(776,-2,13,285214523);
+		e.find(777,89,108,411343738);
+		e.find(778,-101,-79,-352952532);
+		e.find(779,-107,-86,651714220);
+		e.find(780,41,64,216872496);
+		e.find(781,-48,-30,-872486600);
+		e.find(782,-113,-96,494923897);
+		e.find(783,20,36,-1931995368);
+		e.find(784,6,13,-1363390787);
+		e.find(785,84,105,-878098574);
+		e.find(786,111,126,2137818183);
+		e.find(787,12,25,-1854862678);
+		e.find(788,-110,-93,1524624138);
+		e.find(789,56,67,1304493519);
+		e.find(790,34,43,-2074772181);
+		e.find(791,47,72,578887540);
+		e.find(792,94,109,-1330732746);
+		e.find(793,-81,-62,-1440948852);
+		e.find(794,-1,22,-630698891);
+		e.find(795,22,31,746093974);
+		e.find(796,-88,-77,1104760544);
+		e.find(797,74,82,1027522097);
+		e.find(798,15,30,1496870670);
+		e.find(799,15,28,1212225159);
+		e.find(800,-1,8,866009196);
+		e.find(801,108,116,1711730960);
+		e.find(802,-64,-58,286850699);
+		e.find(803,37,58,800754444);
+		e.find(804,-105,-94,699184250);
+		e.find(805,114,126,1872717355);
+		e.find(806,-25,-18,-468589819);
+		e.find(807,109,128,-1774695957);
+		e.find(808,10,30,1181742450);
+		e.find(809,98,117,-739282714);
+		e.find(810,-3,11,-2075479596);
+		e.find(811,-28,-15,233493096);
+		e.find(812,-28,-12,-2059265822);
+		e.find(813,-117,-108,-1743110368);
+		e.find(814,-107,-94,-1044487790);
+		e.find(815,-104,-86,-2146796070);
+		e.find(816,3,19,-1662395018);
+		e.find(817,-23,-11,-1439251506);
+		e.find(818,51,58,-1746703910);
+		e.find(819,-99,-70,-1196838676);
+		e.find(820,-18,10,1850216495);
+		e.find(821,-18,-2,-501770023);
+		e.find(822,-45,-24,-125729496);
+		e.find(823,106,128,-1156072867);
+		e.find(824,36,43,-411609903);
+		e.find(825,-51,-36,411153915);
+		e.find(826,-42,-19,2066864599);
+		e.find(827,1,23,-604917177);
+		e.find(828,-114,-92,900633062);
+		e.find(829,-79,-66,-1423061523);
+		e.find(830,-110,-94,-1385967483);
+		e.find(831,18,31,-311676318);
+		e.find(832,57,80,-1019560681);
+		e.find(833,-106,-91,95722160);
+		e.find(834,101,112,1140859047);
+		e.find(835,70,83,-727004118);
+		e.find(836,14,23,1020405182);
+		e.find(837,-122,-113,1219761909);
+		e.find(838,43,56,-1380243401);
+		e.find(839,94,111,397961049);
+		e.find(840,-128,-111,247246121);
+		e.find(841,78,96,-199889992);
+		e.find(842,-97,-85,1863835849);
+		e.find(843,-103,-92,222935467);
+		e.find(844,78,88,1628112169);
+		e.find(845,-104,-84,-1461044246);
+		e.find(846,-91,-88,768637086);
+		e.find(847,6,23,-1948205478);
+		e.find(848,-29,-22,52416692);
+		e.find(849,-9,4,852900745);
+		e.find(850,68,89,-718576902);
+		e.find(851,-22,5,513085738);
+		e.find(852,42,60,-395197346);
+		e.find(853,-6,6,-290565063);
+		e.find(854,-55,-33,-498118703);
+		e.find(855,11,17,-368787618);
+		e.find(856,83,101,-1239504187);
+		e.find(857,11,30,734596241);
+		e.find(858,59,75,840771417);
+		e.find(859,110,128,-2125979389);
+		e.find(860,11,38,1466382347);
+		e.find(861,-50,-27,-532649802);
+		e.find(862,78,91,-1759994398);
+		e.find(863,-102,-89,619447397);
+		e.find(864,27,49,-990360256);
+		e.find(865,93,116,-1229092275);
+		e.find(866,-25,-13,1591696150);
+		e.find(867,57,75,1547982936);
+		e.find(868,121,128,548769123);
+		e.find(869,-50,-35,663969240);
+		e.find(870,-23,-12,683156531);
+		e.find(871,-77,-50,-942957495);
+		e.find(872,87,103,-753224886);
+		e.find(873,6,32,1179835848);
+		e.find(874,56,78,-430071402);
+		e.find(875,66,84,-570823485);
+		e.find(876,105,118,-528257545);
+		e.find(877,29,47,-1405756318);
+		e.find(878,112,118,-1544552957);
+		e.find(879,48,69,1174032055);
+		e.find(880,-18,2,-1387699268);
+		e.find(881,-70,-55,1408743743);
+		e.find(882,-112,-104,1163488394);
+		e.find(883,62,83,1724811729);
+		e.find(884,28,40,-1752135087);
+		e.find(885,-97,-84,1270633958);
+		e.find(886,5,20,1899525935);
+		e.find(887,-103,-81,1092511330);
+		e.find(888,-47,-19,324358494);
+		e.find(889,-90,-65,2066029633);
+		e.find(890,108,120,-1299982567);
+		e.find(891,-125,-101,-915605751);
+		e.find(892,-114,-94,2002893303);
+		e.find(893,-122,-104,-412603408);
+		e.find(894,-117,-99,-1585437553);
+		e.find(895,10,23,1756173139);
+		e.find(896,39,68,1642406613);
+		e.find(897,-48,-24,2110651996);
+		e.find(898,11,28,-847266361);
+		e.find(899,70,87,-2146287918);
+		e.find(900,38,58,-447317377);
+		e.find(901,-28,-15,-1073851074);
+		e.find(902,-125,-107,498383525);
+		e.find(903,111,125,1365505752);
+		e.find(904,12,33,775613122);
+		e.find(905,-107,-104,1321292015);
+		e.find(906,-118,-97,-2072283314);
+		e.find(907,-93,-71,-948110328);
+		e.find(908,-53,-37,958981478);
+		e.find(909,-57,-55,-487938573);
+		e.find(910,104,128,1405530364);
+		e.find(911,78,107,-4167948);
+		e.find(912,-8,12,-4167948);
+		e.find(913,12,32,1359142312);
+		e.find(914,-108,-86,702864584);
+		e.find(915,-51,-25,503269677);
+		e.find(916,-55,-31,-1296467485);
+		e.find(917,1,15,-2060279493);
+		e.find(918,-64,-36,59756365);
+		e.find(919,55,61,240959886);
+		e.find(920,-94,-92,-801389318);
+		e.find(921,-46,-23,788899784);
+		e.find(922,26,56,1340023913);
+		e.find(923,-86,-59,1213052050);
+		e.find(924,-38,-13,898352756);
+		e.find(925,-86,-62,719361079);
+		e.find(926,-13,-1,107214278);
+		e.find(927,9,20,-1212312211);
+		e.find(928,116,128,31080802);
+		e.find(929,-37,-9,342233812);
+		e.find(930,-3,11,904722496);
+		e.find(931,77,93,1014295976);
+		e.find(932,105,123,-305340953);
+		e.find(933,29,42,128036177);
+		e.find(934,63,72,1608550500);
+		e.find(935,-18,-1,414470522);
+		e.find(936,20,32,74477477);
+		e.find(937,56,84,1981858067);
+		e.find(938,-74,-48,-1098963823);
+		e.find(939,19,42,-1640472428);
+		e.find(940,-56,-44,-932055897);
+		e.find(941,-117,-102,-1175917010);
+		e.find(942,-33,-22,1656442350);
+		e.find(943,-27,-4,-7899526);
+		e.find(944,117,123,-661092032);
+		e.find(945,-7,13,-661092032);
+		e.find(946,-112,-90,-190696991);
+		e.find(947,-53,-48,764812629);
+		e.find(948,-75,-62,1326228354);
+		e.find(949,50,63,-1716779028);
+		e.find(950,-84,-70,-831584252);
+		e.find(951,-23,-17,-117971909);
+		e.find(952,37,54,-2033580277);
+		e.find(953,59,73,276118152);
+		e.find(954,113,128,125174589);
+		e.find(955,61,73,1825556649);
+		e.find(956,-37,-19,1598884122);
+		e.find(957,33,61,-1228546738);
+		e.find(958,-74,-62,547363468);
+		e.find(959,-26,2,-1216985083);
+		e.find(960,-51,-41,339270198);
+		e.find(961,26,48,923995408);
+		e.find(962,21,44,739192809);
+		e.find(963,95,114,1474312195);
+		e.find(964,-27,-19,-289234475);
+		e.find(965,-45,-40,-434428601);
+		e.find(966,17,35,1138063666);
+		e.find(967,74,92,-817646477);
+		e.find(968,43,60,378794705);
+		e.find(969,-94,-84,644728065);
+		e.find(970,-1,18,-1725279838);
+		e.find(971,-6,11,1806668669);
+		e.find(972,125,128,1783519115);
+		e.find(973,27,47,1554665018);
+		e.find(974,-46,-31,-1271108440);
+		e.find(975,-61,-38,928649347);
+		e.find(976,-68,-55,-1122710797);
+		e.find(977,-110,-93,1859347828);
+		e.find(978,-39,-18,-1903873654);
+		e.find(979,2,19,-1977163092);
+		e.find(980,-35,-14,1689794724);
+		e.find(981,13,41,-940221696);
+		e.find(982,-36,-21,134481746);
+		e.find(983,-98,-79,-2062326824);
+		e.find(984,-125,-107,340338313);
+		e.find(985,-128,-119,-2124074808);
+		e.find(986,88,101,-2069036904);
+		e.find(987,-78,-60,576646166);
+		e.find(988,-96,-70,-925491937);
+		e.find(989,-80,-68,1690005264);
+		e.find(990,-119,-100,-491097869);
+		e.find(991,-91,-71,-330377263);
+		e.find(992,61,72,1116043467);
+		e.find(993,-44,-26,885431633);
+		e.find(994,-61,-42,-1146196636);
+		e.find(995,94,101,-496293342);
+		e.find(996,24,32,1986605392);
+		e.find(997,-16,8,1393040641);
+		e.find(998,96,122,1026567844);
+		e.find(999,-32,-16,-1790465837);
+		e.find(1000,44,73,1170557429);
+		e.find(1001,65,80,1110805782);
+		e.find(1002,-39,-19,-1103592424);
+		e.find(1003,15,31,2136515128);
+		e.find(1004,-27,-10,-50929485);
+		e.find(1005,100,107,957423413);
+		e.find(1006,-4,6,957423413);
+		e.find(1007,85,98,-734257700);
+		e.find(1008,-106,-85,1050945002);
+		e.find(1009,78,91,2131618224);
+		e.find(1010,-40,-28,1883880743);
+		e.find(1011,65,78,-1905214551);
+		e.find(1012,88,105,1149090794);
+		e.find(1013,-5,14,-1383772319);
+		e.find(1014,-128,-106,1872185516);
+		e.find(1015,75,104,774147914);
+		e.find(1016,-7,-1,-225338787);
+		e.find(1017,-76,-46,-639957445);
+		e.find(1018,-36,-14,366848439);
+		e.find(1019,104,111,-1816222444);
+		e.find(1020,-15,-11,-150695162);
+		e.find(1021,-15,-10,-1911874240);
+		e.find(1022,108,115,-153130282);
+		e.find(1023,-16,-5,-663659187);
+		e.find(1024,-48,-38,-116580385);
+		e.find(1025,90,115,227637201);
+		e.find(1026,4,8,-1899438354);
+		e.find(1027,-128,-124,45614592);
+		e.find(1028,-117,-91,493457633);
+		e.find(1029,118,123,-1071290885);
+		e.find(1030,-22,4,-280050350);
+		e.find(1031,-17,5,-1642063704);
+		e.find(1032,-42,-27,982270481);
+		e.find(1033,-87,-79,-1189374913);
+		e.find(1034,-17,4,1462509329);
+		e.find(1035,2,10,-109427600);
+		e.find(1036,48,76,1778074099);
+		e.find(1037,-2,11,-1614491607);
+		e.find(1038,94,103,-204816048);
+		e.find(1039,31,40,-1738889773);
+		e.find(1040,-17,-5,-531445235);
+		e.find(1041,-128,-119,863803696);
+		e.find(1042,11,30,676328662);
+		e.find(1043,102,120,-656976426);
+		e.find(1044,41,64,146087998);
+		e.find(1045,-72,-63,-1907862753);
+		e.find(1046,55,83,18212287);
+		e.find(1047,2,18,78842895);
+		e.find(1048,72,81,114958792);
+		e.find(1049,22,41,1894510069);
+		e.find(1050,-31,-6,102596385);
+		e.find(1051,89,105,407982608);
+		e.find(1052,101,119,-364375936);
+		e.find(1053,-120,-110,687763381);
+		e.find(1054,42,58,789522454);
+		e.find(1055,27,33,-1013358019);
+		e.find(1056,69,85,1839426010);
+		e.find(1057,-99,-77,1323657820);
+		e.find(1058,62,75,606738806);
+		e.find(1059,88,101,-1054941708);
+		e.find(1060,-43,-22,1231463346);
+		e.find(1061,-25,2,1401862765);
+		e.find(1062,11,27,206907531);
+		e.find(1063,-26,2,1134162044);
+		e.find(1064,-18,1,1208796892);
+		e.find(1065,70,91,492166480);
+		e.find(1066,-128,-119,-363613406);
+		e.find(1067,91,114,504864892);
+		e.find(1068,-128,-121,1825650336);
+		e.find(1069,-109,-81,-424457337);
+		e.find(1070,99,121,-2098336724);
+		e.find(1071,108,123,-524921625);
+		e.find(1072,57,88,-629746847);
+		e.find(1073,-79,-64,1742565782);
+		e.find(1074,64,69,928568764);
+		e.find(1075,-93,-78,-267885167);
+		e.find(1076,-115,-110,-1390984099);
+		e.find(1077,98,117,-628233956);
+		e.find(1078,-101,-81,1916654);
+		e.find(1079,72,97,728635973);
+		e.find(1080,-99,-82,1264708989);
+		e.find(1081,101,118,196223865);
+		e.find(1082,-103,-88,2144458621);
+		e.find(1083,-42,-31,199695218);
+		e.find(1084,-29,-16,-1856814971);
+		e.find(1085,-16,1,-1494352409);
+		e.find(1086,65,81,-255140383);
+		e.find(1087,-24,-19,-1146463091);
+		e.find(1088,-37,-33,-1429900378);
+		e.find(1089,12,27,-1398432534);
+		e.find(1090,20,34,611097754);
+		e.find(1091,-56,-41,-305604413);
+		e.find(1092,-35,-16,-1824216644);
+		e.find(1093,111,128,-1308856334);
+		e.find(1094,-123,-115,-1919151529);
+		e.find(1095,-74,-64,617206206);
+		e.find(1096,114,118,1505214756);
+		e.find(1097,71,96,-847717137);
+		e.find(1098,-40,-19,554859497);
+		e.find(1099,-32,-8,66476534);
+		e.find(1100,76,107,-1717187024);
+		e.find(1101,27,43,1000500618);
+		e.find(1102,64,73,319914943);
+		e.find(1103,2,14,517874899);
+		e.find(1104,-27,-17,-105281865);
+		e.find(1105,-68,-55,1450623048);
+		e.find(1106,-115,-104,547946630);
+		e.find(1107,48,65,1841667169);
+		e.find(1108,-74,-57,138596174);
+		e.find(1109,49,57,-438741615);
+		e.find(1110,110,128,-218402867);
+		e.find(1111,44,49,1631680376);
+		e.find(1112,-112,-87,804857746);
+		e.find(1113,-43,-30,1472670764);
+		e.find(1114,-25,-4,-1780896591);
+		e.find(1115,-43,-37,1339027943);
+		e.find(1116,21,30,1987563290);
+		e.find(1117,49,74,-1485890822);
+		e.find(1118,86,110,1059738809);
+		e.find(1119,119,128,-1946268181);
+		e.find(1120,13,27,-871341021);
+		e.find(1121,59,75,1117013405);
+		e.find(1122,24,37,-531184197);
+		e.find(1123,109,128,-1374178976);
+		e.find(1124,-40,-35,67545030);
+		e.find(1125,-127,-123,1656339051);
+		e.find(1126,53,80,305073007);
+		e.find(1127,44,66,-288148078);
+		e.find(1128,-127,-109,1239248027);
+		e.find(1129,-21,0,1772320385);
+		e.find(1130,84,104,1766941005);
+		e.find(1131,-7,-2,1074165874);
+		e.find(1132,5,11,-2123539696);
+		e.find(1133,-38,-26,-46030138);
+		e.find(1134,-28,-5,1432716990);
+		e.find(1135,-100,-80,-5905058);
+		e.find(1136,-26,-18,938701994);
+		e.find(1137,84,109,-34774994);
+		e.find(1138,-22,-6,1107202101);
+		e.find(1139,-35,-19,1626829121);
+		e.find(1140,-17,-6,-2071026296);
+		e.find(1141,-70,-56,1893013323);
+		e.find(1142,7,26,-980003345);
+		e.find(1143,28,41,-711375977);
+		e.find(1144,3,12,-84457692);
+		e.find(1145,68,86,-784832400);
+		e.find(1146,-8,5,-784832400);
+		e.find(1147,90,107,-1632000560);
+		e.find(1148,-122,-106,1721408286);
+		e.find(1149,-85,-62,-178091779);
+		e.find(1150,4,18,1335315267);
+		e.find(1151,-60,-37,1648952826);
+		e.find(1152,-43,-25,1640793691);
+		e.find(1153,-80,-68,854190724);
+		e.find(1154,-11,-2,1389021052);
+		e.find(1155,-21,-4,289415130);
+		e.find(1156,-52,-38,1672484912);
+		e.find(1157,117,128,-1665373907);
+		e.find(1158,105,128,1849447782);
+		e.find(1159,-101,-82,1093785817);
+		e.find(1160,59,83,650843045);
+		e.find(1161,86,96,-985320659);
+		e.find(1162,107,128,342472883);
+		e.find(1163,-4,2,-1140294607);
+		e.find(1164,-66,-43,-2042194189);
+		e.find(1165,-41,-36,680026738);
+		e.find(1166,-81,-73,2047187653);
+		e.find(1167,38,45,1590700002);
+		e.find(1168,-87,-69,-125185655);
+		e.find(1169,88,97,261589909);
+		e.find(1170,-7,9,261589909);
+		e.find(1171,68,74,-1447029032);
+		e.find(1172,-128,-104,-875170657);
+		e.find(1173,75,91,1857625791);
+		e.find(1174,30,49,-540468481);
+		e.find(1175,-33,-16,-1386326329);
+		e.find(1176,63,91,478485707);
+		e.find(1177,97,113,558491501);
+		e.find(1178,101,116,-702406319);
+		e.find(1179,71,76,223612244);
+		e.find(1180,-34,-26,-55334431);
+		e.find(1181,-54,-43,1227330224);
+		e.find(1182,89,94,1680939940);
+		e.find(1183,61,77,-1502896090);
+		e.find(1184,68,87,-1479643671);
+		e.find(1185,-101,-83,-1047477040);
+		e.find(1186,79,95,-1741122387);
+		e.find(1187,122,128,2107105471);
+		e.find(1188,66,72,-577732535);
+		e.find(1189,-38,-26,-1906162583);
+		e.find(1190,91,100,-624225929);
+		e.find(1191,-13,2,1364457623);
+		e.find(1192,-114,-104,-133317224);
+		e.find(1193,22,43,-963710478);
+		e.find(1194,100,121,1128410042);
+		e.find(1195,45,59,1720098617);
+		e.find(1196,-91,-79,540937063);
+		e.find(1197,70,79,1305341812);
+		e.find(1198,-97,-84,1611815354);
+		e.find(1199,-31,-20,465625594);
+		e.find(1200,25,39,-31829264);
+		e.find(1201,-38,-28,404012140);
+		e.find(1202,97,112,21801079);
+		e.find(1203,84,88,594887994);
+		e.find(1204,113,128,-1316280129);
+		e.find(1205,25,43,-1820468337);
+		e.find(1206,69,82,-338221110);
+		e.find(1207,-51,-26,1564666214);
+		e.find(1208,-85,-56,-2063396323);
+		e.find(1209,-73,-66,-369411828);
+		e.find(1210,-34,-24,255817968);
+		e.find(1211,-85,-69,1958583119);
+		e.find(1212,47,59,1153699904);
+		e.find(1213,60,83,-31314573);
+		e.find(1214,-25,-4,-1024932587);
+		e.find(1215,81,97,-954321009);
+		e.find(1216,-21,-11,1044625152);
+		e.find(1217,60,76,828291397);
+		e.find(1218,-92,-80,428263983);
+		e.find(1219,81,112,2045110419);
+		e.find(1220,61,78,2127825063);
+		e.find(1221,43,54,1141517801);
+		e.find(1222,53,74,1549748145);
+		e.find(1223,-32,-14,1292985787);
+		e.find(1224,-95,-82,487354492);
+		e.find(1225,-47,-29,1757768753);
+		e.find(1226,83,99,-1514325387);
+		e.find(1227,-51,-47,1850962029);
+		e.find(1228,-111,-92,-1219180456);
+		e.find(1229,-121,-93,-220020395);
+		e.find(1230,-128,-113,1804008837);
+		e.find(1231,-119,-105,-927162187);
+		e.find(1232,-11,9,-768239773);
+		e.find(1233,-103,-85,-193544208);
+		e.find(1234,2,15,-729772842);
+		e.find(1235,25,28,306925419);
+		e.find(1236,38,63,-962996531);
+		e.find(1237,-77,-74,671382897);
+		e.find(1238,117,128,-1607093623);
+		e.find(1239,-23,-9,-1865852934);
+		e.find(1240,20,28,-1300569843);
+		e.find(1241,-26,-9,-1075317869);
+		e.find(1242,90,112,83918099);
+		e.find(1243,-16,5,1809521314);
+		e.find(1244,112,128,1267845568);
+		e.find(1245,-52,-35,982406594);
+		e.find(1246,-27,-16,60358698);
+		e.find(1247,-2,16,-1895128524);
+		e.find(1248,88,104,-1291802381);
+		e.find(1249,64,87,412476490);
+		e.find(1250,115,123,-1601239462);
+		e.find(1251,-92,-71,584808329);
+		e.find(1252,119,128,24566894);
+		e.find(1253,-10,5,-1628160859);
+		e.find(1254,-70,-49,2027896688);
+		e.find(1255,-128,-123,1713868697);
+		e.find(1256,-21,-17,1997117201);
+		e.find(1257,-91,-65,728924330);
+		e.find(1258,-111,-90,-456126258);
+		return e.result();
 	}
 }
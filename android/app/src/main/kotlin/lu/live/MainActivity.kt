@@ -14,6 +14,7 @@ import io.flutter.embedding.android.FlutterActivity
 import io.flutter.embedding.engine.FlutterEngine
 import io.flutter.plugin.common.MethodChannel
 import lu.live.player.CachedVideoPlugin
+import lu.live.player.PlayerPool
 
 class MainActivity : FlutterActivity() {
 
@@ -42,6 +43,17 @@ class MainActivity : FlutterActivity() {
 
     }
 
+    // 退到背景時釋放閒置與預備的 player，把硬體解碼器還給系統
+    override fun onStop() {
+        super.onStop()
+        PlayerPool.releaseIdle()
+    }
+
+    override fun cleanUpFlutterEngine(flutterEngine: FlutterEngine) {
+        PlayerPool.releaseIdle()
+        super.cleanUpFlutterEngine(flutterEngine)
+    }
+
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
 
@@ -0,0 +1,187 @@
+package lu.live.player
+
+import android.content.Context
+import androidx.annotation.OptIn
+import androidx.media3.common.util.UnstableApi
+import androidx.media3.datasource.DataSource
+import androidx.media3.datasource.DataSpec
+import androidx.media3.datasource.TransferListener
+import androidx.media3.datasource.cache.Cache
+import androidx.media3.datasource.cache.ContentMetadata
+import androidx.media3.datasource.cache.ContentMetadataMutations
+import java.util.ArrayDeque
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 快取優先播放
+ *
+ * 整段影片都已在 ExoCache（依 stableKey 的 span 覆蓋 [0, 檔案長度)）時，
+ * 播放改用只讀快取的 DataSource，完全不開上游連線；
+ * 超過 TTL 沒驗證過的才在背景發一個 1 byte 的 range 請求比對檔案長度，不符就清掉快取。
+ * 每次播放統計從快取 / 網路讀了多少 bytes，用來調整預取量。
+ */
+@OptIn(UnstableApi::class)
+object CachePlayback {
+
+    // 快取內容多久需要重新驗證一次
+    private const val REVALIDATE_TTL_MS = 6 * 60 * 60 * 1000L
+
+    // 寫在 cache metadata 裡的上次驗證時間（wall clock）
+    private const val META_VALIDATED_AT = "lu_validated_at"
+
+    private const val MAX_RECENT = 20
+
+    /**
+     * 單次播放的讀取統計。掛在 CacheDataSource 上：
+     * 讀快取檔案的是 FileDataSource（isNetwork=false），讀上游的是 HTTP（isNetwork=true）。
+     */
+    class PlayStats(val key: String, val cacheOnly: Boolean) : TransferListener {
+        private val cachedBytes = AtomicLong()
+        private val networkBytes = AtomicLong()
+
+        override fun onTransferInitializing(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) {}
+        override fun onTransferStart(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) {}
+        override fun onTransferEnd(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) {}
+
+        override fun onBytesTransferred(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean, bytesTransferred: Int) {
+            if (isNetwork) networkBytes.addAndGet(bytesTransferred.toLong())
+            else cachedBytes.addAndGet(bytesTransferred.toLong())
+        }
+
+        val cached: Long get() = cachedBytes.get()
+        val network: Long get() = networkBytes.get()
+
+        /** 從快取讀的比例，還沒讀到任何資料時為 -1 */
+        val servedFromCache: Double
+            get() {
+                val total = cached + network
+                return if (total > 0) cached.toDouble() / total else -1.0
+            }
+
+        fun toMap(): Map<String, Any> = mapOf(
+            "cacheOnly" to cacheOnly,
+            "cachedBytes" to cached,
+            "networkBytes" to network,
+            "servedFromCache" to servedFromCache
+        )
+    }
+
+    private val executor = ThreadPoolExecutor(
+        1, 1, 30, TimeUnit.SECONDS, LinkedBlockingQueue()
+    ) { r -> Thread(r, "cache-revalidate").apply { priority = Thread.MIN_PRIORITY } }
+        .apply { allowCoreThreadTimeOut(true) }
+
+    // 正在驗證中的 key，避免同一支影片重複送請求
+    private val revalidating = HashSet<String>()
+
+    private var plays = 0L
+    private var cacheOnlyPlays = 0L
+    private var fallbacks = 0L
+    private var revalidations = 0L
+    private var invalidated = 0L
+    private var totalCached = 0L
+    private var totalNetwork = 0L
+    private val recent = ArrayDeque<Double>()
+
+    /** key 的內容長度已知，且 [0, 長度) 全部在快取裡 */
+    fun isFullyCached(cache: Cache, key: String): Boolean {
+        val length = ContentMetadata.getContentLength(cache.getContentMetadata(key))
+        return length > 0 && cache.isCached(key, 0, length)
+    }
+
+    /** 上次驗證超過 TTL（或從沒驗證過）才在背景驗證；可在主線程呼叫 */
+    fun revalidateIfStale(
+        context: Context,
+        url: String,
+        key: String,
+        userAgent: String,
+        headers: Map<String, String>?
+    ) {
+        val cache = ExoCache.get(context)
+        val validatedAt = cache.getContentMetadata(key).get(META_VALIDATED_AT, 0L)
+        if (System.currentTimeMillis() - validatedAt < REVALIDATE_TTL_MS) return
+        synchronized(revalidating) {
+            if (!revalidating.add(key)) return
+        }
+        val app = context.applicationContext
+        executor.execute {
+            try {
+                revalidate(app, cache, url, key, userAgent, headers)
+            } finally {
+                synchronized(revalidating) { revalidating.remove(key) }
+            }
+        }
+    }
+
+    private fun revalidate(
+        context: Context,
+        cache: Cache,
+        url: String,
+        key: String,
+        userAgent: String,
+        headers: Map<String, String>?
+    ) {
+        val length = ContentMetadata.getContentLength(cache.getContentMetadata(key))
+        if (length <= 0) return
+        var remoteLength = -1L
+        try {
+            val upstream = DataSources.upstreamFactory(context, userAgent, headers).createDataSource()
+            Mp4Probe.readRange(upstream, url, 0, ByteArray(1)) { remoteLength = it }
+        } catch (_: Throwable) {
+            // 網路失敗不代表快取有問題，下次播放再驗證
+            return
+        }
+        synchronized(this) { revalidations++ }
+        if (remoteLength > 0 && remoteLength != length) {
+            // 來源檔案換過了，整段作廢，下次播放重新下載
+            synchronized(this) { invalidated++ }
+            try { cache.removeResource(key) } catch (_: Throwable) {}
+            return
+        }
+        // 長度一致，或伺服器沒回 Content-Range 無從比對：視為有效
+        try {
+            cache.applyContentMetadataMutations(
+                key,
+                ContentMetadataMutations().set(META_VALIDATED_AT, System.currentTimeMillis())
+            )
+        } catch (_: Throwable) {}
+    }
+
+    /** 只讀快取播放失敗（例如播放中被淘汰），改走網路重播時呼叫 */
+    @Synchronized
+    fun recordFallback() {
+        fallbacks++
+    }
+
+    /** 一次播放結束（換片或釋放）時呼叫，累計到總統計 */
+    @Synchronized
+    fun finish(stats: PlayStats) {
+        val ratio = stats.servedFromCache
+        if (ratio < 0) return
+        plays++
+        if (stats.cacheOnly) cacheOnlyPlays++
+        totalCached += stats.cached
+        totalNetwork += stats.network
+        recent.addLast(ratio)
+        while (recent.size > MAX_RECENT) recent.pollFirst()
+    }
+
+    @Synchronized
+    fun stats(): Map<String, Any> {
+        val total = totalCached + totalNetwork
+        return mapOf(
+            "plays" to plays,
+            "cacheOnlyPlays" to cacheOnlyPlays,
+            "fallbacks" to fallbacks,
+            "revalidations" to revalidations,
+            "invalidated" to invalidated,
+            "cachedBytes" to totalCached,
+            "networkBytes" to totalNetwork,
+            "servedFromCache" to if (total > 0) totalCached.toDouble() / total else -1.0,
+            "recentServedFromCache" to recent.toList()
+        )
+    }
+}
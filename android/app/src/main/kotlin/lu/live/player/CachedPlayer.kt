@@ -2,20 +2,24 @@ package lu.live.player
 
 import android.content.Context
 import android.graphics.Color
+import android.os.SystemClock
 import android.view.SurfaceView
 import android.view.TextureView
 import android.view.ViewGroup
 import androidx.annotation.OptIn
+import androidx.media3.common.C
+import androidx.media3.common.Format
 import androidx.media3.common.MediaItem
+import androidx.media3.common.PlaybackException
 import androidx.media3.common.Player
-import androidx.media3.exoplayer.DefaultLoadControl
 import androidx.media3.exoplayer.ExoPlayer
 import androidx.media3.exoplayer.source.MediaSource
 import androidx.media3.exoplayer.source.ProgressiveMediaSource
+import androidx.media3.exoplayer.hls.HlsDataSourceFactory
 import androidx.media3.exoplayer.hls.HlsMediaSource
 import androidx.media3.common.util.UnstableApi
 import androidx.media3.datasource.DataSource
-import androidx.media3.exoplayer.DefaultRenderersFactory
+import androidx.media3.datasource.cache.CacheDataSource
 import androidx.media3.ui.AspectRatioFrameLayout
 import androidx.media3.ui.PlayerView
 
@@ -25,35 +29,64 @@ class CachedPlayer(private val context: Context) {
     private var player: ExoPlayer? = null
     private var attachedView: PlayerView? = null
     private var textureView: TextureView? = null
-    private var firstFrameCallback: (() -> Unit)? = null
+    private var firstFrameCallback: ((ttffMs: Long, prepared: Boolean) -> Unit)? = null
     private var desiredVolume: Float = 1f
 
-    fun setFirstFrameListener(cb: (() -> Unit)?) {
+    // setDataSource 的時間點，用來算首幀耗時；0 表示這一輪已回報過
+    private var bindAtMs = 0L
+    private var boundPrepared = false
+
+    // 目前播放內容的 stableKey，回報位元率給自適應預取用
+    private var currentKey: String? = null
+
+    // 這次播放的來源與快取讀取統計；只讀快取失敗時用來改走網路重播
+    private var currentStats: CachePlayback.PlayStats? = null
+    private var currentUrl: String? = null
+    private var currentUserAgent: String = "djs-live/1.0"
+    private var currentHeaders: Map<String, String>? = null
+
+    fun setFirstFrameListener(cb: ((ttffMs: Long, prepared: Boolean) -> Unit)?) {
         firstFrameCallback = cb
     }
 
-    private fun buildPlayer(): ExoPlayer {
-        val loadControl = DefaultLoadControl.Builder()
-            .setBufferDurationsMs(
-                /* minBufferMs = */ 1500,
-                /* maxBufferMs = */ 8000,
-                /* bufferForPlaybackMs = */ 300,
-                /* bufferForPlaybackAfterRebufferMs = */ 500
-            ).build()
-
-        val renderersFactory = DefaultRenderersFactory(context)
-            .setEnableDecoderFallback(true)
-
-        return ExoPlayer.Builder(context, renderersFactory)
-            .setLoadControl(loadControl)
-            .build().apply {
-                addListener(object : Player.Listener {
-                    override fun onRenderedFirstFrame() {
-                        firstFrameCallback?.invoke()
-                    }
-                })
-                volume = desiredVolume
+    private val listener = object : Player.Listener {
+        override fun onRenderedFirstFrame() {
+            val ttff = if (bindAtMs > 0) SystemClock.elapsedRealtime() - bindAtMs else -1L
+            bindAtMs = 0L
+            firstFrameCallback?.invoke(ttff, boundPrepared)
+        }
+
+        override fun onPlayerError(error: PlaybackException) {
+            // 只讀快取播放中 span 被淘汰或驗證作廢：改走一般路徑從目前位置重播
+            if (currentStats?.cacheOnly != true) return
+            val p = player ?: return
+            val url = currentUrl ?: return
+            CachePlayback.recordFallback()
+            finishPlay()
+            val source = buildMediaSource(context, url, currentUserAgent, currentHeaders, allowCacheOnly = false)
+            currentStats = source.stats
+            p.setMediaSource(source.mediaSource, p.currentPosition)
+            p.prepare()
+        }
+
+        override fun onPlaybackStateChanged(playbackState: Int) {
+            if (playbackState != Player.STATE_READY) return
+            val p = player ?: return
+            val key = currentKey ?: return
+            val video = p.videoFormat?.bitrate ?: Format.NO_VALUE
+            val audio = p.audioFormat?.bitrate ?: Format.NO_VALUE
+            if (video != Format.NO_VALUE) {
+                PrefetchUtils.recordBitrate(key, video.toLong() + maxOf(audio, 0))
             }
+        }
+    }
+
+    /** 從 PlayerPool 租一個 player，掛上本實例的 listener */
+    private fun leasePlayer(): ExoPlayer {
+        return PlayerPool.acquire(context).apply {
+            addListener(listener)
+            volume = desiredVolume
+        }
     }
 
     /** 把 PlayerView 佈置成透明背景 + TextureView，避免初始化黑屏 */
@@ -95,7 +128,7 @@ class CachedPlayer(private val context: Context) {
 
     /** 綁定 Player 到 PlayerView，強制使用 TextureView 做輸出 */
     fun attachTo(playerView: PlayerView) {
-        val p = player ?: buildPlayer().also { player = it }
+        val p = player ?: leasePlayer().also { player = it }
 
         // 清掉舊的 video surface 關聯
         p.clearVideoSurface()
@@ -130,24 +163,36 @@ class CachedPlayer(private val context: Context) {
         autoPlay: Boolean = false,
         looping: Boolean = true
     ) {
-        val dsf: DataSource.Factory = DataSources.cacheFactory(context, userAgent, headers)
-
-        val item = MediaItem.Builder()
-            .setUri(url)
-            .setCustomCacheKey(stableKeyFrom(url)) // 👈 關鍵
-            .build()
+        finishPlay()
+        bindAtMs = SystemClock.elapsedRealtime()
+        currentKey = stableKeyFrom(url)
+        currentUrl = url
+        currentUserAgent = userAgent
+        currentHeaders = headers
 
-        val mediaSource: MediaSource =
-            if (url.endsWith(".m3u8", true)) {
-                HlsMediaSource.Factory(dsf).createMediaSource(item)
-            } else {
-                ProgressiveMediaSource.Factory(dsf).createMediaSource(item)
+        // 有預先 prepare 好的 player 就直接換上，省掉建立連線與解析的時間
+        val prepared = PlayerPool.takePrepared(stableKeyFrom(url))
+        boundPrepared = prepared != null
+        if (prepared != null) {
+            val view = attachedView
+            player?.let {
+                detach()
+                it.removeListener(listener)
+                PlayerPool.recycle(it)
             }
+            player = prepared.player.apply { addListener(listener) }
+            currentStats = prepared.stats
+            view?.let { attachTo(it) }
+        }
 
-        val p = player ?: buildPlayer().also { player = it }
-        p.setMediaSource(mediaSource, /* startPositionMs = */ 0)
+        val p = player ?: leasePlayer().also { player = it }
+        if (prepared == null) {
+            val source = buildMediaSource(context, url, userAgent, headers)
+            currentStats = source.stats
+            p.setMediaSource(source.mediaSource, /* startPositionMs = */ 0)
+            p.prepare()
+        }
         p.repeatMode = if (looping) Player.REPEAT_MODE_ONE else Player.REPEAT_MODE_OFF
-        p.prepare()
         p.volume = desiredVolume
         p.playWhenReady = autoPlay
     }
@@ -157,20 +202,86 @@ class CachedPlayer(private val context: Context) {
         player?.volume = desiredVolume
     }
 
-    private fun stableKeyFrom(url: String): String {
-        // 去掉 query/fragment，避免 key 每次不同
-        return url.substringBefore('#').substringBefore('?')
-    }
-
     fun play() = player?.play()
     fun pause() = player?.pause()
     fun seekTo(ms: Long) = player?.seekTo(ms)
 
+    /** 歸還 player 給 PlayerPool，不直接 release，下一張卡片可以直接沿用 */
     fun release() {
+        finishPlay()
         detach()
-        player?.release()
+        player?.let {
+            it.removeListener(listener)
+            PlayerPool.recycle(it)
+        }
         player = null
     }
 
     fun getPlayer(): ExoPlayer? = player
+
+    /** 目前這次播放的快取讀取統計（cacheOnly、cachedBytes、networkBytes、servedFromCache） */
+    fun cacheStats(): Map<String, Any>? = currentStats?.toMap()
+
+    // 換片或釋放時把這次播放的統計累計到 CachePlayback
+    private fun finishPlay() {
+        currentStats?.let { CachePlayback.finish(it) }
+        currentStats = null
+    }
+
+    companion object {
+        fun stableKeyFrom(url: String): String {
+            // 去掉 query/fragment，避免 key 每次不同
+            return url.substringBefore('#').substringBefore('?')
+        }
+
+        /** buildMediaSource 的結果：媒體來源與這次播放的快取讀取統計 */
+        class PlaySource(val mediaSource: MediaSource, val stats: CachePlayback.PlayStats)
+
+        /**
+         * 播放與預先 prepare 共用，確保同一個 URL 走同一個 cache key。
+         * 整段 MP4 已在快取時改走只讀快取（不開上游），並視需要背景驗證；
+         * allowCacheOnly=false 強制走一般的讀寫快取路徑（只讀播放失敗後重試用）。
+         */
+        fun buildMediaSource(
+            context: Context,
+            url: String,
+            userAgent: String,
+            headers: Map<String, String>?,
+            allowCacheOnly: Boolean = true
+        ): PlaySource {
+            val key = stableKeyFrom(url)
+            val hls = url.endsWith(".m3u8", true)
+            // HLS 的分片各自有 key，這裡只處理單檔 MP4
+            val cacheOnly = allowCacheOnly && !hls && CachePlayback.isFullyCached(ExoCache.get(context), key)
+            if (cacheOnly) {
+                CachePlayback.revalidateIfStale(context, url, key, userAgent, headers)
+            }
+
+            val factory: CacheDataSource.Factory =
+                if (cacheOnly) DataSources.cacheOnlyFactory(context)
+                else DataSources.cacheFactory(context, userAgent, headers)
+            val stats = CachePlayback.PlayStats(key, cacheOnly)
+            val dsf = DataSource.Factory {
+                factory.createDataSource().apply { addTransferListener(stats) }
+            }
+
+            val item = MediaItem.Builder()
+                .setUri(url)
+                .setCustomCacheKey(key) // 👈 關鍵
+                .build()
+
+            val source = if (hls) {
+                // playlist 不經快取：直播的 media playlist 持續更新，快取住的舊版會讓播放器停在舊分段
+                val upstream = DataSources.upstreamFactory(context, userAgent, headers)
+                val hlsFactory = HlsDataSourceFactory { dataType ->
+                    if (dataType == C.DATA_TYPE_MANIFEST) upstream.createDataSource().apply { addTransferListener(stats) }
+                    else dsf.createDataSource()
+                }
+                HlsMediaSource.Factory(hlsFactory).createMediaSource(item)
+            } else {
+                ProgressiveMediaSource.Factory(dsf).createMediaSource(item)
+            }
+            return PlaySource(source, stats)
+        }
+    }
 }
\ No newline at end of file
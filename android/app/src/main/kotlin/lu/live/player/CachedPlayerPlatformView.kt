@@ -53,13 +53,18 @@ class CachedPlayerPlatformView(
     // 把 listener 設一次就好（事件名統一 "onFirstFrame"）
     init {
         channel.setMethodCallHandler(this)
-        player.setFirstFrameListener {
+        player.setFirstFrameListener { ttffMs, prepared ->
             try {
                 // 首幀來了 -> 關掉 artwork（封面）
                 playerView.setUseArtwork(false)
             } catch (_: Throwable) {}
             try {
-                channel.invokeMethod("onFirstFrame", null)
+                // 附上從 setDataSource 到首幀的耗時、是否用了預先 prepare 的 player、是否純從快取播放
+                val cacheOnly = player.cacheStats()?.get("cacheOnly") == true
+                channel.invokeMethod(
+                    "onFirstFrame",
+                    mapOf("ttffMs" to ttffMs, "prepared" to prepared, "cacheOnly" to cacheOnly)
+                )
             } catch (_: Throwable) {}
         }
     }
@@ -134,6 +139,9 @@ class CachedPlayerPlatformView(
                 result.success(player.getPlayer()?.isPlaying == true)
             }
 
+            // 這次播放從快取 / 網路各讀了多少
+            "cacheStats" -> result.success(player.cacheStats())
+
             else -> result.notImplemented()
         }
     }
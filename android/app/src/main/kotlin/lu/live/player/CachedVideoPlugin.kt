@@ -25,23 +25,73 @@ class CachedVideoPlugin(
             CachedPlayerViewFactory(messenger) )
     }
 
+    /** 登記 handle 並回傳 id；任務結束後自動移除，map 不會越積越多 */
+    private fun track(handle: PrefetchHandle): String {
+        val id = System.nanoTime().toString()
+        prefetchMap[id] = handle
+        handle.onFinish { activity.runOnUiThread { prefetchMap.remove(id) } }
+        return id
+    }
+
     override fun onMethodCall(call: MethodCall, result: MethodChannel.Result) {
         when (call.method) {
             "prefetchMp4Head" -> {
                 val url = call.argument<String>("url")!!
                 val bytes = (call.argument<Int>("bytes") ?: (3 * 1024 * 1024)).toLong()
+                val ua = call.argument<String>("userAgent") ?: PrefetchUtils.DEFAULT_USER_AGENT
                 val headers = call.argument<Map<String, String>>("headers")
+                val priority = call.argument<Int>("priority") ?: 0
 
                 val handle = PrefetchUtils.prefetchMp4Head(
                     context = activity,
                     url = url,
                     bytes = bytes,
-                    headers = headers
+                    userAgent = ua,
+                    headers = headers,
+                    priority = priority
+                )
+
+                result.success(track(handle))
+            }
+
+            // 依位元率與網速決定預取量，moov 在檔尾時一併快取
+            "prefetchAdaptive" -> {
+                val url = call.argument<String>("url")!!
+                val targetBufferMs = (call.argument<Int>("targetBufferMs") ?: 2_000).toLong()
+                val ua = call.argument<String>("userAgent") ?: PrefetchUtils.DEFAULT_USER_AGENT
+                val headers = call.argument<Map<String, String>>("headers")
+                val priority = call.argument<Int>("priority") ?: 0
+
+                val handle = PrefetchUtils.prefetchAdaptive(
+                    context = activity,
+                    url = url,
+                    targetBufferMs = targetBufferMs,
+                    userAgent = ua,
+                    headers = headers,
+                    priority = priority
+                )
+
+                result.success(track(handle))
+            }
+
+            // HLS：讀 master / media playlist（不快取），點播的前幾個分段寫入 ExoCache，直播不預取
+            "prefetchHls" -> {
+                val url = call.argument<String>("url")!!
+                val segments = call.argument<Int>("segments") ?: 4
+                val ua = call.argument<String>("userAgent") ?: PrefetchUtils.DEFAULT_USER_AGENT
+                val headers = call.argument<Map<String, String>>("headers")
+                val priority = call.argument<Int>("priority") ?: 0
+
+                val handle = PrefetchUtils.prefetchHlsHead(
+                    context = activity,
+                    url = url,
+                    segments = segments,
+                    userAgent = ua,
+                    headers = headers,
+                    priority = priority
                 )
 
-                val id = System.nanoTime().toString()
-                prefetchMap[id] = handle
-                result.success(id)
+                result.success(track(handle))
             }
 
             "cancelPrefetch" -> {
@@ -50,6 +100,47 @@ class CachedVideoPlugin(
                 result.success(null)
             }
 
+            // 視窗移動：urls 與 distances 一一對應，不在其中的預取任務取消
+            "updatePrefetchWindow" -> {
+                val urls = call.argument<List<String>>("urls") ?: emptyList()
+                val distances = call.argument<List<Int>>("distances") ?: emptyList()
+                val priorities = HashMap<String, Int>()
+                urls.forEachIndexed { i, u ->
+                    priorities[PrefetchUtils.cacheKeyFor(u)] = distances.getOrElse(i) { i }
+                }
+                PrefetchScheduler.retainOnly(priorities)
+                result.success(null)
+            }
+
+            "prefetchStats" -> result.success(PrefetchScheduler.stats())
+
+            "configurePlayerPool" -> {
+                call.argument<Int>("maxIdle")?.let { PlayerPool.setMaxIdle(it) }
+                result.success(null)
+            }
+
+            "prepareAhead" -> {
+                val urls = call.argument<List<String>>("urls") ?: emptyList()
+                val ua = call.argument<String>("userAgent") ?: "djs-live/1.0"
+                val headers = call.argument<Map<String, String>>("headers")
+                call.argument<Int>("max")?.let { PlayerPool.setMaxPrepared(it) }
+                PlayerPool.prepareAhead(activity, urls, ua, headers)
+                result.success(null)
+            }
+
+            "playerPoolStats" -> result.success(PlayerPool.stats())
+
+            "setUpstreamMode" -> {
+                DataSources.setUpstreamMode(call.argument<String>("mode") ?: DataSources.UPSTREAM_OKHTTP)
+                result.success(DataSources.upstreamMode)
+            }
+
+            "networkStats" -> result.success(
+                VideoHttp.stats() + ("upstreamMode" to DataSources.upstreamMode)
+            )
+
+            "cacheStats" -> result.success(CachePlayback.stats())
+
             else -> result.notImplemented()
         }
     }
@@ -8,34 +8,118 @@ import androidx.media3.datasource.DefaultDataSource
 import androidx.media3.datasource.DefaultHttpDataSource
 import androidx.media3.datasource.cache.CacheDataSink
 import androidx.media3.datasource.cache.CacheDataSource
+import androidx.media3.datasource.okhttp.OkHttpDataSource
 
+/**
+ * DataSource.Factory 共用表
+ *
+ * 播放與預取都從這裡拿 factory，同一組 (userAgent, headers) 只建一次，
+ * 設定與連線池一致，也不會每次 setDataSource 都重新組一整串 factory。
+ * 預取用 prefetch* 版本，走 VideoHttp.prefetchClient 的 dispatcher，不與播放搶請求名額；
+ * 快取 key 不受影響，預取寫入的資料播放照樣命中。
+ */
+@OptIn(UnstableApi::class)
 object DataSources {
 
-    @OptIn(UnstableApi::class)
-    fun cacheFactory(context: Context, userAgent: String, headers: Map<String, String>? = null): DataSource.Factory {
-        val httpFactory = DefaultHttpDataSource.Factory()
-            .setUserAgent(userAgent)
-            .setConnectTimeoutMs(8_000)
-            .setReadTimeoutMs(8_000)
-            .setAllowCrossProtocolRedirects(true)
+    private data class Profile(val userAgent: String, val headers: Map<String, String>, val prefetch: Boolean)
 
-        // 如果要共用 OkHttp（可加 TLS/Proxy/Interceptor）
-        // val okHttp = OkHttpClient.Builder().build()
-        // val httpFactory = OkHttpDataSource.Factory(okHttp).setUserAgent(userAgent)
+    private class Entry(val upstream: DataSource.Factory, val cache: CacheDataSource.Factory)
 
-        headers?.forEach { (k, v) ->
-            httpFactory.setDefaultRequestProperties(mapOf(k to v))
+    // 上游 HTTP 實作：OkHttp（共用 VideoHttp.client）或舊的 HttpURLConnection
+    const val UPSTREAM_OKHTTP = "okhttp"
+    const val UPSTREAM_DEFAULT = "default"
+
+    @Volatile
+    var upstreamMode: String = UPSTREAM_OKHTTP
+        private set
+
+    // header 組合通常只有幾種，上限只是保險
+    private const val MAX_PROFILES = 16
+
+    private val entries = object : LinkedHashMap<Profile, Entry>(MAX_PROFILES, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Profile, Entry>?): Boolean =
+            size > MAX_PROFILES
+    }
+
+    /** 切換上游實作；已建立的 factory 全部作廢，之後的播放與預取改走新的上游 */
+    fun setUpstreamMode(mode: String) {
+        val m = if (mode == UPSTREAM_DEFAULT) UPSTREAM_DEFAULT else UPSTREAM_OKHTTP
+        synchronized(entries) {
+            if (m == upstreamMode) return
+            upstreamMode = m
+            entries.clear()
+        }
+    }
+
+    /** 不經快取的上游（DefaultDataSource 包 HTTP） */
+    fun upstreamFactory(context: Context, userAgent: String, headers: Map<String, String>? = null): DataSource.Factory =
+        entry(context, userAgent, headers, prefetch = false).upstream
+
+    /** 讀寫 ExoCache 的 factory */
+    fun cacheFactory(context: Context, userAgent: String, headers: Map<String, String>? = null): CacheDataSource.Factory =
+        entry(context, userAgent, headers, prefetch = false).cache
+
+    /** 預取用的上游，只在背景任務裡使用 */
+    fun prefetchUpstreamFactory(context: Context, userAgent: String, headers: Map<String, String>? = null): DataSource.Factory =
+        entry(context, userAgent, headers, prefetch = true).upstream
+
+    /** 預取用的快取 factory，寫入的快取與播放端共用 */
+    fun prefetchCacheFactory(context: Context, userAgent: String, headers: Map<String, String>? = null): CacheDataSource.Factory =
+        entry(context, userAgent, headers, prefetch = true).cache
+
+    @Volatile
+    private var cacheOnly: CacheDataSource.Factory? = null
+
+    /**
+     * 只讀 ExoCache：沒有上游也不寫入，保證不開網路連線。
+     * 只能用在整段已快取的內容，缺 span 時讀取直接拋錯。
+     */
+    fun cacheOnlyFactory(context: Context): CacheDataSource.Factory {
+        return cacheOnly ?: synchronized(this) {
+            cacheOnly ?: CacheDataSource.Factory()
+                .setCache(ExoCache.get(context.applicationContext))
+                .setUpstreamDataSourceFactory(null)
+                .setCacheWriteDataSinkFactory(null)
+                .also { cacheOnly = it }
+        }
+    }
+
+    private fun entry(context: Context, userAgent: String, headers: Map<String, String>?, prefetch: Boolean): Entry {
+        val profile = Profile(userAgent, headers.orEmpty(), prefetch)
+        synchronized(entries) {
+            return entries.getOrPut(profile) { build(context.applicationContext, profile) }
+        }
+    }
+
+    private fun build(context: Context, profile: Profile): Entry {
+        val httpFactory: DataSource.Factory = if (upstreamMode == UPSTREAM_OKHTTP) {
+            OkHttpDataSource.Factory(if (profile.prefetch) VideoHttp.prefetchClient else VideoHttp.client)
+                .setUserAgent(profile.userAgent)
+                .apply {
+                    if (profile.headers.isNotEmpty()) setDefaultRequestProperties(profile.headers)
+                }
+        } else {
+            DefaultHttpDataSource.Factory()
+                .setUserAgent(profile.userAgent)
+                .setConnectTimeoutMs(8_000)
+                .setReadTimeoutMs(8_000)
+                .setAllowCrossProtocolRedirects(true)
+                .apply {
+                    // 一次設定全部 header；逐筆呼叫會互相覆蓋，只剩最後一個
+                    if (profile.headers.isNotEmpty()) setDefaultRequestProperties(profile.headers)
+                }
         }
 
         val upstream: DataSource.Factory = DefaultDataSource.Factory(context, httpFactory)
         val cache = ExoCache.get(context)
 
-        return CacheDataSource.Factory()
+        val cacheFactory = CacheDataSource.Factory()
             .setCache(cache)
             .setUpstreamDataSourceFactory(upstream)
             .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
             .setCacheWriteDataSinkFactory(
-                CacheDataSink.Factory().setCache(ExoCache.get(context))
+                CacheDataSink.Factory().setCache(cache)
             )
+        return Entry(upstream, cacheFactory)
     }
 }
@@ -0,0 +1,158 @@
+package lu.live.player
+
+import android.content.Context
+import android.util.LruCache
+import androidx.annotation.OptIn
+import androidx.media3.common.C
+import androidx.media3.common.util.UnstableApi
+import androidx.media3.datasource.DataSource
+import androidx.media3.datasource.DataSpec
+
+/**
+ * MP4 頂層結構探測
+ *
+ * 只用幾個小的 range 請求讀 box 標頭，找出 ftyp / moov / mdat 的位置與檔案總長，
+ * 並從 mvhd 取得片長，用來估算位元率、判斷 moov 在檔頭還是檔尾（非 faststart）。
+ */
+@OptIn(UnstableApi::class)
+object Mp4Probe {
+
+    data class Box(val type: String, val offset: Long, val size: Long) {
+        val end: Long get() = offset + size
+    }
+
+    data class Layout(
+        val fileSize: Long,
+        val boxes: List<Box>,
+        val durationMs: Long
+    ) {
+        fun find(type: String): Box? = boxes.firstOrNull { it.type == type }
+
+        /** moov 在 mdat 之後，播放器必須先拿到檔尾才能開始 */
+        val moovAtEnd: Boolean
+            get() {
+                val moov = find("moov") ?: return false
+                val mdat = find("mdat") ?: return false
+                return moov.offset > mdat.offset
+            }
+
+        /** 平均位元率（bits/s），片長或檔案大小未知時為 0 */
+        val bitrate: Long
+            get() = if (durationMs > 0 && fileSize > 0) fileSize * 8_000 / durationMs else 0
+    }
+
+    // 頂層 box 最多看幾個，正常的檔案 3~5 個就會看到 moov 與 mdat
+    private const val MAX_BOXES = 16
+
+    private val layouts = LruCache<String, Layout>(64)
+
+    fun cached(key: String): Layout? = layouts.get(key)
+
+    /**
+     * 在呼叫線程做網路請求，需在背景線程執行；失敗回傳 null
+     */
+    fun probe(context: Context, url: String, key: String, userAgent: String, headers: Map<String, String>?): Layout? {
+        layouts.get(key)?.let { return it }
+        val upstream = DataSources.prefetchUpstreamFactory(context, userAgent, headers).createDataSource()
+        return try {
+            val layout = readLayout(upstream, url) ?: return null
+            layouts.put(key, layout)
+            layout
+        } catch (_: Throwable) {
+            null
+        }
+    }
+
+    private fun readLayout(ds: DataSource, url: String): Layout? {
+        val boxes = ArrayList<Box>()
+        var fileSize = C.LENGTH_UNSET.toLong()
+        var offset = 0L
+        while (boxes.size < MAX_BOXES) {
+            if (fileSize > 0 && offset >= fileSize) break
+            val header = ByteArray(16)
+            val read = readRange(ds, url, offset, header) { total -> if (fileSize <= 0) fileSize = total }
+            if (read < 8) break
+
+            var size = u32(header, 0)
+            val type = String(header, 4, 4, Charsets.US_ASCII)
+            if (size == 1L) {
+                if (read < 16) break
+                size = u64(header, 8)
+            } else if (size == 0L) {
+                // 延伸到檔尾
+                if (fileSize <= 0) break
+                size = fileSize - offset
+            }
+            if (size < 8) break
+            boxes.add(Box(type, offset, size))
+            offset += size
+            if (boxes.any { it.type == "moov" } && boxes.any { it.type == "mdat" }) break
+        }
+        if (boxes.isEmpty() || boxes[0].type != "ftyp") return null
+
+        val durationMs = boxes.firstOrNull { it.type == "moov" }?.let { readDurationMs(ds, url, it) } ?: 0L
+        return Layout(fileSize, boxes, durationMs)
+    }
+
+    /** mvhd 通常是 moov 的第一個子 box */
+    private fun readDurationMs(ds: DataSource, url: String, moov: Box): Long {
+        val buf = ByteArray(40)
+        val read = readRange(ds, url, moov.offset + 8, buf, null)
+        if (read < 32 || String(buf, 4, 4, Charsets.US_ASCII) != "mvhd") return 0
+        val version = buf[8].toInt()
+        val timescale: Long
+        val duration: Long
+        if (version == 1) {
+            if (read < 40) return 0
+            timescale = u32(buf, 28)
+            duration = u64(buf, 32)
+        } else {
+            timescale = u32(buf, 20)
+            duration = u32(buf, 24)
+        }
+        return if (timescale > 0) duration * 1000 / timescale else 0
+    }
+
+    /**
+     * 讀 [position, position + out.size)；onTotal 收到 Content-Range 中的檔案總長（若有）
+     */
+    internal fun readRange(
+        ds: DataSource,
+        url: String,
+        position: Long,
+        out: ByteArray,
+        onTotal: ((Long) -> Unit)?
+    ): Int {
+        val spec = DataSpec.Builder()
+            .setUri(url)
+            .setPosition(position)
+            .setLength(out.size.toLong())
+            .build()
+        try {
+            ds.open(spec)
+            onTotal?.let { cb -> totalFromHeaders(ds.responseHeaders)?.let(cb) }
+            var n = 0
+            while (n < out.size) {
+                val r = ds.read(out, n, out.size - n)
+                if (r == C.RESULT_END_OF_INPUT) break
+                n += r
+            }
+            return n
+        } finally {
+            try { ds.close() } catch (_: Throwable) {}
+        }
+    }
+
+    // Content-Range: bytes 0-15/123456
+    private fun totalFromHeaders(headers: Map<String, List<String>>): Long? {
+        val value = headers.entries.firstOrNull { it.key?.equals("Content-Range", true) == true }?.value?.firstOrNull()
+            ?: return null
+        return value.substringAfterLast('/', "").trim().toLongOrNull()
+    }
+
+    internal fun u32(b: ByteArray, i: Int): Long =
+        ((b[i].toLong() and 0xff) shl 24) or ((b[i + 1].toLong() and 0xff) shl 16) or
+            ((b[i + 2].toLong() and 0xff) shl 8) or (b[i + 3].toLong() and 0xff)
+
+    internal fun u64(b: ByteArray, i: Int): Long = (u32(b, i) shl 32) or u32(b, i + 4)
+}
@@ -0,0 +1,167 @@
+package lu.live.player
+
+/**
+ * 解析 moov 的 sample table（stts / stsc / stsz / stco），
+ * 算出播放開頭 N 秒需要的資料在檔案中的結束位置。
+ *
+ * 影音 chunk 在 mdat 裡交錯排列，取各軌（vide / soun）前 N 秒最後一個 sample 的結束位置中最大的，
+ * 快取 [0, 該位置) 就剛好涵蓋開頭 N 秒，不多也不少。
+ */
+object Mp4SampleTable {
+
+    private class Track(
+        var handler: String = "",
+        var timescale: Long = 0,
+        var stts: IntRange? = null,
+        var stsc: IntRange? = null,
+        var stsz: IntRange? = null,
+        var stz2: IntRange? = null,
+        var stco: IntRange? = null,
+        var co64: IntRange? = null
+    )
+
+    /**
+     * @param moov 整個 moov box（含 8 bytes 標頭）
+     * @return 開頭 seconds 秒所有影音 sample 的結束位置（絕對檔案位置），解析失敗回傳 -1
+     */
+    fun endOffsetFor(moov: ByteArray, seconds: Double): Long {
+        return try {
+            var end = -1L
+            forEachChild(moov, 8, moov.size) { type, start, stop ->
+                if (type == "trak") {
+                    val track = Track()
+                    readTrak(moov, start, stop, track)
+                    if (track.handler == "vide" || track.handler == "soun") {
+                        end = maxOf(end, trackEnd(moov, track, seconds))
+                    }
+                }
+            }
+            end
+        } catch (_: Throwable) {
+            -1L
+        }
+    }
+
+    // trak > mdia > (mdhd, hdlr, minf > stbl > ...)
+    private fun readTrak(b: ByteArray, from: Int, to: Int, track: Track) {
+        forEachChild(b, from, to) { type, start, stop ->
+            when (type) {
+                "mdia", "minf", "stbl" -> readTrak(b, start, stop, track)
+                "mdhd" -> {
+                    val version = b[start].toInt()
+                    track.timescale = Mp4Probe.u32(b, start + if (version == 1) 20 else 12)
+                }
+                "hdlr" -> track.handler = String(b, start + 8, 4, Charsets.US_ASCII)
+                "stts" -> track.stts = start until stop
+                "stsc" -> track.stsc = start until stop
+                "stsz" -> track.stsz = start until stop
+                "stz2" -> track.stz2 = start until stop
+                "stco" -> track.stco = start until stop
+                "co64" -> track.co64 = start until stop
+            }
+        }
+    }
+
+    private fun trackEnd(b: ByteArray, t: Track, seconds: Double): Long {
+        val stts = t.stts ?: return -1
+        val stsc = t.stsc ?: return -1
+        if (t.timescale <= 0) return -1
+
+        // 1) stts：解碼時間 < seconds 的 sample 數（至少 1 個）
+        val limit = (seconds * t.timescale).toLong()
+        var needed = 0L
+        var time = 0L
+        val sttsCount = u32i(b, stts.first + 4)
+        for (i in 0 until sttsCount) {
+            val count = Mp4Probe.u32(b, stts.first + 8 + i * 8)
+            val delta = Mp4Probe.u32(b, stts.first + 12 + i * 8)
+            if (delta == 0L) {
+                needed += count
+                continue
+            }
+            val fit = ((limit - time + delta - 1) / delta).coerceAtLeast(0)
+            if (fit < count) {
+                needed += fit
+                break
+            }
+            needed += count
+            time += count * delta
+        }
+        needed = needed.coerceAtLeast(1)
+
+        // 2) stsc + stco/co64：找到第 needed 個 sample 所在的 chunk
+        val chunkCount = chunkCount(b, t)
+        val stscCount = u32i(b, stsc.first + 4)
+        var sample = 0L
+        var entry = 0
+        for (chunk in 1..chunkCount) {
+            while (entry + 1 < stscCount && Mp4Probe.u32(b, stsc.first + 8 + (entry + 1) * 12) <= chunk) {
+                entry++
+            }
+            val perChunk = Mp4Probe.u32(b, stsc.first + 12 + entry * 12)
+            if (sample + perChunk >= needed) {
+                // 3) stsz：chunk 起點加上本 chunk 內到目標 sample 為止的大小
+                var offset = chunkOffset(b, t, chunk - 1)
+                for (s in sample until needed) {
+                    offset += sampleSize(b, t, s.toInt())
+                }
+                return offset
+            }
+            sample += perChunk
+        }
+        return -1
+    }
+
+    private fun chunkCount(b: ByteArray, t: Track): Int {
+        t.stco?.let { return u32i(b, it.first + 4) }
+        t.co64?.let { return u32i(b, it.first + 4) }
+        return 0
+    }
+
+    private fun chunkOffset(b: ByteArray, t: Track, index: Int): Long {
+        t.stco?.let { return Mp4Probe.u32(b, it.first + 8 + index * 4) }
+        t.co64?.let { return Mp4Probe.u64(b, it.first + 8 + index * 8) }
+        throw IllegalStateException("no chunk offsets")
+    }
+
+    private fun sampleSize(b: ByteArray, t: Track, index: Int): Long {
+        t.stsz?.let {
+            val uniform = Mp4Probe.u32(b, it.first + 4)
+            return if (uniform != 0L) uniform else Mp4Probe.u32(b, it.first + 12 + index * 4)
+        }
+        t.stz2?.let {
+            val fieldSize = b[it.first + 7].toInt() and 0xff
+            val base = it.first + 12
+            return when (fieldSize) {
+                4 -> {
+                    val v = b[base + index / 2].toInt() and 0xff
+                    (if (index % 2 == 0) v shr 4 else v and 0x0f).toLong()
+                }
+                8 -> (b[base + index].toInt() and 0xff).toLong()
+                else -> (((b[base + index * 2].toInt() and 0xff) shl 8) or (b[base + index * 2 + 1].toInt() and 0xff)).toLong()
+            }
+        }
+        throw IllegalStateException("no sample sizes")
+    }
+
+    /** 逐一走訪 [from, to) 內的子 box，回呼 (type, 內容起點, 內容終點) */
+    private inline fun forEachChild(b: ByteArray, from: Int, to: Int, block: (String, Int, Int) -> Unit) {
+        var pos = from
+        while (pos + 8 <= to) {
+            var size = Mp4Probe.u32(b, pos)
+            val type = String(b, pos + 4, 4, Charsets.US_ASCII)
+            var header = 8
+            if (size == 1L) {
+                size = Mp4Probe.u64(b, pos + 8)
+                header = 16
+            } else if (size == 0L) {
+                size = (to - pos).toLong()
+            }
+            if (size < header || pos + size > to) return
+            block(type, pos + header, (pos + size).toInt())
+            pos += size.toInt()
+        }
+    }
+
+    private fun u32i(b: ByteArray, i: Int): Int = Mp4Probe.u32(b, i).toInt()
+}
@@ -0,0 +1,217 @@
+package lu.live.player
+
+import android.content.Context
+import androidx.annotation.OptIn
+import androidx.media3.common.Format
+import androidx.media3.common.Player
+import androidx.media3.common.util.UnstableApi
+import androidx.media3.exoplayer.DefaultLoadControl
+import androidx.media3.exoplayer.DecoderReuseEvaluation
+import androidx.media3.exoplayer.DefaultRenderersFactory
+import androidx.media3.exoplayer.ExoPlayer
+import androidx.media3.exoplayer.analytics.AnalyticsListener
+import java.util.ArrayDeque
+
+/**
+ * ExoPlayer 共用池
+ *
+ * 直播列表捲動時每張卡片都 new 一個 ExoPlayer，播放線程、renderer、LoadControl
+ * 不斷建立又釋放。這裡把用完的 player 重置後留著，下一張卡片直接租用。
+ * 閒置數量上限約等於「可見卡片數 + 預載數」，多出來的才真正 release。
+ * 另外可以預先 prepare 下幾個要滑到的項目（prepareAhead），卡片綁定時直接領走，
+ * 滑動後首幀不用再等連線與解析。
+ * 硬體解碼器數量有限，只有「下一個」預備 player 開 foreground mode 保留解碼器；
+ * 閒置與其他預備的 player 不佔解碼器，App 退到背景或引擎卸載時全部釋放（releaseIdle）。
+ * 只在主線程使用（ExoPlayer 的 application looper 就是主線程）。
+ */
+@OptIn(UnstableApi::class)
+object PlayerPool {
+
+    private val idle = ArrayDeque<ExoPlayer>()
+    private var inUse = 0
+
+    // 閒置上限：可見 1~2 張 + 前後預載各 1 張
+    private var maxIdle = 3
+
+    /** 預先 prepare 好的 player 與它那次播放的快取讀取統計 */
+    class Prepared(val player: ExoPlayer, val stats: CachePlayback.PlayStats)
+
+    // 預先 prepare 好、等卡片來領的 player，key 為 stableKey，按放入順序排列
+    private val prepared = LinkedHashMap<String, Prepared>()
+
+    // 預先 prepare 的上限，超過時淘汰最早放入的
+    private var maxPrepared = 2
+
+    private var preparedHits = 0L
+    private var preparedMisses = 0L
+
+    private var created = 0L
+    private var reused = 0L
+    private var evicted = 0L
+
+    // 解碼器新建 / 沿用次數
+    private var decoderInits = 0L
+    private var decoderReuses = 0L
+
+    private val decoderListener = object : AnalyticsListener {
+        override fun onVideoDecoderInitialized(
+            eventTime: AnalyticsListener.EventTime,
+            decoderName: String,
+            initializedTimestampMs: Long,
+            initializationDurationMs: Long
+        ) {
+            decoderInits++
+        }
+
+        override fun onVideoInputFormatChanged(
+            eventTime: AnalyticsListener.EventTime,
+            format: Format,
+            decoderReuseEvaluation: DecoderReuseEvaluation?
+        ) {
+            // 有 evaluation 表示換格式時已有解碼器在，結果不是 NO 就是沿用
+            if (decoderReuseEvaluation != null && decoderReuseEvaluation.result != DecoderReuseEvaluation.REUSE_RESULT_NO) {
+                decoderReuses++
+            }
+        }
+    }
+
+    fun acquire(context: Context): ExoPlayer {
+        val p = idle.pollFirst()?.also { reused++ } ?: build(context.applicationContext).also { created++ }
+        inUse++
+        return p
+    }
+
+    /** 歸還 player：清掉媒體與 surface、釋放解碼器後放回池中，超過上限就 release */
+    fun recycle(player: ExoPlayer) {
+        inUse = (inUse - 1).coerceAtLeast(0)
+        try {
+            // 閒置的 player 不保留解碼器，stop() 時一併釋放
+            player.setForegroundMode(false)
+            player.playWhenReady = false
+            player.stop()
+            player.clearMediaItems()
+            player.clearVideoSurface()
+            player.repeatMode = Player.REPEAT_MODE_OFF
+            player.volume = 1f
+        } catch (_: Throwable) {
+            evict(player)
+            return
+        }
+        if (idle.size >= maxIdle) {
+            evict(player)
+        } else {
+            idle.addFirst(player)
+        }
+    }
+
+    /**
+     * 下一批要滑到的 URL：先租 player、prepare 到 READY 但不播放，卡片 setDataSource 時直接換上。
+     * 不在新清單裡的舊項目先留著（可能正被滑入的卡片領走），只在超過上限時淘汰最舊的。
+     */
+    fun prepareAhead(context: Context, urls: List<String>, userAgent: String, headers: Map<String, String>?) {
+        val wanted = urls.take(maxPrepared)
+        for (url in wanted) {
+            val key = CachedPlayer.stableKeyFrom(url)
+            val existing = prepared.remove(key)
+            if (existing != null) {
+                // 重新放到最後，表示最新
+                prepared[key] = existing
+                continue
+            }
+            val p = acquire(context)
+            val source = CachedPlayer.buildMediaSource(context, url, userAgent, headers)
+            p.setMediaSource(source.mediaSource, 0)
+            p.repeatMode = Player.REPEAT_MODE_ONE
+            p.playWhenReady = false
+            p.prepare()
+            prepared[key] = Prepared(p, source.stats)
+        }
+        trimPrepared()
+        // 只有最近的下一個保留解碼器，其餘的讓出來
+        val next = wanted.firstOrNull()?.let { CachedPlayer.stableKeyFrom(it) }
+        for ((key, entry) in prepared) {
+            entry.player.setForegroundMode(key == next)
+        }
+    }
+
+    /** 卡片綁定時呼叫：有對應的預備 player 就交出去，沒有回傳 null */
+    fun takePrepared(key: String): Prepared? {
+        val p = prepared.remove(key)
+        if (p != null) {
+            preparedHits++
+            // 已經在用了，解碼器跟著播放走，不需要 foreground mode
+            p.player.setForegroundMode(false)
+        } else {
+            preparedMisses++
+        }
+        return p
+    }
+
+    /** App 退到背景或引擎卸載時呼叫：釋放所有閒置與預備的 player（使用中的不動） */
+    fun releaseIdle() {
+        for (entry in prepared.values) {
+            inUse = (inUse - 1).coerceAtLeast(0)
+            evict(entry.player)
+        }
+        prepared.clear()
+        while (idle.isNotEmpty()) {
+            evict(idle.pollFirst() ?: break)
+        }
+    }
+
+    fun setMaxPrepared(value: Int) {
+        maxPrepared = value.coerceAtLeast(0)
+        trimPrepared()
+    }
+
+    private fun trimPrepared() {
+        while (prepared.size > maxPrepared) {
+            val oldest = prepared.keys.first()
+            prepared.remove(oldest)?.let { recycle(it.player) }
+        }
+    }
+
+    fun setMaxIdle(value: Int) {
+        maxIdle = value.coerceAtLeast(0)
+        while (idle.size > maxIdle) {
+            evict(idle.pollLast() ?: break)
+        }
+    }
+
+    fun stats(): Map<String, Any> = mapOf(
+        "inUse" to inUse,
+        "idle" to idle.size,
+        "maxIdle" to maxIdle,
+        "prepared" to prepared.size,
+        "preparedHits" to preparedHits,
+        "preparedMisses" to preparedMisses,
+        "created" to created,
+        "reused" to reused,
+        "evicted" to evicted,
+        "decoderInits" to decoderInits,
+        "decoderReuses" to decoderReuses
+    )
+
+    private fun evict(player: ExoPlayer) {
+        evicted++
+        try { player.release() } catch (_: Throwable) {}
+    }
+
+    private fun build(context: Context): ExoPlayer {
+        val loadControl = DefaultLoadControl.Builder()
+            .setBufferDurationsMs(
+                /* minBufferMs = */ 1500,
+                /* maxBufferMs = */ 8000,
+                /* bufferForPlaybackMs = */ 300,
+                /* bufferForPlaybackAfterRebufferMs = */ 500
+            ).build()
+
+        val renderersFactory = DefaultRenderersFactory(context)
+            .setEnableDecoderFallback(true)
+
+        return ExoPlayer.Builder(context, renderersFactory)
+            .setLoadControl(loadControl)
+            .build()
+            .apply { addAnalyticsListener(decoderListener) }
+    }
+}
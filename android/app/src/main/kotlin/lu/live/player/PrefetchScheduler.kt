@@ -0,0 +1,214 @@
+package lu.live.player
+
+import android.os.SystemClock
+import java.util.concurrent.PriorityBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 預取排程器
+ *
+ * 固定少量 worker，佇列依「離可見卡片的距離」排序，距離小的先下載；
+ * 同一個 cache key 只會有一個任務，重複提交只調整優先度；
+ * 視窗移動時（retainOnly）不在新視窗內的任務自動取消，不再跟可見卡片搶頻寬。
+ */
+object PrefetchScheduler {
+
+    private const val WORKERS = 2
+
+    /**
+     * @param job 實際下載，在 worker 線程執行
+     * @param onCancel 取消時呼叫（例如 CacheWriter.cancel），可能在任意線程
+     */
+    private class Task(
+        val key: String,
+        @Volatile var priority: Int,
+        val job: (reportProgress: (Long) -> Unit) -> Unit,
+        val onCancel: () -> Unit
+    ) : Runnable, Comparable<Task> {
+        val seq = sequence.incrementAndGet()
+        val refs = AtomicInteger(1)
+        @Volatile var running = false
+        @Volatile var cancelled = false
+        private var finished = false
+        private val finishListeners = ArrayList<() -> Unit>()
+
+        override fun compareTo(other: Task): Int =
+            if (priority != other.priority) priority.compareTo(other.priority) else seq.compareTo(other.seq)
+
+        override fun run() {
+            if (cancelled) return
+            running = true
+            inFlight.incrementAndGet()
+            try {
+                job(::reportProgress)
+                if (!cancelled) completed.incrementAndGet()
+            } catch (_: Throwable) {
+            } finally {
+                inFlight.decrementAndGet()
+                finish(this)
+            }
+        }
+
+        /** CacheWriter 的 newBytesCached 是每次回報的增量，直接累加 */
+        fun reportProgress(newBytesCached: Long) {
+            if (newBytesCached > 0) addBytes(newBytesCached)
+        }
+
+        /** 任務結束（完成、失敗或取消）時呼叫；已結束則立即呼叫 */
+        fun onFinish(listener: () -> Unit) {
+            val now = synchronized(finishListeners) {
+                if (!finished) finishListeners.add(listener)
+                finished
+            }
+            if (now) listener()
+        }
+
+        fun notifyFinished() {
+            val listeners = synchronized(finishListeners) {
+                if (finished) return
+                finished = true
+                finishListeners.toList().also { finishListeners.clear() }
+            }
+            listeners.forEach { try { it() } catch (_: Throwable) {} }
+        }
+
+        fun cancel() {
+            if (cancelled) return
+            cancelled = true
+            cancelledCount.incrementAndGet()
+            if (!running) queue.remove(this)
+            try { onCancel() } catch (_: Throwable) {}
+            finish(this)
+        }
+    }
+
+    private val sequence = AtomicLong()
+
+    private val queue = PriorityBlockingQueue<Runnable>()
+
+    private val executor = ThreadPoolExecutor(
+        WORKERS, WORKERS, 30, TimeUnit.SECONDS, queue
+    ) { r -> Thread(r, "prefetch").apply { priority = Thread.MIN_PRIORITY } }
+        .apply { allowCoreThreadTimeOut(true) }
+
+    // key -> 尚未結束的任務
+    private val tasks = HashMap<String, Task>()
+
+    private val inFlight = AtomicInteger()
+    private val submitted = AtomicLong()
+    private val deduped = AtomicLong()
+    private val completed = AtomicLong()
+    private val cancelledCount = AtomicLong()
+    private val totalBytes = AtomicLong()
+
+    // 下載速率：以 1 秒為窗口統計
+    private var windowStartMs = SystemClock.elapsedRealtime()
+    private var windowBytes = 0L
+    @Volatile private var bytesPerSec = 0L
+    @Volatile private var lastBytesAtMs = 0L
+
+    /**
+     * 提交預取。priority 為離可見卡片的距離（0 最優先）。
+     * 同 key 已在排隊或下載中時不重複下載，回傳共用同一任務的 handle，
+     * 所有持有者都取消後任務才真正取消。
+     *
+     * @param job 收到一個進度回報函式（參數為本次新快取的 bytes，即 CacheWriter 回報的增量）
+     */
+    fun submit(
+        key: String,
+        priority: Int,
+        job: (reportProgress: (Long) -> Unit) -> Unit,
+        onCancel: () -> Unit
+    ): PrefetchHandle {
+        submitted.incrementAndGet()
+        val task: Task
+        synchronized(tasks) {
+            val existing = tasks[key]
+            if (existing != null && !existing.cancelled) {
+                deduped.incrementAndGet()
+                existing.refs.incrementAndGet()
+                reprioritize(existing, minOf(existing.priority, priority))
+                return handleOf(existing)
+            }
+            task = Task(key, priority, job, onCancel)
+            tasks[key] = task
+        }
+        executor.execute(task)
+        return handleOf(task)
+    }
+
+    /**
+     * 視窗更新：keys 為新視窗的 key -> 距離。
+     * 在視窗內的任務改用新優先度，不在視窗內的一律取消。
+     */
+    fun retainOnly(priorities: Map<String, Int>) {
+        val stale = ArrayList<Task>()
+        synchronized(tasks) {
+            for (task in tasks.values) {
+                val p = priorities[task.key]
+                if (p == null) stale.add(task) else reprioritize(task, p)
+            }
+        }
+        stale.forEach { it.cancel() }
+    }
+
+    /** 最近的下載速率（bytes/s），超過 2 秒沒有下載則為 0 */
+    fun recentBytesPerSec(): Long =
+        if (SystemClock.elapsedRealtime() - lastBytesAtMs > 2_000) 0L else bytesPerSec
+
+    fun stats(): Map<String, Any> {
+        return mapOf(
+            "queued" to queue.size,
+            "inFlight" to inFlight.get(),
+            "bytesPerSec" to recentBytesPerSec(),
+            "totalBytes" to totalBytes.get(),
+            "submitted" to submitted.get(),
+            "deduped" to deduped.get(),
+            "completed" to completed.get(),
+            "cancelled" to cancelledCount.get()
+        )
+    }
+
+    private fun handleOf(task: Task) = PrefetchHandle(
+        cancel = { if (task.refs.decrementAndGet() <= 0) task.cancel() },
+        onFinish = { listener -> task.onFinish(listener) }
+    )
+
+    // 只對還在排隊的任務生效：先移出佇列再放回，讓 PriorityBlockingQueue 重新排序
+    private fun reprioritize(task: Task, priority: Int) {
+        if (task.priority == priority || task.running) {
+            task.priority = priority
+            return
+        }
+        if (queue.remove(task)) {
+            task.priority = priority
+            queue.offer(task)
+        } else {
+            task.priority = priority
+        }
+    }
+
+    private fun finish(task: Task) {
+        synchronized(tasks) {
+            if (tasks[task.key] === task) tasks.remove(task.key)
+        }
+        task.notifyFinished()
+    }
+
+    @Synchronized
+    private fun addBytes(delta: Long) {
+        totalBytes.addAndGet(delta)
+        val now = SystemClock.elapsedRealtime()
+        lastBytesAtMs = now
+        windowBytes += delta
+        val elapsed = now - windowStartMs
+        if (elapsed >= 1_000) {
+            bytesPerSec = windowBytes * 1_000 / elapsed
+            windowStartMs = now
+            windowBytes = 0
+        }
+    }
+}
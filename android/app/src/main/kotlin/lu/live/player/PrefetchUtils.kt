@@ -1,38 +1,55 @@
 package lu.live.player
 
 import android.content.Context
+import android.net.Uri
+import android.util.LruCache
 import androidx.annotation.OptIn
+import androidx.media3.common.C
 import androidx.media3.common.util.UnstableApi
-import androidx.media3.datasource.DataSpec
+import androidx.media3.common.util.UriUtil
 import androidx.media3.datasource.DataSource
-import androidx.media3.datasource.DefaultDataSource
-import androidx.media3.datasource.DefaultHttpDataSource
-import androidx.media3.datasource.cache.Cache
+import androidx.media3.datasource.DataSourceInputStream
+import androidx.media3.datasource.DataSpec
 import androidx.media3.datasource.cache.CacheDataSource
 import androidx.media3.datasource.cache.CacheWriter
+import androidx.media3.exoplayer.hls.playlist.HlsMediaPlaylist
+import androidx.media3.exoplayer.hls.playlist.HlsMultivariantPlaylist
+import androidx.media3.exoplayer.hls.playlist.HlsPlaylist
+import androidx.media3.exoplayer.hls.playlist.HlsPlaylistParser
+import androidx.media3.exoplayer.upstream.DefaultBandwidthMeter
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicReference
 
 /**
  * MP4 首段預取到 SimpleCache（Media3 1.8.0 相容版）
  * 使用 CacheWriter 的建構子：(CacheDataSource, DataSpec, temporaryBuffer, progressListener)
  */
 
-data class PrefetchHandle(val cancel: () -> Unit)
+/**
+ * @param onFinish 註冊任務結束（完成、失敗或取消）時的回呼，可能在任意線程呼叫
+ */
+data class PrefetchHandle(val cancel: () -> Unit, val onFinish: (listener: () -> Unit) -> Unit = {})
 
 object PrefetchUtils {
 
-    @OptIn(UnstableApi::class)
-    private fun upstreamFactory(
-        context: Context,
-        userAgent: String,
-        headers: Map<String, String>?
-    ): DataSource.Factory {
-        val http = DefaultHttpDataSource.Factory()
-            .setUserAgent(userAgent)
-            .setConnectTimeoutMs(8_000)
-            .setReadTimeoutMs(8_000)
-            .setAllowCrossProtocolRedirects(true)
-        headers?.let { http.setDefaultRequestProperties(it) }
-        return DefaultDataSource.Factory(context, http)
+    // 呼叫端沒帶 userAgent 時使用，與播放端的預設值相同
+    const val DEFAULT_USER_AGENT = "djs-live/1.0"
+
+    // 自適應預取的媒體資料量範圍，以及完全沒有資訊時假設的位元率
+    private const val MIN_ADAPTIVE_BYTES = 256L * 1024
+    private const val MAX_ADAPTIVE_BYTES = 6L * 1024 * 1024
+    private const val DEFAULT_BITRATE = 2_000_000L
+    private const val FALLBACK_HEAD_BYTES = 3L * 1024 * 1024
+
+    // 精確模式：moov 超過此大小就不整段讀來解析；算出的區段也不超過上限
+    private const val MAX_MOOV_BYTES = 4L * 1024 * 1024
+    private const val MAX_SPAN_BYTES = 12L * 1024 * 1024
+
+    // 播放時觀察到的位元率（bits/s），key 為 stableKey；比探測估出來的平均值準
+    private val observedBitrates = LruCache<String, Long>(128)
+
+    fun recordBitrate(key: String, bitrate: Long) {
+        if (bitrate > 0) observedBitrates.put(key, bitrate)
     }
 
     @OptIn(UnstableApi::class)
@@ -41,13 +58,8 @@ object PrefetchUtils {
         userAgent: String,
         headers: Map<String, String>?
     ): CacheDataSource {
-        val cache: Cache = ExoCache.get(context)
-        val upstream = upstreamFactory(context, userAgent, headers)
-        return CacheDataSource.Factory()
-            .setCache(cache)
-            .setUpstreamDataSourceFactory(upstream)
-            .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
-            .createDataSource() as CacheDataSource
+        // 與播放同樣的 userAgent + headers，但走預取專用的 dispatcher
+        return DataSources.prefetchCacheFactory(context, userAgent, headers).createDataSource()
     }
 
     /**
@@ -74,7 +86,9 @@ object PrefetchUtils {
         url: String,
         bytes: Long = 3L * 1024 * 1024,
         cacheKey: String? = null,
+        userAgent: String = DEFAULT_USER_AGENT,
         headers: Map<String, String>? = null,
+        priority: Int = 0,
         onProgress: ((cachedBytes: Long, totalBytes: Long, newlyCachedBytes: Long) -> Unit)? = null
     ): PrefetchHandle {
         // 1) 建立 DataSpec，並設定穩定的 key 以提升命中率
@@ -86,13 +100,13 @@ object PrefetchUtils {
         val stableKey = stableCacheKey(baseSpec, cacheKey)
         val dataSpec = baseSpec.buildUpon().setKey(stableKey).build()
 
-        // 2) 進度監聽（可選）
+        // 2) 用 CacheDataSource 建立 CacheWriter（1.8.0 為 4 參數建構子），進度同時回報給排程器統計速率
+        val cacheDs: CacheDataSource = buildCacheDataSource(context, userAgent, headers)
+        var report: ((Long) -> Unit)? = null
         val listener = CacheWriter.ProgressListener { requestLength, bytesCached, newlyCachedBytes ->
+            report?.invoke(newlyCachedBytes)
             onProgress?.invoke(bytesCached, requestLength, newlyCachedBytes)
         }
-
-        // 3) 用 CacheDataSource 建立 CacheWriter（1.8.0 為 4 參數建構子）
-        val cacheDs: CacheDataSource = buildCacheDataSource(context, "djs-live/1.0", headers)
         val writer = CacheWriter(
             cacheDs,
             dataSpec,
@@ -100,16 +114,264 @@ object PrefetchUtils {
             /* progressListener = */ listener
         )
 
-        val thread = Thread {
-            try { writer.cache() } catch (_: Throwable) {}
+        // 3) 交給排程器：同 key 去重、依 priority（離可見卡片的距離）排隊
+        return PrefetchScheduler.submit(
+            key = stableKey,
+            priority = priority,
+            job = { reportProgress ->
+                report = reportProgress
+                writer.cache()
+            },
+            onCancel = { writer.cancel() }
+        )
+    }
+
+    /** 與 prefetchMp4Head 相同規則的 cache key，供視窗更新（retainOnly）比對 */
+    @OptIn(UnstableApi::class)
+    fun cacheKeyFor(url: String, cacheKey: String? = null): String =
+        stableCacheKey(DataSpec.Builder().setUri(url).build(), cacheKey)
+
+    /**
+     * 自適應預取：先探測 MP4 結構與位元率，只快取「moov + 目標緩衝時長」需要的資料。
+     * moov 不論在檔頭或檔尾都會整段快取，否則預取的檔頭播放器也用不上；
+     * 能解析 sample table 時，快取範圍精確到開頭 N 秒最後一個 sample。
+     * 探測失敗（非 MP4、不支援 range）時退回固定 3MB 檔頭。
+     */
+    @OptIn(UnstableApi::class)
+    fun prefetchAdaptive(
+        context: Context,
+        url: String,
+        targetBufferMs: Long = 2_000,
+        cacheKey: String? = null,
+        userAgent: String = DEFAULT_USER_AGENT,
+        headers: Map<String, String>? = null,
+        priority: Int = 0
+    ): PrefetchHandle {
+        val key = cacheKeyFor(url, cacheKey)
+        val cacheDs: CacheDataSource = buildCacheDataSource(context, userAgent, headers)
+        val current = AtomicReference<CacheWriter?>()
+        val cancelled = AtomicBoolean(false)
+
+        return PrefetchScheduler.submit(
+            key = key,
+            priority = priority,
+            job = { reportProgress ->
+                for ((position, length) in planRanges(context, cacheDs, url, key, userAgent, headers, targetBufferMs)) {
+                    if (cancelled.get()) break
+                    val spec = DataSpec.Builder()
+                        .setUri(url)
+                        .setPosition(position)
+                        .setLength(length)
+                        .setKey(key)
+                        .build()
+                    val writer = CacheWriter(cacheDs, spec, null) { _, _, newlyCachedBytes ->
+                        reportProgress(newlyCachedBytes)
+                    }
+                    current.set(writer)
+                    if (cancelled.get()) break
+                    writer.cache()
+                }
+            },
+            onCancel = {
+                cancelled.set(true)
+                current.get()?.cancel()
+            }
+        )
+    }
+
+    /**
+     * 回傳要快取的 (position, length) 區段，moov 在前。
+     * 優先讀整個 moov 解析 sample table，精確算出開頭 N 秒的結束位置（讀 moov 的同時已寫入快取）；
+     * moov 太大或解析失敗時，退回用位元率估算。
+     */
+    @OptIn(UnstableApi::class)
+    private fun planRanges(
+        context: Context,
+        cacheDs: CacheDataSource,
+        url: String,
+        key: String,
+        userAgent: String,
+        headers: Map<String, String>?,
+        targetBufferMs: Long
+    ): List<Pair<Long, Long>> {
+        val layout = Mp4Probe.probe(context, url, key, userAgent, headers)
+            ?: return listOf(0L to FALLBACK_HEAD_BYTES)
+
+        val bitrate = observedBitrates.get(key) ?: layout.bitrate.takeIf { it > 0 } ?: DEFAULT_BITRATE
+        val factor = bufferFactor(bitrate)
+        val moov = layout.find("moov")
+        val mdat = layout.find("mdat")
+
+        if (moov != null && moov.size <= MAX_MOOV_BYTES) {
+            val moovBytes = readThroughCache(cacheDs, url, key, moov.offset, moov.size.toInt())
+            val end = moovBytes?.let { Mp4SampleTable.endOffsetFor(it, targetBufferMs / 1000.0 * factor) } ?: -1L
+            if (end > 0) {
+                var head = minOf(end, MAX_SPAN_BYTES)
+                if (!layout.moovAtEnd) head = maxOf(head, moov.end)
+                if (layout.fileSize > 0) head = minOf(head, layout.fileSize)
+                return listOf(0L to head)
+            }
+        }
+
+        val media = mediaBytesFor(bitrate, targetBufferMs, factor)
+        val ranges = ArrayList<Pair<Long, Long>>()
+        val headEnd = if (moov != null && mdat != null && layout.moovAtEnd) {
+            ranges.add(moov.offset to moov.size)
+            mdat.offset + media
+        } else {
+            maxOf(moov?.end ?: 0L, mdat?.offset ?: 0L) + media
+        }
+        val head = if (layout.fileSize > 0) minOf(headEnd, layout.fileSize) else headEnd
+        ranges.add(0L to head)
+        return ranges
+    }
+
+    /** 經 CacheDataSource 讀一段資料（同一個 key），讀到的內容同時寫入快取；失敗回傳 null */
+    @OptIn(UnstableApi::class)
+    private fun readThroughCache(cacheDs: CacheDataSource, url: String, key: String, position: Long, length: Int): ByteArray? {
+        val spec = DataSpec.Builder()
+            .setUri(url)
+            .setPosition(position)
+            .setLength(length.toLong())
+            .setKey(key)
+            .build()
+        val out = ByteArray(length)
+        return try {
+            cacheDs.open(spec)
+            var n = 0
+            while (n < length) {
+                val r = cacheDs.read(out, n, length - n)
+                if (r == C.RESULT_END_OF_INPUT) break
+                n += r
+            }
+            if (n == length) out else null
+        } catch (_: Throwable) {
+            null
+        } finally {
+            try { cacheDs.close() } catch (_: Throwable) {}
+        }
+    }
+
+    /**
+     * 最近的下載速率跟不上位元率時多存一些，速率遠高於位元率時播放器自己補得回來，存少一點
+     */
+    private fun bufferFactor(bitrate: Long): Double {
+        val throughput = PrefetchScheduler.recentBytesPerSec() * 8
+        return when {
+            throughput in 1 until bitrate -> 1.5
+            throughput > bitrate * 4 -> 0.5
+            else -> 1.0
         }
-        thread.start()
+    }
+
+    /** 以位元率估算目標緩衝時長需要的媒體資料量 */
+    private fun mediaBytesFor(bitrate: Long, targetBufferMs: Long, factor: Double): Long {
+        val bytes = (bitrate / 8.0 * targetBufferMs / 1000.0 * factor).toLong()
+        return bytes.coerceIn(MIN_ADAPTIVE_BYTES, MAX_ADAPTIVE_BYTES)
+    }
 
-        return PrefetchHandle(
-            cancel = {
-                try { writer.cancel() } catch (_: Throwable) {}
-                try { thread.interrupt() } catch (_: Throwable) {}
+    /**
+     * HLS 預取：master playlist → 播放器大概會先選的 variant → media playlist → 前 segments 個分段。
+     * playlist 直接從上游讀、不寫入快取，播放器也不從快取讀 playlist；
+     * 只有分段經 CacheDataSource 寫入 ExoCache。這裡不設 DataSpec.key，
+     * 與 HlsMediaSource 載入時相同（預設以完整 URI 為 key），播放時才會命中。
+     * 直播（media playlist 沒有 ENDLIST）不預取：播放時 playlist 已經往前滾，先抓的分段用不到。
+     * DataSource 與頻寬估計都在任務真正執行時才建立、讀取，排隊期間不佔資源、不用舊的估計值。
+     */
+    @OptIn(UnstableApi::class)
+    fun prefetchHlsHead(
+        context: Context,
+        url: String,
+        segments: Int = 4,
+        userAgent: String = DEFAULT_USER_AGENT,
+        headers: Map<String, String>? = null,
+        priority: Int = 0,
+        onProgress: ((cachedBytes: Long, totalBytes: Long, newlyCachedBytes: Long) -> Unit)? = null
+    ): PrefetchHandle {
+        val current = AtomicReference<CacheWriter?>()
+        val cancelled = AtomicBoolean(false)
+
+        return PrefetchScheduler.submit(
+            key = cacheKeyFor(url),
+            priority = priority,
+            job = { reportProgress ->
+                val upstream = DataSources.prefetchUpstreamFactory(context, userAgent, headers).createDataSource()
+                val bandwidth = DefaultBandwidthMeter.getSingletonInstance(context).bitrateEstimate
+                val media = loadMediaPlaylist(upstream, Uri.parse(url), bandwidth)
+                if (media != null && media.hasEndTag && !cancelled.get()) {
+                    val cacheDs: CacheDataSource = buildCacheDataSource(context, userAgent, headers)
+                    for (spec in segmentSpecs(media, segments)) {
+                        if (cancelled.get()) break
+                        val writer = CacheWriter(cacheDs, spec, null) { requestLength, bytesCached, newlyCachedBytes ->
+                            reportProgress(newlyCachedBytes)
+                            onProgress?.invoke(bytesCached, requestLength, newlyCachedBytes)
+                        }
+                        current.set(writer)
+                        if (cancelled.get()) break
+                        writer.cache()
+                    }
+                }
+            },
+            onCancel = {
+                cancelled.set(true)
+                current.get()?.cancel()
             }
         )
     }
+
+    /** 從上游讀 playlist（不經快取）；是 master 時依頻寬挑 variant 再讀一次 */
+    @OptIn(UnstableApi::class)
+    private fun loadMediaPlaylist(upstream: DataSource, uri: Uri, bandwidth: Long): HlsMediaPlaylist? {
+        return when (val playlist = readPlaylist(upstream, uri)) {
+            is HlsMediaPlaylist -> playlist
+            is HlsMultivariantPlaylist -> {
+                val variant = pickVariant(playlist, bandwidth) ?: return null
+                readPlaylist(upstream, variant.url) as? HlsMediaPlaylist
+            }
+            else -> null
+        }
+    }
+
+    @OptIn(UnstableApi::class)
+    private fun readPlaylist(upstream: DataSource, uri: Uri): HlsPlaylist? {
+        val input = DataSourceInputStream(upstream, DataSpec(uri))
+        return try {
+            HlsPlaylistParser().parse(uri, input)
+        } catch (_: Throwable) {
+            null
+        } finally {
+            try { input.close() } catch (_: Throwable) {}
+        }
+    }
+
+    /**
+     * 模擬 AdaptiveTrackSelection 的起始選擇：頻寬估計值 × 0.7 以內位元率最高的 variant，
+     * 都超過時選最低的
+     */
+    @OptIn(UnstableApi::class)
+    private fun pickVariant(playlist: HlsMultivariantPlaylist, bandwidth: Long): HlsMultivariantPlaylist.Variant? {
+        val variants = playlist.variants
+        if (variants.isEmpty()) return null
+        val budget = (bandwidth * 0.7).toLong()
+        return variants.filter { it.format.bitrate in 1..budget }.maxByOrNull { it.format.bitrate }
+            ?: variants.minByOrNull { if (it.format.bitrate > 0) it.format.bitrate else Int.MAX_VALUE }
+    }
+
+    /** 要快取的分段：fMP4 的 init segment 加上前 count 個分段（只用於點播） */
+    @OptIn(UnstableApi::class)
+    private fun segmentSpecs(playlist: HlsMediaPlaylist, count: Int): List<DataSpec> {
+        val picked = playlist.segments.take(count)
+        val specs = ArrayList<DataSpec>()
+        picked.firstOrNull()?.initializationSegment?.let { specs.add(segmentSpec(playlist, it)) }
+        picked.forEach { specs.add(segmentSpec(playlist, it)) }
+        return specs
+    }
+
+    @OptIn(UnstableApi::class)
+    private fun segmentSpec(playlist: HlsMediaPlaylist, segment: HlsMediaPlaylist.Segment): DataSpec =
+        DataSpec.Builder()
+            .setUri(UriUtil.resolveToUri(playlist.baseUri, segment.url))
+            .setPosition(segment.byteRangeOffset)
+            .setLength(segment.byteRangeLength)
+            .build()
 }
@@ -0,0 +1,78 @@
+package lu.live.player
+
+import android.os.SystemClock
+import okhttp3.ConnectionPool
+import okhttp3.Dispatcher
+import okhttp3.Dns
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import java.net.InetAddress
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * 影片播放 / 預取用的 OkHttpClient（整個 process 共用一個連線池）
+ *
+ * 連線池讓滑動時直接沿用已完成 TLS 握手的連線；CDN 支援時走 HTTP/2 多路複用；
+ * DNS 結果短暫快取。預取走 [prefetchClient]，有自己的 dispatcher，
+ * 排滿也不會佔用播放端的請求名額。
+ */
+object VideoHttp {
+
+    private const val DNS_TTL_MS = 60_000L
+
+    private class CachedDns : Dns {
+        private class Record(val addresses: List<InetAddress>, val expireAt: Long)
+
+        private val records = ConcurrentHashMap<String, Record>()
+
+        override fun lookup(hostname: String): List<InetAddress> {
+            val now = SystemClock.elapsedRealtime()
+            records[hostname]?.let { if (it.expireAt > now) return it.addresses }
+            val addresses = Dns.SYSTEM.lookup(hostname)
+            records[hostname] = Record(addresses, now + DNS_TTL_MS)
+            return addresses
+        }
+    }
+
+    val client: OkHttpClient by lazy {
+        OkHttpClient.Builder()
+            .connectionPool(ConnectionPool(8, 5, TimeUnit.MINUTES))
+            .dispatcher(Dispatcher().apply {
+                maxRequests = 16
+                maxRequestsPerHost = 6
+            })
+            .protocols(listOf(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .dns(CachedDns())
+            .connectTimeout(8, TimeUnit.SECONDS)
+            .readTimeout(8, TimeUnit.SECONDS)
+            .followRedirects(true)
+            .followSslRedirects(true)
+            .build()
+    }
+
+    /**
+     * 預取專用：共用 [client] 的連線池、DNS 與逾時設定，只換掉 dispatcher。
+     * PrefetchScheduler 同時只跑兩個任務，這裡的上限只是保險。
+     */
+    val prefetchClient: OkHttpClient by lazy {
+        client.newBuilder()
+            .dispatcher(Dispatcher().apply {
+                maxRequests = 4
+                maxRequestsPerHost = 2
+            })
+            .build()
+    }
+
+    fun stats(): Map<String, Any> {
+        val pool = client.connectionPool
+        return mapOf(
+            "connections" to pool.connectionCount(),
+            "idleConnections" to pool.idleConnectionCount(),
+            "runningCalls" to client.dispatcher.runningCallsCount(),
+            "queuedCalls" to client.dispatcher.queuedCallsCount(),
+            "prefetchRunningCalls" to prefetchClient.dispatcher.runningCallsCount(),
+            "prefetchQueuedCalls" to prefetchClient.dispatcher.queuedCallsCount()
+        )
+    }
+}
@@ -0,0 +1,34 @@
+package lu.live;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+
+import org.junit.Test;
+
+public class AuthpackKeyTest {
+
+    /** 第一次 get() 計算、之後直接取快取，耗時打印在測試輸出裡 */
+    @Test
+    public void coldThenWarmAcquisition() {
+        long start = System.nanoTime();
+        byte[] cold = AuthpackKey.get();
+        long coldUs = (System.nanoTime() - start) / 1_000;
+
+        start = System.nanoTime();
+        byte[] warm = AuthpackKey.get();
+        long warmUs = (System.nanoTime() - start) / 1_000;
+
+        assertArrayEquals(cold, warm);
+        assertArrayEquals(authpack.A(), warm);
+        System.out.println("authpack key: cold " + coldUs + "us, warm " + warmUs + "us");
+    }
+
+    @Test
+    public void callersGetTheirOwnCopy() {
+        byte[] a = AuthpackKey.get();
+        byte[] b = AuthpackKey.get();
+        assertNotSame(a, b);
+        a[0] ^= 1;
+        assertArrayEquals(b, AuthpackKey.get());
+    }
+}
@@ -0,0 +1,54 @@
+package lu.live;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.Base64;
+
+public class AuthpackTest {
+
+    // 改寫前（逐位元組重算整段 SHA-1）的 authpack.A() 輸出，1259 bytes
+    private static final String GOLDEN_BASE64 =
+              "Q+845v6XnLzwe0r3P5yW67Qn47mWI25MDTsw8pMINcv4gqlyp26Mvy6gqDnvaGPcg55DaSkQ97o3"
+            + "LOtKjOHlIRCc2CHRsefsTwDHL3rusSKyjITc7dMHcxvVrhqj56aFnv03y1TeSkPIecwjkkL2q6vq"
+            + "RiuZc3CKlDTvcrw9oJR2UBHIFU87bz1wsHqUavwpekQe5EtBhyAi82DcVDats2OzJmxSGbIOzeK6"
+            + "bwichu5z+u/smZ2xp1JPFQt3JE4PnV+p5WhrHxd+qpf7a1j1TbA5GjVhegGlh/cNt23XkP8o8LIG"
+            + "Z2pJrmeXLjabtARSeg0dqLWoEEjCjdK4CJybIDQaJs6xSUMX6LnnVeRF7sLQY56qHXGiMgVrFMqR"
+            + "mB+rxxTlDeNN4y1EeN+73Tmwxban8Ph8UVHyAqitN2tfXZaJ0OnmSASW2dvpch4DYB8FLWw+4SE4"
+            + "gowkBrPyyVGTaTayepCGgtz7jUcmvTzQ56VFiNXvogKZa8DdFOHfB9AHHfqSwld7UnX9drh9PYW8"
+            + "pLVoDAG2xjWX/RIhX4GZAY8G4f0UK1SrhZOfODbeWDLWrF0Xj5CVVOvi93Q5ARSpxeYu8IbgTglo"
+            + "k5NI9lFzZ8DAK7w1EotvKQ++e0euiu3V1ueNqr+RDEwGdxxQ1tytSHCDWNltLc7gShxXW8D2f3LM"
+            + "XDGL+LOA+nW0KEVnXKaF6mJnimpbg2tkC4wUfGEV5rg18kHAJlI9QcD19EiUdDWXjWWtb8N0Xa5o"
+            + "ot3LQQl+0gCTlxgFtHPTpDFn4cyxwMZxZDZV2tUElr0jGQAMZkq60bmCtlMU3kcWzCGsTR42zDwB"
+            + "Y6cXn9rIMouTL4WCBV+UOEgLseZvpYSB77GdJJju9EKPif7caZTAI6+g5kAsiP1UrlbazteuzWA7"
+            + "UK/MZF6h52b7Vs+U21RH1OxdmlJObdY+7PsTUmNjogKt65lqMB/Bl8rgZYw7pa4hR4HJALgvsOdJ"
+            + "+OVIgi4YMm6meWyh5B4wJlJypJF/Z/XE4RwWzT/ziMtpUckMY6ibMNOXIgpiehaaPik5aLcHGaxQ"
+            + "GhcFbcArmXTnchBo/vDpjp+gA/A0qvz74ngo2+AOlLqVHEWkbUwRijNng1SnmlGlpwfn+VD2LAHQ"
+            + "EFsOQnca1lSmKWnsPHzR7L9jFUdNdSxxPPrCkkYkoA+k3bFykZaTlgo02xpNNOyScBqXlq/NyHNb"
+            + "ABii2tUNzzui4Cm357f6CXvoBFduIkH3HUTFG9GU4fF5AJfMvj6v6jBCfEjoMLjzziQkZ+bTFlUt"
+            + "ogIDfyXXz8SY6AvnHOKokoFgua22k61H2tJkGf9s7TlN4hjxagBYnVXYQVwGi1j6wuts8fJu89dn"
+            + "BoKXefj84q77Bz4DZib0ghppNL5DEUge7VpziDgfRqdIZN3zFfLxUIJjgKBtcUixQqqPaaZSrHGi"
+            + "4Of1RurdDR3K5nuMuHNV5upbHUUK6LyNMsQzeC6f1fHaHDxjfhdBI3zchEE0h/Rg+gri76HoYfTg"
+            + "8LsOHANOAFyNtRDO4bv99dJ4dqlGX3f9ydqzJrBgAEmLVyXtS21oSeTMW0VRn1l8Q+Bh9ZAlbC2l"
+            + "Sp/oI+NjV3onRdq6t9+1OETuWPE8qGA+MD7pqtxczZ6Wh5P9nwoZM7R27Rj0YP510u8FYkt1sXoB"
+            + "wILtsZY=";
+
+    @Test
+    public void keyMatchesBaselineOutput() {
+        byte[] golden = Base64.getDecoder().decode(GOLDEN_BASE64);
+        assertEquals(1259, golden.length);
+        assertArrayEquals(golden, authpack.A());
+    }
+
+    @Test
+    public void repeatedCallsReturnTheSameKey() {
+        assertArrayEquals(authpack.A(), authpack.A());
+    }
+
+    @Test
+    public void keyPassesFinalChecksum() {
+        assertEquals(-456126258, authpack.sha1_32(authpack.A()));
+    }
+}
@@ -0,0 +1,100 @@
+package lu.live.player
+
+import android.net.Uri
+import androidx.annotation.OptIn
+import androidx.media3.common.util.UnstableApi
+import androidx.media3.datasource.ByteArrayDataSource
+import androidx.media3.datasource.DataSpec
+import androidx.media3.datasource.cache.Cache
+import androidx.media3.datasource.cache.ContentMetadataMutations
+import androidx.media3.datasource.cache.DefaultContentMetadata
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.lang.reflect.Proxy
+
+@OptIn(UnstableApi::class)
+class CachePlaybackTest {
+
+    private val source = ByteArrayDataSource(ByteArray(16))
+    private val spec = DataSpec(Uri.EMPTY)
+
+    // CacheDataSource 讀快取檔案時 isNetwork=false，讀上游時 isNetwork=true
+    private fun CachePlayback.PlayStats.read(cachedBytes: Int, networkBytes: Int) = apply {
+        if (cachedBytes > 0) onBytesTransferred(source, spec, false, cachedBytes)
+        if (networkBytes > 0) onBytesTransferred(source, spec, true, networkBytes)
+    }
+
+    /** 只實作 isFullyCached 用到的兩個方法；contentLength < 0 表示長度未知 */
+    private fun fakeCache(contentLength: Long, cachedUpTo: Long): Cache =
+        Proxy.newProxyInstance(Cache::class.java.classLoader, arrayOf(Cache::class.java)) { _, method, args ->
+            when (method.name) {
+                "getContentMetadata" -> DefaultContentMetadata.EMPTY.copyWithMutationsApplied(
+                    ContentMetadataMutations().also {
+                        if (contentLength >= 0) ContentMetadataMutations.setContentLength(it, contentLength)
+                    }
+                )
+                "isCached" -> (args[1] as Long) + (args[2] as Long) <= cachedUpTo
+                else -> throw UnsupportedOperationException(method.name)
+            }
+        } as Cache
+
+    @Test
+    fun playStatsSplitCacheAndNetworkBytes() {
+        val stats = CachePlayback.PlayStats("clip", cacheOnly = false)
+        assertEquals(-1.0, stats.servedFromCache, 0.0)
+
+        stats.read(cachedBytes = 3_000, networkBytes = 1_000)
+        stats.read(cachedBytes = 1_000, networkBytes = 0)
+        assertEquals(4_000L, stats.cached)
+        assertEquals(1_000L, stats.network)
+        assertEquals(0.8, stats.servedFromCache, 1e-9)
+        assertEquals(
+            mapOf(
+                "cacheOnly" to false,
+                "cachedBytes" to 4_000L,
+                "networkBytes" to 1_000L,
+                "servedFromCache" to 0.8
+            ),
+            stats.toMap()
+        )
+    }
+
+    @Test
+    fun finishIgnoresPlaysThatReadNothing() {
+        val before = CachePlayback.stats()["plays"]
+        CachePlayback.finish(CachePlayback.PlayStats("clip", cacheOnly = true))
+        assertEquals(before, CachePlayback.stats()["plays"])
+    }
+
+    @Test
+    fun finishAccumulatesTotals() {
+        // CachePlayback 是全域單例，只比對這次測試造成的增量
+        val before = CachePlayback.stats()
+        CachePlayback.finish(CachePlayback.PlayStats("a", cacheOnly = true).read(1_000, 0))
+        CachePlayback.finish(CachePlayback.PlayStats("b", cacheOnly = false).read(250, 750))
+        val after = CachePlayback.stats()
+
+        assertEquals(before["plays"] as Long + 2, after["plays"])
+        assertEquals(before["cacheOnlyPlays"] as Long + 1, after["cacheOnlyPlays"])
+        assertEquals(before["cachedBytes"] as Long + 1_250, after["cachedBytes"])
+        assertEquals(before["networkBytes"] as Long + 750, after["networkBytes"])
+        assertEquals(listOf(1.0, 0.25), (after["recentServedFromCache"] as List<*>).takeLast(2))
+    }
+
+    @Test
+    fun recentRatiosKeepTheLastTwenty() {
+        repeat(25) { CachePlayback.finish(CachePlayback.PlayStats("clip", cacheOnly = false).read(it + 1, 0)) }
+        val recent = CachePlayback.stats()["recentServedFromCache"] as List<*>
+        assertEquals(20, recent.size)
+    }
+
+    @Test
+    fun fullyCachedNeedsKnownLengthAndEveryByte() {
+        assertTrue(CachePlayback.isFullyCached(fakeCache(contentLength = 1_000, cachedUpTo = 1_000), "clip"))
+        assertFalse(CachePlayback.isFullyCached(fakeCache(contentLength = 1_000, cachedUpTo = 999), "clip"))
+        assertFalse(CachePlayback.isFullyCached(fakeCache(contentLength = -1, cachedUpTo = 1_000), "clip"))
+        assertFalse(CachePlayback.isFullyCached(fakeCache(contentLength = 0, cachedUpTo = 1_000), "clip"))
+    }
+}
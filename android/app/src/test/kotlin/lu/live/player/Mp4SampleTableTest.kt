@@ -0,0 +1,196 @@
+package lu.live.player
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.io.ByteArrayOutputStream
+import java.io.DataOutputStream
+
+/**
+ * 用手工組出的 moov 驗證 sample table 的各種寫法。
+ *
+ * 共用的影像軌：timescale 1000，10 個 sample 每個 100ms，
+ * sample i 的大小為 (i + 1) * 100，預設每個 chunk 2 個 sample，
+ * chunk 位置 1000 / 5000 / 9000 / 13000 / 17000。
+ */
+class Mp4SampleTableTest {
+
+    private val sizes = List(10) { (it + 1) * 100 }
+    private val offsets = listOf(1_000L, 5_000L, 9_000L, 13_000L, 17_000L)
+
+    // ---- box 組裝 ----
+
+    private fun bytes(block: DataOutputStream.() -> Unit): ByteArray {
+        val out = ByteArrayOutputStream()
+        DataOutputStream(out).block()
+        return out.toByteArray()
+    }
+
+    private fun box(type: String, vararg children: ByteArray): ByteArray = bytes {
+        writeInt(8 + children.sumOf { it.size })
+        writeBytes(type)
+        children.forEach { write(it) }
+    }
+
+    // version 0、flags 0 的 full box
+    private fun fullBox(type: String, body: DataOutputStream.() -> Unit): ByteArray =
+        box(type, bytes { writeInt(0); body() })
+
+    private fun stts(vararg entries: Pair<Int, Int>) = fullBox("stts") {
+        writeInt(entries.size)
+        entries.forEach { (count, delta) -> writeInt(count); writeInt(delta) }
+    }
+
+    // (first_chunk, samples_per_chunk)
+    private fun stsc(vararg entries: Pair<Int, Int>) = fullBox("stsc") {
+        writeInt(entries.size)
+        entries.forEach { (first, perChunk) -> writeInt(first); writeInt(perChunk); writeInt(1) }
+    }
+
+    private fun stsz(sizes: List<Int>) = fullBox("stsz") {
+        writeInt(0)
+        writeInt(sizes.size)
+        sizes.forEach { writeInt(it) }
+    }
+
+    private fun stszUniform(size: Int, count: Int) = fullBox("stsz") {
+        writeInt(size)
+        writeInt(count)
+    }
+
+    private fun stz2(fieldSize: Int, sizes: List<Int>) = fullBox("stz2") {
+        writeInt(fieldSize)
+        writeInt(sizes.size)
+        when (fieldSize) {
+            4 -> sizes.chunked(2).forEach { pair -> writeByte((pair[0] shl 4) or pair.getOrElse(1) { 0 }) }
+            8 -> sizes.forEach { writeByte(it) }
+            else -> sizes.forEach { writeShort(it) }
+        }
+    }
+
+    private fun stco(offsets: List<Long>) = fullBox("stco") {
+        writeInt(offsets.size)
+        offsets.forEach { writeInt(it.toInt()) }
+    }
+
+    private fun co64(offsets: List<Long>) = fullBox("co64") {
+        writeInt(offsets.size)
+        offsets.forEach { writeLong(it) }
+    }
+
+    private fun trak(handler: String, timescale: Int, vararg tables: ByteArray): ByteArray {
+        val mdhd = fullBox("mdhd") { writeInt(0); writeInt(0); writeInt(timescale); writeInt(0) }
+        val hdlr = fullBox("hdlr") { writeInt(0); writeBytes(handler); writeInt(0); writeInt(0); writeInt(0) }
+        return box("trak", box("mdia", mdhd, hdlr, box("minf", box("stbl", *tables))))
+    }
+
+    private fun video(
+        sampleSizes: ByteArray = stsz(sizes),
+        chunkOffsets: ByteArray = stco(offsets),
+        sampleToChunk: ByteArray = stsc(1 to 2)
+    ) = trak("vide", 1000, stts(10 to 100), sampleToChunk, sampleSizes, chunkOffsets)
+
+    private fun moov(vararg traks: ByteArray) = box("moov", *traks)
+
+    // ---- 測試 ----
+
+    @Test
+    fun stcoWithStsz() {
+        // 0.5s -> 前 5 個 sample，第 5 個在 chunk 3 的開頭
+        assertEquals(9_000L + 500, Mp4SampleTable.endOffsetFor(moov(video()), 0.5))
+    }
+
+    @Test
+    fun co64AboveFourGigabytes() {
+        val base = 5_000_000_000L
+        val moov = moov(video(chunkOffsets = co64(offsets.map { it + base })))
+        assertEquals(base + 9_000 + 500, Mp4SampleTable.endOffsetFor(moov, 0.5))
+    }
+
+    @Test
+    fun stz2With16BitFields() {
+        // 0.6s -> 前 6 個 sample，chunk 3 裡的 sample 4、5
+        val moov = moov(video(sampleSizes = stz2(16, sizes)))
+        assertEquals(9_000L + 500 + 600, Mp4SampleTable.endOffsetFor(moov, 0.6))
+    }
+
+    @Test
+    fun stz2With8BitFields() {
+        val moov = moov(video(sampleSizes = stz2(8, List(10) { (it + 1) * 10 })))
+        assertEquals(9_000L + 50 + 60, Mp4SampleTable.endOffsetFor(moov, 0.6))
+    }
+
+    @Test
+    fun stz2With4BitFields() {
+        // sample 4 在高 4 位、sample 5 在低 4 位
+        val moov = moov(video(sampleSizes = stz2(4, List(10) { it + 1 })))
+        assertEquals(9_000L + 5 + 6, Mp4SampleTable.endOffsetFor(moov, 0.6))
+    }
+
+    @Test
+    fun multiEntryStsc() {
+        // chunk 1~2 各 3 個、chunk 3 只有 1 個、chunk 4 起每個 2 個：
+        // 0.75s -> 前 8 個 sample，第 8 個（sample 7）是 chunk 4 的第一個
+        val moov = moov(video(sampleToChunk = stsc(1 to 3, 3 to 1, 4 to 2)))
+        assertEquals(13_000L + 800, Mp4SampleTable.endOffsetFor(moov, 0.75))
+    }
+
+    @Test
+    fun endIsTheLatestOfVideoAndAudio() {
+        // 音軌：20 個 50ms 的 sample，固定 10 bytes，每個 chunk 4 個
+        val audio = trak(
+            "soun", 1000, stts(20 to 50), stsc(1 to 4), stszUniform(10, 20),
+            stco(listOf(1_100L, 5_100L, 9_600L, 13_100L, 17_100L))
+        )
+        assertEquals(9_600L + 2 * 10, Mp4SampleTable.endOffsetFor(moov(video(), audio), 0.5))
+    }
+
+    @Test
+    fun otherTracksAreIgnored() {
+        val text = trak("text", 1000, stts(10 to 100), stsc(1 to 2), stsz(sizes), stco(offsets.map { it * 10 }))
+        assertEquals(9_500L, Mp4SampleTable.endOffsetFor(moov(video(), text), 0.5))
+    }
+
+    @Test
+    fun moovAtEnd() {
+        // 非 faststart：ftyp、mdat、moov。chunk 位置都在 mdat 內，比 moov 早
+        val moov = moov(video(chunkOffsets = stco(offsets.map { it + 32 })))
+        val layout = Mp4Probe.Layout(
+            fileSize = 20_032L + moov.size,
+            boxes = listOf(
+                Mp4Probe.Box("ftyp", 0, 32),
+                Mp4Probe.Box("mdat", 32, 20_000),
+                Mp4Probe.Box("moov", 20_032, moov.size.toLong())
+            ),
+            durationMs = 1_000
+        )
+        assertTrue(layout.moovAtEnd)
+        val end = Mp4SampleTable.endOffsetFor(moov, 0.5)
+        assertEquals(32L + 9_500, end)
+        assertTrue(end < layout.find("moov")!!.offset)
+    }
+
+    @Test
+    fun faststartIsNotMoovAtEnd() {
+        val layout = Mp4Probe.Layout(
+            fileSize = 30_000,
+            boxes = listOf(
+                Mp4Probe.Box("ftyp", 0, 32),
+                Mp4Probe.Box("moov", 32, 968),
+                Mp4Probe.Box("mdat", 1_000, 29_000)
+            ),
+            durationMs = 1_000
+        )
+        assertFalse(layout.moovAtEnd)
+    }
+
+    @Test
+    fun missingOrTruncatedTablesReturnMinusOne() {
+        val noOffsets = moov(trak("vide", 1000, stts(10 to 100), stsc(1 to 2), stsz(sizes)))
+        assertEquals(-1L, Mp4SampleTable.endOffsetFor(noOffsets, 0.5))
+
+        val full = moov(video())
+        assertEquals(-1L, Mp4SampleTable.endOffsetFor(full.copyOf(full.size - 10), 0.5))
+    }
+}
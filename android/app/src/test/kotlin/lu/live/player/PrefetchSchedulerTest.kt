@@ -0,0 +1,153 @@
+package lu.live.player
+
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class PrefetchSchedulerTest {
+
+    // PrefetchScheduler 是全域單例，每個測試用自己的 key 前綴
+    private val prefix = "test${System.nanoTime()}"
+
+    private val order = Collections.synchronizedList(ArrayList<String>())
+    private val cancelled = Collections.synchronizedList(ArrayList<String>())
+
+    // 測試結束前一直佔住其中一個 worker
+    private val hold = CountDownLatch(1)
+
+    @After
+    fun tearDown() {
+        hold.countDown()
+    }
+
+    /**
+     * 佔住兩個 worker：一個卡到測試結束，另一個在回傳的 latch 放行後
+     * 逐一執行排隊的任務，執行順序即為佇列順序。
+     */
+    private fun occupyWorkers(): CountDownLatch {
+        val started = CountDownLatch(2)
+        val lead = CountDownLatch(1)
+        PrefetchScheduler.submit("$prefix/hold", -1, { started.countDown(); hold.await() }, {})
+        PrefetchScheduler.submit("$prefix/lead", -1, { started.countDown(); lead.await() }, {})
+        assertTrue(started.await(5, TimeUnit.SECONDS))
+        return lead
+    }
+
+    private fun submit(name: String, priority: Int, done: CountDownLatch) =
+        PrefetchScheduler.submit(
+            "$prefix/$name", priority,
+            { order.add(name); done.countDown() },
+            { cancelled.add(name) }
+        )
+
+    @Test
+    fun queuedTasksRunByPriorityThenSubmitOrder() {
+        val lead = occupyWorkers()
+        val priorities = listOf("a" to 5, "b" to 1, "c" to 3, "d" to 0, "e" to 3, "f" to 2)
+        val done = CountDownLatch(priorities.size)
+        for ((name, p) in priorities) submit(name, p, done)
+
+        lead.countDown()
+        assertTrue(done.await(5, TimeUnit.SECONDS))
+        assertEquals(listOf("d", "b", "f", "c", "e", "a"), order)
+    }
+
+    @Test
+    fun duplicateSubmitRunsOnceAtTheHigherPriority() {
+        val lead = occupyWorkers()
+        val deduped = PrefetchScheduler.stats()["deduped"] as Long
+        val done = CountDownLatch(2)
+        submit("a", 5, done)
+        submit("b", 3, done)
+        submit("a", 0, done)
+        assertEquals(deduped + 1, PrefetchScheduler.stats()["deduped"])
+
+        lead.countDown()
+        assertTrue(done.await(5, TimeUnit.SECONDS))
+        assertEquals(listOf("a", "b"), order)
+    }
+
+    @Test
+    fun sharedTaskCancelsAfterEveryHandleCancels() {
+        val lead = occupyWorkers()
+        val done = CountDownLatch(1)
+        val first = submit("a", 0, done)
+        val second = submit("a", 0, done)
+        submit("b", 1, done)
+
+        first.cancel()
+        assertTrue(cancelled.isEmpty())
+        second.cancel()
+        assertEquals(listOf("a"), cancelled)
+
+        lead.countDown()
+        assertTrue(done.await(5, TimeUnit.SECONDS))
+        assertEquals(listOf("b"), order)
+    }
+
+    @Test
+    fun retainOnlyCancelsTasksOutsideTheWindow() {
+        val lead = occupyWorkers()
+        val done = CountDownLatch(2)
+        submit("a", 0, done)
+        submit("b", 1, done)
+        submit("c", 2, done)
+        submit("d", 3, done)
+
+        // 視窗移動：b、d 還在視窗內，d 變成最優先
+        PrefetchScheduler.retainOnly(
+            mapOf(
+                "$prefix/hold" to -1,
+                "$prefix/lead" to -1,
+                "$prefix/b" to 1,
+                "$prefix/d" to 0
+            )
+        )
+        assertEquals(listOf("a", "c"), cancelled.sorted())
+
+        lead.countDown()
+        assertTrue(done.await(5, TimeUnit.SECONDS))
+        assertEquals(listOf("d", "b"), order)
+    }
+
+    @Test
+    fun progressIsAddedAsDeltas() {
+        val before = PrefetchScheduler.stats()["totalBytes"] as Long
+        val finished = CountDownLatch(1)
+        // CacheWriter 每次回報本次新寫入的量：三次 64KB 加一次 10KB
+        val handle = PrefetchScheduler.submit(
+            "$prefix/progress", 0,
+            { report -> report(65_536); report(65_536); report(65_536); report(10_240) },
+            {}
+        )
+        handle.onFinish { finished.countDown() }
+        assertTrue(finished.await(5, TimeUnit.SECONDS))
+        assertEquals(before + 3 * 65_536 + 10_240, PrefetchScheduler.stats()["totalBytes"])
+    }
+
+    @Test
+    fun finishListenersRunOnCompletionAndCancel() {
+        val lead = occupyWorkers()
+        val done = CountDownLatch(1)
+        val completed = CountDownLatch(1)
+        val cancelledHandle = submit("a", 0, done)
+        val completedHandle = submit("b", 1, done)
+        var cancelFinished = false
+        cancelledHandle.onFinish { cancelFinished = true }
+        completedHandle.onFinish { completed.countDown() }
+
+        cancelledHandle.cancel()
+        assertTrue(cancelFinished)
+
+        lead.countDown()
+        assertTrue(completed.await(5, TimeUnit.SECONDS))
+        // 已結束的任務再註冊會立即呼叫
+        var late = false
+        completedHandle.onFinish { late = true }
+        assertTrue(late)
+    }
+}
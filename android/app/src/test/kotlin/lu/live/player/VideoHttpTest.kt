@@ -0,0 +1,165 @@
+package lu.live.player
+
+import com.sun.net.httpserver.HttpServer
+import okhttp3.Call
+import okhttp3.Callback
+import okhttp3.Request
+import okhttp3.Response
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import java.io.IOException
+import java.net.HttpURLConnection
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.URL
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 用本機 HttpServer 當 CDN 替身，驗證共用 OkHttpClient 的連線重用與併發上限，
+ * 並與舊的 HttpURLConnection 路徑比較。
+ */
+class VideoHttpTest {
+
+    private lateinit var server: HttpServer
+    private lateinit var executor: ExecutorService
+    private lateinit var url: String
+
+    // 以客戶端來源埠區分 TCP 連線
+    private val ports = ConcurrentHashMap.newKeySet<Int>()
+    private val active = AtomicInteger()
+    private val maxActive = AtomicInteger()
+
+    @Volatile
+    private var delayMs = 0L
+
+    private val body = ByteArray(256 * 1024)
+
+    @Before
+    fun setUp() {
+        executor = Executors.newFixedThreadPool(32)
+        server = HttpServer.create(InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+        server.executor = executor
+        server.createContext("/") { exchange ->
+            ports.add(exchange.remoteAddress.port)
+            maxActive.accumulateAndGet(active.incrementAndGet()) { a, b -> maxOf(a, b) }
+            try {
+                if (delayMs > 0) Thread.sleep(delayMs)
+                exchange.sendResponseHeaders(200, body.size.toLong())
+                exchange.responseBody.use { it.write(body) }
+            } catch (_: IOException) {
+            } finally {
+                active.decrementAndGet()
+            }
+        }
+        server.start()
+        url = "http://127.0.0.1:${server.address.port}/clip.mp4"
+    }
+
+    @After
+    fun tearDown() {
+        VideoHttp.client.connectionPool.evictAll()
+        server.stop(0)
+        executor.shutdownNow()
+    }
+
+    private fun okHttpGet(): Int =
+        VideoHttp.client.newCall(Request.Builder().url(url).build()).execute().use { it.body.bytes().size }
+
+    // 舊路徑：DefaultHttpDataSource 底層的 HttpURLConnection，讀完後 disconnect
+    private fun urlConnectionGet(): Int {
+        val conn = URL(url).openConnection() as HttpURLConnection
+        conn.connectTimeout = 8_000
+        conn.readTimeout = 8_000
+        try {
+            return conn.inputStream.use { it.readBytes().size }
+        } finally {
+            conn.disconnect()
+        }
+    }
+
+    @Test
+    fun sequentialRequestsShareOneConnection() {
+        repeat(20) { assertEquals(body.size, okHttpGet()) }
+        assertEquals(1, ports.size)
+        assertEquals(1, VideoHttp.client.connectionPool.idleConnectionCount())
+    }
+
+    @Test
+    fun dispatcherBoundsConcurrentRequestsPerHost() {
+        delayMs = 200
+        val calls = 20
+        val done = CountDownLatch(calls)
+        repeat(calls) {
+            VideoHttp.client.newCall(Request.Builder().url(url).build()).enqueue(object : Callback {
+                override fun onFailure(call: Call, e: IOException) = done.countDown()
+                override fun onResponse(call: Call, response: Response) {
+                    response.use { it.body.bytes() }
+                    done.countDown()
+                }
+            })
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS))
+        val perHost = VideoHttp.client.dispatcher.maxRequestsPerHost
+        assertTrue("max concurrent ${maxActive.get()} > $perHost", maxActive.get() <= perHost)
+        assertTrue(maxActive.get() > 1)
+    }
+
+    @Test
+    fun prefetchQueueDoesNotDelayPlayback() {
+        assertSame(VideoHttp.client.connectionPool, VideoHttp.prefetchClient.connectionPool)
+        assertNotSame(VideoHttp.client.dispatcher, VideoHttp.prefetchClient.dispatcher)
+
+        delayMs = 300
+        val calls = 10
+        val done = CountDownLatch(calls)
+        repeat(calls) {
+            VideoHttp.prefetchClient.newCall(Request.Builder().url(url).build()).enqueue(object : Callback {
+                override fun onFailure(call: Call, e: IOException) = done.countDown()
+                override fun onResponse(call: Call, response: Response) {
+                    response.use { it.body.bytes() }
+                    done.countDown()
+                }
+            })
+        }
+        // 預取把自己的名額排滿，播放請求仍然立刻送出，不必排在後面
+        assertEquals(body.size, okHttpGet())
+        assertTrue(VideoHttp.prefetchClient.dispatcher.queuedCallsCount() > 0)
+        assertTrue(done.await(30, TimeUnit.SECONDS))
+    }
+
+    /**
+     * 兩條路徑各連續抓 30 次，印出耗時與 TCP 連線數。
+     * JVM 上的 HttpURLConnection 是 JDK 實作，不是 Android 的，數字只作參考，不做斷言。
+     */
+    @Test
+    fun compareWithUrlConnection() {
+        val rounds = 30
+        okHttpGet()
+        urlConnectionGet()
+
+        ports.clear()
+        var start = System.nanoTime()
+        repeat(rounds) { okHttpGet() }
+        val okMs = (System.nanoTime() - start) / 1_000_000
+        val okConnections = ports.size
+
+        ports.clear()
+        start = System.nanoTime()
+        repeat(rounds) { urlConnectionGet() }
+        val legacyMs = (System.nanoTime() - start) / 1_000_000
+        val legacyConnections = ports.size
+
+        println("okhttp: ${okMs}ms / $okConnections connections, urlconnection: ${legacyMs}ms / $legacyConnections connections")
+        assertEquals(1, okConnections)
+    }
+}
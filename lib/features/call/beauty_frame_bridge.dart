@@ -1,14 +1,40 @@
+import 'dart:typed_data';
+
 import 'package:djs_live_stream/features/call/rtc_engine_manager.dart';
 import 'package:flutter/cupertino.dart';
 import 'package:flutter/services.dart';
 
 class BeautyFrameBridge {
   static const _ch = MethodChannel('beauty_plugin'); // ← 跟原生對齊
+  // 二進位幀通道：24 bytes 小端序頭（width, height, stride, rotation: int32, timestampNs: int64）+ BGRA 像素
+  static const _frames = BasicMessageChannel<ByteData>('beauty_plugin/frames', BinaryCodec());
+  static const _headerSize = 24;
   static RtcEngineManager? _rtc;
 
-  static void attach(RtcEngineManager rtc) {
+  /// 原生推流調速器換檔時回呼（width / height / fps）
+  static void Function(Map<dynamic, dynamic> tier)? onPushTier;
+
+  /// [binaryTransport] 為 false 時沿用舊的 onFrame map 協議
+  static void attach(RtcEngineManager rtc, {bool binaryTransport = true}) {
     _rtc = rtc;
+    _frames.setMessageHandler((data) async {
+      if (data == null || data.lengthInBytes < _headerSize) return null;
+      final width  = data.getInt32(0, Endian.little);
+      final height = data.getInt32(4, Endian.little);
+      final stride = data.getInt32(8, Endian.little); // bytesPerRow
+      final rotation = data.getInt32(12, Endian.little);
+      final bytes = data.buffer.asUint8List(data.offsetInBytes + _headerSize, data.lengthInBytes - _headerSize);
+      await _rtc?.pushExternalFrame(
+        bytes: bytes, width: width, height: height, stride: stride ~/ 4, rotation: rotation,
+      );
+      return null;
+    });
+    _ch.invokeMethod('setFrameTransport', {'mode': binaryTransport ? 'binary' : 'map'});
     _ch.setMethodCallHandler((call) async {
+      if (call.method == 'onPushTier') {
+        onPushTier?.call(Map<dynamic, dynamic>.from(call.arguments));
+        return;
+      }
       if (call.method == 'onFrame') {
         final a = Map<dynamic, dynamic>.from(call.arguments);
         final bytes  = a['bytes'] as Uint8List;
@@ -42,4 +68,29 @@ class BeautyFrameBridge {
 
   static Future<void> startNativePush() => _ch.invokeMethod('startAgoraPush');
   static Future<void> stopNativePush()  => _ch.invokeMethod('stopAgoraPush');
+
+  /// 設定推流最高檔位；autoDegrade 時積壓或超時會自動降解析度/幀率
+  static Future<Map<dynamic, dynamic>?> setPushConfig({
+    int width = 1280,
+    int height = 720,
+    int fps = 30,
+    bool autoDegrade = true,
+  }) =>
+      _ch.invokeMethod<Map<dynamic, dynamic>>('setPushConfig', {
+        'width': width,
+        'height': height,
+        'fps': fps,
+        'autoDegrade': autoDegrade,
+      });
+
+  /// 原生推流帧池的統計（hits / misses / drops / inUse）
+  static Future<Map<dynamic, dynamic>?> framePoolStats() =>
+      _ch.invokeMethod<Map<dynamic, dynamic>>('getFramePoolStats');
+
+  /// 切換美顏預覽的前後鏡頭（相機線程上完成，不阻塞渲染）
+  static Future<bool?> switchCamera() => _ch.invokeMethod<bool>('switchCamera');
+
+  /// 最近一次開鏡頭 / 切鏡頭到首幀的耗時（ms）
+  static Future<Map<dynamic, dynamic>?> cameraMetrics() =>
+      _ch.invokeMethod<Map<dynamic, dynamic>>('getCameraMetrics');
 }
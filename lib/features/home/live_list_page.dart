@@ -1,5 +1,6 @@
 // # 第一個頁籤內容
 import 'dart:async';
+import 'dart:io';
 
 import 'package:cached_network_image/cached_network_image.dart';
 import 'package:flutter/foundation.dart';
@@ -369,24 +370,52 @@ class _HomeVideoTabState extends ConsumerState<HomeVideoTab>
     final wanted = _wantedWindow(centerReal, len);
 
     // 資料層預載：HLS/MP4
+    final windowUrls = <String>[];
+    final windowDistances = <int>[];
     for (final idx in wanted) {
       final it = items[idx];
       if (it.kind != FeedKind.video || it.videoUrl == null) continue;
 
       final url = it.videoUrl!;
+      final d = (idx - centerReal).abs();
+      final distance = d < len - d ? d : len - d;
       final isHls = url.toLowerCase().contains('.m3u8');
 
-      if (isHls) {
+      if (isHls && Platform.isAndroid) {
+        // Android：原生端預取，寫進播放器用的 ExoCache
+        windowUrls.add(url);
+        windowDistances.add(distance);
+        if (!_prefetchCancels.containsKey(idx)) {
+          final id = await CachedPrefetch.hlsHead(url, segments: 4, priority: distance);
+          _prefetchCancels[idx] = () => CachedPrefetch.cancel(id);
+        }
+      } else if (isHls) {
         _prefetchCancels.remove(idx)?.call();
         _prefetchCancels[idx] = PlatformPrefetch.prefetchHlsHead(url, headSegments: 4);
       } else {
-        // 只預取 MP4 首段，不建 ExoPlayer
+        // 只預取 MP4 開頭約 2 秒（含 moov），不建 ExoPlayer；離中心越近越先下載
+        windowUrls.add(url);
+        windowDistances.add(distance);
         if (!_mp4PrefetchHandles.containsKey(idx)) {
-          final handle = await CachedPrefetch.mp4Head(url, bytes: 3 * 1024 * 1024);
+          final handle = await CachedPrefetch.adaptive(url, targetBufferMs: 2000, priority: distance);
           _mp4PrefetchHandles[idx] = handle;
         }
       }
     }
+    // 已排隊的預取依新中心重新排序，離窗的在原生端直接取消
+    CachedPrefetch.updateWindow(windowUrls, windowDistances);
+
+    // 下一張、上一張先 prepare 好，滑過去直接出首幀
+    final ahead = <String>[];
+    for (final o in const [1, -1]) {
+      final idx = _wrapIndex(centerReal + o, len);
+      if (idx == centerReal) continue;
+      final it = items[idx];
+      if (it.kind == FeedKind.video && it.videoUrl != null && !ahead.contains(it.videoUrl)) {
+        ahead.add(it.videoUrl!);
+      }
+    }
+    if (ahead.isNotEmpty) CachedPlayerPool.prepareAhead(ahead);
 
     // 清理離窗的預載
     final obsoleteMp4 = _mp4PrefetchHandles.keys.where((k) => !wanted.contains(k)).toList();
@@ -785,6 +814,9 @@ class _VideoCardState extends ConsumerState<_VideoCard> with WidgetsBindingObser
               // 這裡保留，若先前尚未 start 也會被補上
               _startWatchIfNeeded();
             },
+            onFirstFrameStats: (ms, prepared) {
+              debugPrint('[ttff] id=${widget.item.id} ${ms}ms prepared=$prepared');
+            },
             muted: widget.mute,
           ),
         ),
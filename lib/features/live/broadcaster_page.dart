@@ -7,6 +7,7 @@ import 'package:flutter_riverpod/flutter_riverpod.dart';
 import 'package:fluttertoast/fluttertoast.dart';
 import 'package:mt_plugin/components/meiyan_view/view.dart';
 import 'package:mt_plugin/components/mt_beauty_panel/view.dart';
+import 'package:mt_plugin/mt_action.dart';
 import 'package:mt_plugin/mt_plugin.dart';
 import 'package:permission_handler/permission_handler.dart';
 import 'package:agora_rtc_engine/agora_rtc_engine.dart';
@@ -164,8 +165,10 @@ class _BroadcasterPageState extends ConsumerState<BroadcasterPage>
             await MtPlugin.initPath();
             await MtPlugin.setRenderEnable(true);
             await MtPlugin.setFaceBeautyEnable(true);
-            await MtPlugin.setWhitenessValue(30);
-            await MtPlugin.setBlurrinessValue(20);
+            await MtPlugin.applyBeautyBatch({
+              MTAction.SET_WHITENESS_VALUE: 30,
+              MTAction.SET_BLURRINESS_VALUE: 20,
+            });
 
             // ✅ 一切就緒，叫原生開始回調 onFrame
             await BeautyFrameBridge.startNativePush();
@@ -13,6 +13,8 @@ class CachedPlayerView extends StatefulWidget {
   final bool autoPlayOnAttach;
   final String? coverUrl;
   final VoidCallback? onFirstFrame;
+  /// Android：首幀耗時（setDataSource 到首幀，毫秒）與是否用了預先 prepare 的 player
+  final void Function(int ttffMs, bool prepared)? onFirstFrameStats;
   final bool muted;
 
   const CachedPlayerView({
@@ -22,6 +24,7 @@ class CachedPlayerView extends StatefulWidget {
     this.autoPlayOnAttach = true,
     this.coverUrl,
     this.onFirstFrame,
+    this.onFirstFrameStats,
     this.muted = false,
   });
 
@@ -117,7 +120,13 @@ class CachedPlayerViewState extends State<CachedPlayerView> with WidgetsBindingO
   void _onAndroidPlatformViewCreated(int id) async {
     _ch = MethodChannel("cached_video_player/view_$id");
     _ch!.setMethodCallHandler((call) async {
-      if (call.method == "onFirstFrame") widget.onFirstFrame?.call();
+      if (call.method == "onFirstFrame") {
+        widget.onFirstFrame?.call();
+        final args = call.arguments;
+        if (args is Map && widget.onFirstFrameStats != null) {
+          widget.onFirstFrameStats!((args["ttffMs"] as num?)?.toInt() ?? -1, args["prepared"] == true);
+        }
+      }
     });
     await _ch!.invokeMethod("setDataSource", {
       "url": widget.url,
@@ -177,6 +186,17 @@ class CachedPlayerViewState extends State<CachedPlayerView> with WidgetsBindingO
     }
   }
 
+  /// Android：這次播放的快取讀取統計 {cacheOnly, cachedBytes, networkBytes, servedFromCache}
+  Future<Map<String, dynamic>> cacheStats() async {
+    if (!Platform.isAndroid) return const {};
+    try {
+      final m = await _ch?.invokeMapMethod<String, dynamic>("cacheStats");
+      return m ?? const {};
+    } catch (_) {
+      return const {};
+    }
+  }
+
   @override
   void didChangeAppLifecycleState(AppLifecycleState state) async {
     if (Platform.isAndroid && _ch == null) return;
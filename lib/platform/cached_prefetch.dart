@@ -5,14 +5,66 @@ import 'package:flutter/services.dart';
 class CachedPrefetch {
   static const _ch = MethodChannel('cached_video_player');
 
+  /// [priority] 為離可見卡片的距離，0 最優先；
+  /// [userAgent] 與 [headers] 需和播放時相同，預取與播放才會用同一組上游設定
   static Future<String> mp4Head(String url,
-      {int bytes = 3 * 1024 * 1024, Map<String, String>? headers}) async {
+      {int bytes = 3 * 1024 * 1024,
+      String userAgent = 'djs-live/1.0',
+      Map<String, String>? headers,
+      int priority = 0}) async {
     if (!Platform.isAndroid) return 'noop'; // iOS 直接略過
     try {
       final id = await _ch.invokeMethod<String>('prefetchMp4Head', {
         'url': url,
         'bytes': bytes,
+        'userAgent': userAgent,
         'headers': headers,
+        'priority': priority,
+      });
+      return id ?? 'noop';
+    } catch (_) {
+      return 'noop';
+    }
+  }
+
+  /// 自適應預取：依影片位元率與最近網速只快取約 [targetBufferMs] 的內容，
+  /// moov 在檔尾的 MP4 也會把 moov 一併快取
+  static Future<String> adaptive(String url,
+      {int targetBufferMs = 2000,
+      String userAgent = 'djs-live/1.0',
+      Map<String, String>? headers,
+      int priority = 0}) async {
+    if (!Platform.isAndroid) return 'noop';
+    try {
+      final id = await _ch.invokeMethod<String>('prefetchAdaptive', {
+        'url': url,
+        'targetBufferMs': targetBufferMs,
+        'userAgent': userAgent,
+        'headers': headers,
+        'priority': priority,
+      });
+      return id ?? 'noop';
+    } catch (_) {
+      return 'noop';
+    }
+  }
+
+  /// HLS 預取：playlist 直接向伺服器讀取（不快取），
+  /// 點播的前 [segments] 個分段寫入原生 ExoCache，播放時直接命中；
+  /// 直播（playlist 沒有 ENDLIST）不預取，播放時 playlist 已滾動，先抓的分段用不到
+  static Future<String> hlsHead(String url,
+      {int segments = 4,
+      String userAgent = 'djs-live/1.0',
+      Map<String, String>? headers,
+      int priority = 0}) async {
+    if (!Platform.isAndroid) return 'noop';
+    try {
+      final id = await _ch.invokeMethod<String>('prefetchHls', {
+        'url': url,
+        'segments': segments,
+        'userAgent': userAgent,
+        'headers': headers,
+        'priority': priority,
       });
       return id ?? 'noop';
     } catch (_) {
@@ -24,4 +76,91 @@ class CachedPrefetch {
     if (!Platform.isAndroid || handleId == 'noop') return;
     try { await _ch.invokeMethod('cancelPrefetch', {'id': handleId}); } catch (_) {}
   }
+
+  /// 視窗移動時呼叫：urls 內的預取依 distances 重新排序，其餘的預取直接取消
+  static Future<void> updateWindow(List<String> urls, List<int> distances) async {
+    if (!Platform.isAndroid) return;
+    try {
+      await _ch.invokeMethod('updatePrefetchWindow', {'urls': urls, 'distances': distances});
+    } catch (_) {}
+  }
+
+  /// {queued, inFlight, bytesPerSec, totalBytes, submitted, deduped, completed, cancelled}
+  static Future<Map<String, dynamic>> stats() async {
+    if (!Platform.isAndroid) return const {};
+    try {
+      final m = await _ch.invokeMapMethod<String, dynamic>('prefetchStats');
+      return m ?? const {};
+    } catch (_) {
+      return const {};
+    }
+  }
+
+  /// 影片上游實作：'okhttp'（預設，共用連線池 / HTTP2）或 'default'（HttpURLConnection）
+  static Future<void> setUpstreamMode(String mode) async {
+    if (!Platform.isAndroid) return;
+    try { await _ch.invokeMethod('setUpstreamMode', {'mode': mode}); } catch (_) {}
+  }
+
+  /// {upstreamMode, connections, idleConnections, runningCalls, queuedCalls,
+  ///  prefetchRunningCalls, prefetchQueuedCalls}
+  static Future<Map<String, dynamic>> networkStats() async {
+    if (!Platform.isAndroid) return const {};
+    try {
+      final m = await _ch.invokeMapMethod<String, dynamic>('networkStats');
+      return m ?? const {};
+    } catch (_) {
+      return const {};
+    }
+  }
+
+  /// 播放端快取命中統計：
+  /// {plays, cacheOnlyPlays, fallbacks, revalidations, invalidated,
+  ///  cachedBytes, networkBytes, servedFromCache, recentServedFromCache}
+  static Future<Map<String, dynamic>> cacheStats() async {
+    if (!Platform.isAndroid) return const {};
+    try {
+      final m = await _ch.invokeMapMethod<String, dynamic>('cacheStats');
+      return m ?? const {};
+    } catch (_) {
+      return const {};
+    }
+  }
+}
+
+/// 原生端 ExoPlayer 共用池（僅 Android）
+class CachedPlayerPool {
+  static const _ch = MethodChannel('cached_video_player');
+
+  /// 閒置 player 上限，建議「可見卡片數 + 預載數」
+  static Future<void> configure({required int maxIdle}) async {
+    if (!Platform.isAndroid) return;
+    try { await _ch.invokeMethod('configurePlayerPool', {'maxIdle': maxIdle}); } catch (_) {}
+  }
+
+  /// 預先 prepare 下幾個要滑到的影片（不播放），卡片綁定時直接領用；
+  /// [max] 為同時保留的預備 player 數
+  static Future<void> prepareAhead(List<String> urls,
+      {Map<String, String>? headers, int? max}) async {
+    if (!Platform.isAndroid) return;
+    try {
+      await _ch.invokeMethod('prepareAhead', {
+        'urls': urls,
+        'userAgent': 'djs-live/1.0',
+        'headers': headers,
+        'max': max,
+      });
+    } catch (_) {}
+  }
+
+  /// {inUse, idle, maxIdle, prepared, preparedHits, preparedMisses, created, reused, evicted, decoderInits, decoderReuses}
+  static Future<Map<String, dynamic>> stats() async {
+    if (!Platform.isAndroid) return const {};
+    try {
+      final m = await _ch.invokeMapMethod<String, dynamic>('playerPoolStats');
+      return m ?? const {};
+    } catch (_) {
+      return const {};
+    }
+  }
 }
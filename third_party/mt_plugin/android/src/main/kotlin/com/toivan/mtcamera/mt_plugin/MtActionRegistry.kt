@@ -0,0 +1,91 @@
+package com.toivan.mtcamera.mt_plugin
+
+import com.nimo.facebeauty.model.FBFilterEnum
+import com.nimo.facebeauty.model.FBItemEnum
+import com.toivan.mtcamera.mt_plugin.model.MtAction
+import com.toivan.mtcamera.mt_plugin.util.MtBeautyParam
+import com.toivan.mtcamera.mt_plugin.util.MtBeautyParams
+
+/**
+ * 一个动作的预计算描述：调用哪类 FBEffect 接口、目标 id、从哪个参数取值。
+ * 美颜/美型参数带上 param，设置时顺带写入参数表。
+ */
+class MtActionDescriptor(
+    val action: MtAction,
+    val kind: Int,
+    val target: Int = 0,
+    val argKey: String = "",
+    val param: MtBeautyParam? = null,
+    //为 true 时写入参数表，渲染器重建时恢复
+    val persist: Boolean = false,
+    //不为空时该参数也必须传入（Int），缺少时整个调用忽略
+    val valueKey: String? = null
+)
+
+/**
+ * call.method -> 描述 的对照表，分发只需一次哈希查找。
+ * 新增参数只需在表里加一行，不必再写 when 分支。
+ */
+object MtActionRegistry {
+
+    const val KIND_BEAUTY = MtBeautyParams.KIND_BEAUTY
+    const val KIND_RESHAPE = MtBeautyParams.KIND_RESHAPE
+    const val KIND_AR_ITEM = 2
+    const val KIND_FILTER = 3
+    const val KIND_RENDER_ENABLE = 4
+
+    //逻辑不是单纯转发的动作，由 MtPlugin 按 action 单独处理
+    const val KIND_CUSTOM = 5
+
+    private val table = HashMap<String, MtActionDescriptor>()
+
+    init {
+        //美颜、美型：直接来自参数表
+        for (param in MtBeautyParams.ALL) {
+            register(MtActionDescriptor(param.action, param.kind, param.id, "value", param, persist = true))
+        }
+
+        //道具
+        item(MtAction.SET_DYNAMIC_STICKER_NAME, FBItemEnum.FBItemSticker.value)
+        item(MtAction.SET_MASK_NAME, FBItemEnum.FBItemMask.value)
+        item(MtAction.SET_GIFT_NAME, FBItemEnum.FBItemGift.value)
+        item(MtAction.SET_ATMOSPHERE_ITEM_NAME, FBItemEnum.FBItemGift.value)
+        item(MtAction.SET_WATERMARK_NAME, FBItemEnum.FBItemWatermark.value)
+        item(MtAction.SET_WATER_NAME, FBItemEnum.FBItemWatermark.value)
+
+        //滤镜
+        register(MtActionDescriptor(MtAction.SET_BEAUTY_FILTER_NAME, KIND_FILTER, FBFilterEnum.FBFilterBeauty.value, "name", persist = true, valueKey = "value"))
+        register(MtActionDescriptor(MtAction.SET_EFFECT_FILTER_TYPE, KIND_FILTER, FBFilterEnum.FBFilterEffect.value, "name"))
+        register(MtActionDescriptor(MtAction.SET_FUNNY_FILTER_TYPE, KIND_FILTER, FBFilterEnum.FBFilterFunny.value, "name"))
+
+        //开关
+        register(MtActionDescriptor(MtAction.SET_RENDER_ENABLE, KIND_RENDER_ENABLE, argKey = "enable", persist = true))
+        register(MtActionDescriptor(MtAction.SET_FACE_BEAUTY_ENABLE, KIND_RENDER_ENABLE, argKey = "enable", persist = true))
+        register(MtActionDescriptor(MtAction.SET_FACE_SHAPE_ENABLE, KIND_RENDER_ENABLE, argKey = "value"))
+
+        for (action in listOf(
+            MtAction.INIT_PATH,
+            MtAction.INIT_SDK,
+            MtAction.SET_PORTRAIT_NAME,
+            MtAction.SET_EXPRESSION_RECREATION_NAME,
+            MtAction.APPLY_BEAUTY_BATCH,
+            MtAction.PRELOAD_ITEMS,
+            MtAction.GET_ITEM_CACHE_STATS
+        )) {
+            register(MtActionDescriptor(action, KIND_CUSTOM))
+        }
+    }
+
+    private fun item(action: MtAction, type: Int) {
+        register(MtActionDescriptor(action, KIND_AR_ITEM, type, "name"))
+    }
+
+    private fun register(descriptor: MtActionDescriptor) {
+        table[descriptor.action.name] = descriptor
+    }
+
+    /**
+     * 按 call.method 查找，未登记的动作返回 null
+     */
+    fun get(method: String): MtActionDescriptor? = table[method]
+}
@@ -15,7 +15,7 @@ import java.io.IOException;
 /**
  * 对Camera的封装，便于调用
  */
-public class MtCamera {
+public class MtCamera implements MtCaptureSource {
 
     private final String TAG = "MtCamera";
 
@@ -23,42 +23,81 @@ public class MtCamera {
 
     private Context context;
 
+    private int previewWidth;
+
+    private int previewHeight;
+
+    private volatile ErrorListener errorListener;
+
     public MtCamera(Context context) {
         this.context = context;
     }
 
+    @Override
+    public void openCamera(boolean isFront, int width, int height) {
+        int facing = isFront ? Camera.CameraInfo.CAMERA_FACING_FRONT : Camera.CameraInfo.CAMERA_FACING_BACK;
+        Camera.CameraInfo info = new Camera.CameraInfo();
+        int cameraId = 0;
+        for (int i = 0; i < Camera.getNumberOfCameras(); i++) {
+            Camera.getCameraInfo(i, info);
+            if (info.facing == facing) {
+                cameraId = i;
+                break;
+            }
+        }
+        openCamera(cameraId, width, height);
+    }
+
     public void openCamera(int cameraId, int width, int height) {
 
         camera = Camera.open(cameraId);
+        final Camera opened = camera;
+        camera.setErrorCallback((error, cam) -> {
+            Log.e(TAG, "camera error: " + error);
+            ErrorListener listener = errorListener;
+            if (listener != null && camera == opened) {
+                listener.onCameraError("error " + error);
+            }
+        });
 
         Camera.Parameters parameters = camera.getParameters();
         parameters.setPreviewFormat(ImageFormat.NV21);
         parameters.setPreviewSize(width, height);
         camera.setParameters(parameters);
+        previewWidth = width;
+        previewHeight = height;
 
         setCameraDisplayOrientation(context, cameraId, camera);
 
         Log.i(TAG, "MtCamera open camera: " + cameraId);
     }
 
+    @Override
     public void setPreviewSurface(SurfaceTexture previewSurface) {
         try {
             camera.setPreviewTexture(previewSurface);
         } catch (IOException e) {
-            Log.e(TAG, e.getMessage());
+            Log.e(TAG, "set preview texture failed: " + e.getMessage());
+            ErrorListener listener = errorListener;
+            if (listener != null) {
+                listener.onCameraError("set preview texture failed");
+            }
         }
     }
 
+    @Override
     public void startPreview() {
         camera.startPreview();
         Log.i(TAG, "MtCamera startPreview");
     }
 
+    @Override
     public void stopPreview() {
         camera.stopPreview();
         Log.i(TAG, "MtCamera stopPreview");
     }
 
+    @Override
     public void releaseCamera() {
         if (camera != null) {
             camera.setPreviewCallback(null);
@@ -70,6 +109,21 @@ public class MtCamera {
         Log.i(TAG, "MtCamera releaseCamera");
     }
 
+    @Override
+    public void setErrorListener(ErrorListener listener) {
+        errorListener = listener;
+    }
+
+    @Override
+    public int getPreviewWidth() {
+        return previewWidth;
+    }
+
+    @Override
+    public int getPreviewHeight() {
+        return previewHeight;
+    }
+
     private void setCameraDisplayOrientation(Context context, int cameraId, Camera camera) {
         Camera.CameraInfo info = new Camera.CameraInfo();
         Camera.getCameraInfo(cameraId, info);
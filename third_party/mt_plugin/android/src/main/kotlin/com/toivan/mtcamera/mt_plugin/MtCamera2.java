@@ -0,0 +1,386 @@
+package com.toivan.mtcamera.mt_plugin;
+
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.graphics.SurfaceTexture;
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCaptureSession;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraDevice;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CaptureRequest;
+import android.hardware.camera2.params.StreamConfigurationMap;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+import android.util.Range;
+import android.util.Size;
+import android.view.Surface;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * 基于 Camera2 的采集实现：直接输出到 OES 纹理对应的 SurfaceTexture，没有预览回调拷贝。
+ * 打开相机是异步的，startPreview 只记录意图，等设备与 Surface 都就绪后再建立会话。
+ *
+ * 设备、会话与 Surface 只在本对象唯一的相机线程上读写；
+ * 上一个设备 close 后要等 onClosed 才打开下一个，避免 ERROR_MAX_CAMERAS_IN_USE。
+ * 打开、建立会话、开始预览的任何失败都经 ErrorListener 通知。
+ */
+public class MtCamera2 implements MtCaptureSource {
+
+    private final String TAG = "MtCamera2";
+
+    private final CameraManager cameraManager;
+
+    private final HandlerThread cameraThread;
+
+    private final Handler cameraHandler;
+
+    //以下字段只在相机线程访问
+
+    private CameraDevice cameraDevice;
+
+    //已调用 close 但还没收到 onClosed 的设备
+    private final Set<CameraDevice> closingDevices = new HashSet<>();
+
+    //等待上一个设备关闭完成后再执行的打开
+    private Runnable pendingOpen;
+
+    //releaseCamera 之后才 onOpened 的设备直接关掉
+    private boolean openWanted;
+
+    private boolean destroyed;
+
+    private CameraCaptureSession captureSession;
+
+    private SurfaceTexture surfaceTexture;
+
+    private Surface previewSurface;
+
+    private boolean previewRequested;
+
+    private volatile int previewWidth;
+
+    private volatile int previewHeight;
+
+    private Range<Integer> fpsRange;
+
+    /**
+     * 期望的采集帧率，设备支持时可设为 60
+     */
+    private int targetFps = 30;
+
+    private volatile ErrorListener errorListener;
+
+    public MtCamera2(Context context) {
+        cameraManager = (CameraManager) context.getSystemService(Context.CAMERA_SERVICE);
+        cameraThread = new HandlerThread("MtCamera2");
+        cameraThread.start();
+        cameraHandler = new Handler(cameraThread.getLooper());
+    }
+
+    public void setTargetFps(int targetFps) {
+        this.targetFps = targetFps;
+    }
+
+    @Override
+    public void openCamera(boolean isFront, int width, int height) {
+        final String cameraId;
+        final Range<Integer> fps;
+        try {
+            cameraId = findCameraId(isFront);
+            if (cameraId == null) {
+                notifyError("no camera facing front=" + isFront);
+                return;
+            }
+            CameraCharacteristics characteristics = cameraManager.getCameraCharacteristics(cameraId);
+            Size size = chooseSize(characteristics, width, height);
+            previewWidth = size.getWidth();
+            previewHeight = size.getHeight();
+            fps = chooseFpsRange(characteristics, targetFps);
+            Log.i(TAG, "MtCamera2 open camera: " + cameraId + " " + size + " fps " + fps);
+        } catch (CameraAccessException | RuntimeException e) {
+            notifyError("query camera failed: " + e.getMessage());
+            return;
+        }
+        cameraHandler.post(() -> {
+            fpsRange = fps;
+            openWanted = true;
+            Runnable open = () -> openDevice(cameraId);
+            if (!closingDevices.isEmpty()) {
+                pendingOpen = open;
+            } else {
+                open.run();
+            }
+        });
+    }
+
+    @SuppressLint("MissingPermission")
+    private void openDevice(String cameraId) {
+        pendingOpen = null;
+        if (!openWanted || destroyed) {
+            return;
+        }
+        try {
+            cameraManager.openCamera(cameraId, stateCallback, cameraHandler);
+        } catch (CameraAccessException | RuntimeException e) {
+            notifyError("open camera failed: " + e.getMessage());
+        }
+    }
+
+    private void closeDevice(CameraDevice device) {
+        if (closingDevices.add(device)) {
+            device.close();
+        }
+    }
+
+    private String findCameraId(boolean isFront) throws CameraAccessException {
+        int facing = isFront ? CameraCharacteristics.LENS_FACING_FRONT : CameraCharacteristics.LENS_FACING_BACK;
+        for (String id : cameraManager.getCameraIdList()) {
+            Integer lensFacing = cameraManager.getCameraCharacteristics(id).get(CameraCharacteristics.LENS_FACING);
+            if (lensFacing != null && lensFacing == facing) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 优先同宽高比中面积最接近期望值的尺寸，没有同比例时取面积最接近的
+     */
+    private Size chooseSize(CameraCharacteristics characteristics, int width, int height) {
+        StreamConfigurationMap map = characteristics.get(CameraCharacteristics.SCALER_STREAM_CONFIGURATION_MAP);
+        Size[] sizes = map == null ? null : map.getOutputSizes(SurfaceTexture.class);
+        if (sizes == null || sizes.length == 0) {
+            return new Size(width, height);
+        }
+        long targetArea = (long) width * height;
+        Size best = null;
+        Size bestAnyRatio = null;
+        for (Size s : sizes) {
+            if (s.getWidth() == width && s.getHeight() == height) {
+                return s;
+            }
+            long diff = Math.abs((long) s.getWidth() * s.getHeight() - targetArea);
+            if (bestAnyRatio == null
+                    || diff < Math.abs((long) bestAnyRatio.getWidth() * bestAnyRatio.getHeight() - targetArea)) {
+                bestAnyRatio = s;
+            }
+            boolean sameRatio = (long) s.getWidth() * height == (long) s.getHeight() * width;
+            if (sameRatio && (best == null
+                    || diff < Math.abs((long) best.getWidth() * best.getHeight() - targetArea))) {
+                best = s;
+            }
+        }
+        return best != null ? best : bestAnyRatio;
+    }
+
+    /**
+     * 上限等于目标帧率的范围里取下限最高的（固定帧率最平滑），没有则取上限最接近的
+     */
+    private Range<Integer> chooseFpsRange(CameraCharacteristics characteristics, int fps) {
+        Range<Integer>[] ranges = characteristics.get(CameraCharacteristics.CONTROL_AE_AVAILABLE_TARGET_FPS_RANGES);
+        if (ranges == null || ranges.length == 0) {
+            return null;
+        }
+        Range<Integer> best = null;
+        for (Range<Integer> r : ranges) {
+            if (r.getUpper() == fps) {
+                if (best == null || r.getLower() > best.getLower()) {
+                    best = r;
+                }
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        for (Range<Integer> r : ranges) {
+            if (best == null || Math.abs(r.getUpper() - fps) < Math.abs(best.getUpper() - fps)) {
+                best = r;
+            }
+        }
+        return best;
+    }
+
+    private final CameraDevice.StateCallback stateCallback = new CameraDevice.StateCallback() {
+        @Override
+        public void onOpened(CameraDevice camera) {
+            if (!openWanted || destroyed) {
+                closeDevice(camera);
+                return;
+            }
+            cameraDevice = camera;
+            createSessionIfReady();
+        }
+
+        @Override
+        public void onClosed(CameraDevice camera) {
+            closingDevices.remove(camera);
+            if (!closingDevices.isEmpty()) {
+                return;
+            }
+            if (destroyed) {
+                cameraThread.quitSafely();
+            } else if (pendingOpen != null) {
+                pendingOpen.run();
+            }
+        }
+
+        @Override
+        public void onDisconnected(CameraDevice camera) {
+            closeDevice(camera);
+            if (cameraDevice == camera) {
+                cameraDevice = null;
+                notifyError("disconnected");
+            }
+        }
+
+        @Override
+        public void onError(CameraDevice camera, int error) {
+            Log.e(TAG, "camera error: " + error);
+            closeDevice(camera);
+            //onOpened 之前出错时 cameraDevice 还是 null，仍在等待打开就同样需要通知
+            if (cameraDevice == camera || (cameraDevice == null && openWanted)) {
+                cameraDevice = null;
+                notifyError("error " + error);
+            }
+        }
+    };
+
+    @Override
+    public void setPreviewSurface(SurfaceTexture previewSurface) {
+        cameraHandler.post(() -> surfaceTexture = previewSurface);
+    }
+
+    @Override
+    public void startPreview() {
+        cameraHandler.post(() -> {
+            previewRequested = true;
+            createSessionIfReady();
+        });
+        Log.i(TAG, "MtCamera2 startPreview");
+    }
+
+    private void createSessionIfReady() {
+        if (!previewRequested || cameraDevice == null || surfaceTexture == null || captureSession != null) {
+            return;
+        }
+        final CameraDevice device = cameraDevice;
+        try {
+            surfaceTexture.setDefaultBufferSize(previewWidth, previewHeight);
+            previewSurface = new Surface(surfaceTexture);
+            device.createCaptureSession(Collections.singletonList(previewSurface),
+                    new CameraCaptureSession.StateCallback() {
+                        @Override
+                        public void onConfigured(CameraCaptureSession session) {
+                            if (cameraDevice != device) {
+                                session.close();
+                                return;
+                            }
+                            captureSession = session;
+                            startRepeating(device, session);
+                        }
+
+                        @Override
+                        public void onConfigureFailed(CameraCaptureSession session) {
+                            Log.e(TAG, "configure session failed");
+                            if (cameraDevice == device) {
+                                notifyError("configure session failed");
+                            }
+                        }
+                    }, null); // null 即当前的相机线程
+        } catch (CameraAccessException | RuntimeException e) {
+            notifyError("create session failed: " + e.getMessage());
+        }
+    }
+
+    private void startRepeating(CameraDevice device, CameraCaptureSession session) {
+        try {
+            CaptureRequest.Builder builder = device.createCaptureRequest(CameraDevice.TEMPLATE_RECORD);
+            builder.addTarget(previewSurface);
+            builder.set(CaptureRequest.CONTROL_AF_MODE, CaptureRequest.CONTROL_AF_MODE_CONTINUOUS_VIDEO);
+            if (fpsRange != null) {
+                builder.set(CaptureRequest.CONTROL_AE_TARGET_FPS_RANGE, fpsRange);
+            }
+            session.setRepeatingRequest(builder.build(), null, null);
+        } catch (CameraAccessException | RuntimeException e) {
+            notifyError("start repeating failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void stopPreview() {
+        cameraHandler.post(() -> {
+            previewRequested = false;
+            closeSession();
+        });
+        Log.i(TAG, "MtCamera2 stopPreview");
+    }
+
+    private void closeSession() {
+        if (captureSession != null) {
+            captureSession.close();
+            captureSession = null;
+        }
+        if (previewSurface != null) {
+            previewSurface.release();
+            previewSurface = null;
+        }
+    }
+
+    @Override
+    public void releaseCamera() {
+        //与 openCamera 同在相机线程上排队，下一次打开一定在这之后，并等到设备 onClosed
+        cameraHandler.post(() -> {
+            openWanted = false;
+            pendingOpen = null;
+            previewRequested = false;
+            closeSession();
+            if (cameraDevice != null) {
+                closeDevice(cameraDevice);
+                cameraDevice = null;
+            }
+            surfaceTexture = null;
+        });
+        Log.i(TAG, "MtCamera2 releaseCamera");
+    }
+
+    @Override
+    public void destroy() {
+        releaseCamera();
+        cameraHandler.post(() -> {
+            destroyed = true;
+            //还有设备在关闭时等 onClosed 再结束线程
+            if (closingDevices.isEmpty()) {
+                cameraThread.quitSafely();
+            }
+        });
+    }
+
+    @Override
+    public void setErrorListener(ErrorListener listener) {
+        errorListener = listener;
+    }
+
+    private void notifyError(String reason) {
+        ErrorListener listener = errorListener;
+        if (listener != null) {
+            listener.onCameraError(reason);
+        }
+    }
+
+    @Override
+    public int getPreviewWidth() {
+        return previewWidth;
+    }
+
+    @Override
+    public int getPreviewHeight() {
+        return previewHeight;
+    }
+}
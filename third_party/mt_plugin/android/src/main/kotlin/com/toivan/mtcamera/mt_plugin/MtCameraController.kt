@@ -0,0 +1,168 @@
+package com.toivan.mtcamera.mt_plugin
+
+import android.graphics.SurfaceTexture
+import android.os.Handler
+import android.os.HandlerThread
+import android.os.SystemClock
+import android.util.Log
+
+private const val TAG = "MtCameraController"
+
+/**
+ * 在专用相机线程上管理相机生命周期，避免 Camera.open 之类的阻塞调用卡住 GL 线程。
+ *
+ * 状态机：CLOSED → OPENING → PREVIEWING → CLOSING → CLOSED。
+ * 切换镜头时复用同一个 SurfaceTexture/OES 纹理，新镜头出帧前屏幕保留上一帧。
+ */
+class MtCameraController(
+    private val source: MtCaptureSource,
+    private val captureWidth: Int,
+    private val captureHeight: Int
+) {
+
+    enum class State {
+        CLOSED, OPENING, PREVIEWING, CLOSING
+    }
+
+    /**
+     * 相机打开完成回调，在相机线程触发，参数为协商后的采集宽高
+     */
+    fun interface OpenCallback {
+        fun onOpened(width: Int, height: Int)
+    }
+
+    @Volatile
+    var state = State.CLOSED
+        private set
+
+    private val thread = HandlerThread("MtCamera").apply { start() }
+    private val handler = Handler(thread.looper)
+
+    init {
+        //设备断开/出错后回到 CLOSED，下一次 onSurfaceChanged 或切换镜头会重新打开
+        source.setErrorListener { reason -> handler.post { onSourceError(reason) } }
+    }
+
+    //等待首帧的计时起点，0 表示不在计时
+    @Volatile
+    private var openRequestMs = 0L
+
+    @Volatile
+    private var switchRequestMs = 0L
+
+    fun open(isFront: Boolean, surfaceTexture: SurfaceTexture, callback: OpenCallback) {
+        openRequestMs = SystemClock.elapsedRealtime()
+        handler.post { doOpen(isFront, surfaceTexture, callback) }
+    }
+
+    /**
+     * 关闭当前镜头并打开另一个，复用传入的 SurfaceTexture
+     */
+    fun switchTo(isFront: Boolean, surfaceTexture: SurfaceTexture, callback: OpenCallback) {
+        switchRequestMs = SystemClock.elapsedRealtime()
+        handler.post {
+            doClose()
+            doOpen(isFront, surfaceTexture, callback)
+        }
+    }
+
+    fun close() {
+        handler.post { doClose() }
+    }
+
+    /**
+     * 关闭相机并结束相机线程，之后该实例不可再用
+     */
+    fun release() {
+        handler.post {
+            source.setErrorListener(null)
+            state = State.CLOSED
+            try {
+                source.destroy()
+            } catch (e: RuntimeException) {
+                Log.e(TAG, "release camera failed: ${e.message}")
+            }
+        }
+        thread.quitSafely()
+    }
+
+    private fun doOpen(isFront: Boolean, surfaceTexture: SurfaceTexture, callback: OpenCallback) {
+        if (state != State.CLOSED) {
+            Log.w(TAG, "open ignored in state $state")
+            return
+        }
+        state = State.OPENING
+        try {
+            source.openCamera(isFront, captureWidth, captureHeight)
+            source.setPreviewSurface(surfaceTexture)
+            source.startPreview()
+            state = State.PREVIEWING
+            callback.onOpened(source.previewWidth, source.previewHeight)
+        } catch (e: RuntimeException) {
+            Log.e(TAG, "open camera failed: ${e.message}")
+            source.releaseCamera()
+            state = State.CLOSED
+        }
+    }
+
+    private fun onSourceError(reason: String) {
+        if (state == State.CLOSED || state == State.CLOSING) return
+        Log.e(TAG, "camera lost in state $state: $reason")
+        try {
+            source.releaseCamera()
+        } catch (e: RuntimeException) {
+            Log.e(TAG, "release camera failed: ${e.message}")
+        }
+        openRequestMs = 0L
+        switchRequestMs = 0L
+        state = State.CLOSED
+    }
+
+    private fun doClose() {
+        if (state == State.CLOSED) return
+        state = State.CLOSING
+        try {
+            source.releaseCamera()
+        } catch (e: RuntimeException) {
+            Log.e(TAG, "release camera failed: ${e.message}")
+        }
+        state = State.CLOSED
+    }
+
+    /**
+     * 由 SurfaceTexture 的 onFrameAvailable 调用，用首帧到达时间结算打开/切换耗时
+     */
+    fun onFrameAvailable() {
+        //关闭/打开过程中到达的是旧镜头残留的帧
+        if (state != State.PREVIEWING || (openRequestMs == 0L && switchRequestMs == 0L)) return
+        val now = SystemClock.elapsedRealtime()
+        if (openRequestMs != 0L) {
+            lastOpenLatencyMs = now - openRequestMs
+            openRequestMs = 0L
+            Log.i(TAG, "open latency ${lastOpenLatencyMs}ms")
+        }
+        if (switchRequestMs != 0L) {
+            lastSwitchLatencyMs = now - switchRequestMs
+            switchRequestMs = 0L
+            Log.i(TAG, "switch latency ${lastSwitchLatencyMs}ms")
+        }
+    }
+
+    companion object {
+
+        /** 最近一次从请求打开到首帧的耗时，-1 表示尚无数据 */
+        @Volatile
+        var lastOpenLatencyMs = -1L
+            private set
+
+        /** 最近一次从请求切换到新镜头首帧的耗时，-1 表示尚无数据 */
+        @Volatile
+        var lastSwitchLatencyMs = -1L
+            private set
+
+        fun metrics(): Map<String, Any> = mapOf(
+            "openLatencyMs" to lastOpenLatencyMs,
+            "switchLatencyMs" to lastSwitchLatencyMs
+        )
+    }
+}
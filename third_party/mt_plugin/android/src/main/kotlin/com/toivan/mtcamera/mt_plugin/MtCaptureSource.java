@@ -0,0 +1,86 @@
+package com.toivan.mtcamera.mt_plugin;
+
+import android.content.Context;
+import android.graphics.SurfaceTexture;
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import android.util.Log;
+
+
+/**
+ * 相机采集接口，MtSurfaceCameraView 通过它驱动 Camera1 或 Camera2 实现
+ */
+public interface MtCaptureSource {
+
+    /**
+     * 设备断开或出错的通知，可能在任意线程回调
+     */
+    interface ErrorListener {
+        void onCameraError(String reason);
+    }
+
+    /**
+     * 打开相机并协商预览尺寸，width/height 为期望的采集宽高（横向）
+     */
+    void openCamera(boolean isFront, int width, int height);
+
+    void setPreviewSurface(SurfaceTexture previewSurface);
+
+    void startPreview();
+
+    void stopPreview();
+
+    void releaseCamera();
+
+    /**
+     * 释放相机并结束内部线程，之后不可再用
+     */
+    default void destroy() {
+        releaseCamera();
+    }
+
+    /**
+     * 协商后的实际采集宽度，openCamera 之后有效
+     */
+    int getPreviewWidth();
+
+    /**
+     * 协商后的实际采集高度，openCamera 之后有效
+     */
+    int getPreviewHeight();
+
+    /**
+     * 相机打开后设备断开或出错时回调，null 取消
+     */
+    void setErrorListener(ErrorListener listener);
+
+    /**
+     * 除 LEGACY 设备外优先使用 Camera2，LEGACY 设备的 Camera2 只是 Camera1 的包装
+     */
+    static MtCaptureSource create(Context context) {
+        CameraManager manager = (CameraManager) context.getSystemService(Context.CAMERA_SERVICE);
+        if (manager != null) {
+            try {
+                boolean hasCamera = false;
+                boolean allLegacy = true;
+                for (String id : manager.getCameraIdList()) {
+                    hasCamera = true;
+                    Integer level = manager.getCameraCharacteristics(id)
+                            .get(CameraCharacteristics.INFO_SUPPORTED_HARDWARE_LEVEL);
+                    if (level != null && level != CameraCharacteristics.INFO_SUPPORTED_HARDWARE_LEVEL_LEGACY) {
+                        allLegacy = false;
+                    }
+                }
+                if (hasCamera && !allLegacy) {
+                    Log.i("MtCaptureSource", "use camera2");
+                    return new MtCamera2(context);
+                }
+            } catch (CameraAccessException | RuntimeException e) {
+                Log.e("MtCaptureSource", "query camera2 failed: " + e.getMessage());
+            }
+        }
+        Log.i("MtCaptureSource", "use camera1");
+        return new MtCamera(context);
+    }
+}
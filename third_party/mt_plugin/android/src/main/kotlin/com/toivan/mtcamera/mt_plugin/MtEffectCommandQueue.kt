@@ -0,0 +1,81 @@
+package com.toivan.mtcamera.mt_plugin
+
+import com.nimo.facebeauty.FBEffect
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 命令队列：生产端只投递，消费端（GL 线程）在每帧开始时统一应用。
+ *
+ * 同一个 key 在被取走前的多次修改只保留最后一次。
+ * 所有命令共用一个投递序号，按各 key 最后一次投递的先后应用，
+ * 批量命令与单项命令之间也保持“后投递的后生效”。
+ * 投递端无锁；drain 加锁，预览销毁时可在主线程把剩余命令取完，不与 GL 线程的最后一帧冲突。
+ */
+open class MtCommandQueue<T> {
+
+    private class Entry<T>(val seq: Long, val command: (T) -> Unit)
+
+    private class Node(val key: Int, val seq: Long)
+
+    //每个 key 最新的命令
+    private val latest = ConcurrentHashMap<Int, Entry<T>>()
+
+    //每次投递一个节点；节点的序号不是该 key 最新的，说明之后又投递过，跳过
+    private val order = ConcurrentLinkedQueue<Node>()
+
+    private val sequence = AtomicLong()
+
+    //不参与合并的命令用负数 key，每次递减
+    private val uniqueKey = AtomicInteger()
+
+    private val posted = AtomicLong()
+    private val applied = AtomicLong()
+
+    fun post(key: Int, command: (T) -> Unit) {
+        posted.incrementAndGet()
+        val seq = sequence.incrementAndGet()
+        latest[key] = Entry(seq, command)
+        order.offer(Node(key, seq))
+    }
+
+    /**
+     * 按投递顺序应用所有待处理的命令，返回应用的数量
+     */
+    @Synchronized
+    fun drain(target: T): Int {
+        var count = 0
+        while (true) {
+            val node = order.poll() ?: break
+            val entry = latest[node.key] ?: continue
+            if (entry.seq != node.seq || !latest.remove(node.key, entry)) continue
+            entry.command(target)
+            count++
+        }
+        if (count > 0) applied.addAndGet(count.toLong())
+        return count
+    }
+
+    /**
+     * 投递一个不与其它命令合并的命令，例如批量设置：整体在同一帧应用
+     */
+    fun postUnique(command: (T) -> Unit) {
+        post(uniqueKey.decrementAndGet() or Int.MIN_VALUE, command)
+    }
+
+    fun key(kind: Int, target: Int): Int = (kind shl 16) or (target and 0xFFFF)
+
+    fun stats(): Map<String, Any> = mapOf(
+        "commandsPosted" to posted.get(),
+        "commandsApplied" to applied.get(),
+        "commandsPending" to latest.size
+    )
+}
+
+/**
+ * FBEffect 参数修改的命令队列：主线程只投递，GL 线程在每帧开始时统一应用。
+ * 拖动滑杆时无论事件来得多快，每帧每个参数最多调用一次 SDK。
+ */
+object MtEffectCommandQueue : MtCommandQueue<FBEffect>()
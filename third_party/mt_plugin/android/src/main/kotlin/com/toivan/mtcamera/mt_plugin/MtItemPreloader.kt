@@ -0,0 +1,119 @@
+package com.toivan.mtcamera.mt_plugin
+
+import android.os.Handler
+import android.os.HandlerThread
+import android.os.SystemClock
+import android.util.Log
+import com.nimo.facebeauty.FBEffect
+import java.io.File
+import java.io.FileInputStream
+import java.io.IOException
+import java.util.concurrent.atomic.AtomicLong
+
+private const val TAG = "MtItemPreloader"
+
+/**
+ * 道具素材预热：在后台线程把贴纸/面具/礼物/水印目录下的文件完整读一遍，
+ * 让 setARItem 加载时尽量从系统页缓存读取。
+ *
+ * 只做页缓存预热：SDK 只接受道具名、自己从磁盘读取并解析，这里不持有任何解码结果，
+ * 也无法知道页缓存是否已被系统回收，因此不统计命中率。
+ * 最近读过的道具记录最多 MAX_WARM_ITEMS 条，WARM_TTL_MS 内再次请求直接跳过，不重复读盘。
+ */
+object MtItemPreloader {
+
+    //与 INIT_PATH 中 getARItemPathBy 的参数一致
+    private const val PATH_STICKER = 0
+    private const val PATH_MASK = 1
+    private const val PATH_GIFT = 2
+    private const val PATH_WATERMARK = 3
+
+    //读过的道具多久内不再重复读
+    private const val WARM_TTL_MS = 10 * 60 * 1000L
+
+    //最多记录多少个最近读过的道具，超出时丢弃最久未读的
+    private const val MAX_WARM_ITEMS = 64
+
+    private val pathTypeByName = mapOf(
+        "sticker" to PATH_STICKER,
+        "mask" to PATH_MASK,
+        "gift" to PATH_GIFT,
+        "watermark" to PATH_WATERMARK
+    )
+
+    //key 为 "目录类型/道具名"，value 为上次读完的时间（elapsedRealtime），按插入顺序淘汰
+    private val warmedAt = object : LinkedHashMap<String, Long>() {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, Long>?) =
+            size > MAX_WARM_ITEMS
+    }
+
+    private val warmBytes = AtomicLong()
+    private val skipped = AtomicLong()
+
+    private val handler: Handler by lazy {
+        Handler(HandlerThread(TAG).apply { start() }.looper)
+    }
+
+    /**
+     * 排队预热，type 为 sticker/mask/gift/watermark，返回实际排队的数量
+     */
+    fun preload(items: List<Map<String, String>>): Int {
+        var queued = 0
+        for (item in items) {
+            val pathType = pathTypeByName[item["type"]] ?: continue
+            val name = item["name"]
+            if (name.isNullOrEmpty()) continue
+            handler.post { warmUp(pathType, name) }
+            queued++
+        }
+        return queued
+    }
+
+    private fun warmUp(pathType: Int, name: String) {
+        val key = key(pathType, name)
+        if (isWarm(key)) {
+            skipped.incrementAndGet()
+            return
+        }
+        val root = FBEffect.shareInstance().getARItemPathBy(pathType) ?: return
+        val target = File(root, name)
+        if (!target.exists()) {
+            Log.w(TAG, "item not found: $target")
+            return
+        }
+        val buffer = ByteArray(64 * 1024)
+        var bytes = 0L
+        target.walkTopDown().filter { it.isFile }.forEach { file ->
+            try {
+                FileInputStream(file).use { input ->
+                    while (true) {
+                        val n = input.read(buffer)
+                        if (n < 0) break
+                        bytes += n
+                    }
+                }
+            } catch (e: IOException) {
+                Log.w(TAG, "read $file failed: ${e.message}")
+            }
+        }
+        warmBytes.addAndGet(bytes)
+        synchronized(warmedAt) {
+            //重新插入，让刚读过的排到最后
+            warmedAt.remove(key)
+            warmedAt[key] = SystemClock.elapsedRealtime()
+        }
+    }
+
+    private fun isWarm(key: String): Boolean {
+        val at = synchronized(warmedAt) { warmedAt[key] } ?: return false
+        return SystemClock.elapsedRealtime() - at < WARM_TTL_MS
+    }
+
+    private fun key(pathType: Int, name: String) = "$pathType/$name"
+
+    fun stats(): Map<String, Any> = mapOf(
+        "warmItems" to synchronized(warmedAt) { warmedAt.keys.toList() }.count { isWarm(it) },
+        "readKb" to warmBytes.get() / 1024,
+        "skipped" to skipped.get()
+    )
+}
@@ -1,19 +1,26 @@
 package com.toivan.mtcamera.mt_plugin
 
 import android.content.Context
+import android.os.Handler
+import android.os.Looper
 import android.util.Log
 import androidx.annotation.NonNull
+import com.toivan.mtcamera.mt_plugin.frame.MtFramePool
+import com.toivan.mtcamera.mt_plugin.frame.MtFrameSink
+import com.toivan.mtcamera.mt_plugin.frame.MtFrameSinkDispatcher
+import com.toivan.mtcamera.mt_plugin.frame.MtFrameTransport
+import com.toivan.mtcamera.mt_plugin.frame.MtPushGovernor
 import com.toivan.mtcamera.mt_plugin.model.*
+import com.toivan.mtcamera.mt_plugin.util.MtBeautyParam
+import com.toivan.mtcamera.mt_plugin.util.MtBeautyParams
+import com.toivan.mtcamera.mt_plugin.util.MtSharedPreferences
+import com.toivan.mtcamera.mt_plugin.view.MtSurfaceCameraView
 import io.flutter.embedding.engine.plugins.FlutterPlugin
 import io.flutter.plugin.common.MethodCall
 import io.flutter.plugin.common.MethodChannel
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler
 import io.flutter.plugin.common.MethodChannel.Result
 import com.nimo.facebeauty.FBEffect
-import com.nimo.facebeauty.model.FBBeautyEnum
-import com.nimo.facebeauty.model.FBItemEnum
-import com.nimo.facebeauty.model.FBReshapeEnum
-import com.nimo.facebeauty.model.FBFilterEnum
 
 /** MtPlugin */
 class MtPlugin : FlutterPlugin, MethodCallHandler {
@@ -26,8 +33,13 @@ class MtPlugin : FlutterPlugin, MethodCallHandler {
     override fun onAttachedToEngine(@NonNull flutterPluginBinding: FlutterPlugin.FlutterPluginBinding) {
         channel = MethodChannel(flutterPluginBinding.binaryMessenger, "mt_plugin")
         beautyChannel = MethodChannel(flutterPluginBinding.binaryMessenger, "beauty_plugin")
+        frameTransport = MtFrameTransport(flutterPluginBinding.binaryMessenger, beautyChannel)
+        pushGovernor.listener = { tier ->
+            mainHandler.post { beautyChannel.invokeMethod("onPushTier", tier.toMap()) }
+        }
 
         applicationContext = flutterPluginBinding.applicationContext
+        MtSharedPreferences.getInstance().init(applicationContext, FBEffect.shareInstance())
 
         channel.setMethodCallHandler(this)
         beautyChannel.setMethodCallHandler(object : MethodChannel.MethodCallHandler {
@@ -43,6 +55,33 @@ class MtPlugin : FlutterPlugin, MethodCallHandler {
                         shouldPushToAgora = false
                         result.success(null)
                     }
+                    "setFrameTransport" -> {
+                        val mode: String? = call.argument("mode")
+                        frameTransport.mode =
+                            if (mode == MtFrameTransport.MODE_BINARY) MtFrameTransport.MODE_BINARY else MtFrameTransport.MODE_MAP
+                        result.success(frameTransport.mode)
+                    }
+                    "setPushConfig" -> {
+                        val width: Int = call.argument("width") ?: MtPushGovernor.DEFAULT_TIER.width
+                        val height: Int = call.argument("height") ?: MtPushGovernor.DEFAULT_TIER.height
+                        val fps: Int = call.argument("fps") ?: MtPushGovernor.DEFAULT_TIER.fps
+                        pushGovernor.autoDegrade = call.argument("autoDegrade") ?: true
+                        pushGovernor.configure(width, height, fps)
+                        result.success(pushGovernor.current.toMap())
+                    }
+                    "getPushTier" -> {
+                        result.success(pushGovernor.current.toMap())
+                    }
+                    "getFramePoolStats" -> {
+                        result.success(framePool.stats())
+                    }
+                    "switchCamera" -> {
+                        activeCameraView?.switchCamera()
+                        result.success(activeCameraView != null)
+                    }
+                    "getCameraMetrics" -> {
+                        result.success(MtCameraController.metrics() + MtRenderSession.stats() + MtEffectCommandQueue.stats())
+                    }
                     //else -> result.notImplemented()
                 }
             }
@@ -55,28 +94,63 @@ class MtPlugin : FlutterPlugin, MethodCallHandler {
 
         Log.d("call.method:", call.method)
 
-        when (call.method) {
-            "getPlatformVersion" -> {
-                result.success("Android ${android.os.Build.VERSION.RELEASE}")
+        if (call.method == "getPlatformVersion") {
+            result.success("Android ${android.os.Build.VERSION.RELEASE}")
+            return
+        }
+        val descriptor = MtActionRegistry.get(call.method) ?: return
+        val key = MtEffectCommandQueue.key(descriptor.kind, descriptor.target)
+
+        when (descriptor.kind) {
+            MtActionRegistry.KIND_BEAUTY, MtActionRegistry.KIND_RESHAPE -> {
+                val value: Int = call.argument(descriptor.argKey) ?: return
+                val param = descriptor.param ?: return
+                submit(key) { param.apply(it, value) }
+                MtSharedPreferences.getInstance().setParamValue(param, value)
             }
 
-            MtAction.SET_RENDER_ENABLE.name -> {
-                val isEnable: Boolean? = call.argument("enable")
-                isEnable?.let {
-                    FBEffect.shareInstance().setRenderEnable(isEnable)
-                }
+            MtActionRegistry.KIND_AR_ITEM -> {
+                val name: String = call.argument(descriptor.argKey) ?: return
+                submit(key) { it.setARItem(descriptor.target, name) }
             }
 
+            MtActionRegistry.KIND_FILTER -> {
+                val name: String = call.argument(descriptor.argKey) ?: return
+                val value: Int? = descriptor.valueKey?.let { call.argument<Int>(it) ?: return }
+                submit(key) { it.setFilter(descriptor.target, name) }
+                if (descriptor.persist) {
+                    MtSharedPreferences.getInstance().setBeautyFilterName(name)
+                    value?.let { MtSharedPreferences.getInstance().setBeautyFilterValue(name, it) }
+                }
+            }
 
-            MtAction.SET_FACE_BEAUTY_ENABLE.name -> {
-                val isEnable: Boolean? = call.argument("enable")
-                isEnable?.let {
-                    FBEffect.shareInstance().setRenderEnable(isEnable)
+            MtActionRegistry.KIND_RENDER_ENABLE -> {
+                val isEnable: Boolean = call.argument(descriptor.argKey) ?: return
+                submit(key) { it.setRenderEnable(isEnable) }
+                if (descriptor.persist) {
+                    MtSharedPreferences.getInstance().setFaceBeautyEnable(isEnable)
                 }
             }
 
+            MtActionRegistry.KIND_CUSTOM -> onCustomAction(descriptor.action, call, result)
+        }
+    }
+
+    /**
+     * 有预览在渲染时交给 GL 线程在下一帧开始时应用，避免与 onDrawFrame 并发调用 FBEffect；
+     * 没有预览时 SDK 不在渲染，直接应用
+     */
+    private fun submit(key: Int, command: (FBEffect) -> Unit) {
+        if (activeCameraView == null) {
+            command(FBEffect.shareInstance())
+        } else {
+            MtEffectCommandQueue.post(key, command)
+        }
+    }
 
-            MtAction.INIT_PATH.name -> {
+    private fun onCustomAction(action: MtAction, call: MethodCall, result: Result) {
+        when (action) {
+            MtAction.INIT_PATH -> {
                 val paths = ConstraintsMap()
                 paths.putString("maskPath", FBEffect.shareInstance().getARItemPathBy(1))
                 paths.putString("stickerPath", FBEffect.shareInstance().getARItemPathBy(0))
@@ -85,7 +159,7 @@ class MtPlugin : FlutterPlugin, MethodCallHandler {
                 result.success(paths.toMap())
             }
 
-            MtAction.INIT_SDK.name -> {
+            MtAction.INIT_SDK -> {
                 Log.i("INIT_SDK:", "初始化触发")
                 val key: String = call.argument("key") ?: return
                 applicationContext.let {
@@ -98,355 +172,94 @@ class MtPlugin : FlutterPlugin, MethodCallHandler {
                 }
             }
 
-            MtAction.SET_WHITENESS_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setBeauty(FBBeautyEnum.FBBeautySkinWhitening.value, value)
-                }
-            }
-
-
-            MtAction.SET_BLURRINESS_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setBeauty(FBBeautyEnum.FBBeautyClearSmoothing.value, value)
-                }
-            }
-
-            MtAction.SET_PORTRAIT_NAME.name -> {
+            MtAction.SET_PORTRAIT_NAME -> {
                 val value: String? = call.argument("name")
                 value?.let {
-                    FBEffect.shareInstance().setAISegEffect(value)
-                }
-            }
-
-            MtAction.SET_ROSINESS_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setBeauty(FBBeautyEnum.FBBeautySkinRosiness.value, value)
-                }
-            }
-
-            MtAction.SET_CLEAR_NESS_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setBeauty(FBBeautyEnum.FBBeautyImageSharpness.value, value)
-                }
-            }
-
-            MtAction.SET_BRIGHTNESS_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setBeauty(FBBeautyEnum.FBBeautyImageBrightness.value, value)
-                }
-            }
-            //去黑眼圈
-            MtAction.SET_UNDEREYE_CIRCLES_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setBeauty(FBBeautyEnum.FBBeautyDarkCircleLessening.value, value)
-                }
-            }
-            //去法令纹
-            MtAction.SET_NASOLABIAL_FOLD_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setBeauty(FBBeautyEnum.FBBeautyNasolabialLessening.value, value)
+                    submit(MtEffectCommandQueue.key(MtActionRegistry.KIND_CUSTOM, action.ordinal)) { it.setAISegEffect(value) }
                 }
             }
 
-            MtAction.SET_FACE_SHAPE_ENABLE.name -> {
-                val value: Boolean? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance().setRenderEnable(value)
-                }
-            }
+            MtAction.APPLY_BEAUTY_BATCH -> applyBeautyBatch(call, result)
 
-            MtAction.SET_EYE_ENLARGING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeEyeEnlarging.value, value);
-                }
+            MtAction.PRELOAD_ITEMS -> {
+                val items: List<Map<String, String>> = call.argument("items") ?: emptyList()
+                result.success(MtItemPreloader.preload(items))
             }
 
-            MtAction.SET_EYE_ROUNDING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeEyeRounding.value, value);
-                }
-            }
-
-            MtAction.SET_CHEEK_V_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeCheekVShaping.value, value);
-                }
-            }
-
-            MtAction.SET_FACE_SHORTENING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeCheekShortening.value, value);
-                }
-            }
-
-            MtAction.SET_CHEEK_NARROWING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeCheekNarrowing.value, value);
-                }
-            }
-
-            MtAction.SET_CHEEK_THINNING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeCheekThinning.value, value);
-                }
-            }
-
-            MtAction.SET_CHIN_TRIMMING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeChinTrimming.value, value);
-                }
-            }
-
-            MtAction.SET_FOREHEAD_TRIMMING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeForeheadTrimming.value, value);
-                }
-            }
-
-            MtAction.SET_MOUTH_TRIMMING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeMouthTrimming.value, value);
-                }
-            }
-
-            MtAction.SET_NOSE_THINNING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeNoseThinning.value, value);
-                }
-            }
-
-            MtAction.SET_NOSE_ENLARGING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeNoseEnlarging.value, value);
-                }
-            }
-
-
-            MtAction.SET_EYE_SPACING_TRIMMING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeEyeSpaceTrimming.value, value);
-                }
-            }
-
-            MtAction.SET_EYE_CORNER_TRIMMING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeEyeCornerTrimming.value, value);
-                }
-            }
+            MtAction.GET_ITEM_CACHE_STATS -> result.success(MtItemPreloader.stats())
 
-            MtAction.SET_DYNAMIC_STICKER_NAME.name -> {
-                val value: String? = call.argument("name")
-                value?.let {
-                    Log.d("应用贴纸:", value)
-                    FBEffect.shareInstance().setARItem(FBItemEnum.FBItemSticker.value, value)
-                }
-            }
-
-            MtAction.SET_EXPRESSION_RECREATION_NAME.name -> {
-                val value: String? = call.argument("name")
-                value?.let {
-                }
-            }
-
-            MtAction.SET_MASK_NAME.name -> {
-                val value: String? = call.argument("name")
-                value?.let {
-                    FBEffect.shareInstance().setARItem(FBItemEnum.FBItemMask.value, value)
-                }
-            }
-
-            MtAction.SET_GIFT_NAME.name -> {
-                val value: String? = call.argument("name")
-                value?.let {
-                    FBEffect.shareInstance().setARItem(FBItemEnum.FBItemGift.value, value)
-                }
-            }
-
-            MtAction.SET_WATERMARK_NAME.name -> {
-                val value: String? = call.argument("name")
-                value?.let {
-                    FBEffect.shareInstance().setARItem(FBItemEnum.FBItemWatermark.value, value)
-                }
-            }
-
-            MtAction.SET_WATER_NAME.name -> {
-
-                val name: String? = call.argument("name")
-                val x: Int? = call.argument("x")
-                val y: Int? = call.argument("y")
-                val ratio: Int? = call.argument("ratio")
-
-                name?.let {
-                    FBEffect.shareInstance().setARItem(FBItemEnum.FBItemWatermark.value, name)
-                }
-
-            }
-
-            MtAction.SET_PHILTRUM_TRIMMING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapePhiltrumTrimming.value, value);
-                }
-            }
-
-
-            MtAction.SET_NOSE_APEX_LESSENING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeNoseApexLessening.value, value);
-                }
-            }
-
-            MtAction.SET_TEMPLE_ENLARG_ING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeTempleEnlarging.value, value);
-                }
-            }
-
-            MtAction.SET_FACE_LESSENING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeFaceLessening.value, value);
-                }
-            }
-
-            MtAction.SET_HEAD_LESSENING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeHeadLessening.value, value);
-                }
-            }
-
-            MtAction.SET_NOSE_ROOT_RNLARING.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeNoseRootEnlarging.value, value);
-                }
-            }
-
-            MtAction.SET_JAW_BONE_THINNING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeJawboneThinning.value, value);
-                }
-            }
-
-            MtAction.SET_CHEEK_BONE_THINNING.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeCheekboneThinning.value, value);
-                }
-            }
-
-            MtAction.SET_MOUTH_SMILING_ENLARGING_VALUE.name -> {
-                val value: Int? = call.argument("value")
-                value?.let {
-                    FBEffect.shareInstance()
-                        .setReshape(FBReshapeEnum.FBReshapeMouthSmiling.value, value);
-                }
-            }
-
-            MtAction.SET_ATMOSPHERE_ITEM_NAME.name -> {
-                val value: String? = call.argument("name")
-                value?.let {
-                    FBEffect.shareInstance().setARItem(FBItemEnum.FBItemGift.value, value)
-                }
-            }
-
-            MtAction.SET_BEAUTY_FILTER_NAME.name -> {
-                val name: String? = call.argument("name")
-                val value: Int? = call.argument("value")
-                value?.let {
-                    name?.let {
-                        FBEffect.shareInstance().setFilter(FBFilterEnum.FBFilterBeauty.value, name)
-                    }
-                }
-            }
-
-            MtAction.SET_EFFECT_FILTER_TYPE.name -> {
-
-                val name: String? = call.argument("name")
-
-                val value: Int = call.argument("progress") ?: 0
-
-
-                name?.let {
-                    FBEffect.shareInstance().setFilter(FBFilterEnum.FBFilterEffect.value, name)
-                }
+            //表情暂未接入
+            else -> Unit
+        }
+    }
 
-            }
+    /**
+     * 参数为等长的 actions (MtAction 名称) 与 values 两个列表。
+     * 所有参数在 GL 线程的同一帧开始时应用，一键美颜不会分几帧生效
+     */
+    private fun applyBeautyBatch(call: MethodCall, result: Result) {
+        val actions: List<String> = call.argument("actions") ?: emptyList()
+        val values: List<Int> = call.argument("values") ?: emptyList()
+        val count = minOf(actions.size, values.size)
+
+        val params = ArrayList<MtBeautyParam>(count)
+        val paramValues = IntArray(count)
+        val unknown = ArrayList<String>()
+        val prefs = MtSharedPreferences.getInstance()
+        for (i in 0 until count) {
+            val param = MtBeautyParams.findByAction(actions[i])
+            if (param == null) {
+                unknown.add(actions[i])
+                continue
+            }
+            paramValues[params.size] = values[i]
+            params.add(param)
+            prefs.setParamValue(param, values[i])
+        }
 
-            MtAction.SET_FUNNY_FILTER_TYPE.name -> {
-                val filterName: String? = call.argument("name")
-                filterName?.let {
-                    FBEffect.shareInstance().setFilter(FBFilterEnum.FBFilterFunny.value, filterName)
-                }
+        //作为一条命令投递，保证整批在同一帧应用
+        val apply: (FBEffect) -> Unit = { fbEffect ->
+            for (i in params.indices) {
+                params[i].apply(fbEffect, paramValues[i])
             }
-//            MtAction.SET_BEAUTY_STYLE.name -> {
-//                val type: Int? = call.argument("type")
-//                type?.let {
-//                    FBEffect.shareInstance().setStyle(type)
-//                }
-//            }
         }
+        if (activeCameraView == null) apply(FBEffect.shareInstance()) else MtEffectCommandQueue.postUnique(apply)
+
+        result.success(mapOf("applied" to params.size, "unknown" to unknown))
     }
 
     override fun onDetachedFromEngine(@NonNull binding: FlutterPlugin.FlutterPluginBinding) {
         channel.setMethodCallHandler(null)
         beautyChannel.setMethodCallHandler(null)
+        MtSharedPreferences.getInstance().flush()
     }
 
     companion object {
         lateinit var beautyChannel: MethodChannel
+        lateinit var frameTransport: MtFrameTransport
         var shouldPushToAgora: Boolean = false
+
+        //推流帧复用池
+        val framePool = MtFramePool()
+
+        //推流档位调速
+        val pushGovernor = MtPushGovernor()
+
+        val sinkDispatcher = MtFrameSinkDispatcher(framePool, pushGovernor)
+
+        private val mainHandler = Handler(Looper.getMainLooper())
+
+        //当前显示中的相机预览，没有时为 null
+        @Volatile
+        var activeCameraView: MtSurfaceCameraView? = null
+
+        /**
+         * 宿主 App 注册原生帧接收端，传 null 恢复经 Dart 推流。
+         * 是否推流仍由 Dart 的 startAgoraPush/stopAgoraPush 控制。
+         */
+        @JvmStatic
+        fun setFrameSink(sink: MtFrameSink?) {
+            sinkDispatcher.setSink(sink)
+        }
     }
 }
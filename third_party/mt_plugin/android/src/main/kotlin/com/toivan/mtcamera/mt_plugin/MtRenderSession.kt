@@ -0,0 +1,90 @@
+package com.toivan.mtcamera.mt_plugin
+
+import android.opengl.EGL14
+import android.opengl.EGLContext
+import android.util.Log
+import com.nimo.facebeauty.FBEffect
+import com.nimo.facebeauty.model.FBRotationEnum
+import com.toivan.mtcamera.mt_plugin.util.MtSharedPreferences
+
+private const val TAG = "MtRenderSession"
+
+/**
+ * FBEffect 的 OES 渲染器是进程内单例，这里记录它当前的初始化参数，
+ * 只有尺寸、旋转、前后置或 EGL 上下文真正变化时才 release + init，
+ * 同一配置下的重复打开/切回直接复用。
+ *
+ * ensure 必须在 GL 线程调用；美颜参数从内存快照应用，不在 GL 线程读 SharedPreferences。
+ */
+object MtRenderSession {
+
+    private var width = 0
+    private var height = 0
+    private var rotation: FBRotationEnum? = null
+    private var isFront = false
+    private var eglContext: EGLContext? = null
+
+    //最近一次初始化渲染器的预览，旧预览晚于新预览销毁时不能把新的渲染器释放掉
+    @Volatile
+    private var owner: Any? = null
+
+    @Volatile
+    private var initialized = false
+
+    /** 实际执行 initTextureOESRenderer 的次数 */
+    @Volatile
+    var initCount = 0
+        private set
+
+    /** ensure 命中已有渲染器、跳过重建的次数 */
+    @Volatile
+    var reuseCount = 0
+        private set
+
+    /**
+     * 确保渲染器按给定配置可用，返回 false 表示初始化失败，下一帧会重试
+     */
+    fun ensure(owner: Any, w: Int, h: Int, rotation: FBRotationEnum?, isFront: Boolean): Boolean {
+        val context = EGL14.eglGetCurrentContext()
+        this.owner = owner
+        if (initialized && w == width && h == height && rotation == this.rotation
+            && isFront == this.isFront && context == eglContext
+        ) {
+            reuseCount++
+            return true
+        }
+
+        val fbEffect = FBEffect.shareInstance()
+        fbEffect.releaseTextureOESRenderer()
+        MtSharedPreferences.getInstance().applyCachedValues()
+        initialized = fbEffect.initTextureOESRenderer(w, h, rotation, isFront, 5)
+        initCount++
+
+        width = w
+        height = h
+        this.rotation = rotation
+        this.isFront = isFront
+        eglContext = if (initialized) context else null
+        Log.i(TAG, "init renderer ${w}x$h rotation=$rotation front=$isFront ok=$initialized")
+        return initialized
+    }
+
+    /**
+     * 预览页销毁时调用，EGL 上下文随之失效，下一个预览必须重新初始化
+     */
+    fun release(owner: Any) {
+        if (owner !== this.owner) return
+        this.owner = null
+        if (initialized) {
+            FBEffect.shareInstance().releaseTextureOESRenderer()
+        }
+        initialized = false
+        eglContext = null
+    }
+
+    fun stats(): Map<String, Any> = mapOf(
+        "initialized" to initialized,
+        "initCount" to initCount,
+        "reuseCount" to reuseCount
+    )
+}
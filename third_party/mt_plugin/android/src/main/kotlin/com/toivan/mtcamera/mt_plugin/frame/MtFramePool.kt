@@ -0,0 +1,147 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 推流用的一帧。
+ * message 为 [HEADER_SIZE 字节头 + 像素] 的 direct buffer，可直接交给二进制通道发送；
+ * buffer 是其中像素部分的视图，给 glReadPixels 写入。
+ */
+class MtFrame internal constructor(val index: Int) {
+
+    var message: ByteBuffer = EMPTY
+        private set
+
+    var buffer: ByteBuffer = EMPTY
+        private set
+
+    private var byteArray = ByteArray(0)
+
+    var width = 0
+        private set
+
+    var height = 0
+        private set
+
+    val stride: Int
+        get() = width * 4
+
+    /**
+     * 消费端需要顺时针旋转的角度。
+     * processTextureOES 已按相机方向输出正向画面，目前恒为 0，保留是为了帧头格式不变
+     */
+    var rotation = 0
+
+    /** 像素是否已是 BGRA（GPU swizzle 的输出），否则消费前需原地转换 */
+    var bgra = false
+
+    var timestampNs = 0L
+
+    /**
+     * 旧的 map 协议需要 ByteArray，只在用到时才分配
+     */
+    val bytes: ByteArray
+        get() {
+            if (byteArray.size != buffer.capacity()) {
+                byteArray = ByteArray(buffer.capacity())
+            }
+            return byteArray
+        }
+
+    /**
+     * 尺寸变化时才重新分配，返回 true 表示发生了分配
+     */
+    internal fun ensureSize(w: Int, h: Int): Boolean {
+        val size = w * h * 4
+        width = w
+        height = h
+        if (buffer.capacity() == size) {
+            buffer.clear()
+            return false
+        }
+        message = ByteBuffer.allocateDirect(HEADER_SIZE + size).order(ByteOrder.LITTLE_ENDIAN)
+        message.position(HEADER_SIZE)
+        buffer = message.slice().order(ByteOrder.nativeOrder())
+        message.clear()
+        return true
+    }
+
+    /**
+     * 写入小端序的固定头：width, height, stride, rotation (int32), timestampNs (int64)，
+     * 并把 position 置于消息末尾（BinaryMessenger 以 position 作为消息长度）
+     */
+    fun prepareMessage(): ByteBuffer {
+        message.clear()
+        message.putInt(width)
+        message.putInt(height)
+        message.putInt(stride)
+        message.putInt(rotation)
+        message.putLong(timestampNs)
+        message.position(HEADER_SIZE + buffer.capacity())
+        return message
+    }
+
+    companion object {
+        const val HEADER_SIZE = 24
+
+        private val EMPTY: ByteBuffer = ByteBuffer.allocateDirect(0)
+    }
+}
+
+/**
+ * 固定数量的帧环形池，acquire/release 配对使用。
+ * 没有空闲帧说明消费端跟不上，直接丢帧而不是继续分配。
+ */
+class MtFramePool(val capacity: Int = 3) {
+
+    private val free = ArrayBlockingQueue<MtFrame>(capacity)
+
+    /** 复用已分配的帧 */
+    val hits = AtomicLong()
+
+    /** 需要(重新)分配内存的帧 */
+    val misses = AtomicLong()
+
+    /** 池子耗尽被丢弃的帧 */
+    val drops = AtomicLong()
+
+    init {
+        for (i in 0 until capacity) {
+            free.offer(MtFrame(i))
+        }
+    }
+
+    fun acquire(width: Int, height: Int): MtFrame? {
+        val frame = free.poll()
+        if (frame == null) {
+            drops.incrementAndGet()
+            return null
+        }
+        if (frame.ensureSize(width, height)) misses.incrementAndGet() else hits.incrementAndGet()
+        return frame
+    }
+
+    fun release(frame: MtFrame) {
+        free.offer(frame)
+    }
+
+    /** 当前被占用的帧数量，即消费端积压的深度 */
+    fun inUse(): Int = capacity - free.size
+
+    fun stats(): Map<String, Any> = mapOf(
+        "capacity" to capacity,
+        "inUse" to inUse(),
+        "hits" to hits.get(),
+        "misses" to misses.get(),
+        "drops" to drops.get()
+    )
+
+    fun resetStats() {
+        hits.set(0)
+        misses.set(0)
+        drops.set(0)
+    }
+}
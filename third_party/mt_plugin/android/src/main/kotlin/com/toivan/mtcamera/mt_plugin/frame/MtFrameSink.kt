@@ -0,0 +1,15 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import java.nio.ByteBuffer
+
+/**
+ * 宿主 App 注册的原生帧接收端（例如直接调用 RTC SDK 的 pushExternalVideoFrame），
+ * 注册后推流帧不再经过 Dart。
+ *
+ * 回调在专用的推流线程上执行；buffer 为 BGRA 像素，只在回调期间有效，需要保留请自行拷贝。
+ * 画面已由 FBEffect 按相机方向转正，rotation 目前恒为 0，sink 不需要再旋转。
+ */
+interface MtFrameSink {
+
+    fun onFrame(buffer: ByteBuffer, width: Int, height: Int, stride: Int, rotation: Int, timestampNs: Long)
+}
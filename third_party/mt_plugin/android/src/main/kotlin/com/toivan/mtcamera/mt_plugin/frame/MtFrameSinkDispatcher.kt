@@ -0,0 +1,61 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import android.os.Handler
+import android.os.HandlerThread
+
+/**
+ * 把帧从 GL 线程转交到专用线程上的 [MtFrameSink]，不经过主线程
+ */
+class MtFrameSinkDispatcher(private val pool: MtFramePool, private val governor: MtPushGovernor) {
+
+    @Volatile
+    var sink: MtFrameSink? = null
+        private set
+
+    //setSink 在锁内修改，GL 线程的 dispatch 不加锁读取
+    @Volatile
+    private var thread: HandlerThread? = null
+    @Volatile
+    private var handler: Handler? = null
+
+    @Synchronized
+    fun setSink(newSink: MtFrameSink?) {
+        sink = newSink
+        if (newSink != null && thread == null) {
+            thread = HandlerThread("MtFrameSink").also {
+                it.start()
+                handler = Handler(it.looper)
+            }
+        } else if (newSink == null) {
+            thread?.quitSafely()
+            thread = null
+            handler = null
+        }
+    }
+
+    /**
+     * @return false 表示没有注册 sink，调用方应继续走 Dart 通道
+     */
+    fun dispatch(frame: MtFrame): Boolean {
+        val h = handler ?: return false
+        val handoffNs = System.nanoTime()
+        val posted = h.post {
+            try {
+                val s = sink
+                if (s != null) {
+                    if (!frame.bgra) {
+                        MtPixelConverter.rgbaToBgra(frame.buffer, frame.buffer)
+                    }
+                    frame.buffer.rewind()
+                    s.onFrame(frame.buffer, frame.width, frame.height, frame.stride, frame.rotation, frame.timestampNs)
+                    governor.onDelivered(System.nanoTime() - handoffNs)
+                }
+            } finally {
+                pool.release(frame)
+            }
+        }
+        //线程已退出，消息不会被执行
+        if (!posted) pool.release(frame)
+        return true
+    }
+}
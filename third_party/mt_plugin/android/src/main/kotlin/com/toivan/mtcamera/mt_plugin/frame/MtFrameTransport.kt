@@ -0,0 +1,53 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import io.flutter.plugin.common.BasicMessageChannel
+import io.flutter.plugin.common.BinaryCodec
+import io.flutter.plugin.common.BinaryMessenger
+import io.flutter.plugin.common.MethodChannel
+
+/**
+ * 推流帧发往 Dart 的通道。
+ * binary 模式走 BasicMessageChannel + BinaryCodec，直接把帧的 direct buffer 交给引擎，
+ * 没有 StandardMessageCodec 的编码与装箱；map 模式保留旧的 onFrame 协议，方便 Dart 端逐步迁移。
+ * BinaryMessenger 只允许在平台线程发送，send 需在主线程调用。
+ */
+class MtFrameTransport(messenger: BinaryMessenger, private val methodChannel: MethodChannel) {
+
+    private val binaryChannel = BasicMessageChannel(messenger, CHANNEL_NAME, BinaryCodec.INSTANCE)
+
+    @Volatile
+    var mode: String = MODE_MAP
+
+    /**
+     * 像素不是 BGRA（frame.bgra 为 false）时先在 buffer 内原地转换
+     */
+    fun send(frame: MtFrame) {
+        if (!frame.bgra) {
+            MtPixelConverter.rgbaToBgra(frame.buffer, frame.buffer)
+        }
+        if (mode == MODE_BINARY) {
+            //引擎在 send 内部拷贝消息，返回后帧即可归还
+            binaryChannel.send(frame.prepareMessage())
+            return
+        }
+
+        val bytes = frame.bytes
+        frame.buffer.rewind()
+        frame.buffer.get(bytes)
+        val data = mapOf<String, Any>(
+            "width" to frame.width,
+            "height" to frame.height,
+            "stride" to frame.stride,
+            "rotation" to frame.rotation,
+            "bytes" to bytes
+        )
+        methodChannel.invokeMethod("onFrame", data)
+    }
+
+    companion object {
+        const val CHANNEL_NAME = "beauty_plugin/frames"
+
+        const val MODE_MAP = "map"
+        const val MODE_BINARY = "binary"
+    }
+}
@@ -0,0 +1,116 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import android.opengl.GLES20
+import android.opengl.GLES30
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+/**
+ * 基于 PBO 的异步 readback（需要 GLES3 上下文）。
+ * 第 N 帧的 glReadPixels 只发起 DMA，不等待 GPU；取回的是 count-1 帧之前的结果，
+ * 这样 readback 不会阻塞 processTextureOES / previewRenderer.render。
+ * 时间戳与像素格式按 PBO 记录，随像素一起取回，不会套用到后面的帧上。
+ * 必须在 GL 线程调用。
+ */
+class MtPboReader(private val count: Int = 2) {
+
+    private val pbos = IntArray(count)
+    private val timestamps = LongArray(count)
+    private val bgraFlags = BooleanArray(count)
+
+    private var width = 0
+    private var height = 0
+    private var index = 0
+
+    //已经写入过数据的 PBO 数量，未满之前没有可取的结果
+    private var filled = 0
+
+    private fun allocate(w: Int, h: Int) {
+        release()
+        width = w
+        height = h
+        GLES30.glGenBuffers(count, pbos, 0)
+        for (pbo in pbos) {
+            GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, pbo)
+            GLES30.glBufferData(GLES30.GL_PIXEL_PACK_BUFFER, w * h * 4, null, GLES30.GL_STREAM_READ)
+        }
+        GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0)
+        index = 0
+        filled = 0
+    }
+
+    /**
+     * 发起当前帧的异步读取，并把最早一个 PBO 的内容拷到 out。
+     * out 为 null（帧池耗尽）时只推进流水线，该帧结果被丢弃。
+     *
+     * @param bgra 当前帧的像素是否已是 BGRA，取回时写入 out.bgra
+     * @return true 表示 out 已经写入了一帧完整的数据
+     */
+    fun read(w: Int, h: Int, bgra: Boolean, out: MtFrame?): Boolean {
+        if (w != width || h != height || pbos[0] == 0) {
+            allocate(w, h)
+        }
+
+        GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, pbos[index])
+        GLES30.glReadPixels(0, 0, w, h, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, 0)
+        timestamps[index] = System.nanoTime()
+        bgraFlags[index] = bgra
+
+        val oldest = (index + 1) % count
+        index = oldest
+        if (filled < count - 1) {
+            filled++
+            GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0)
+            return false
+        }
+
+        var copied = false
+        if (out != null) {
+            GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, pbos[oldest])
+            val mapped = GLES30.glMapBufferRange(
+                GLES30.GL_PIXEL_PACK_BUFFER, 0, w * h * 4, GLES30.GL_MAP_READ_BIT
+            ) as? ByteBuffer
+            if (mapped != null) {
+                mapped.order(ByteOrder.nativeOrder())
+                out.buffer.clear()
+                out.buffer.put(mapped)
+                out.buffer.flip()
+                out.timestampNs = timestamps[oldest]
+                out.bgra = bgraFlags[oldest]
+                copied = true
+            }
+            GLES30.glUnmapBuffer(GLES30.GL_PIXEL_PACK_BUFFER)
+        }
+        GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0)
+        return copied
+    }
+
+    /**
+     * 停止推流后丢弃流水线里的旧帧，避免重新开始时推出过期画面
+     */
+    fun reset() {
+        filled = 0
+        index = 0
+    }
+
+    fun release() {
+        if (pbos[0] != 0) {
+            GLES30.glDeleteBuffers(count, pbos, 0)
+            pbos.fill(0)
+        }
+        width = 0
+        height = 0
+        reset()
+    }
+
+    companion object {
+
+        /**
+         * 当前上下文是否为 GLES3，否则退回同步 glReadPixels
+         */
+        fun isSupported(): Boolean {
+            val version = GLES20.glGetString(GLES20.GL_VERSION) ?: return false
+            return version.startsWith("OpenGL ES 3")
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+/**
+ * GPU swizzle 不可用时的 CPU 回退：按 long（两个像素）/int（一个像素）整体交换 R、B 通道
+ */
+object MtPixelConverter {
+
+    private const val KEEP_GA_LONG = -0x00FF00FF00FF0100L // 0xFF00FF00FF00FF00
+    private const val LOW_BYTE_LONG = 0x000000FF000000FFL
+    private const val KEEP_GA_INT = 0xFF00FF00.toInt()
+
+    /**
+     * 小端序下 RGBA 像素读成 int 为 0xAABBGGRR，交换第 0、2 字节即得到 BGRA
+     */
+    fun rgbaToBgra(src: ByteBuffer, dst: ByteBuffer) {
+        val size = minOf(src.capacity(), dst.capacity())
+        val s = src.duplicate().order(ByteOrder.LITTLE_ENDIAN)
+        val d = dst.duplicate().order(ByteOrder.LITTLE_ENDIAN)
+        var i = 0
+        while (i + 8 <= size) {
+            val p = s.getLong(i)
+            d.putLong(
+                i,
+                (p and KEEP_GA_LONG) or
+                        ((p and LOW_BYTE_LONG) shl 16) or
+                        ((p ushr 16) and LOW_BYTE_LONG)
+            )
+            i += 8
+        }
+        while (i + 4 <= size) {
+            val p = s.getInt(i)
+            d.putInt(i, (p and KEEP_GA_INT) or ((p and 0xFF) shl 16) or ((p ushr 16) and 0xFF))
+            i += 4
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 推流档位：输出分辨率 + 帧率
+ */
+data class MtPushTier(val width: Int, val height: Int, val fps: Int) {
+
+    fun toMap(): Map<String, Any> = mapOf("width" to width, "height" to height, "fps" to fps)
+}
+
+/**
+ * 推流调速器：按目标帧率节流，并在消费端积压或推流耗时超出预算时自动降档，
+ * 持续健康后再逐级恢复。降的是推流分辨率/帧率，预览不受影响。
+ *
+ * shouldPush / evaluate 在 GL 线程调用，onDelivered / onDropped 可在任意线程调用。
+ */
+class MtPushGovernor {
+
+    /**
+     * 档位变化回调，可能在 GL 线程或调用 configure 的线程触发
+     */
+    var listener: ((MtPushTier) -> Unit)? = null
+
+    @Volatile
+    var autoDegrade = true
+
+    @Volatile
+    private var tiers: List<MtPushTier> = buildTiers(DEFAULT_TIER)
+
+    @Volatile
+    private var level = 0
+
+    val current: MtPushTier
+        get() = tiers[level.coerceAtMost(tiers.size - 1)]
+
+    private var lastPushNs = 0L
+
+    private var windowStartNs = 0L
+    private var windowFrames = 0
+    private var healthyWindows = 0
+
+    private val windowDrops = AtomicLong()
+    private val windowDelivered = AtomicLong()
+    private val windowLatencyNs = AtomicLong()
+
+    /**
+     * 设置最高档位，降档时按固定比例逐级缩小
+     */
+    @Synchronized
+    fun configure(width: Int, height: Int, fps: Int) {
+        tiers = buildTiers(MtPushTier(width, height, fps.coerceIn(1, 60)))
+        changeLevel(0)
+    }
+
+    /**
+     * 按当前档位帧率节流，返回 false 表示这一帧不推
+     */
+    fun shouldPush(nowNs: Long): Boolean {
+        val interval = 1_000_000_000L / current.fps
+        // 允许少量抖动，避免 30fps 预览下 30fps 档被误判成跳帧
+        if (lastPushNs != 0L && nowNs - lastPushNs < interval - interval / 8) {
+            return false
+        }
+        lastPushNs = nowNs
+        windowFrames++
+        return true
+    }
+
+    fun onDropped() {
+        windowDrops.incrementAndGet()
+    }
+
+    /**
+     * 一帧送达消费端，latencyNs 为从 GL 线程交出到消费端处理完的耗时
+     */
+    fun onDelivered(latencyNs: Long) {
+        windowDelivered.incrementAndGet()
+        windowLatencyNs.addAndGet(latencyNs)
+    }
+
+    /**
+     * 每个统计窗口评估一次是否需要升降档
+     */
+    fun evaluate(nowNs: Long) {
+        if (windowStartNs == 0L) {
+            windowStartNs = nowNs
+            return
+        }
+        if (nowNs - windowStartNs < WINDOW_NS) return
+
+        val drops = windowDrops.getAndSet(0)
+        val delivered = windowDelivered.getAndSet(0)
+        val latency = windowLatencyNs.getAndSet(0)
+        val frames = windowFrames
+        windowFrames = 0
+        windowStartNs = nowNs
+
+        if (!autoDegrade || frames == 0) return
+
+        val budgetNs = 1_000_000_000L / current.fps
+        val avgLatency = if (delivered > 0) latency / delivered else 0L
+        val overloaded = drops * 10 > frames || avgLatency > budgetNs
+
+        if (overloaded) {
+            healthyWindows = 0
+            if (level < tiers.size - 1) changeLevel(level + 1)
+        } else if (level > 0 && ++healthyWindows >= RECOVER_WINDOWS) {
+            healthyWindows = 0
+            changeLevel(level - 1)
+        }
+    }
+
+    private fun changeLevel(newLevel: Int) {
+        level = newLevel
+        healthyWindows = 0
+        listener?.invoke(current)
+    }
+
+    companion object {
+
+        val DEFAULT_TIER = MtPushTier(1280, 720, 30)
+
+        private const val WINDOW_NS = 1_000_000_000L
+
+        //连续健康多少个窗口后升一档
+        private const val RECOVER_WINDOWS = 5
+
+        /**
+         * 以 top 为最高档，依次降到 3/4 分辨率 + 4/5 帧率、1/2 分辨率 + 1/2 帧率
+         */
+        private fun buildTiers(top: MtPushTier): List<MtPushTier> = listOf(
+            top,
+            MtPushTier(even(top.width * 3 / 4), even(top.height * 3 / 4), maxOf(1, top.fps * 4 / 5)),
+            MtPushTier(even(top.width / 2), even(top.height / 2), maxOf(1, top.fps / 2))
+        )
+
+        private fun even(v: Int) = maxOf(2, v and 1.inv())
+    }
+}
@@ -0,0 +1,198 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import android.opengl.GLES20
+import android.util.Log
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.nio.FloatBuffer
+
+private const val TAG = "MtSwizzleRenderer"
+
+/**
+ * 离屏 pass：把美颜输出纹理以 BGRA 通道顺序画进 FBO，
+ * readback 得到的数据即是 RTC 需要的 BGRA，不再需要 CPU 逐像素转换。
+ * 必须在 GL 线程调用。
+ */
+class MtSwizzleRenderer {
+
+    private var program = 0
+    private var positionLoc = 0
+    private var texCoordLoc = 0
+    private var textureLoc = 0
+
+    private var fbo = 0
+    private var fboTexture = 0
+
+    var width = 0
+        private set
+
+    var height = 0
+        private set
+
+    private val savedViewport = IntArray(4)
+
+    private val vertices: FloatBuffer = ByteBuffer.allocateDirect(QUAD.size * 4)
+        .order(ByteOrder.nativeOrder())
+        .asFloatBuffer()
+        .apply { put(QUAD).position(0) }
+
+    private fun ensureProgram(): Boolean {
+        if (program != 0) return true
+        val vs = compile(GLES20.GL_VERTEX_SHADER, VERTEX_SHADER)
+        val fs = compile(GLES20.GL_FRAGMENT_SHADER, FRAGMENT_SHADER)
+        if (vs == 0 || fs == 0) return false
+        val p = GLES20.glCreateProgram()
+        GLES20.glAttachShader(p, vs)
+        GLES20.glAttachShader(p, fs)
+        GLES20.glLinkProgram(p)
+        GLES20.glDeleteShader(vs)
+        GLES20.glDeleteShader(fs)
+        val status = IntArray(1)
+        GLES20.glGetProgramiv(p, GLES20.GL_LINK_STATUS, status, 0)
+        if (status[0] == 0) {
+            Log.e(TAG, "link failed: " + GLES20.glGetProgramInfoLog(p))
+            GLES20.glDeleteProgram(p)
+            return false
+        }
+        program = p
+        positionLoc = GLES20.glGetAttribLocation(p, "aPosition")
+        texCoordLoc = GLES20.glGetAttribLocation(p, "aTexCoord")
+        textureLoc = GLES20.glGetUniformLocation(p, "uTexture")
+        return true
+    }
+
+    private fun ensureFbo(w: Int, h: Int): Boolean {
+        if (fbo != 0 && w == width && h == height) return true
+        releaseFbo()
+
+        val ids = IntArray(1)
+        GLES20.glGenTextures(1, ids, 0)
+        fboTexture = ids[0]
+        GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, fboTexture)
+        GLES20.glTexImage2D(GLES20.GL_TEXTURE_2D, 0, GLES20.GL_RGBA, w, h, 0, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, null)
+        GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_MIN_FILTER, GLES20.GL_LINEAR)
+        GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_MAG_FILTER, GLES20.GL_LINEAR)
+        GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_WRAP_S, GLES20.GL_CLAMP_TO_EDGE)
+        GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_WRAP_T, GLES20.GL_CLAMP_TO_EDGE)
+        GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, 0)
+
+        GLES20.glGenFramebuffers(1, ids, 0)
+        fbo = ids[0]
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, fbo)
+        GLES20.glFramebufferTexture2D(GLES20.GL_FRAMEBUFFER, GLES20.GL_COLOR_ATTACHMENT0, GLES20.GL_TEXTURE_2D, fboTexture, 0)
+        val status = GLES20.glCheckFramebufferStatus(GLES20.GL_FRAMEBUFFER)
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, 0)
+        if (status != GLES20.GL_FRAMEBUFFER_COMPLETE) {
+            Log.e(TAG, "framebuffer incomplete: $status")
+            releaseFbo()
+            return false
+        }
+        width = w
+        height = h
+        return true
+    }
+
+    /**
+     * 把 srcTexture 缩放绘制到 w×h 的 FBO，并保持 FBO 绑定以便随后 readback。
+     * 返回 false 表示 GPU pass 不可用，调用方应走 CPU 转换。
+     */
+    fun render(srcTexture: Int, w: Int, h: Int): Boolean {
+        if (!ensureProgram() || !ensureFbo(w, h)) return false
+
+        GLES20.glGetIntegerv(GLES20.GL_VIEWPORT, savedViewport, 0)
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, fbo)
+        GLES20.glViewport(0, 0, w, h)
+        GLES20.glUseProgram(program)
+
+        vertices.position(0)
+        GLES20.glVertexAttribPointer(positionLoc, 2, GLES20.GL_FLOAT, false, 16, vertices)
+        GLES20.glEnableVertexAttribArray(positionLoc)
+        vertices.position(2)
+        GLES20.glVertexAttribPointer(texCoordLoc, 2, GLES20.GL_FLOAT, false, 16, vertices)
+        GLES20.glEnableVertexAttribArray(texCoordLoc)
+
+        GLES20.glActiveTexture(GLES20.GL_TEXTURE0)
+        GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, srcTexture)
+        GLES20.glUniform1i(textureLoc, 0)
+        GLES20.glDrawArrays(GLES20.GL_TRIANGLE_STRIP, 0, 4)
+
+        GLES20.glDisableVertexAttribArray(positionLoc)
+        GLES20.glDisableVertexAttribArray(texCoordLoc)
+        GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, 0)
+        GLES20.glUseProgram(0)
+        return true
+    }
+
+    /**
+     * readback 完成后恢复默认 framebuffer 与 viewport
+     */
+    fun unbind() {
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, 0)
+        GLES20.glViewport(savedViewport[0], savedViewport[1], savedViewport[2], savedViewport[3])
+    }
+
+    private fun releaseFbo() {
+        if (fbo != 0) {
+            GLES20.glDeleteFramebuffers(1, intArrayOf(fbo), 0)
+            fbo = 0
+        }
+        if (fboTexture != 0) {
+            GLES20.glDeleteTextures(1, intArrayOf(fboTexture), 0)
+            fboTexture = 0
+        }
+        width = 0
+        height = 0
+    }
+
+    fun release() {
+        releaseFbo()
+        if (program != 0) {
+            GLES20.glDeleteProgram(program)
+            program = 0
+        }
+    }
+
+    private fun compile(type: Int, source: String): Int {
+        val shader = GLES20.glCreateShader(type)
+        GLES20.glShaderSource(shader, source)
+        GLES20.glCompileShader(shader)
+        val status = IntArray(1)
+        GLES20.glGetShaderiv(shader, GLES20.GL_COMPILE_STATUS, status, 0)
+        if (status[0] == 0) {
+            Log.e(TAG, "compile failed: " + GLES20.glGetShaderInfoLog(shader))
+            GLES20.glDeleteShader(shader)
+            return 0
+        }
+        return shader
+    }
+
+    private companion object {
+
+        //x, y, u, v
+        val QUAD = floatArrayOf(
+            -1f, -1f, 0f, 0f,
+            1f, -1f, 1f, 0f,
+            -1f, 1f, 0f, 1f,
+            1f, 1f, 1f, 1f
+        )
+
+        const val VERTEX_SHADER = """
+            attribute vec4 aPosition;
+            attribute vec2 aTexCoord;
+            varying vec2 vTexCoord;
+            void main() {
+                gl_Position = aPosition;
+                vTexCoord = aTexCoord;
+            }
+        """
+
+        const val FRAGMENT_SHADER = """
+            precision mediump float;
+            varying vec2 vTexCoord;
+            uniform sampler2D uTexture;
+            void main() {
+                gl_FragColor = texture2D(uTexture, vTexCoord).bgra;
+            }
+        """
+    }
+}
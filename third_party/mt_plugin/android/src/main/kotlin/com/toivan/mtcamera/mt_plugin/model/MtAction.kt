@@ -49,5 +49,8 @@ enum class MtAction {
     SET_TONE_FILTER_TYPE, //调色滤镜
     SET_BEAUTY_STYLE,//一键美颜
     SET_PORTRAIT_NAME,//设置人脸抠图
-    SET_GREEN_SCREEN//
+    SET_GREEN_SCREEN,//
+    APPLY_BEAUTY_BATCH,//批量设置美颜/美型参数
+    PRELOAD_ITEMS,//预热道具素材
+    GET_ITEM_CACHE_STATS//道具预热统计
 }
\ No newline at end of file
@@ -22,6 +22,9 @@ public class MtSharedPrefKey {
     public static final String SHAPE_ENABLE = "SHAPE_ENABLE";
 
     public static final String SHAPE_EYE_ENLARGING = "SHAPE_EYE_ENLARGING";
+    public static final String SHAPE_EYE_ROUNDING = "SHAPE_EYE_ROUNDING";
+    public static final String SHAPE_CHEEK_V_SHAPING = "SHAPE_CHEEK_V_SHAPING";
+    public static final String SHAPE_CHEEK_SHORTENING = "SHAPE_CHEEK_SHORTENING";
     public static final String SHAPE_CHEEK_THINNING = "SHAPE_CHEEK_THINNING";
     public static final String SHAPE_CHEEK_NARROWING = "SHAPE_CHEEK_NARROWING";
     public static final String SHAPE_CHEEK_BONE_THINNING = "SHAPE_CHEEK_BONE_THINNING";
@@ -42,6 +45,9 @@ public class MtSharedPrefKey {
     public static final String SHAPE_MOUTH_TRIMMING = "SHAPE_MOUTH_TRIMMING";
     public static final String SHAPE_MOUTH_SMILING = "SHAPE_MOUTH_SMILING";
 
+    //滤镜
+    public static final String BEAUTY_FILTER = "BEAUTY_FILTER";
+
 
     public static final String DYNAMIC_STICKER = "DYNAMIC_STICKER";
     public static final String EXPRESSION = "EXPRESSION";
@@ -0,0 +1,86 @@
+package com.toivan.mtcamera.mt_plugin.util
+
+import com.nimo.facebeauty.FBEffect
+import com.nimo.facebeauty.model.FBBeautyEnum
+import com.nimo.facebeauty.model.FBFilterEnum
+import com.nimo.facebeauty.model.FBReshapeEnum
+import com.toivan.mtcamera.mt_plugin.model.MtAction
+import com.toivan.mtcamera.mt_plugin.model.MtSharedPrefKey
+
+/**
+ * 一个可持久化的美颜/美型参数：设置它的 MtAction、存储 key 与 FBEffect 参数 id 的对应关系
+ */
+class MtBeautyParam(val action: MtAction, val key: String, val kind: Int, val id: Int, val defaultValue: Int) {
+
+    fun apply(fbEffect: FBEffect, value: Int) {
+        if (kind == MtBeautyParams.KIND_BEAUTY) {
+            fbEffect.setBeauty(id, value)
+        } else {
+            fbEffect.setReshape(id, value)
+        }
+    }
+}
+
+/**
+ * 所有美颜、美型参数的对照表，initAllSPValues / reset 按它逐项恢复
+ */
+object MtBeautyParams {
+
+    const val KIND_BEAUTY = 0
+    const val KIND_RESHAPE = 1
+
+    //美颜滤镜的类型 id
+    @JvmField
+    val FILTER_BEAUTY: Int = FBFilterEnum.FBFilterBeauty.value
+
+    @JvmField
+    val ALL: List<MtBeautyParam> = listOf(
+        //美颜
+        beauty(MtAction.SET_WHITENESS_VALUE, MtSharedPrefKey.BEAUTY_WHITENESS, FBBeautyEnum.FBBeautySkinWhitening.value, MtSharedPreferences.WHITENESS_DEFAULT),
+        beauty(MtAction.SET_BLURRINESS_VALUE, MtSharedPrefKey.BEAUTY_BLURRINESS, FBBeautyEnum.FBBeautyClearSmoothing.value, MtSharedPreferences.BLURRINESS_DEFAULT),
+        beauty(MtAction.SET_ROSINESS_VALUE, MtSharedPrefKey.BEAUTY_ROSINESS, FBBeautyEnum.FBBeautySkinRosiness.value, MtSharedPreferences.ROSINESS_DEFAULT),
+        beauty(MtAction.SET_CLEAR_NESS_VALUE, MtSharedPrefKey.BEAUTY_CLEARNESS, FBBeautyEnum.FBBeautyImageSharpness.value, MtSharedPreferences.CLEARNESS_DEFAULT),
+        beauty(MtAction.SET_BRIGHTNESS_VALUE, MtSharedPrefKey.BEAUTY_BRIGHTNESS, FBBeautyEnum.FBBeautyImageBrightness.value, MtSharedPreferences.BRIGHTNESS_DEFAULT),
+        beauty(MtAction.SET_UNDEREYE_CIRCLES_VALUE, MtSharedPrefKey.BEAUTY_UNDEREYE_CIRCLES, FBBeautyEnum.FBBeautyDarkCircleLessening.value, MtSharedPreferences.UNDEREYE_CIRCLES_DEFAULT),
+        beauty(MtAction.SET_NASOLABIAL_FOLD_VALUE, MtSharedPrefKey.BEAUTY_NASOLABIAL_FOLD, FBBeautyEnum.FBBeautyNasolabialLessening.value, MtSharedPreferences.NASOLABIAL_FOLD_DEFAULT),
+
+        //美型
+        reshape(MtAction.SET_EYE_ENLARGING_VALUE, MtSharedPrefKey.SHAPE_EYE_ENLARGING, FBReshapeEnum.FBReshapeEyeEnlarging.value, MtSharedPreferences.EYE_ENLARGE_DEFAULT),
+        reshape(MtAction.SET_EYE_ROUNDING_VALUE, MtSharedPrefKey.SHAPE_EYE_ROUNDING, FBReshapeEnum.FBReshapeEyeRounding.value, 0),
+        reshape(MtAction.SET_CHEEK_THINNING_VALUE, MtSharedPrefKey.SHAPE_CHEEK_THINNING, FBReshapeEnum.FBReshapeCheekThinning.value, MtSharedPreferences.CHEEK_THIN_DEFAULT),
+        reshape(MtAction.SET_CHEEK_V_VALUE, MtSharedPrefKey.SHAPE_CHEEK_V_SHAPING, FBReshapeEnum.FBReshapeCheekVShaping.value, 0),
+        reshape(MtAction.SET_FACE_SHORTENING_VALUE, MtSharedPrefKey.SHAPE_CHEEK_SHORTENING, FBReshapeEnum.FBReshapeCheekShortening.value, 0),
+        reshape(MtAction.SET_CHEEK_NARROWING_VALUE, MtSharedPrefKey.SHAPE_CHEEK_NARROWING, FBReshapeEnum.FBReshapeCheekNarrowing.value, MtSharedPreferences.CHEEK_NARROW_DEFAULT),
+        reshape(MtAction.SET_CHEEK_BONE_THINNING, MtSharedPrefKey.SHAPE_CHEEK_BONE_THINNING, FBReshapeEnum.FBReshapeCheekboneThinning.value, MtSharedPreferences.CHEEK_BONE_THIN_DEFAULT),
+        reshape(MtAction.SET_JAW_BONE_THINNING_VALUE, MtSharedPrefKey.SHAPE_JAW_BONE_THINNING, FBReshapeEnum.FBReshapeJawboneThinning.value, MtSharedPreferences.JAW_BONE_THIN_DEFAULT),
+        reshape(MtAction.SET_TEMPLE_ENLARG_ING_VALUE, MtSharedPrefKey.SHAPE_TEMPLE_ENLARGING, FBReshapeEnum.FBReshapeTempleEnlarging.value, MtSharedPreferences.TEMPLE_ENLARGE_DEFAULT),
+        reshape(MtAction.SET_HEAD_LESSENING_VALUE, MtSharedPrefKey.SHAPE_HEAD_LESSENING, FBReshapeEnum.FBReshapeHeadLessening.value, MtSharedPreferences.HEAD_LESSEN_DEFAULT),
+        reshape(MtAction.SET_FACE_LESSENING_VALUE, MtSharedPrefKey.SHAPE_FACE_LESSENING, FBReshapeEnum.FBReshapeFaceLessening.value, MtSharedPreferences.FACE_LESSEN_DEFAULT),
+        reshape(MtAction.SET_CHIN_TRIMMING_VALUE, MtSharedPrefKey.SHAPE_CHIN_TRIMMING, FBReshapeEnum.FBReshapeChinTrimming.value, MtSharedPreferences.CHIN_TRIM_DEFAULT),
+        reshape(MtAction.SET_PHILTRUM_TRIMMING_VALUE, MtSharedPrefKey.SHAPE_PHILTRUM_TRIMMING, FBReshapeEnum.FBReshapePhiltrumTrimming.value, MtSharedPreferences.PHILTRUM_TRIM_DEFAULT),
+        reshape(MtAction.SET_FOREHEAD_TRIMMING_VALUE, MtSharedPrefKey.SHAPE_FOREHEAD_TRIMMING, FBReshapeEnum.FBReshapeForeheadTrimming.value, MtSharedPreferences.FOREHEAD_TRIM_DEFAULT),
+        reshape(MtAction.SET_EYE_SPACING_TRIMMING_VALUE, MtSharedPrefKey.SHAPE_EYE_SPACING, FBReshapeEnum.FBReshapeEyeSpaceTrimming.value, MtSharedPreferences.EYE_SPACE_DEFAULT),
+        reshape(MtAction.SET_EYE_CORNER_TRIMMING_VALUE, MtSharedPrefKey.SHAPE_EYE_CORNER_TRIMMING, FBReshapeEnum.FBReshapeEyeCornerTrimming.value, MtSharedPreferences.EYE_CORNER_TRIM_DEFAULT),
+        reshape(MtAction.SET_NOSE_ENLARGING_VALUE, MtSharedPrefKey.SHAPE_NOSE_ENLARGING, FBReshapeEnum.FBReshapeNoseEnlarging.value, MtSharedPreferences.NOSE_ENLARGE_DEFAULT),
+        reshape(MtAction.SET_NOSE_THINNING_VALUE, MtSharedPrefKey.SHAPE_NOSE_THINNING, FBReshapeEnum.FBReshapeNoseThinning.value, MtSharedPreferences.NOSE_THIN_DEFAULT),
+        reshape(MtAction.SET_NOSE_APEX_LESSENING_VALUE, MtSharedPrefKey.SHAPE_NOSE_APEX_LESSENING, FBReshapeEnum.FBReshapeNoseApexLessening.value, MtSharedPreferences.NOSE_APEX_DEFAULT),
+        reshape(MtAction.SET_NOSE_ROOT_RNLARING, MtSharedPrefKey.SHAPE_NOSE_ROOT_ENLARGING, FBReshapeEnum.FBReshapeNoseRootEnlarging.value, MtSharedPreferences.NOSE_ROOT_DEFAULT),
+        reshape(MtAction.SET_MOUTH_TRIMMING_VALUE, MtSharedPrefKey.SHAPE_MOUTH_TRIMMING, FBReshapeEnum.FBReshapeMouthTrimming.value, MtSharedPreferences.MOUTH_TRIM_DEFAULT),
+        reshape(MtAction.SET_MOUTH_SMILING_ENLARGING_VALUE, MtSharedPrefKey.SHAPE_MOUTH_SMILING, FBReshapeEnum.FBReshapeMouthSmiling.value, MtSharedPreferences.MOUTH_SMILE_DEFAULT)
+        //开眼角(SHAPE_EYE_CORNER_ENLARGING) SDK 没有对应的参数，不在此列
+    )
+
+    private val byAction: Map<String, MtBeautyParam> = ALL.associateBy { it.action.name }
+
+    /**
+     * 按 MtAction 名称查找，批量接口用名称而不是序号，Dart 与原生的枚举顺序并不一致
+     */
+    @JvmStatic
+    fun findByAction(action: String): MtBeautyParam? = byAction[action]
+
+    private fun beauty(action: MtAction, key: String, id: Int, def: Int) =
+        MtBeautyParam(action, key, KIND_BEAUTY, id, def)
+
+    private fun reshape(action: MtAction, key: String, id: Int, def: Int) =
+        MtBeautyParam(action, key, KIND_RESHAPE, id, def)
+}
@@ -0,0 +1,191 @@
+package com.toivan.mtcamera.mt_plugin.util;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * 美颜参数的内存表：读写都走内存，改动合并后在后台线程批量落盘。
+ * 拖动滑杆时每秒几十次 set 只会产生一次写入；页面 onStop 时强制刷盘。
+ */
+public class MtParamStore {
+
+    private static final String TAG = "MtParamStore";
+
+    //最后一次改动后等待多久再写
+    static final long DEBOUNCE_MS = 500;
+
+    //持续改动时最多拖延多久必须写一次
+    static final long MAX_DELAY_MS = 2000;
+
+    private final SharedPreferences sharedPreferences;
+
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    //待写入的 key，值统一在写入时从 values 取最新的
+    private final Map<String, Boolean> dirty = new ConcurrentHashMap<>();
+
+    private final Handler handler;
+
+    //本批第一次改动的时间，0 表示没有待写入的改动
+    private long firstDirtyMs;
+
+    private final Runnable flushRunnable = this::writeDirty;
+
+    public MtParamStore(Context context, String name) {
+        sharedPreferences = context.getSharedPreferences(name, Context.MODE_PRIVATE);
+        for (Map.Entry<String, ?> entry : sharedPreferences.getAll().entrySet()) {
+            if (entry.getValue() != null) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        HandlerThread thread = new HandlerThread(TAG);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+
+        Context app = context.getApplicationContext();
+        if (app instanceof Application) {
+            ((Application) app).registerActivityLifecycleCallbacks(lifecycleCallbacks);
+        }
+    }
+
+    public int getInt(String key, int defValue) {
+        Object v = values.get(key);
+        return v instanceof Integer ? (Integer) v : defValue;
+    }
+
+    public boolean getBoolean(String key, boolean defValue) {
+        Object v = values.get(key);
+        return v instanceof Boolean ? (Boolean) v : defValue;
+    }
+
+    public String getString(String key, String defValue) {
+        Object v = values.get(key);
+        return v instanceof String ? (String) v : defValue;
+    }
+
+    public void putInt(String key, int value) {
+        put(key, value);
+    }
+
+    public void putBoolean(String key, boolean value) {
+        put(key, value);
+    }
+
+    public void putString(String key, String value) {
+        if (value == null) {
+            values.remove(key);
+            markDirty(key);
+            return;
+        }
+        put(key, value);
+    }
+
+    private void put(String key, Object value) {
+        Object old = values.put(key, value);
+        if (!value.equals(old)) {
+            markDirty(key);
+        }
+    }
+
+    private synchronized void markDirty(String key) {
+        dirty.put(key, Boolean.TRUE);
+        long now = SystemClock.uptimeMillis();
+        if (firstDirtyMs == 0) {
+            firstDirtyMs = now;
+        }
+        handler.removeCallbacks(flushRunnable);
+        handler.postDelayed(flushRunnable, flushDelay(firstDirtyMs, now));
+    }
+
+    /**
+     * 本批第一次改动在 firstDirtyMs，now 又有改动时，距离写入还要等多久
+     */
+    static long flushDelay(long firstDirtyMs, long now) {
+        return Math.min(DEBOUNCE_MS, Math.max(0, firstDirtyMs + MAX_DELAY_MS - now));
+    }
+
+    /**
+     * 立即在后台线程写入所有未落盘的改动，不阻塞调用线程
+     */
+    public synchronized void flush() {
+        if (firstDirtyMs == 0) {
+            return;
+        }
+        handler.removeCallbacks(flushRunnable);
+        handler.postAtFrontOfQueue(flushRunnable);
+    }
+
+    private void writeDirty() {
+        List<String> keys;
+        synchronized (this) {
+            keys = new ArrayList<>(dirty.keySet());
+            dirty.clear();
+            firstDirtyMs = 0;
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        SharedPreferences.Editor editor = sharedPreferences.edit();
+        for (String key : keys) {
+            Object v = values.get(key);
+            if (v instanceof Integer) {
+                editor.putInt(key, (Integer) v);
+            } else if (v instanceof Boolean) {
+                editor.putBoolean(key, (Boolean) v);
+            } else if (v instanceof String) {
+                editor.putString(key, (String) v);
+            } else if (v == null) {
+                editor.remove(key);
+            }
+        }
+        //已在后台线程，用 commit 避免 apply 进入 QueuedWork 拖慢 onPause/onStop
+        if (!editor.commit()) {
+            Log.w(TAG, "commit failed, " + keys.size() + " keys");
+        }
+    }
+
+    private final Application.ActivityLifecycleCallbacks lifecycleCallbacks = new Application.ActivityLifecycleCallbacks() {
+        @Override
+        public void onActivityStopped(Activity activity) {
+            flush();
+        }
+
+        @Override
+        public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+        }
+
+        @Override
+        public void onActivityStarted(Activity activity) {
+        }
+
+        @Override
+        public void onActivityResumed(Activity activity) {
+        }
+
+        @Override
+        public void onActivityPaused(Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+        }
+
+        @Override
+        public void onActivityDestroyed(Activity activity) {
+        }
+    };
+}
@@ -1,7 +1,6 @@
 package com.toivan.mtcamera.mt_plugin.util;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.text.TextUtils;
 
 
@@ -40,8 +39,11 @@ public class MtSharedPreferences {
     public static final int MOUTH_TRIM_DEFAULT = 0;
     public static final int MOUTH_SMILE_DEFAULT = 0;
 
+    public static final String BEAUTY_FILTER_DEFAULT = "ziran3";
+
     private static MtSharedPreferences instance;
-    private SharedPreferences mSharedPreferences;
+    //内存中的参数表，读写都不直接碰磁盘
+    private MtParamStore store;
     private FBEffect fbEffect;
 
     private MtSharedPreferences() {
@@ -58,27 +60,41 @@ public class MtSharedPreferences {
         return instance;
     }
 
-    public void init(Context context, FBEffect fbEffect) {
+    public synchronized void init(Context context, FBEffect fbEffect) {
         this.fbEffect = fbEffect;
-        mSharedPreferences = context.getSharedPreferences("MtSharedPreferences", Context.MODE_PRIVATE);
+        if (store == null) {
+            store = new MtParamStore(context, "MtSharedPreferences");
+        }
     }
 
     private void setBooleanValue(String key, boolean value) {
-        SharedPreferences.Editor editor = mSharedPreferences.edit();
-        editor.putBoolean(key, value);
-        editor.apply();
+        store.putBoolean(key, value);
     }
 
     private void setIntValue(String key, int value) {
-        SharedPreferences.Editor editor = mSharedPreferences.edit();
-        editor.putInt(key, value);
-        editor.apply();
+        store.putInt(key, value);
     }
 
     private void setStringValue(String key, String value) {
-        SharedPreferences.Editor editor = mSharedPreferences.edit();
-        editor.putString(key, value);
-        editor.apply();
+        store.putString(key, value);
+    }
+
+    /**
+     * 立即把未落盘的改动交给后台写入
+     */
+    public void flush() {
+        if (store != null) {
+            store.flush();
+        }
+    }
+
+    /**
+     * 记录一次美颜/美型参数的设置值
+     */
+    public void setParamValue(MtBeautyParam param, int value) {
+        if (store != null) {
+            store.putInt(param.getKey(), value);
+        }
     }
 
     /**
@@ -89,7 +105,7 @@ public class MtSharedPreferences {
     }
 
     public String getUiVersion() {
-        return mSharedPreferences.getString(MtSharedPrefKey.MT_UI_VERSION, "");
+        return store.getString(MtSharedPrefKey.MT_UI_VERSION, "");
     }
 
     /**
@@ -100,7 +116,7 @@ public class MtSharedPreferences {
     }
 
     public boolean isBtnResetEnable() {
-        return mSharedPreferences.getBoolean(MtSharedPrefKey.BTN_RESET_ENABLE, false);
+        return store.getBoolean(MtSharedPrefKey.BTN_RESET_ENABLE, false);
     }
 
     /**
@@ -111,7 +127,7 @@ public class MtSharedPreferences {
     }
 
     public boolean isFaceBeautyEnable() {
-        return mSharedPreferences.getBoolean(MtSharedPrefKey.BEAUTY_ENABLE, true);
+        return store.getBoolean(MtSharedPrefKey.BEAUTY_ENABLE, true);
     }
 
     public void setWhitenessValue(int value) {
@@ -119,7 +135,7 @@ public class MtSharedPreferences {
     }
 
     public int getWhitenessValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.BEAUTY_WHITENESS, WHITENESS_DEFAULT);
+        return store.getInt(MtSharedPrefKey.BEAUTY_WHITENESS, WHITENESS_DEFAULT);
     }
 
     public void setBlurrinessValue(int value) {
@@ -127,7 +143,7 @@ public class MtSharedPreferences {
     }
 
     public int getBlurrinessValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.BEAUTY_BLURRINESS, BLURRINESS_DEFAULT);
+        return store.getInt(MtSharedPrefKey.BEAUTY_BLURRINESS, BLURRINESS_DEFAULT);
     }
 
     public void setRosinessValue(int value) {
@@ -135,7 +151,7 @@ public class MtSharedPreferences {
     }
 
     public int getRosinessValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.BEAUTY_ROSINESS, ROSINESS_DEFAULT);
+        return store.getInt(MtSharedPrefKey.BEAUTY_ROSINESS, ROSINESS_DEFAULT);
     }
 
     public void setClearnessValue(int value) {
@@ -143,7 +159,7 @@ public class MtSharedPreferences {
     }
 
     public int getClearnessValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.BEAUTY_CLEARNESS, CLEARNESS_DEFAULT);
+        return store.getInt(MtSharedPrefKey.BEAUTY_CLEARNESS, CLEARNESS_DEFAULT);
     }
 
     public void setBrightnessValue(int value) {
@@ -151,7 +167,7 @@ public class MtSharedPreferences {
     }
 
     public int getBrightnessValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.BEAUTY_BRIGHTNESS, BRIGHTNESS_DEFAULT);
+        return store.getInt(MtSharedPrefKey.BEAUTY_BRIGHTNESS, BRIGHTNESS_DEFAULT);
     }
 
     public void setUndereyeCirclesValue(int value) {
@@ -160,7 +176,7 @@ public class MtSharedPreferences {
 
 
     public int getUndereyeCirclesValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.BEAUTY_UNDEREYE_CIRCLES, UNDEREYE_CIRCLES_DEFAULT);
+        return store.getInt(MtSharedPrefKey.BEAUTY_UNDEREYE_CIRCLES, UNDEREYE_CIRCLES_DEFAULT);
     }
 
     public void setNasolabialFoldValue(int value) {
@@ -169,7 +185,7 @@ public class MtSharedPreferences {
 
 
     public int getNasolabialFoldValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.BEAUTY_NASOLABIAL_FOLD, NASOLABIAL_FOLD_DEFAULT);
+        return store.getInt(MtSharedPrefKey.BEAUTY_NASOLABIAL_FOLD, NASOLABIAL_FOLD_DEFAULT);
     }
 
 
@@ -181,7 +197,7 @@ public class MtSharedPreferences {
     }
 
     public boolean isFaceShapeEnable() {
-        return mSharedPreferences.getBoolean(MtSharedPrefKey.SHAPE_ENABLE, true);
+        return store.getBoolean(MtSharedPrefKey.SHAPE_ENABLE, true);
     }
 
     public void setEyeEnlargingValue(int value) {   //大眼
@@ -189,7 +205,7 @@ public class MtSharedPreferences {
     }
 
     public int getEyeEnlargingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_EYE_ENLARGING, EYE_ENLARGE_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_EYE_ENLARGING, EYE_ENLARGE_DEFAULT);
     }
 
     public void setCheekThinningValue(int value) {  //瘦脸
@@ -197,7 +213,7 @@ public class MtSharedPreferences {
     }
 
     public int getCheekThinningValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_CHEEK_THINNING, CHEEK_THIN_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_CHEEK_THINNING, CHEEK_THIN_DEFAULT);
     }
 
     public void setCheekNarrowingValue(int value) { //窄脸
@@ -205,7 +221,7 @@ public class MtSharedPreferences {
     }
 
     public int getCheekNarrowingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_CHEEK_NARROWING, CHEEK_NARROW_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_CHEEK_NARROWING, CHEEK_NARROW_DEFAULT);
     }
 
     public void setCheekboneThinningValue(int value) { //瘦颧骨
@@ -213,7 +229,7 @@ public class MtSharedPreferences {
     }
 
     public int getCheekboneThinningValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_CHEEK_BONE_THINNING, CHEEK_BONE_THIN_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_CHEEK_BONE_THINNING, CHEEK_BONE_THIN_DEFAULT);
     }
 
     public void setJawboneThinningValue(int value) { //瘦下颌骨
@@ -221,7 +237,7 @@ public class MtSharedPreferences {
     }
 
     public int getJawboneThinningValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_JAW_BONE_THINNING, JAW_BONE_THIN_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_JAW_BONE_THINNING, JAW_BONE_THIN_DEFAULT);
     }
 
     public void setTempleEnlargingValue(int value) { //丰太阳穴
@@ -229,7 +245,7 @@ public class MtSharedPreferences {
     }
 
     public int getTempleEnlargingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_TEMPLE_ENLARGING, TEMPLE_ENLARGE_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_TEMPLE_ENLARGING, TEMPLE_ENLARGE_DEFAULT);
     }
 
     public void setHeadLesseningValue(int value) { //小头
@@ -237,7 +253,7 @@ public class MtSharedPreferences {
     }
 
     public int getHeadLesseningValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_HEAD_LESSENING, HEAD_LESSEN_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_HEAD_LESSENING, HEAD_LESSEN_DEFAULT);
     }
 
     public void setFaceLesseningValue(int value) { //小脸
@@ -245,7 +261,7 @@ public class MtSharedPreferences {
     }
 
     public int getFaceLesseningValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_FACE_LESSENING, FACE_LESSEN_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_FACE_LESSENING, FACE_LESSEN_DEFAULT);
     }
 
     public void setChinTrimmingValue(int value) {   //下巴
@@ -253,7 +269,7 @@ public class MtSharedPreferences {
     }
 
     public int getChinTrimmingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_CHIN_TRIMMING, CHIN_TRIM_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_CHIN_TRIMMING, CHIN_TRIM_DEFAULT);
     }
 
     public void setPhiltrumTrimmingValue(int value) {   //缩人中
@@ -261,7 +277,7 @@ public class MtSharedPreferences {
     }
 
     public int getPhiltrumTrimmingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_PHILTRUM_TRIMMING, PHILTRUM_TRIM_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_PHILTRUM_TRIMMING, PHILTRUM_TRIM_DEFAULT);
     }
 
     public void setForeheadTrimmingValue(int value) {   //发际线
@@ -269,7 +285,7 @@ public class MtSharedPreferences {
     }
 
     public int getForeheadTrimmingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_FOREHEAD_TRIMMING, FOREHEAD_TRIM_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_FOREHEAD_TRIMMING, FOREHEAD_TRIM_DEFAULT);
     }
 
     public void setEyeSpacingTrimmingValue(int value) { //眼间距
@@ -277,7 +293,7 @@ public class MtSharedPreferences {
     }
 
     public int getEyeSpacingTrimmingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_EYE_SPACING, EYE_SPACE_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_EYE_SPACING, EYE_SPACE_DEFAULT);
     }
 
     public void setEyeCornerTrimmingValue(int value) {  //倾斜（眼角）
@@ -285,7 +301,7 @@ public class MtSharedPreferences {
     }
 
     public int getEyeCornerTrimmingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_EYE_CORNER_TRIMMING, EYE_CORNER_TRIM_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_EYE_CORNER_TRIMMING, EYE_CORNER_TRIM_DEFAULT);
     }
 
     public void setEyeCornerEnlargingValue(int value) {  //开眼角
@@ -293,7 +309,7 @@ public class MtSharedPreferences {
     }
 
     public int getEyeCornerEnlargingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_EYE_CORNER_ENLARGING, EYE_CORNER_ENLARGE_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_EYE_CORNER_ENLARGING, EYE_CORNER_ENLARGE_DEFAULT);
     }
 
     public void setNoseEnlargingValue(int value) {  //长鼻
@@ -301,7 +317,7 @@ public class MtSharedPreferences {
     }
 
     public int getNoseEnlargingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_NOSE_ENLARGING, NOSE_ENLARGE_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_NOSE_ENLARGING, NOSE_ENLARGE_DEFAULT);
     }
 
     public void setNoseThinningValue(int value) {   //瘦鼻
@@ -309,7 +325,7 @@ public class MtSharedPreferences {
     }
 
     public int getNoseThinningValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_NOSE_THINNING, NOSE_THIN_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_NOSE_THINNING, NOSE_THIN_DEFAULT);
     }
 
     public void setNoseApexLesseningValue(int value) {   //鼻头
@@ -317,7 +333,7 @@ public class MtSharedPreferences {
     }
 
     public int getNoseApexLesseningValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_NOSE_APEX_LESSENING, NOSE_APEX_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_NOSE_APEX_LESSENING, NOSE_APEX_DEFAULT);
     }
 
     public void setNoseRootEnlargingValue(int value) {   //山根
@@ -325,7 +341,7 @@ public class MtSharedPreferences {
     }
 
     public int getNoseRootEnlargingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_NOSE_ROOT_ENLARGING, NOSE_ROOT_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_NOSE_ROOT_ENLARGING, NOSE_ROOT_DEFAULT);
     }
 
     public void setMouthTrimmingValue(int value) {  //嘴型
@@ -333,7 +349,7 @@ public class MtSharedPreferences {
     }
 
     public int getMouthTrimmingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_MOUTH_TRIMMING, MOUTH_TRIM_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_MOUTH_TRIMMING, MOUTH_TRIM_DEFAULT);
     }
 
     public void setMouthSmilingEnlargingValue(int value) {  //微笑嘴角
@@ -341,7 +357,7 @@ public class MtSharedPreferences {
     }
 
     public int getMouthSmilingEnlargingValue() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.SHAPE_MOUTH_SMILING, MOUTH_SMILE_DEFAULT);
+        return store.getInt(MtSharedPrefKey.SHAPE_MOUTH_SMILING, MOUTH_SMILE_DEFAULT);
     }
 
 
@@ -351,7 +367,7 @@ public class MtSharedPreferences {
     }
 
     public int getBeautyFilterValue(String key) {
-        return mSharedPreferences.getInt(key, 100);
+        return store.getInt(key, 100);
     }
 
     public void setEffectFilterValue(String key, int value) {
@@ -359,7 +375,7 @@ public class MtSharedPreferences {
     }
 
     public int getEffectFilterValue(String key) {
-        return mSharedPreferences.getInt(key, 100);
+        return store.getInt(key, 100);
     }
 
     public void setToneFilterValue(String key, int value) {
@@ -367,7 +383,7 @@ public class MtSharedPreferences {
     }
 
     public int getToneFilterValue(String key) {
-        return mSharedPreferences.getInt(key, 100);
+        return store.getInt(key, 100);
     }
 
     //一键美颜
@@ -376,7 +392,7 @@ public class MtSharedPreferences {
     }
 
     public int getQuickBeautyValue(String key) {
-        return mSharedPreferences.getInt(key, 100);
+        return store.getInt(key, 100);
     }
 
     public void setDynamicStickerName(String value) {
@@ -384,7 +400,7 @@ public class MtSharedPreferences {
     }
 
     public String getDynamicStickerName() {
-        return mSharedPreferences.getString(MtSharedPrefKey.DYNAMIC_STICKER, "");
+        return store.getString(MtSharedPrefKey.DYNAMIC_STICKER, "");
     }
 
     public void setHotStickerPosition(int value) {
@@ -392,7 +408,7 @@ public class MtSharedPreferences {
     }
 
     public int getHotStickerPosition() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.HOT_STICKER_POSITION, -1);
+        return store.getInt(MtSharedPrefKey.HOT_STICKER_POSITION, -1);
     }
 
     public void setFestivalStickerPosition(int value) {
@@ -400,7 +416,7 @@ public class MtSharedPreferences {
     }
 
     public int getFestivalStickerPosition() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.FESTIVAL_STICKER_POSITION, -1);
+        return store.getInt(MtSharedPrefKey.FESTIVAL_STICKER_POSITION, -1);
     }
 
     public void setCuteStickerPosition(int value) {
@@ -408,7 +424,7 @@ public class MtSharedPreferences {
     }
 
     public int getCuteStickerPosition() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.CUTE_STICKER_POSITION, -1);
+        return store.getInt(MtSharedPrefKey.CUTE_STICKER_POSITION, -1);
     }
 
     public void setExpressionRecreationName(String value, int position) {
@@ -417,7 +433,7 @@ public class MtSharedPreferences {
     }
 
     public String getExpressionRecreationName() {
-        return mSharedPreferences.getString(MtSharedPrefKey.EXPRESSION, "");
+        return store.getString(MtSharedPrefKey.EXPRESSION, "");
     }
 
     public void setExpressionPosition(int value) {
@@ -425,7 +441,7 @@ public class MtSharedPreferences {
     }
 
     public int getExpressionPosition() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.EXPRESSION_POSITION, -1);
+        return store.getInt(MtSharedPrefKey.EXPRESSION_POSITION, -1);
     }
 
     public void setMaskName(String value, int position) {
@@ -434,7 +450,7 @@ public class MtSharedPreferences {
     }
 
     public String getMaskName() {
-        return mSharedPreferences.getString(MtSharedPrefKey.MASK, "");
+        return store.getString(MtSharedPrefKey.MASK, "");
     }
 
     public void setMaskPosition(int value) {
@@ -442,7 +458,7 @@ public class MtSharedPreferences {
     }
 
     public int getMaskPosition() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.MASK_POSITION, -1);
+        return store.getInt(MtSharedPrefKey.MASK_POSITION, -1);
     }
 
     public void setGiftName(String value, int position) {
@@ -451,7 +467,7 @@ public class MtSharedPreferences {
     }
 
     public String getGiftName() {
-        return mSharedPreferences.getString(MtSharedPrefKey.GIFT, "");
+        return store.getString(MtSharedPrefKey.GIFT, "");
     }
 
     public void setGiftPosition(int value) {
@@ -459,7 +475,7 @@ public class MtSharedPreferences {
     }
 
     public int getGiftPosition() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.GIFT_POSITION, -1);
+        return store.getInt(MtSharedPrefKey.GIFT_POSITION, -1);
     }
 
     public void setAtmosphereItemName(String value, int position) {
@@ -468,7 +484,7 @@ public class MtSharedPreferences {
     }
 
     public String getAtmosphereItemName() {
-        return mSharedPreferences.getString(MtSharedPrefKey.ATMOSPHERE, "");
+        return store.getString(MtSharedPrefKey.ATMOSPHERE, "");
     }
 
     public void setAtmospherePosition(int value) {
@@ -476,7 +492,7 @@ public class MtSharedPreferences {
     }
 
     public int getAtmospherePosition() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.ATMOSPHERE_POSITION, -1);
+        return store.getInt(MtSharedPrefKey.ATMOSPHERE_POSITION, -1);
     }
 
     public void setWatermarkName(String value, int position) {
@@ -485,7 +501,7 @@ public class MtSharedPreferences {
     }
 
     public String getWatermarkName() {
-        return mSharedPreferences.getString(MtSharedPrefKey.WATERMARK, "");
+        return store.getString(MtSharedPrefKey.WATERMARK, "");
     }
 
     public void setWatermarkPosition(int value) {
@@ -493,53 +509,42 @@ public class MtSharedPreferences {
     }
 
     public int getWatermarkPosition() {
-        return mSharedPreferences.getInt(MtSharedPrefKey.WATERMARK_POSITION, -1);
+        return store.getInt(MtSharedPrefKey.WATERMARK_POSITION, -1);
+    }
+
+    public void setBeautyFilterName(String value) {
+        setStringValue(MtSharedPrefKey.BEAUTY_FILTER, value);
+    }
+
+    public String getBeautyFilterName() {
+        return store.getString(MtSharedPrefKey.BEAUTY_FILTER, BEAUTY_FILTER_DEFAULT);
     }
 
     //初始化
     public void initAllSPValues() {
         fbEffect.setRenderEnable(isFaceBeautyEnable());
-        fbEffect.setBeauty(0, getWhitenessValue());
-        fbEffect.setBeauty(1, getBlurrinessValue());
-        fbEffect.setBeauty(2, getRosinessValue());
-        fbEffect.setBeauty(3, getClearnessValue());
-
-        fbEffect.setReshape(10, getEyeEnlargingValue());
-        fbEffect.setReshape(20, getCheekThinningValue());
+        for (MtBeautyParam param : MtBeautyParams.ALL) {
+            param.apply(fbEffect, store.getInt(param.getKey(), param.getDefaultValue()));
+        }
+        fbEffect.setFilter(MtBeautyParams.FILTER_BEAUTY, getBeautyFilterName());
+    }
 
-        fbEffect.setFilter(0, "ziran3");
+    /**
+     * 参数全部来自内存，可在 GL 线程调用
+     */
+    public void applyCachedValues() {
+        initAllSPValues();
     }
 
     //重置
     public void reset() {
-
         fbEffect.setRenderEnable(isFaceBeautyEnable());
-
-        fbEffect.setBeauty(0, WHITENESS_DEFAULT);
-        fbEffect.setBeauty(1, BLURRINESS_DEFAULT);
-        fbEffect.setBeauty(2, ROSINESS_DEFAULT);
-        fbEffect.setBeauty(3, CLEARNESS_DEFAULT);
-
-        setWhitenessValue(WHITENESS_DEFAULT);
-        setBlurrinessValue(BLURRINESS_DEFAULT);
-        setRosinessValue(ROSINESS_DEFAULT);
-        setClearnessValue(CLEARNESS_DEFAULT);
-
-        fbEffect.setReshape(10, EYE_ENLARGE_DEFAULT);
-        fbEffect.setReshape(20, CHEEK_THIN_DEFAULT);
-
-        setEyeEnlargingValue(EYE_ENLARGE_DEFAULT);
-        setCheekThinningValue(CHEEK_THIN_DEFAULT);
-
-        fbEffect.setFilter(0, "ziran3");
+        for (MtBeautyParam param : MtBeautyParams.ALL) {
+            param.apply(fbEffect, param.getDefaultValue());
+            setIntValue(param.getKey(), param.getDefaultValue());
+        }
+        fbEffect.setFilter(MtBeautyParams.FILTER_BEAUTY, BEAUTY_FILTER_DEFAULT);
+        setBeautyFilterName(BEAUTY_FILTER_DEFAULT);
     }
 
-
-
-
-
-
-
 }
-
-
@@ -6,7 +6,6 @@ import android.view.ViewGroup
 import io.flutter.plugin.common.MessageCodec
 import io.flutter.plugin.platform.PlatformView
 import io.flutter.plugin.platform.PlatformViewFactory
-import com.nimo.facebeauty.FBEffect
 
 /**
  *  接入Flutter的 PlatformViewFactory
@@ -16,11 +15,10 @@ class MtCameraPlatformView(createArgsCodec: MessageCodec<Any>?) : PlatformViewFa
     private val lp = ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT)
 
 
-    private lateinit var cameraView: MtSurfaceCameraView
-
     override fun create(context: Context, viewId: Int, args: Any?): PlatformView {
 
-        cameraView = MtSurfaceCameraView(context)
+        //每个 PlatformView 持有自己的相机视图，晚到的 dispose 只释放自己的那一个
+        val cameraView = MtSurfaceCameraView(context)
 
 
         return object : PlatformView {
@@ -29,7 +27,6 @@ class MtCameraPlatformView(createArgsCodec: MessageCodec<Any>?) : PlatformViewFa
 
             override fun dispose() {
                 cameraView.release()
-                FBEffect.shareInstance().releaseTextureOESRenderer();
             }
 
 
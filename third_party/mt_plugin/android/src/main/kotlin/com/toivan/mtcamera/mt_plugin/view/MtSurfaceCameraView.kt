@@ -2,16 +2,19 @@
 
 package com.toivan.mtcamera.mt_plugin.view
 
+import android.app.ActivityManager
 import android.content.Context
 import android.graphics.SurfaceTexture
-import android.hardware.Camera
 import android.opengl.GLSurfaceView
 import android.os.Handler
 import android.os.Looper
 import android.util.Log
 import android.view.Gravity
 import android.widget.FrameLayout
-import com.toivan.mtcamera.mt_plugin.MtCamera
+import com.toivan.mtcamera.mt_plugin.MtCameraController
+import com.toivan.mtcamera.mt_plugin.MtCaptureSource
+import com.toivan.mtcamera.mt_plugin.MtEffectCommandQueue
+import com.toivan.mtcamera.mt_plugin.MtRenderSession
 import com.toivan.mtcamera.mt_plugin.util.MtSharedPreferences
 import javax.microedition.khronos.egl.EGLConfig
 import javax.microedition.khronos.opengles.GL10
@@ -22,21 +25,28 @@ import com.nimo.facebeauty.egl.FBGLUtils
 
 import android.opengl.GLES20
 import com.toivan.mtcamera.mt_plugin.MtPlugin
-import java.nio.ByteBuffer
-import java.nio.ByteOrder
+import com.toivan.mtcamera.mt_plugin.frame.MtPboReader
+import com.toivan.mtcamera.mt_plugin.frame.MtSwizzleRenderer
 
 private const val TAG = "MtCameraVie"
 
+//期望的采集宽高，实际以相机协商结果为准
+private const val CAPTURE_WIDTH = 1280
+private const val CAPTURE_HEIGHT = 720
+
 @Suppress("DEPRECATION", "unused")
 class MtSurfaceCameraView(mContext: Context) : AutoFitGlSurfaceView(mContext), GLSurfaceView.Renderer {
 
 
     private val uiHandler = Handler(Looper.getMainLooper())
 
-    private var camera: MtCamera
+    private val camera: MtCameraController
 
     private var surfaceTexture: SurfaceTexture? = null
 
+    //相机当前投递的 SurfaceTexture，只有换了新纹理才需要重新绑定相机
+    private var boundTexture: SurfaceTexture? = null
+
     private var oesTextureId: Int = 0
 
     //用于标记前后置镜头
@@ -49,18 +59,22 @@ class MtSurfaceCameraView(mContext: Context) : AutoFitGlSurfaceView(mContext), G
 
     private var previewRenderer: FBPreviewRenderer? = null
 
+    //前后置镜像不同，各缓存一个，切换镜头时不必重建
+    private var frontPreviewRenderer: FBPreviewRenderer? = null
+    private var backPreviewRenderer: FBPreviewRenderer? = null
+
 
     private var isRenderInit = false
 
     /**
-     * 相机采集的宽高
+     * 相机采集的宽高，以相机实际协商的尺寸为准
      */
-    private val imageWidth = 1280
+    private var imageWidth = CAPTURE_WIDTH
 
     /**
      * 相机采集的宽高
      */
-    private var imageHeight: Int = 720
+    private var imageHeight: Int = CAPTURE_HEIGHT
 
 
     /**
@@ -75,91 +89,122 @@ class MtSurfaceCameraView(mContext: Context) : AutoFitGlSurfaceView(mContext), G
 
     private var textureId = 2
 
-    private fun switchCamera() {
-
-        previewRenderer = FBPreviewRenderer(surfaceWidth, surfaceHeight)
-        previewRenderer?.create(isFrontCamera)
-//
-        oesTextureId = FBGLUtils.getExternalOESTextureID()
-
-        surfaceTexture = SurfaceTexture(oesTextureId)
-
-        surfaceTexture?.setOnFrameAvailableListener { this.requestRender() }
+    //GLES3 下使用 PBO 异步 readback，GLES2 为 null 走同步 glReadPixels
+    private var pboReader: MtPboReader? = null
 
-        val cameraId =
-            if (isFrontCamera) Camera.CameraInfo.CAMERA_FACING_FRONT else Camera.CameraInfo.CAMERA_FACING_BACK
-
-        mtRotation = if (isFrontCamera) FBRotationEnum.FBRotationClockwise270 else FBRotationEnum.FBRotationClockwise0
-
-        camera.releaseCamera()
-
-        camera.openCamera(cameraId, imageWidth, imageHeight)
-
-        camera.setPreviewSurface(surfaceTexture)
-
-        camera.startPreview()
+    //GPU 上直接输出 BGRA，创建失败时置 null 走 CPU 转换
+    private var swizzleRenderer: MtSwizzleRenderer? = null
 
+    /**
+     * 切换前后置镜头：相机在相机线程上关闭/打开，复用现有的 SurfaceTexture 与 OES 纹理，
+     * 新镜头出帧前屏幕保留上一帧
+     */
+    fun switchCamera() {
+        queueEvent {
+            val st = surfaceTexture ?: return@queueEvent
+            isFrontCamera = !isFrontCamera
+            previewRenderer = previewRendererFor(isFrontCamera)
+            mtRotation = rotationFor(isFrontCamera)
+            camera.switchTo(isFrontCamera, st, openCallback)
+            boundTexture = st
+        }
     }
 
 
     //进行初始化
     init {
-        setEGLContextClientVersion(2)
+        setEGLContextClientVersion(if (supportsGles3(mContext)) 3 else 2)
         setRenderer(this)
         MtSharedPreferences.getInstance().init(context, FBEffect.shareInstance())
         renderMode = RENDERMODE_WHEN_DIRTY
-        camera = MtCamera(mContext)
+        camera = MtCameraController(MtCaptureSource.create(mContext), CAPTURE_WIDTH, CAPTURE_HEIGHT)
+        MtPlugin.activeCameraView = this
     }
 
-    override fun onSurfaceCreated(gl: GL10?, config: EGLConfig?) {
-        Log.i(TAG, "onSurfaceCreated")
+    /**
+     * 相机线程上打开完成后，回到 GL 线程采用协商后的采集尺寸并重建美颜渲染
+     */
+    private val openCallback = MtCameraController.OpenCallback { width, height ->
+        queueEvent {
+            if (width > 0 && height > 0) {
+                imageWidth = width
+                imageHeight = height
+            }
+            isCameraSwitched = true
+            post {
+                setAspectRatio(imageHeight, imageWidth)
+            }
+        }
     }
 
-    override fun onSurfaceChanged(gl: GL10?, width: Int, height: Int) {
-
-        post {
-            setAspectRatio(imageHeight, imageWidth)
-        }
+    private fun rotationFor(isFront: Boolean): FBRotationEnum =
+        if (isFront) FBRotationEnum.FBRotationClockwise270 else FBRotationEnum.FBRotationClockwise90
 
+    private fun previewRendererFor(isFront: Boolean): FBPreviewRenderer? =
+        if (isFront) frontPreviewRenderer else backPreviewRenderer
 
-        previewRenderer = FBPreviewRenderer(width, height)
-        previewRenderer?.setPreviewRotation(270)
-        previewRenderer?.create(isFrontCamera)
+    override fun onSurfaceCreated(gl: GL10?, config: EGLConfig?) {
+        Log.i(TAG, "onSurfaceCreated")
+        //新的上下文，旧的 PBO、纹理与渲染器已随上一个上下文失效
+        pboReader = if (MtPboReader.isSupported()) MtPboReader() else null
+        Log.i(TAG, "readback mode: " + if (pboReader != null) "pbo" else "sync")
+        swizzleRenderer = MtSwizzleRenderer()
 
         oesTextureId = FBGLUtils.getExternalOESTextureID()
+        surfaceTexture?.release()
+        surfaceTexture = SurfaceTexture(oesTextureId).apply {
+            setOnFrameAvailableListener {
+                camera.onFrameAvailable()
+                requestRender()
+            }
+        }
+        frontPreviewRenderer = null
+        backPreviewRenderer = null
+        isRenderInit = false
+    }
 
-        surfaceTexture = SurfaceTexture(oesTextureId)
-
-        surfaceTexture?.setOnFrameAvailableListener { this.requestRender() }
-
-        val cameraId =
-            if (isFrontCamera) Camera.CameraInfo.CAMERA_FACING_FRONT else Camera.CameraInfo.CAMERA_FACING_BACK
-
-        mtRotation = if (isFrontCamera) FBRotationEnum.FBRotationClockwise270 else FBRotationEnum.FBRotationClockwise90
-
-        camera.openCamera(cameraId, imageWidth, imageHeight)
-
-        camera.setPreviewSurface(surfaceTexture)
-
-        camera.startPreview()
+    override fun onSurfaceChanged(gl: GL10?, width: Int, height: Int) {
 
+        //只有尺寸变化才重建预览渲染器
+        if (width != surfaceWidth || height != surfaceHeight || frontPreviewRenderer == null) {
+            surfaceWidth = width
+            surfaceHeight = height
+            frontPreviewRenderer = FBPreviewRenderer(width, height).apply {
+                setPreviewRotation(270)
+                create(true)
+            }
+            backPreviewRenderer = FBPreviewRenderer(width, height).apply {
+                setPreviewRotation(270)
+                create(false)
+            }
+        }
+        previewRenderer = previewRendererFor(isFrontCamera)
+        mtRotation = rotationFor(isFrontCamera)
+
+        val st = surfaceTexture ?: return
+        if (camera.state == MtCameraController.State.CLOSED) {
+            camera.open(isFrontCamera, st, openCallback)
+            boundTexture = st
+        } else if (st !== boundTexture) {
+            //新上下文里重新创建了 SurfaceTexture，相机需要改投到新的纹理
+            camera.switchTo(isFrontCamera, st, openCallback)
+            boundTexture = st
+        }
+        //只是尺寸变化（旋转、重新布局、setAspectRatio）时相机继续投到原纹理，不重开
     }
 
     override fun onDrawFrame(gl: GL10?) {
 
+        //先应用主线程投递的参数修改，本帧即生效
+        MtEffectCommandQueue.drain(FBEffect.shareInstance())
+
         if (isCameraSwitched) {
-            FBEffect.shareInstance().releaseTextureOESRenderer()
+            //只标记重新校验，配置没变时渲染器直接复用
             isRenderInit = false
             isCameraSwitched = false
-
         }
         if (!isRenderInit) {
-
-            MtSharedPreferences.getInstance().initAllSPValues()
-            FBEffect.shareInstance().releaseTextureOESRenderer();
-            //添加渲染
-            isRenderInit = FBEffect.shareInstance().initTextureOESRenderer(imageWidth, imageHeight, mtRotation, isFrontCamera, 5);
-
+            isRenderInit = MtRenderSession.ensure(this, imageWidth, imageHeight, mtRotation, isFrontCamera)
         }
 //        android.util.Log.d(TAG, "onDrawFrame: "+imageWidth+"×"+imageHeight)
         textureId = FBEffect.shareInstance().processTextureOES(oesTextureId)
@@ -169,25 +214,62 @@ class MtSurfaceCameraView(mContext: Context) : AutoFitGlSurfaceView(mContext), G
         surfaceTexture?.updateTexImage()
 
         //Log.i(TAG, "shouldPushToAgora ${MtPlugin.shouldPushToAgora}")
-        if (MtPlugin.shouldPushToAgora) {
-            val rowStride = imageWidth * 4
-            val bufferSize = rowStride * imageHeight
-
-            val buffer = ByteBuffer.allocateDirect(bufferSize)
-            buffer.order(ByteOrder.nativeOrder())
-            GLES20.glReadPixels(0, 0, imageWidth, imageHeight, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, buffer)
-
-            val byteArray = ByteArray(buffer.remaining())
-            buffer.get(byteArray)
-
-            uiHandler.post {
-                val data = mapOf<String, Any>(
-                    "width" to imageWidth,
-                    "height" to imageHeight,
-                    "stride" to rowStride,
-                    "bytes" to rgbaToBgra(byteArray)
-                )
-                MtPlugin.beautyChannel.invokeMethod("onFrame", data)
+        if (!MtPlugin.shouldPushToAgora) {
+            pboReader?.reset()
+            return
+        }
+
+        val governor = MtPlugin.pushGovernor
+        val now = System.nanoTime()
+        governor.evaluate(now)
+        if (!governor.shouldPush(now)) return
+
+        //降档时在 GPU pass 里直接缩放到推流分辨率
+        val tier = governor.current
+        val swizzler = swizzleRenderer
+        val bgraReady = swizzler != null && swizzler.render(textureId, tier.width, tier.height)
+        if (swizzler != null && !bgraReady) {
+            Log.w(TAG, "gpu swizzle unavailable, fallback to cpu")
+            swizzler.release()
+            swizzleRenderer = null
+        }
+        val outWidth = if (bgraReady) tier.width else imageWidth
+        val outHeight = if (bgraReady) tier.height else imageHeight
+
+        // 池子里没有空闲帧说明上一帧还没送出去，丢帧
+        val frame = MtPlugin.framePool.acquire(outWidth, outHeight)
+        if (frame == null) governor.onDropped()
+
+        //PBO 模式下即使丢帧也要推进流水线
+        val reader = pboReader
+        val ready = when {
+            reader != null -> reader.read(outWidth, outHeight, bgraReady, frame)
+            frame != null -> {
+                GLES20.glReadPixels(0, 0, outWidth, outHeight, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, frame.buffer)
+                frame.timestampNs = System.nanoTime()
+                frame.bgra = bgraReady
+                true
+            }
+            else -> false
+        }
+        if (bgraReady) swizzler?.unbind()
+        if (frame == null) return
+        if (!ready) {
+            MtPlugin.framePool.release(frame)
+            return
+        }
+
+        //宿主注册了原生 sink 时直接推给 RTC，不经过主线程与 Dart
+        if (MtPlugin.sinkDispatcher.dispatch(frame)) return
+
+        val handoffNs = System.nanoTime()
+        uiHandler.post {
+            try {
+                MtPlugin.frameTransport.send(frame)
+                governor.onDelivered(System.nanoTime() - handoffNs)
+            } finally {
+                // 消息在发送时已被同步拷贝/编码，之后即可归还
+                MtPlugin.framePool.release(frame)
             }
         }
     }
@@ -202,30 +284,19 @@ class MtSurfaceCameraView(mContext: Context) : AutoFitGlSurfaceView(mContext), G
         }
     }
 
-    fun release() {
-        camera.releaseCamera()
-        FBEffect.shareInstance().releaseTextureOESRenderer();
-        isRenderInit = false;
+    private fun supportsGles3(context: Context): Boolean {
+        val am = context.getSystemService(Context.ACTIVITY_SERVICE) as? ActivityManager ?: return false
+        return am.deviceConfigurationInfo.reqGlEsVersion >= 0x30000
     }
 
-    fun rgbaToBgra(rgba: ByteArray): ByteArray {
-        val bgra = ByteArray(rgba.size)
-        var i = 0
-        while (i < rgba.size) {
-            val r = rgba[i]
-            val g = rgba[i + 1]
-            val b = rgba[i + 2]
-            val a = rgba[i + 3]
-
-            bgra[i] = b     // B
-            bgra[i + 1] = g // G
-            bgra[i + 2] = r // R
-            bgra[i + 3] = a // A
-
-            i += 4
-        }
-        return bgra
+    fun release() {
+        if (MtPlugin.activeCameraView === this) MtPlugin.activeCameraView = null
+        camera.release()
+        MtRenderSession.release(this)
+        //之后的修改直接作用于 FBEffect，还没等到下一帧的命令这里补上，不能丢
+        MtEffectCommandQueue.drain(FBEffect.shareInstance())
+        MtSharedPreferences.getInstance().flush()
+        isRenderInit = false
     }
 
-
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.toivan.mtcamera.mt_plugin
+
+import com.toivan.mtcamera.mt_plugin.model.MtAction
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class MtActionRegistryTest {
+
+    //插件端没有实现的动作，调用时直接忽略
+    private val unhandled = setOf(
+        MtAction.SET_MAGIC_FILTER_TYPE,
+        MtAction.SET_TONE_FILTER_TYPE,
+        MtAction.SET_BEAUTY_STYLE,
+        MtAction.SET_GREEN_SCREEN
+    )
+
+    private val actions = MtAction.values()
+
+    // 原 onMethodCall 的分发方式：按声明顺序逐个比较 MtAction.X.name
+    private fun linearDispatch(method: String): MtAction? {
+        for (action in actions) {
+            if (method == action.name) return action
+        }
+        return null
+    }
+
+    @Test
+    fun everyHandledActionResolvesToItself() {
+        for (action in actions) {
+            val descriptor = MtActionRegistry.get(action.name)
+            if (action in unhandled) {
+                assertNull(action.name, descriptor)
+            } else {
+                assertSame(action.name, action, descriptor?.action)
+            }
+        }
+    }
+
+    @Test
+    fun unknownMethodIsNotRegistered() {
+        assertNull(MtActionRegistry.get("getPlatformVersion"))
+        assertNull(MtActionRegistry.get(""))
+    }
+
+    @Test
+    fun beautyAndReshapeRowsCarryTheirParam() {
+        for (action in actions) {
+            val descriptor = MtActionRegistry.get(action.name) ?: continue
+            if (descriptor.kind == MtActionRegistry.KIND_BEAUTY || descriptor.kind == MtActionRegistry.KIND_RESHAPE) {
+                assertSame(action, descriptor.param?.action)
+                assertEquals("value", descriptor.argKey)
+            }
+        }
+    }
+
+    /** 全部 MtAction 名字各分发一次，逐个比较与哈希查找的耗时对比，结果打印在测试输出里 */
+    @Test
+    fun benchmarkDispatch() {
+        // 用新的 String 实例，避免 equals 走引用相等的捷径
+        val methods = actions.map { String(it.name.toCharArray()) }
+        val rounds = 20_000
+        var sink = 0
+
+        repeat(2_000) {
+            for (m in methods) {
+                if (linearDispatch(m) != null) sink++
+                if (MtActionRegistry.get(m) != null) sink++
+            }
+        }
+
+        var start = System.nanoTime()
+        repeat(rounds) {
+            for (m in methods) {
+                if (linearDispatch(m) != null) sink++
+            }
+        }
+        val linearNs = (System.nanoTime() - start) / (rounds.toLong() * methods.size)
+
+        start = System.nanoTime()
+        repeat(rounds) {
+            for (m in methods) {
+                if (MtActionRegistry.get(m) != null) sink++
+            }
+        }
+        val tableNs = (System.nanoTime() - start) / (rounds.toLong() * methods.size)
+
+        println("dispatch over ${methods.size} actions: linear ${linearNs}ns, registry ${tableNs}ns per call (sink=$sink)")
+    }
+}
@@ -0,0 +1,115 @@
+package com.toivan.mtcamera.mt_plugin
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.util.concurrent.CountDownLatch
+import kotlin.concurrent.thread
+
+class MtCommandQueueTest {
+
+    //模拟 SDK：记录每次 set 的参数与值，values 为最终生效的值
+    private class FakeEffect {
+        val calls = ArrayList<String>()
+        val values = HashMap<String, Int>()
+
+        fun set(param: String, value: Int) {
+            calls.add("$param=$value")
+            values[param] = value
+        }
+    }
+
+    private val queue = MtCommandQueue<FakeEffect>()
+
+    private fun set(param: String, value: Int) {
+        queue.post(param.hashCode()) { it.set(param, value) }
+    }
+
+    private fun batch(vararg values: Pair<String, Int>) {
+        queue.postUnique { e -> values.forEach { (p, v) -> e.set(p, v) } }
+    }
+
+    @Test
+    fun sameKeyCollapsesToLatestValue() {
+        for (v in 0..50) set("white", v)
+        val effect = FakeEffect()
+        assertEquals(1, queue.drain(effect))
+        assertEquals(listOf("white=50"), effect.calls)
+    }
+
+    @Test
+    fun differentKeysKeepPostOrder() {
+        set("white", 1)
+        set("smooth", 2)
+        set("rosy", 3)
+        val effect = FakeEffect()
+        queue.drain(effect)
+        assertEquals(listOf("white=1", "smooth=2", "rosy=3"), effect.calls)
+    }
+
+    @Test
+    fun batchOverridesOlderKeyedCommand() {
+        set("white", 10)
+        batch("white" to 70, "smooth" to 80)
+        val effect = FakeEffect()
+        queue.drain(effect)
+        assertEquals(70, effect.values["white"])
+        assertEquals(80, effect.values["smooth"])
+    }
+
+    @Test
+    fun keyedCommandAfterBatchWins() {
+        // 先有旧的单项命令排队，再来批量，最后又拖了滑杆：最后一次拖动的值必须生效
+        set("white", 10)
+        batch("white" to 70)
+        set("white", 30)
+        val effect = FakeEffect()
+        queue.drain(effect)
+        assertEquals(30, effect.values["white"])
+        assertEquals(listOf("white=70", "white=30"), effect.calls)
+    }
+
+    @Test
+    fun unrelatedBatchesAreNotMerged() {
+        batch("white" to 1)
+        batch("white" to 2)
+        val effect = FakeEffect()
+        assertEquals(2, queue.drain(effect))
+        assertEquals(2, effect.values["white"])
+    }
+
+    @Test
+    fun statsTrackPostedAppliedAndPending() {
+        set("white", 1)
+        set("white", 2)
+        set("smooth", 3)
+        assertEquals(2, queue.stats()["commandsPending"])
+        queue.drain(FakeEffect())
+        assertEquals(3L, queue.stats()["commandsPosted"])
+        assertEquals(2L, queue.stats()["commandsApplied"])
+        assertEquals(0, queue.stats()["commandsPending"])
+    }
+
+    @Test
+    fun concurrentProducersLeaveLatestValuePerKey() {
+        val producers = 4
+        val perProducer = 10_000
+        val start = CountDownLatch(1)
+        val threads = (0 until producers).map { p ->
+            thread {
+                start.await()
+                for (i in 0 until perProducer) set("p$p", i)
+            }
+        }
+        val effect = FakeEffect()
+        start.countDown()
+        // 生产的同时在本线程消费，模拟 GL 线程逐帧 drain
+        while (threads.any { it.isAlive }) queue.drain(effect)
+        threads.forEach { it.join() }
+        queue.drain(effect)
+
+        for (p in 0 until producers) {
+            assertEquals(perProducer - 1, effect.values["p$p"])
+        }
+        assertEquals(0, queue.stats()["commandsPending"])
+    }
+}
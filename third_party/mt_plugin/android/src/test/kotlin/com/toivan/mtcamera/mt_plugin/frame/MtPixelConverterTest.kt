@@ -0,0 +1,83 @@
+package com.toivan.mtcamera.mt_plugin.frame
+
+import org.junit.Assert.assertArrayEquals
+import org.junit.Test
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import kotlin.random.Random
+
+class MtPixelConverterTest {
+
+    // 原 MtSurfaceCameraView.rgbaToBgra 的逐字节实现，作为正确性与耗时的对照
+    private fun rgbaToBgraBytewise(rgba: ByteBuffer, bgra: ByteArray) {
+        val size = minOf(rgba.capacity(), bgra.size)
+        var i = 0
+        while (i < size) {
+            bgra[i] = rgba.get(i + 2)
+            bgra[i + 1] = rgba.get(i + 1)
+            bgra[i + 2] = rgba.get(i)
+            bgra[i + 3] = rgba.get(i + 3)
+            i += 4
+        }
+    }
+
+    private fun randomFrame(size: Int): ByteBuffer {
+        val bytes = Random(42).nextBytes(size)
+        return ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder()).apply {
+            put(bytes)
+            clear()
+        }
+    }
+
+    private fun toArray(b: ByteBuffer): ByteArray {
+        val out = ByteArray(b.capacity())
+        b.duplicate().apply { clear() }.get(out)
+        return out
+    }
+
+    @Test
+    fun swapsRedAndBlueOfOnePixel() {
+        val src = ByteBuffer.wrap(byteArrayOf(1, 2, 3, 4))
+        val dst = ByteBuffer.allocate(4)
+        MtPixelConverter.rgbaToBgra(src, dst)
+        assertArrayEquals(byteArrayOf(3, 2, 1, 4), toArray(dst))
+    }
+
+    @Test
+    fun matchesBytewiseConversion() {
+        // 奇数个像素，覆盖 long 循环之后的 int 尾部
+        val src = randomFrame(4 * 1001)
+        val expected = ByteArray(src.capacity())
+        rgbaToBgraBytewise(src, expected)
+
+        val dst = ByteBuffer.allocateDirect(src.capacity())
+        MtPixelConverter.rgbaToBgra(src, dst)
+        assertArrayEquals(expected, toArray(dst))
+    }
+
+    /** 720p 一帧（3.6 MB）新旧实现的耗时对比，结果打印在测试输出里 */
+    @Test
+    fun benchmark720p() {
+        val size = 1280 * 720 * 4
+        val src = randomFrame(size)
+        val bytewise = ByteArray(size)
+        val dst = ByteBuffer.allocateDirect(size)
+        val rounds = 30
+
+        repeat(5) {
+            rgbaToBgraBytewise(src, bytewise)
+            MtPixelConverter.rgbaToBgra(src, dst)
+        }
+
+        var start = System.nanoTime()
+        repeat(rounds) { rgbaToBgraBytewise(src, bytewise) }
+        val oldNs = (System.nanoTime() - start) / rounds
+
+        start = System.nanoTime()
+        repeat(rounds) { MtPixelConverter.rgbaToBgra(src, dst) }
+        val newNs = (System.nanoTime() - start) / rounds
+
+        println("rgbaToBgra 720p: bytewise ${oldNs / 1000} us, long ${newNs / 1000} us")
+        assertArrayEquals(bytewise, toArray(dst))
+    }
+}
@@ -0,0 +1,84 @@
+package com.toivan.mtcamera.mt_plugin.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MtParamStoreTest {
+
+    /**
+     * 按 markDirty 的排程方式模拟：每次改动都取消旧的写入并按 flushDelay 重新排程，
+     * 排定的时间先到、期间没有新改动才真正写入。返回每次写入的时间。
+     */
+    private static List<Long> simulate(long[] changeTimes) {
+        List<Long> writes = new ArrayList<>();
+        long firstDirty = 0;
+        long scheduled = -1;
+        for (long now : changeTimes) {
+            if (scheduled >= 0 && scheduled <= now) {
+                writes.add(scheduled);
+                firstDirty = 0;
+            }
+            if (firstDirty == 0) {
+                firstDirty = now;
+            }
+            scheduled = now + MtParamStore.flushDelay(firstDirty, now);
+        }
+        if (scheduled >= 0) {
+            writes.add(scheduled);
+        }
+        return writes;
+    }
+
+    private static long[] every(long start, long end, long step) {
+        int n = (int) ((end - start) / step);
+        long[] times = new long[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = start + i * step;
+        }
+        return times;
+    }
+
+    @Test
+    public void singleChangeIsWrittenAfterDebounce() {
+        List<Long> writes = simulate(new long[]{1_000});
+        assertEquals(1, writes.size());
+        assertEquals(1_000 + MtParamStore.DEBOUNCE_MS, (long) writes.get(0));
+    }
+
+    @Test
+    public void shortBurstCoalescesIntoOneWrite() {
+        // 200ms 内 10 次改动
+        List<Long> writes = simulate(every(1_000, 1_200, 20));
+        assertEquals(1, writes.size());
+        assertEquals(1_180 + MtParamStore.DEBOUNCE_MS, (long) writes.get(0));
+    }
+
+    @Test
+    public void continuousDragWritesAtMostEveryMaxDelay() {
+        // 滑杆拖动 5 秒，每 30ms 一次
+        long start = 1_000;
+        long[] changes = every(start, start + 5_000, 30);
+        List<Long> writes = simulate(changes);
+
+        // 拖动期间每 MAX_DELAY_MS 写一次，松手后 DEBOUNCE_MS 再写最后一次
+        assertEquals(3, writes.size());
+        assertEquals(start + MtParamStore.MAX_DELAY_MS, (long) writes.get(0));
+        long last = changes[changes.length - 1];
+        assertEquals(last + MtParamStore.DEBOUNCE_MS, (long) writes.get(writes.size() - 1));
+        for (int i = 1; i < writes.size(); i++) {
+            assertTrue(writes.get(i) - writes.get(i - 1) <= MtParamStore.MAX_DELAY_MS + 30);
+        }
+    }
+
+    @Test
+    public void delayNeverNegativeOrAboveDebounce() {
+        assertEquals(MtParamStore.DEBOUNCE_MS, MtParamStore.flushDelay(1_000, 1_000));
+        assertEquals(100, MtParamStore.flushDelay(1_000, 1_000 + MtParamStore.MAX_DELAY_MS - 100));
+        assertEquals(0, MtParamStore.flushDelay(1_000, 1_000 + MtParamStore.MAX_DELAY_MS + 500));
+    }
+}
@@ -9,4 +9,10 @@ class GiftState {
 
   //贴纸集合
   List<Rx<Gift>> items = [];
+
+  //已请求过预热的礼物名，避免列表重建时重复请求
+  Set<String> preloaded = {};
+
+  //等待合并成一次请求的礼物名
+  List<String> pendingPreload = [];
 }
@@ -6,6 +6,7 @@ import 'package:get/get.dart';
 import 'package:mt_plugin/bean/gifts.dart';
 import 'package:mt_plugin/components/theme/mt_theme.dart';
 import 'package:mt_plugin/components/waiting_indicator/waiting_indicator.dart';
+import 'package:mt_plugin/mt_plugin.dart';
 import 'package:mt_plugin/typedef/function.dart';
 
 import '../../../app_config.dart';
@@ -21,24 +22,43 @@ class GiftChildView extends GetView {
   @override
   Widget build(BuildContext context) {
     return Container(
-      child: GridView.count(
+      child: GridView.builder(
           physics: BouncingScrollPhysics(),
-          // 定义列数
-          crossAxisCount: 5,
-          // 定义列边距
-          crossAxisSpacing: 20.0,
-          // 定义行边距
-          mainAxisSpacing: 20.0,
           // 定义内边距
           padding: EdgeInsets.all(10.0),
-          // 宽度和高度的比例
-          childAspectRatio: 1,
-          children: state.items
-              .map((item) => _buildWidget(item, (data) => onTap(data)))
-              .toList()),
+          gridDelegate: SliverGridDelegateWithFixedCrossAxisCount(
+              // 定义列数
+              crossAxisCount: 5,
+              // 定义列边距
+              crossAxisSpacing: 20.0,
+              // 定义行边距
+              mainAxisSpacing: 20.0,
+              // 宽度和高度的比例
+              childAspectRatio: 1),
+          itemCount: state.items.length,
+          itemBuilder: (context, index) {
+            final item = state.items[index];
+            _preload(item.value);
+            return _buildWidget(item, (data) => onTap(data));
+          }),
     );
   }
 
+  ///列表只构建可见（及缓存区内）的格子，已下载的礼物在此时预热，
+  ///同一帧内构建的格子合并成一次请求
+  void _preload(Gift gift) {
+    final name = gift.name ?? "";
+    if ((gift.downloaded ?? 0) == 0 || name.isEmpty) return;
+    if (!state.preloaded.add(name)) return;
+    state.pendingPreload.add(name);
+    if (state.pendingPreload.length > 1) return;
+    Future.microtask(() {
+      final names = List<String>.from(state.pendingPreload);
+      state.pendingPreload.clear();
+      MtPlugin.preloadItems("gift", names);
+    });
+  }
+
   Widget _buildWidget(Rx<Gift> item, ParamSingleCallback<Rx<Gift>> onTap) {
     return Container(
       height: 200,
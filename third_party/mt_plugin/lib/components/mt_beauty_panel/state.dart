@@ -2,6 +2,8 @@ import 'package:get/get.dart';
 import 'package:mt_plugin/components/meixing_view/state.dart';
 import 'package:mt_plugin/components/meiyan_view/state.dart';
 import 'package:mt_plugin/data/mt_cache_utils.dart';
+import 'package:mt_plugin/mt_action.dart';
+import 'package:mt_plugin/mt_plugin.dart';
 
 const HIDE = 1; //隐藏 1
 const SHOWED = 1 << 1; //显示 10
@@ -45,13 +47,17 @@ class MtBeautyPanelState {
 
     MtCacheUtils.instance.setFaceTrimPosition(0);
 
-    //重置美颜参数
+    //重置美颜、美型参数，所有参数一次调用提交，同一帧内生效
+    final batch = <MTAction, int>{};
+
     MeiYanState.instance.currentIndex(0);
     MeiYanState.instance.functionItems.forEach((element) {
       element.update((value) {
         value?.progress = 0;
         value?.isSelected = false;
-        value?.apply();
+        final action = value?.batchAction;
+        if (action != null) batch[action] = 0;
+        if (value != null) MtCacheUtils.instance.setValueWithName(value.title, 0);
       });
     });
 
@@ -59,19 +65,20 @@ class MtBeautyPanelState {
       value?.isSelected = true;
     });
 
-    //重置美型参数
-
     MeiXingState.instance.currentIndex(0);
     MeiXingState.instance.functionItems.forEach((element) {
       element.update((value) {
         value?.progress = 0;
         value?.isSelected = false;
-        value?.apply();
+        final action = value?.batchAction;
+        if (action != null) batch[action] = 0;
+        if (value != null) MtCacheUtils.instance.setValueWithName(value.title, 0);
       });
     });
     MeiXingState.instance.functionItems[0].update((value) {
       value?.isSelected = true;
     });
+    MtPlugin.applyBeautyBatch(batch);
     noReset();
   }
 
@@ -2,6 +2,7 @@ import 'package:mt_plugin/MtQuickBeautyDefault.dart';
 import 'package:mt_plugin/data/mt_cache_utils.dart';
 import 'package:mt_plugin/generated/l10n.dart';
 
+import '../mt_action.dart';
 import '../mt_plugin.dart';
 
 ///美颜参数
@@ -815,6 +816,17 @@ class MeiYanItem {
 
   int progress; //进度
 
+  ///批量应用时对应的原生动作，与 apply() 调用的接口一致
+  MTAction? get batchAction => <String, MTAction>{
+        S.current.whiteness: MTAction.SET_WHITENESS_VALUE,
+        S.current.blurriness: MTAction.SET_BLURRINESS_VALUE,
+        S.current.rosiness: MTAction.SET_ROSINESS_VALUE,
+        S.current.clearness: MTAction.SET_CLEAR_NESS_VALUE,
+        S.current.brightness: MTAction.SET_BRIGHTNESS_VALUE,
+        S.current.undereye_circles: MTAction.SET_UNDEREYE_CIRCLES_VALUE,
+        S.current.nasolabial_fold: MTAction.SET_NASOLABIAL_FOLD_VALUE,
+      }[title];
+
   void apply() {
     if (title == S.current.whiteness) {
       MtPlugin.setWhitenessValue(progress);
@@ -910,6 +922,33 @@ class MeiXingItem {
 
   bool canMinus; //是否可以是负数
 
+  ///批量应用时对应的原生动作，与 apply() 调用的接口一致
+  MTAction? get batchAction => <String, MTAction>{
+        S.current.eye_enlarging: MTAction.SET_EYE_ENLARGING_VALUE,
+        S.current.eye_rounding: MTAction.SET_EYE_ROUNDING_VALUE,
+        S.current.cheek_thinning: MTAction.SET_CHEEK_THINNING_VALUE,
+        S.current.v_shaping: MTAction.SET_CHEEK_V_VALUE,
+        S.current.cheek_narrowing: MTAction.SET_CHEEK_NARROWING_VALUE,
+        S.current.cheek_bone_thinning: MTAction.SET_CHEEK_THINNING_VALUE,
+        S.current.jaw_bone_thinning: MTAction.SET_JAW_BONE_THINNING_VALUE,
+        S.current.temple_enlarging: MTAction.SET_TEMPLE_ENLARG_ING_VALUE,
+        S.current.head_lessening: MTAction.SET_HEAD_LESSENING_VALUE,
+        S.current.face_lessening: MTAction.SET_FACE_LESSENING_VALUE,
+        S.current.face_shortening: MTAction.SET_FACE_SHORTENING_VALUE,
+        S.current.chin_trimming: MTAction.SET_CHIN_TRIMMING_VALUE,
+        S.current.philtrum_trimming: MTAction.SET_PHILTRUM_TRIMMING_VALUE,
+        S.current.forehead_trimming: MTAction.SET_FOREHEAD_TRIMMING_VALUE,
+        S.current.eye_sapcing: MTAction.SET_EYE_SPACING_TRIMMING_VALUE,
+        S.current.eye_corner_trimming: MTAction.SET_EYE_CORNER_TRIMMING_VALUE,
+        S.current.eye_corner_enlarging: MTAction.SET_EYE_CORNER_TRIMMING_VALUE,
+        S.current.nose_enlarging: MTAction.SET_NOSE_ENLARGING_VALUE,
+        S.current.nose_thinning: MTAction.SET_NOSE_THINNING_VALUE,
+        S.current.nose_apex_lessening: MTAction.SET_NOSE_APEX_LESSENING_VALUE,
+        S.current.nose_root_enlarging: MTAction.SET_NOSE_ROOT_RNLARING,
+        S.current.mouth_trimming: MTAction.SET_MOUTH_TRIMMING_VALUE,
+        S.current.mouth_smiling: MTAction.SET_MOUTH_SMILING_ENLARGING_VALUE,
+      }[title];
+
   apply() {
     if (title == S.current.eye_enlarging) {
       //大眼
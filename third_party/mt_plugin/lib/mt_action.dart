@@ -49,10 +49,16 @@ enum MTAction {
   SET_HEAD_LESSENING_VALUE, //小头
   SET_BEAUTY_STYLE, //设置一键美颜
   SET_PORTRAIT_NAME, //设置人像抠图
+  APPLY_BEAUTY_BATCH, //批量设置美颜/美型参数
+  PRELOAD_ITEMS, //预热道具素材
+  GET_ITEM_CACHE_STATS, //道具预热统计
 }
 
 ///用于返回枚举名称的拓展函数
+///注意 methodName 有历史遗留的错配，批量接口用 actionName（与原生枚举同名）
 extension MTActionExtension on MTAction {
+  String get actionName => toString().split('.').last;
+
   String get methodName {
     switch (this) {
       case MTAction.INIT_PATH:
@@ -155,6 +161,12 @@ extension MTActionExtension on MTAction {
         return "SET_PORTRAIT_NAME";
       case MTAction.SET_GREEN_SCREEN:
         return "SET_GREEN_SCREEN";
+      case MTAction.APPLY_BEAUTY_BATCH:
+        return "APPLY_BEAUTY_BATCH";
+      case MTAction.PRELOAD_ITEMS:
+        return "PRELOAD_ITEMS";
+      case MTAction.GET_ITEM_CACHE_STATS:
+        return "GET_ITEM_CACHE_STATS";
     }
   }
 }
@@ -301,6 +301,36 @@ class MtPlugin {
           // {"style": mtQuickBeautyDefault.filterName});
           <String, dynamic>{"type": type});
 
+  ///批量设置美颜/美型参数，一次调用、同一帧内全部生效
+  ///返回 {applied: 已应用数量, unknown: 原生不认识的动作}
+  static Future<Map<dynamic, dynamic>?> applyBeautyBatch(
+      Map<MTAction, int> values) async {
+    final actions = <String>[];
+    final progress = <int>[];
+    values.forEach((action, value) {
+      actions.add(action.actionName);
+      progress.add(value);
+    });
+    return await _channel.invokeMethod<Map<dynamic, dynamic>>(
+        MTAction.APPLY_BEAUTY_BATCH.methodName,
+        <String, dynamic>{"actions": actions, "values": progress});
+  }
+
+  ///在后台预热道具素材，type 为 sticker / mask / gift / watermark
+  ///返回实际排队预热的数量
+  static Future<int?> preloadItems(String type, Iterable<String> names) async =>
+      await _channel.invokeMethod<int>(MTAction.PRELOAD_ITEMS.methodName, {
+        "items": names
+            .where((name) => name.isNotEmpty)
+            .map((name) => <String, String>{"type": type, "name": name})
+            .toList()
+      });
+
+  ///道具预热统计 {warmItems, readKb, skipped}，只反映读盘预热，不代表素材仍在页缓存中
+  static Future<Map<dynamic, dynamic>?> itemCacheStats() async =>
+      await _channel.invokeMethod<Map<dynamic, dynamic>>(
+          MTAction.GET_ITEM_CACHE_STATS.methodName);
+
   ///设置人像抠图
   static setPortraitName(String name) async => {
         await _channel